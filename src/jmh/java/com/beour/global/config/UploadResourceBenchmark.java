@@ -0,0 +1,127 @@
+package com.beour.global.config;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.PathResourceResolver;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+
+/**
+ * /uploads 정적 파일 응답. legacy 는 캐시 설정 전의 핸들러(Last-Modified 만 사용)이고,
+ * cached 는 WebConfig 와 같은 immutable 캐시 + 파일 이름 ETag 설정이다.
+ *
+ * <p>immutable 응답은 브라우저가 아예 재요청하지 않으므로 실제 이득은 서버 밖에서 생긴다.
+ * 여기서는 재요청이 오더라도 304 경로가 전체 전송보다 얼마나 가벼운지를 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UploadResourceBenchmark {
+
+    private static final String FILE_NAME = "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef.jpg";
+
+    @Param({"16384", "262144"})
+    private int fileSize;
+
+    private Path uploadDir;
+    private ResourceHttpRequestHandler legacyHandler;
+    private ResourceHttpRequestHandler cachedHandler;
+    private String lastModified;
+
+    @Setup
+    public void setUp() throws Exception {
+        uploadDir = Files.createTempDirectory("upload-benchmark");
+        byte[] content = new byte[fileSize];
+        new Random(42).nextBytes(content);
+        Files.write(uploadDir.resolve(FILE_NAME), content);
+
+        legacyHandler = handler(false);
+        cachedHandler = handler(true);
+
+        MockHttpServletResponse response = serve(legacyHandler, request());
+        lastModified = response.getHeader(HttpHeaders.LAST_MODIFIED);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(uploadDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public MockHttpServletResponse legacyFullResponse() throws Exception {
+        return serve(legacyHandler, request());
+    }
+
+    @Benchmark
+    public MockHttpServletResponse legacyRevalidation() throws Exception {
+        MockHttpServletRequest request = request();
+        request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+        return serve(legacyHandler, request);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse cachedFullResponse() throws Exception {
+        return serve(cachedHandler, request());
+    }
+
+    @Benchmark
+    public MockHttpServletResponse cachedRevalidation() throws Exception {
+        MockHttpServletRequest request = request();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"" + FILE_NAME + "\"");
+        return serve(cachedHandler, request);
+    }
+
+    private ResourceHttpRequestHandler handler(boolean cached) throws Exception {
+        ResourceHttpRequestHandler handler = new ResourceHttpRequestHandler();
+        handler.setServletContext(new MockServletContext());
+        handler.setLocations(List.of(new FileSystemResource(uploadDir.toString() + "/")));
+        if (cached) {
+            handler.setCacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable());
+            handler.setEtagGenerator(resource -> resource.getFilename());
+            handler.setResourceResolvers(List.of(new EncodedResourceResolver(), new PathResourceResolver()));
+        }
+        handler.afterPropertiesSet();
+        return handler;
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/uploads/" + FILE_NAME);
+        request.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, FILE_NAME);
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br");
+        return request;
+    }
+
+    private static MockHttpServletResponse serve(ResourceHttpRequestHandler handler, MockHttpServletRequest request)
+        throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        handler.handleRequest(request, response);
+        return response;
+    }
+}
@@ -0,0 +1,107 @@
+package com.beour.reservation.commons.availability;
+
+import com.beour.reservation.commons.entity.Reservation;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 하루치 예약 가능 시간 계산과 예약 충돌 검사.
+ * legacyHourlyScan 은 비트맵 도입 전의 시간 단위 x 예약 수 순회 방식으로, 비교 기준으로 남겨 둔다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DailySlotMaskBenchmark {
+
+    private static final LocalTime OPEN = LocalTime.of(0, 0);
+    private static final LocalTime CLOSE = LocalTime.MIDNIGHT;
+
+    @Param({"200"})
+    private int reservationsPerDay;
+
+    @Param({"5", "30", "60"})
+    private int slotMinutes;
+
+    private List<Reservation> reservations;
+    private DailySlotMask builtSlotMask;
+    private LocalTime[][] requests;
+    private int nextRequest;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        reservations = new ArrayList<>(reservationsPerDay);
+        for (int i = 0; i < reservationsPerDay; i++) {
+            int startMinute = random.nextInt(23 * 12) * 5;
+            int duration = (1 + random.nextInt(6)) * 5;
+            reservations.add(Reservation.builder()
+                .startTime(LocalTime.of(startMinute / 60, startMinute % 60))
+                .endTime(LocalTime.of(startMinute / 60, startMinute % 60).plusMinutes(duration))
+                .build());
+        }
+
+        builtSlotMask = buildSlotMask();
+
+        requests = new LocalTime[1024][];
+        for (int i = 0; i < requests.length; i++) {
+            int startHour = random.nextInt(22);
+            requests[i] = new LocalTime[]{LocalTime.of(startHour, 0), LocalTime.of(startHour + 1 + random.nextInt(2), 0)};
+        }
+    }
+
+    @Benchmark
+    public List<LocalTime> listAvailableSlots() {
+        return buildSlotMask().availableSlotStartTimes();
+    }
+
+    @Benchmark
+    public boolean checkConflict() {
+        LocalTime[] request = requests[nextRequest++ & (requests.length - 1)];
+        return builtSlotMask.isOccupied(request[0], request[1]);
+    }
+
+    @Benchmark
+    public List<LocalTime> legacyHourlyScan() {
+        List<LocalTime> list = new ArrayList<>();
+        LocalTime startTime = OPEN;
+        LocalTime endTime = LocalTime.of(23, 0);
+
+        while (startTime.isBefore(endTime)) {
+            LocalTime currentTime = startTime;
+
+            boolean isReserved = reservations.stream().anyMatch(reservation ->
+                reservation.getStartTime().isBefore(currentTime.plusHours(1)) &&
+                    reservation.getEndTime().isAfter(currentTime)
+            );
+
+            if (!isReserved) {
+                list.add(startTime);
+            }
+
+            startTime = startTime.plusHours(1);
+        }
+
+        return list;
+    }
+
+    private DailySlotMask buildSlotMask() {
+        DailySlotMask slotMask = new DailySlotMask(slotMinutes);
+        slotMask.open(OPEN, CLOSE);
+        for (Reservation reservation : reservations) {
+            slotMask.occupy(reservation.getStartTime(), reservation.getEndTime());
+        }
+
+        return slotMask;
+    }
+}
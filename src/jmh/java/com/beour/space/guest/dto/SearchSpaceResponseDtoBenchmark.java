@@ -0,0 +1,78 @@
+package com.beour.space.guest.dto;
+
+import com.beour.space.domain.entity.Space;
+import com.beour.space.domain.util.SpaceAddressUtils;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 검색 결과 한 페이지 분량의 공간을 응답 DTO 로 바꾸는 비용과 주소 축약 비용.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchSpaceResponseDtoBenchmark {
+
+    private static final String[] ADDRESSES = {
+        "서울특별시 강남구 역삼동 823-1",
+        "서울특별시 마포구 양화로 160",
+        "부산광역시 해운대구 우동 1408",
+        "경기도 성남시 분당구 정자동 178-1",
+        "인천광역시 연수구 송도동 24-5",
+        "제주특별자치도 제주시 연동 312-1"
+    };
+
+    @Param({"10000"})
+    private int spaceCount;
+
+    private List<Space> spaces;
+    private List<String> tags;
+
+    @Setup
+    public void setUp() {
+        spaces = new ArrayList<>(spaceCount);
+        for (int i = 0; i < spaceCount; i++) {
+            spaces.add(Space.builder()
+                .id((long) i)
+                .name("공간" + i)
+                .address(ADDRESSES[i % ADDRESSES.length])
+                .pricePerHour(10000 + (i % 50) * 1000)
+                .maxCapacity(2 + i % 20)
+                .thumbnailUrl("https://example.img/" + i)
+                .avgRating(4.5)
+                .build());
+        }
+        tags = List.of("파티룸", "스터디", "촬영");
+    }
+
+    @Benchmark
+    public void toSearchResponses(Blackhole blackhole) {
+        for (Space space : spaces) {
+            blackhole.consume(SearchSpaceResponseDto.of(space, tags, 12L, false));
+        }
+    }
+
+    @Benchmark
+    public void toRegion(Blackhole blackhole) {
+        for (Space space : spaces) {
+            blackhole.consume(SpaceAddressUtils.toRegion(space.getAddress()));
+        }
+    }
+
+    @Benchmark
+    public void toDong(Blackhole blackhole) {
+        for (Space space : spaces) {
+            blackhole.consume(SpaceAddressUtils.toDong(space.getAddress()));
+        }
+    }
+}
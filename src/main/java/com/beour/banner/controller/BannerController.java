@@ -1,16 +1,18 @@
 package com.beour.banner.controller;
 
-import com.beour.banner.dto.BannerListForUserResponseDto;
 import com.beour.banner.dto.BannerListResponseDto;
 import com.beour.banner.dto.CreateBannerRequestDto;
 import com.beour.banner.dto.CreateBannerResponseDto;
 import com.beour.banner.service.BannerService;
+import com.beour.global.cache.HomeFeed;
+import com.beour.global.cache.HomeFeedCache;
 import com.beour.global.response.ApiResponse;
 import jakarta.validation.Valid;
 import java.io.IOException;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestPart;
@@ -22,6 +24,7 @@ import org.springframework.web.multipart.MultipartFile;
 public class BannerController {
 
     private final BannerService bannerService;
+    private final HomeFeedCache homeFeedCache;
 
     @PostMapping(value = "/api/banners", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ApiResponse<CreateBannerResponseDto> createBanner(
@@ -37,8 +40,10 @@ public class BannerController {
     }
 
     @GetMapping("/api/banners")
-    public ApiResponse<List<BannerListForUserResponseDto>> userGetBannerList() {
-        return ApiResponse.ok(bannerService.getBannerListForUser());
+    public ResponseEntity<byte[]> userGetBannerList() {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(homeFeedCache.get(HomeFeed.BANNERS, bannerService::getBannerListForUser));
     }
 
 }
@@ -1,8 +1,12 @@
 package com.beour.banner.entity;
 
+import com.beour.banner.listener.BannerEntityListener;
+import com.beour.global.config.CacheRegions;
 import com.beour.global.entity.BaseTimeEntity;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -10,10 +14,15 @@ import java.time.LocalDate;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Getter
 @NoArgsConstructor
 @Entity
+@EntityListeners(BannerEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.BANNER)
 public class Banner extends BaseTimeEntity {
 
     @Id
@@ -0,0 +1,15 @@
+package com.beour.banner.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 배너가 저장/수정/삭제되었음을 알리는 이벤트.
+ * 홈 화면 배너 목록 캐시는 이 이벤트를 받아 비워진다.
+ */
+@Getter
+@AllArgsConstructor
+public class BannerChangedEvent {
+
+    private final Long bannerId;
+}
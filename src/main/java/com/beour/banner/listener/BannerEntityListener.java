@@ -0,0 +1,27 @@
+package com.beour.banner.listener;
+
+import com.beour.banner.entity.Banner;
+import com.beour.banner.event.BannerChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 배너가 저장/수정/삭제되면 {@link BannerChangedEvent} 를 발행한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BannerEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Banner banner) {
+        eventPublisher.publishEvent(new BannerChangedEvent(banner.getId()));
+    }
+}
@@ -0,0 +1,11 @@
+package com.beour.global.cache;
+
+/**
+ * 비로그인 방문자에게도 똑같이 내려가는 홈 화면 목록들.
+ */
+public enum HomeFeed {
+
+    NEW_SPACES,
+    NEW_REVIEWS,
+    BANNERS
+}
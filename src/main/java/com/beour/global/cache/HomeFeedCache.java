@@ -0,0 +1,111 @@
+package com.beour.global.cache;
+
+import com.beour.banner.event.BannerChangedEvent;
+import com.beour.global.response.ApiResponse;
+import com.beour.review.domain.event.ReviewChangedEvent;
+import com.beour.space.domain.event.SpaceChangedEvent;
+import com.beour.user.event.UserChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 홈 화면 목록의 응답 본문(ApiResponse JSON)을 직렬화된 바이트로 보관한다. 캐시 적중 시 조회와 Jackson 직렬화를 모두 건너뛴다.
+ * 공간/리뷰/배너/회원 변경 이벤트를 받으면 영향을 받는 목록을 바로 비우고, TTL 은 이벤트가 빠진 경우의 상한으로만 쓴다.
+ *
+ * <p>배너는 오늘 날짜 기준으로 노출 여부가 정해지므로, 적재한 날짜가 지난 항목은 TTL 과 무관하게 다시 읽는다.
+ */
+@Component
+public class HomeFeedCache {
+
+    private final ObjectMapper objectMapper;
+    private final Cache<HomeFeed, CachedFeed> cache;
+    // 적재 중에 무효화가 끼어들면 이전 데이터로 만든 본문을 넣지 않도록 목록별 세대를 센다.
+    private final Map<HomeFeed, AtomicLong> generations = new EnumMap<>(HomeFeed.class);
+
+    public HomeFeedCache(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+        @Value("${home-feed-cache.ttl:10m}") Duration ttl) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+            .expireAfterWrite(ttl)
+            .maximumSize(HomeFeed.values().length)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "homeFeed");
+        for (HomeFeed feed : HomeFeed.values()) {
+            generations.put(feed, new AtomicLong());
+        }
+    }
+
+    /**
+     * 캐시된 본문이 있으면 그대로 돌려주고, 없으면 loader 결과를 ApiResponse.ok 로 감싸 직렬화한 뒤 보관한다.
+     * loader 가 던진 예외는 그대로 전파되고 캐시에는 아무것도 남지 않는다.
+     */
+    public byte[] get(HomeFeed feed, Supplier<?> loader) {
+        LocalDate today = LocalDate.now();
+        CachedFeed cached = cache.getIfPresent(feed);
+        if (cached != null && cached.loadedOn().equals(today)) {
+            return cached.body();
+        }
+
+        AtomicLong generation = generations.get(feed);
+        long loadedGeneration = generation.get();
+        byte[] body = serialize(ApiResponse.ok(loader.get()));
+
+        CachedFeed loaded = new CachedFeed(body, today);
+        cache.asMap().compute(feed,
+            (key, current) -> generation.get() == loadedGeneration ? loaded : current);
+        return body;
+    }
+
+    public void evict(HomeFeed feed) {
+        generations.get(feed).incrementAndGet();
+        cache.invalidate(feed);
+    }
+
+    // 공간 이름은 새 리뷰 목록에도 노출된다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSpaceChanged(SpaceChangedEvent event) {
+        evict(HomeFeed.NEW_SPACES);
+        evict(HomeFeed.NEW_REVIEWS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        evict(HomeFeed.NEW_REVIEWS);
+    }
+
+    // 작성자 닉네임이 새 리뷰 목록에 노출된다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        evict(HomeFeed.NEW_REVIEWS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBannerChanged(BannerChangedEvent event) {
+        evict(HomeFeed.BANNERS);
+    }
+
+    private byte[] serialize(Object response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("홈 화면 응답을 직렬화하지 못했습니다.", e);
+        }
+    }
+
+    private record CachedFeed(byte[] body, LocalDate loadedOn) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.beour.global.config;
+
+import java.util.List;
+
+/**
+ * Hibernate 2차 캐시 리전 이름. 엔티티와 컬렉션의 @Cache 와 리전 설정이 같은 이름을 쓴다.
+ */
+public final class CacheRegions {
+
+    public static final String SPACE = "space";
+    public static final String SPACE_TAGS = "space-tags";
+    public static final String SPACE_IMAGES = "space-images";
+    public static final String DESCRIPTION = "description";
+    public static final String DESCRIPTION_NATURAL_ID = "description-natural-id";
+    public static final String TAG = "tag";
+    public static final String SPACE_IMAGE = "space-image";
+    public static final String BANNER = "banner";
+
+    public static final List<String> ALL = List.of(
+        SPACE, SPACE_TAGS, SPACE_IMAGES, DESCRIPTION, DESCRIPTION_NATURAL_ID, TAG, SPACE_IMAGE, BANNER);
+
+    private CacheRegions() {
+    }
+}
@@ -0,0 +1,59 @@
+package com.beour.global.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 공간/배너처럼 쓰기보다 읽기가 훨씬 많은 엔티티를 Hibernate 2차 캐시(JCache 위의 Caffeine)에 올린다.
+ * 리전은 {@link CacheRegions} 에 정의된 것만 미리 만들고, 정의되지 않은 리전을 쓰면 기동 시 실패한다.
+ */
+@Configuration
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+public class SecondLevelCacheConfig {
+
+    // 테스트처럼 컨텍스트가 여러 개 떠도 리전이 겹치지 않도록 컨텍스트마다 캐시 매니저를 따로 만든다.
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(SecondLevelCacheProperties properties) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+            .getCacheManager(URI.create("beour:second-level-cache:" + UUID.randomUUID()), getClass().getClassLoader());
+
+        for (String name : CacheRegions.ALL) {
+            SecondLevelCacheProperties.Region region = properties.regionOf(name);
+
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(region.getMaximumSize()));
+            configuration.setExpireAfterWrite(OptionalLong.of(region.getTtl().toNanos()));
+            configuration.setStoreByValue(false);
+            configuration.setStatisticsEnabled(properties.isStatisticsEnabled());
+            cacheManager.createCache(name, configuration);
+        }
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager,
+        SecondLevelCacheProperties properties) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, false);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            // Tag, SpaceImage 쪽만 저장해도 Space 의 컬렉션 캐시가 비워지도록 한다.
+            hibernateProperties.put(AvailableSettings.AUTO_EVICT_COLLECTION_CACHE, true);
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, properties.isStatisticsEnabled());
+        };
+    }
+}
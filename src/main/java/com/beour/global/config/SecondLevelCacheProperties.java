@@ -0,0 +1,36 @@
+package com.beour.global.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Hibernate 2차 캐시 설정. regions 에 없는 리전은 defaults 크기/TTL 로 만든다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "second-level-cache")
+public class SecondLevelCacheProperties {
+
+    // 적중/누락 통계를 Micrometer(hibernate.second.level.cache.*)로 내보낸다.
+    private boolean statisticsEnabled = true;
+
+    private Region defaults = new Region();
+
+    private Map<String, Region> regions = new HashMap<>();
+
+    public Region regionOf(String name) {
+        return regions.getOrDefault(name, defaults);
+    }
+
+    @Getter
+    @Setter
+    public static class Region {
+
+        private long maximumSize = 1000;
+        private Duration ttl = Duration.ofMinutes(10);
+    }
+}
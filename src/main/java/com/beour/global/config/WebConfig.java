@@ -2,25 +2,39 @@ package com.beour.global.config;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.PathResourceResolver;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    private static final Duration UPLOAD_CACHE_MAX_AGE = Duration.ofDays(365);
+
     @Value("${file.path}")
     private String filePath;
 
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        // 업로드 파일 이름은 내용 해시(이전 파일은 UUID)라 같은 URL 의 내용이 바뀌지 않으므로
+        // 재검증 없이 캐시하게 하고, 파일 이름을 강한 ETag 로 쓴다. Range 요청은 핸들러가 처리한다.
+        // 롤백으로 지운 파일이 해석 캐시에 남지 않도록 resourceChain 캐시는 끈다.
         registry.addResourceHandler("/uploads/**")
-            .addResourceLocations("file:" + filePath);
+            .addResourceLocations("file:" + filePath)
+            .setCacheControl(CacheControl.maxAge(UPLOAD_CACHE_MAX_AGE).cachePublic().immutable())
+            .setEtagGenerator(resource -> resource.getFilename())
+            .resourceChain(false)
+            .addResolver(new EncodedResourceResolver())
+            .addResolver(new PathResourceResolver());
     }
 
     @Override
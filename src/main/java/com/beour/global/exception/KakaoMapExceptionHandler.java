@@ -27,6 +27,8 @@ public class KakaoMapExceptionHandler {
             return HttpStatus.NOT_FOUND;
         } else if (errorCode == 400) {
             return HttpStatus.BAD_REQUEST;
+        } else if (errorCode == 503) {
+            return HttpStatus.SERVICE_UNAVAILABLE;
         } else {
             return HttpStatus.INTERNAL_SERVER_ERROR;
         }
@@ -37,6 +39,8 @@ public class KakaoMapExceptionHandler {
             return "ADDRESS_NOT_FOUND";
         } else if (errorCode == 400) {
             return "INVALID_ADDRESS";
+        } else if (errorCode == 503) {
+            return "KAKAO_API_UNAVAILABLE";
         } else {
             return "KAKAO_API_ERROR";
         }
@@ -8,7 +8,8 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public enum GlobalErrorCode implements ErrorCode {
 
-    NO_INFO_TO_UPDATE(400, "수정할 정보를 입력해주세요.");
+    NO_INFO_TO_UPDATE(400, "수정할 정보를 입력해주세요."),
+    INVALID_CURSOR(400, "잘못된 커서 값입니다.");
 
     private final Integer code;
     private final String message;
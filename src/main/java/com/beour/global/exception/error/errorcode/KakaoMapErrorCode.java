@@ -9,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 public enum KakaoMapErrorCode implements ErrorCode {
 
     API_CALL_FAILED(500, "카카오맵 API 호출에 실패했습니다."),
+    API_UNAVAILABLE(503, "카카오맵 API 를 일시적으로 사용할 수 없습니다. 잠시 후 다시 시도해 주세요."),
     ADDRESS_NOT_FOUND(404, "주소로 좌표를 찾을 수 없습니다."),
     INVALID_ADDRESS_FORMAT(400, "올바르지 않은 주소 형식입니다.");
 
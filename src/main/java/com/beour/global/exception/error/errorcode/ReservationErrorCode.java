@@ -14,6 +14,7 @@ public enum ReservationErrorCode implements ErrorCode {
     CANNOT_CANCEL_RESERVATION(400, "해당 예약은 취소할 수 없습니다."),
     SPACE_MISMATCH(400, "예약과 공간 정보가 일치하지 않습니다."),
     FUTURE_RESERVATION_REMAIN(400, "해당 유저의 완료되지 않은 예약이 존재합니다."),
+    INVALID_DATE_RANGE(400, "조회 기간이 올바르지 않습니다."),
     RESERVATION_NOT_FOUND(404, "예약이 존재하지 않습니다.");
 
     private final Integer code;
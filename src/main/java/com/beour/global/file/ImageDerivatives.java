@@ -0,0 +1,130 @@
+package com.beour.global.file;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 원본 이미지로 {@link ImageVariant} 별 JPEG 축소본을 만든다.
+ */
+@Slf4j
+final class ImageDerivatives {
+
+    private static final float JPEG_QUALITY = 0.8f;
+
+    // 파일은 작아도 가로세로가 큰 이미지를 전부 풀면 힙이 바닥나므로 이 화소 수를 넘으면 축소본을 만들지 않는다.
+    static final long MAX_PIXELS = 50_000_000L;
+
+    private static final int LARGEST_VARIANT_SIZE = Arrays.stream(ImageVariant.values())
+        .mapToInt(ImageVariant::getMaxSize)
+        .max()
+        .orElseThrow();
+
+    private ImageDerivatives() {
+    }
+
+    /**
+     * 읽을 수 없는 형식이거나 디코딩에 실패하거나 {@link #MAX_PIXELS} 를 넘으면 빈 맵을 반환하고, 호출하는 쪽은 원본만 저장한다.
+     * 원본이 maxSize 보다 작으면 크기는 그대로 두고 JPEG 으로만 다시 저장한다.
+     */
+    static Map<ImageVariant, byte[]> create(byte[] original) {
+        try {
+            BufferedImage source = decode(original);
+            if (source == null) {
+                return Map.of();
+            }
+
+            Map<ImageVariant, byte[]> derivatives = new EnumMap<>(ImageVariant.class);
+            for (ImageVariant variant : ImageVariant.values()) {
+                derivatives.put(variant, toJpeg(resize(source, variant.getMaxSize())));
+            }
+            return derivatives;
+        } catch (IOException | RuntimeException e) {
+            // CMYK JPEG 처럼 ImageIO 가 헤더는 알아도 풀지 못하는 파일
+            log.warn("Skipping image derivatives: {}", e.toString());
+            return Map.of();
+        }
+    }
+
+    // 헤더에서 크기만 먼저 읽고, 가장 큰 축소본보다 작아지지 않는 만큼 건너뛰며 디코딩한다.
+    private static BufferedImage decode(byte[] original) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(original))) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_PIXELS) {
+                    return null;
+                }
+
+                int subsampling = Math.max(1, Math.max(width, height) / LARGEST_VARIANT_SIZE);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage resize(BufferedImage source, int maxSize) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxSize / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        // JPEG 은 알파 채널이 없으므로 투명 영역은 흰 배경으로 채운다.
+        BufferedImage target = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, targetWidth, targetHeight);
+            graphics.drawImage(source, 0, 0, targetWidth, targetHeight, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private static byte[] toJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(JPEG_QUALITY);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOut = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(imageOut);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
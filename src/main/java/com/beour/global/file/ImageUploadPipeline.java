@@ -0,0 +1,138 @@
+package com.beour.global.file;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 여러 이미지를 제한된 크기의 전용 스레드 풀에서 병렬로 저장한다.
+ *
+ * <p>호출하는 쪽은 DB 트랜잭션을 시작하기 전에 {@link #uploadAll} 로 파일을 먼저 저장하고,
+ * 트랜잭션 안에서 {@link #deleteOnRollback} 을 등록해 롤백되면 저장한 파일을 지운다.
+ * 디스크 쓰기 동안 DB 커넥션을 잡고 있지 않기 위함이다.
+ */
+@Slf4j
+@Component
+public class ImageUploadPipeline {
+
+    private final ImageUploader imageUploader;
+    private final ThreadPoolExecutor executor;
+
+    public ImageUploadPipeline(ImageUploader imageUploader,
+        @Value("${file.upload.pool-size:4}") int poolSize,
+        @Value("${file.upload.queue-capacity:64}") int queueCapacity) {
+        this.imageUploader = imageUploader;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        // 큐가 가득 차면 요청 스레드가 직접 저장하도록 해 업로드 작업이 무한정 쌓이지 않게 한다.
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "image-upload-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * 파일들을 병렬로 저장하고 입력 순서대로 URL 을 반환한다.
+     * 하나라도 실패하면 이미 저장된 파일을 지우고 첫 번째 예외를 던진다.
+     */
+    public List<String> uploadAll(List<MultipartFile> files) throws IOException {
+        if (files == null || files.isEmpty()) {
+            return List.of();
+        }
+
+        List<CompletableFuture<String>> futures = new ArrayList<>(files.size());
+        for (MultipartFile file : files) {
+            futures.add(CompletableFuture.supplyAsync(() -> uploadUnchecked(file), executor));
+        }
+
+        List<String> urls = new ArrayList<>(files.size());
+        Throwable failure = null;
+        for (CompletableFuture<String> future : futures) {
+            try {
+                urls.add(future.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause();
+                }
+            }
+        }
+
+        if (failure != null) {
+            deleteQuietly(urls);
+            rethrow(failure);
+        }
+        return urls;
+    }
+
+    /**
+     * 현재 트랜잭션이 롤백되면 저장해 둔 파일을 삭제한다. 트랜잭션 밖이면 아무 일도 하지 않는다.
+     */
+    public void deleteOnRollback(List<String> urls) {
+        if (urls.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    deleteQuietly(urls);
+                }
+            }
+        });
+    }
+
+    public void deleteQuietly(List<String> urls) {
+        for (String url : urls) {
+            try {
+                imageUploader.delete(url);
+            } catch (IOException e) {
+                log.warn("Failed to delete orphan image {}", url, e);
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private String uploadUnchecked(MultipartFile file) {
+        try {
+            return imageUploader.upload(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void rethrow(Throwable failure) throws IOException {
+        if (failure instanceof UncheckedIOException e) {
+            throw e.getCause();
+        }
+        if (failure instanceof RuntimeException e) {
+            throw e;
+        }
+        if (failure instanceof Error e) {
+            throw e;
+        }
+        throw new IOException(failure);
+    }
+}
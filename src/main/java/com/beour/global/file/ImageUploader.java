@@ -2,39 +2,205 @@ package com.beour.global.file;
 
 import com.beour.global.exception.error.errorcode.ImageFileErrorCode;
 import com.beour.global.exception.exceptionType.ImageFileInvalidException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
+/**
+ * 이미지를 내용의 SHA-256 해시 이름으로 저장한다. 같은 내용은 한 번만 저장되고 같은 URL 을 돌려받는다.
+ * 저장할 때 {@link ImageVariant} 별 축소본도 함께 만든다.
+ */
 @Component
 @RequiredArgsConstructor
 public class ImageUploader {
 
+    // 압축되지 않은 형식은 gzip 사본을 함께 저장해 두고 EncodedResourceResolver 가 골라 보낸다.
+    private static final Set<String> PRECOMPRESSED_EXTENSIONS = Set.of(".svg", ".bmp");
+
+    private static final int FILE_NAME_LOCK_STRIPES = 64;
+
     @Value("${file.path}")
     private String filePath;
 
     @Value("${file.url}")
     private String fileUrl;
 
+    // 최근에 이 서버가 새로 만든 파일. 다른 업로드와 공유되는 파일은 롤백 정리 때 지우지 않기 위해 기록한다.
+    private final Cache<String, Boolean> recentlyCreatedFileNames = Caffeine.newBuilder()
+        .expireAfterWrite(Duration.ofMinutes(10))
+        .maximumSize(10_000)
+        .build();
+
+    // 같은 파일 이름의 업로드와 삭제를 직렬화한다. 업로드가 파일이 있다고 판단한 뒤 그 파일이
+    // 롤백 정리로 지워져, 지워진 URL 을 돌려주는 일이 없도록 확인과 삭제를 같은 잠금 안에서 한다.
+    private final Lock[] fileNameLocks = IntStream.range(0, FILE_NAME_LOCK_STRIPES)
+        .mapToObj(stripe -> new ReentrantLock())
+        .toArray(Lock[]::new);
+
     public String upload(MultipartFile file) throws IOException {
         if (file == null || file.isEmpty()) {
             throw new ImageFileInvalidException(ImageFileErrorCode.NO_IMAGE_FILE);
         }
 
-        String fileName = UUID.randomUUID() + "_" + file.getOriginalFilename();
-        Path savePath = Paths.get(filePath, fileName);
-        Files.createDirectories(savePath.getParent());
-        file.transferTo(savePath.toFile());
+        byte[] content = file.getBytes();
+        String fileName = sha256Hex(content) + extensionOf(file.getOriginalFilename());
+        Path uploadDir = Paths.get(filePath);
+        Files.createDirectories(uploadDir);
+
+        Path originalPath = uploadDir.resolve(fileName);
+        Lock lock = lockOf(fileName);
+        lock.lock();
+        try {
+            if (Files.exists(originalPath)) {
+                recentlyCreatedFileNames.invalidate(fileName);
+                return fileUrl + fileName;
+            }
+
+            // 원본을 마지막에 저장하므로 원본이 있으면 축소본도 모두 있다.
+            Map<ImageVariant, byte[]> derivatives = ImageDerivatives.create(content);
+            for (ImageVariant variant : ImageVariant.values()) {
+                store(uploadDir.resolve(variant.fileNameOf(fileName)), derivatives.getOrDefault(variant, content));
+            }
+
+            if (store(originalPath, content)) {
+                recentlyCreatedFileNames.put(fileName, Boolean.TRUE);
+            } else {
+                recentlyCreatedFileNames.invalidate(fileName);
+            }
+
+            return fileUrl + fileName;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * upload 가 반환한 URL 의 원본과 축소본을 삭제한다.
+     * 최근 이 서버가 새로 만든 파일만 지우며, 같은 내용이 다시 업로드되어 공유 중인 파일은 남겨 둔다.
+     */
+    public void delete(String url) throws IOException {
+        if (url == null || !url.startsWith(fileUrl)) {
+            return;
+        }
+
+        String fileName = url.substring(fileUrl.length());
+        Path uploadDir = Paths.get(filePath).toAbsolutePath().normalize();
+        Path originalPath = uploadDir.resolve(fileName).normalize();
+        if (!originalPath.getParent().equals(uploadDir)) {
+            return;
+        }
+
+        Lock lock = lockOf(fileName);
+        lock.lock();
+        try {
+            if (recentlyCreatedFileNames.asMap().remove(fileName) == null) {
+                return;
+            }
+
+            deleteStored(originalPath);
+            for (ImageVariant variant : ImageVariant.values()) {
+                deleteStored(uploadDir.resolve(variant.fileNameOf(fileName)));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Lock lockOf(String fileName) {
+        return fileNameLocks[Math.floorMod(fileName.hashCode(), FILE_NAME_LOCK_STRIPES)];
+    }
+
+    private static boolean store(Path target, byte[] content) throws IOException {
+        if (isPrecompressed(target)) {
+            storeIfAbsent(gzipPathOf(target), gzip(content));
+        }
 
-        return fileUrl + fileName;
+        return storeIfAbsent(target, content);
+    }
+
+    private static void deleteStored(Path target) throws IOException {
+        Files.deleteIfExists(target);
+        if (isPrecompressed(target)) {
+            Files.deleteIfExists(gzipPathOf(target));
+        }
+    }
+
+    private static boolean isPrecompressed(Path target) {
+        return PRECOMPRESSED_EXTENSIONS.contains(extensionOf(target.getFileName().toString()));
+    }
+
+    private static Path gzipPathOf(Path target) {
+        return target.resolveSibling(target.getFileName() + ".gz");
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(content.length / 2 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(content);
+        }
+
+        return compressed.toByteArray();
+    }
+
+    // 다 쓰기 전의 파일이 /uploads 로 노출되지 않도록 임시 파일에 쓴 뒤 링크를 건다.
+    // 링크는 대상이 이미 있으면 실패하므로 동시에 같은 내용을 올려도 먼저 쓴 쪽만 파일을 만든다.
+    private static boolean storeIfAbsent(Path target, byte[] content) throws IOException {
+        Path stagingPath = target.resolveSibling(target.getFileName() + "." + UUID.randomUUID() + ".part");
+        try {
+            Files.write(stagingPath, content);
+            Files.createLink(target, stagingPath);
+            return true;
+        } catch (FileAlreadyExistsException e) {
+            return false;
+        } catch (UnsupportedOperationException e) {
+            // 하드 링크를 지원하지 않는 파일 시스템
+            Files.move(stagingPath, target, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } finally {
+            Files.deleteIfExists(stagingPath);
+        }
+    }
+
+    private static String extensionOf(String originalFilename) {
+        if (originalFilename == null) {
+            return "";
+        }
+
+        int dot = originalFilename.lastIndexOf('.');
+        String extension = dot < 0 ? "" : originalFilename.substring(dot).toLowerCase(Locale.ROOT);
+        return extension.matches("\\.[a-z0-9]{1,5}") ? extension : "";
+    }
+
+    private static String sha256Hex(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     // 다중 파일 업로드
@@ -0,0 +1,54 @@
+package com.beour.global.file;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 업로드한 이미지에서 미리 만들어 두는 축소본 종류. 원본은 그대로 두고 긴 변이 maxSize 이하인 JPEG 을 만든다.
+ *
+ * <p>축소본 파일 이름은 원본 이름에서 규칙으로 정해지므로 DB 에는 원본 URL 만 저장하고,
+ * 응답을 만들 때 {@link #urlOf(String)} 로 필요한 크기의 URL 을 얻는다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+
+    CARD("card", 480),
+    DETAIL("detail", 1280);
+
+    // ImageIO 가 기본으로 읽을 수 있어 JPEG 축소본을 만들 수 있는 확장자
+    static final Set<String> DECODABLE_EXTENSIONS = Set.of(".jpg", ".jpeg", ".png", ".gif", ".bmp");
+
+    private static final Pattern CONTENT_ADDRESSED_NAME = Pattern.compile("[0-9a-f]{64}(\\.[a-z0-9]{1,5})?");
+
+    private final String suffix;
+    private final int maxSize;
+
+    /**
+     * 원본 URL 에 해당하는 축소본 URL. 해시 이름으로 저장되기 전의 이미지는 축소본이 없으므로 원본 URL 을 그대로 반환한다.
+     */
+    public String urlOf(String originalUrl) {
+        if (originalUrl == null) {
+            return null;
+        }
+
+        int nameStart = originalUrl.lastIndexOf('/') + 1;
+        String fileName = originalUrl.substring(nameStart);
+        if (!CONTENT_ADDRESSED_NAME.matcher(fileName).matches()) {
+            return originalUrl;
+        }
+
+        return originalUrl.substring(0, nameStart) + fileNameOf(fileName);
+    }
+
+    String fileNameOf(String originalFileName) {
+        int dot = originalFileName.lastIndexOf('.');
+        String baseName = dot < 0 ? originalFileName : originalFileName.substring(0, dot);
+        String extension = dot < 0 ? "" : originalFileName.substring(dot).toLowerCase(Locale.ROOT);
+
+        return baseName + "_" + suffix + (DECODABLE_EXTENSIONS.contains(extension) ? ".jpg" : extension);
+    }
+}
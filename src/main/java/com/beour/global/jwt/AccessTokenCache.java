@@ -0,0 +1,75 @@
+package com.beour.global.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검증을 마친 access 토큰의 클레임을 토큰 만료 시각까지 보관한다.
+ * 같은 토큰이 반복해서 들어오면 HMAC 검증과 JSON 파싱을 건너뛴다.
+ * 키는 토큰 원문이 아닌 SHA-256 해시를 사용해 메모리에 토큰을 남기지 않는다.
+ */
+@Component
+public class AccessTokenCache {
+
+    private final JWTUtil jwtUtil;
+    private final Cache<String, JwtClaims> cache;
+
+    public AccessTokenCache(JWTUtil jwtUtil, MeterRegistry meterRegistry,
+        @Value("${jwt.access-token-cache.maximum-size:10000}") long maximumSize) {
+        this.jwtUtil = jwtUtil;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new UntilTokenExpires())
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwtAccessToken");
+    }
+
+    /**
+     * 캐시에 살아있는 클레임이 있으면 그대로 쓰고, 없으면 서명을 검증한 뒤 캐시에 넣는다.
+     * 만료된 토큰은 JWTUtil 과 동일하게 ExpiredJwtException 을 던진다.
+     */
+    public JwtClaims verify(String token) {
+        String key = TokenHashUtils.sha256Hex(token);
+        JwtClaims cached = cache.getIfPresent(key);
+        if (cached != null && cached.getExpiresAtMillis() > System.currentTimeMillis()) {
+            return cached;
+        }
+
+        JwtClaims claims = jwtUtil.parseClaims(token);
+        cache.put(key, claims);
+        return claims;
+    }
+
+    long estimatedSize() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private static class UntilTokenExpires implements Expiry<String, JwtClaims> {
+
+        @Override
+        public long expireAfterCreate(String key, JwtClaims claims, long currentTime) {
+            long remainingMillis = claims.getExpiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtClaims claims, long currentTime,
+            long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtClaims claims, long currentTime,
+            long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -3,7 +3,7 @@ package com.beour.global.jwt;
 import com.beour.global.exception.error.errorcode.UserErrorCode;
 import com.beour.global.exception.exceptionType.TokenExpiredException;
 import com.beour.global.exception.exceptionType.TokenNotFoundException;
-import com.beour.token.repository.RefreshTokenRepository;
+import com.beour.token.service.RefreshTokenStore;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
@@ -24,7 +24,7 @@ import org.springframework.web.filter.GenericFilterBean;
 public class CustomLogoutFilter extends GenericFilterBean {
 
     private final JWTUtil jwtUtil;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
 
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
@@ -52,14 +52,11 @@ public class CustomLogoutFilter extends GenericFilterBean {
                 throw new TokenNotFoundException(UserErrorCode.REFRESH_TOKEN_NOT_FOUND);
             }
 
-            //DB에 저장되어 있는지 확인
-            if (!refreshTokenRepository.existsByRefresh(refresh)) {
+            //로그아웃 진행
+            //Refresh 토큰 저장소에서 제거, 저장되어 있지 않았다면 에러
+            if (!refreshTokenStore.revoke(refresh)) {
                 throw new TokenNotFoundException(UserErrorCode.REFRESH_TOKEN_NOT_FOUND);
             }
-
-            //로그아웃 진행
-            //Refresh 토큰 DB에서 제거
-            refreshTokenRepository.deleteByRefresh(refresh);
             clearRefreshCookie(response);
 
             response.setStatus(HttpServletResponse.SC_OK);
@@ -24,7 +24,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @RequiredArgsConstructor
 public class JWTFilter extends OncePerRequestFilter {
 
-    private final JWTUtil jwtUtil;
+    private final AccessTokenCache accessTokenCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
@@ -44,23 +44,21 @@ public class JWTFilter extends OncePerRequestFilter {
         }
 
         //토큰 만료 여부 확인, 토큰 만료시 다음 필터로 넘기지 않고 만료 여부 프론트로 전달
+        JwtClaims claims;
         try {
-            jwtUtil.isExpired(accessToken);
+            claims = accessTokenCache.verify(accessToken);
         } catch (ExpiredJwtException ex) {
             writeErrorResponse(response, UserErrorCode.ACCESS_TOKEN_EXPIRED);
             return;
         }
 
         //token이 access token인지 확인, 아니면 프론트한테 알려줌
-        if (!"access".equals(jwtUtil.getCategory(accessToken))) {
+        if (!"access".equals(claims.getCategory())) {
             writeErrorResponse(response, UserErrorCode.NOT_ACCESS_TOKEN);
             return;
         }
 
-        String loginId = jwtUtil.getLoginId(accessToken);
-        String role = jwtUtil.getRole(accessToken);
-
-        User user = User.fromJwt(loginId, role);
+        User user = User.fromJwt(claims.getLoginId(), claims.getRole());
         CustomUserDetails customUserDetails = new CustomUserDetails(user);
 
         Authentication authToken = new UsernamePasswordAuthenticationToken(customUserDetails, null,
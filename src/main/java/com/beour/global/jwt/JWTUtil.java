@@ -1,8 +1,11 @@
 package com.beour.global.jwt;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.UUID;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import org.springframework.beans.factory.annotation.Value;
@@ -12,34 +15,43 @@ import org.springframework.stereotype.Component;
 public class JWTUtil {
 
     private SecretKey secretKey;
+    private final JwtParser jwtParser;
 
     public JWTUtil(@Value("${spring.jwt.secret}") String secret) {
         secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8),
             Jwts.SIG.HS256.key().build().getAlgorithm());
+        jwtParser = Jwts.parser().verifyWith(secretKey).build();
+    }
+
+    /**
+     * 서명을 한 번만 검증하고 클레임을 꺼낸다. 만료된 토큰이면 ExpiredJwtException 을 던진다.
+     */
+    public JwtClaims parseClaims(String token) {
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+        return new JwtClaims(claims.get("category", String.class), claims.get("loginId", String.class),
+            claims.get("role", String.class), claims.getExpiration().getTime());
     }
 
     public String getLoginId(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload()
-            .get("loginId", String.class);
+        return parseClaims(token).getLoginId();
     }
 
     public String getRole(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload()
-            .get("role", String.class);
+        return parseClaims(token).getRole();
     }
 
     public String getCategory(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload()
-            .get("category", String.class);
+        return parseClaims(token).getCategory();
     }
 
     public Boolean isExpired(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload()
-            .getExpiration().before(new Date());
+        return parseClaims(token).getExpiresAtMillis() < System.currentTimeMillis();
     }
 
     public String createJwt(String category, String loginId, String role, Long expiredMs) {
+        // 같은 초에 발급해도 토큰 문자열이 겹치지 않도록 jti 를 넣는다. (refresh 토큰은 해시가 유니크 키)
         return Jwts.builder()
+            .id(UUID.randomUUID().toString())
             .claim("category", category)
             .claim("loginId", loginId)
             .claim("role", role)
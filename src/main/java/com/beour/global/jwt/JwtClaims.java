@@ -0,0 +1,17 @@
+package com.beour.global.jwt;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 서명 검증을 마친 토큰의 클레임.
+ */
+@Getter
+@AllArgsConstructor
+public class JwtClaims {
+
+    private final String category;
+    private final String loginId;
+    private final String role;
+    private final long expiresAtMillis;
+}
@@ -3,8 +3,7 @@ package com.beour.global.jwt;
 import com.beour.global.exception.error.errorcode.UserErrorCode;
 import com.beour.global.exception.exceptionType.LoginUserMismatchRole;
 import com.beour.global.exception.exceptionType.LoginUserNotFoundException;
-import com.beour.token.entity.RefreshToken;
-import com.beour.token.repository.RefreshTokenRepository;
+import com.beour.token.service.RefreshTokenStore;
 import com.beour.user.dto.CustomUserDetails;
 import com.beour.user.dto.LoginDto;
 import com.beour.user.entity.User;
@@ -16,7 +15,6 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.Collection;
-import java.util.Date;
 import java.util.Iterator;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
@@ -34,7 +32,7 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
     private final AuthenticationManager authenticationManager;
     private final UserRepository userRepository;
     private final JWTUtil jwtUtil;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
 
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request,
@@ -120,16 +118,7 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
     }
 
     private void addRefreshEntity(String loginId, String refresh, Long expiredMs) {
-
-        Date date = new Date(System.currentTimeMillis() + expiredMs);
-
-        RefreshToken refreshToken = RefreshToken.builder()
-            .loginId(loginId)
-            .refresh(refresh)
-            .expiration(date.toString())
-            .build();
-
-        refreshTokenRepository.save(refreshToken);
+        refreshTokenStore.save(loginId, refresh, System.currentTimeMillis() + expiredMs);
     }
 
     @Override
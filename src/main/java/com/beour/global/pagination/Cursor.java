@@ -0,0 +1,89 @@
+package com.beour.global.pagination;
+
+import com.beour.global.exception.error.errorcode.GlobalErrorCode;
+import com.beour.global.exception.exceptionType.InputInvalidFormatException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.data.domain.Slice;
+
+/**
+ * 키셋(커서) 페이지네이션의 위치. 마지막으로 내려준 행의 정렬 키와 id 를 불투명한 문자열로 감싼다.
+ * 클라이언트는 값을 해석하지 않고 받은 그대로 다음 요청의 cursor 로 돌려준다.
+ */
+public record Cursor(String key, long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static Cursor of(LocalDateTime dateTime, long id) {
+        return new Cursor(dateTime.toString(), id);
+    }
+
+    public static Cursor of(double distance, long id) {
+        return new Cursor(Double.toString(distance), id);
+    }
+
+    /**
+     * 빈 문자열은 첫 페이지를 뜻하므로 null 을 돌려준다.
+     */
+    public static Cursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = decoded.lastIndexOf(SEPARATOR);
+            if (separatorIndex <= 0) {
+                throw invalid();
+            }
+            return new Cursor(decoded.substring(0, separatorIndex),
+                Long.parseLong(decoded.substring(separatorIndex + 1)));
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+    }
+
+    /**
+     * 다음 페이지가 있으면 마지막 행의 커서를, 없으면 null 을 돌려준다.
+     */
+    public static <T> String nextOf(Slice<T> slice, Function<T, Cursor> cursorOf) {
+        List<T> content = slice.getContent();
+        if (!slice.hasNext() || content.isEmpty()) {
+            return null;
+        }
+        return cursorOf.apply(content.get(content.size() - 1)).encode();
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString((key + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime dateTime() {
+        try {
+            return LocalDateTime.parse(key);
+        } catch (DateTimeParseException e) {
+            throw invalid();
+        }
+    }
+
+    public double distance() {
+        try {
+            double distance = Double.parseDouble(key);
+            if (!Double.isFinite(distance)) {
+                throw invalid();
+            }
+            return distance;
+        } catch (NumberFormatException e) {
+            throw invalid();
+        }
+    }
+
+    private static InputInvalidFormatException invalid() {
+        return new InputInvalidFormatException(GlobalErrorCode.INVALID_CURSOR);
+    }
+}
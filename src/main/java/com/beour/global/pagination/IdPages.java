@@ -0,0 +1,54 @@
+package com.beour.global.pagination;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+/**
+ * 컬렉션 fetch join 과 페이지네이션을 함께 쓰면 Hibernate 가 메모리에서 페이지를 자르므로,
+ * id 만 먼저 페이지로 읽고 해당 id 의 본문을 IN 조회로 한 번에 채운다.
+ */
+public final class IdPages {
+
+    private IdPages() {
+    }
+
+    /**
+     * IN 조회는 순서를 보장하지 않으므로 id 페이지의 순서대로 다시 정렬한다.
+     */
+    public static <T> Page<T> fill(Page<Long> idPage, Function<List<Long>, List<T>> fetchByIds,
+        Function<T, Long> idOf) {
+        return new PageImpl<>(fetchInIdOrder(idPage.getContent(), fetchByIds, idOf), idPage.getPageable(),
+            idPage.getTotalElements());
+    }
+
+    /**
+     * 커서 페이지용. 개수를 세지 않은 id Slice 를 같은 방식으로 채운다.
+     */
+    public static <T> Slice<T> fillSlice(Slice<Long> idSlice, Function<List<Long>, List<T>> fetchByIds,
+        Function<T, Long> idOf) {
+        return new SliceImpl<>(fetchInIdOrder(idSlice.getContent(), fetchByIds, idOf), idSlice.getPageable(),
+            idSlice.hasNext());
+    }
+
+    private static <T> List<T> fetchInIdOrder(List<Long> ids, Function<List<Long>, List<T>> fetchByIds,
+        Function<T, Long> idOf) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, T> contentById = fetchByIds.apply(ids).stream()
+            .collect(Collectors.toMap(idOf, Function.identity(), (first, duplicate) -> first));
+
+        return ids.stream()
+            .map(contentById::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+}
@@ -1,10 +1,11 @@
 package com.beour.global.security;
 
+import com.beour.global.jwt.AccessTokenCache;
 import com.beour.global.jwt.CustomLogoutFilter;
 import com.beour.global.jwt.JWTFilter;
 import com.beour.global.jwt.JWTUtil;
 import com.beour.global.jwt.LoginFilter;
-import com.beour.token.repository.RefreshTokenRepository;
+import com.beour.token.service.RefreshTokenStore;
 import com.beour.user.repository.UserRepository;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -31,7 +32,8 @@ public class SecurityConfig {
     private final AuthenticationConfiguration authenticationConfiguration;
     private final UserRepository userRepository;
     private final JWTUtil jwtUtil;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final AccessTokenCache accessTokenCache;
+    private final RefreshTokenStore refreshTokenStore;
     private final CorsConfigurationSource corsConfigurationSource;
 
     @Bean
@@ -50,7 +52,7 @@ public class SecurityConfig {
         AuthenticationManager authenticationManager = authenticationManager();
 
         LoginFilter loginFilter = new LoginFilter(authenticationManager, userRepository, jwtUtil,
-            refreshTokenRepository);
+            refreshTokenStore);
         loginFilter.setFilterProcessesUrl("/api/login");
 
         http.cors((cors) -> cors.configurationSource(corsConfigurationSource));
@@ -59,6 +61,8 @@ public class SecurityConfig {
             .authorizeHttpRequests((auth) -> auth
                 .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers(HttpMethod.GET, "/uploads/**").permitAll()
 
                 // all - 로그인, 회원가입 등
                 .requestMatchers("/api/signup", "/api/signup/check-duplicate/login-id",
@@ -67,7 +71,8 @@ public class SecurityConfig {
                 .permitAll()
 
                 // all - 공간 검색 및 이용가능 시간
-                .requestMatchers("/api/spaces/*/available-times/date", "/api/reviews/new",
+                .requestMatchers("/api/spaces/*/available-times/date",
+                    "/api/spaces/*/available-times/month", "/api/reviews/new",
                     "/api/spaces/nearby", "/api/spaces/keyword", "/api/spaces/filter",
                     "/api/spaces/spacecategory", "/api/spaces/usecategory", "/api/spaces/new")
                 .permitAll()
@@ -75,7 +80,7 @@ public class SecurityConfig {
                 //host - 공간 예약
                 .requestMatchers("/api/reservations/condition", "/api/reservations/*/accept",
                     "/api/reservations/*/reject", "/api/users/me/spaces-name", "/api/reservations",
-                    "/api/spaces/reservations").hasRole("HOST")
+                    "/api/spaces/reservations", "/api/reservations/dashboard").hasRole("HOST")
 
                 //host - 공간
                 .requestMatchers("/api/spaces", "/api/spaces/*/simple", "/api/spaces/*",
@@ -100,10 +105,12 @@ public class SecurityConfig {
 
                 //admin
                 .requestMatchers("/api/banners", "/admin/banner/list").hasRole("ADMIN")
+                .requestMatchers("/actuator/metrics", "/actuator/metrics/**").hasRole("ADMIN")
 
                 //guest, host, admin
                 .requestMatchers("/api/token/reissue", "api/users", "api/users/me",
-                    "api/users/me/detail", "api/users/me/password", "/api/logout")
+                    "api/users/me/detail", "api/users/me/password", "/api/logout",
+                    "/api/users/me/sessions")
                 .hasAnyRole("HOST", "GUEST", "ADMIN")
 
                 .anyRequest().authenticated()
@@ -119,9 +126,9 @@ public class SecurityConfig {
         );
 
         http
-            .addFilterBefore(new JWTFilter(jwtUtil), LoginFilter.class)
+            .addFilterBefore(new JWTFilter(accessTokenCache), LoginFilter.class)
             .addFilterAt(loginFilter, UsernamePasswordAuthenticationFilter.class)
-            .addFilterBefore(new CustomLogoutFilter(jwtUtil, refreshTokenRepository),
+            .addFilterBefore(new CustomLogoutFilter(jwtUtil, refreshTokenStore),
                 LogoutFilter.class);
 
         http
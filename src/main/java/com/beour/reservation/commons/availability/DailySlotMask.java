@@ -0,0 +1,122 @@
+package com.beour.reservation.commons.availability;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * 하루를 slotMinutes 단위 슬롯으로 나눈 점유 비트맵.
+ * 운영 시간 슬롯(open)과 예약된 슬롯(occupied)을 따로 두고,
+ * 예약 가능 여부는 open AND NOT occupied 로 계산한다.
+ * 종료 시각이 자정(00:00)이면 하루의 끝으로 본다.
+ */
+public class DailySlotMask {
+
+    private static final int SECONDS_PER_DAY = 24 * 60 * 60;
+
+    private final int slotMinutes;
+    private final int slotSeconds;
+    private final int slotCount;
+    private final BitSet open;
+    private final BitSet occupied;
+
+    public DailySlotMask(int slotMinutes) {
+        if (slotMinutes <= 0 || SECONDS_PER_DAY % (slotMinutes * 60) != 0) {
+            throw new IllegalArgumentException("slotMinutes must divide a day: " + slotMinutes);
+        }
+
+        this.slotMinutes = slotMinutes;
+        this.slotSeconds = slotMinutes * 60;
+        this.slotCount = SECONDS_PER_DAY / slotSeconds;
+        this.open = new BitSet(slotCount);
+        this.occupied = new BitSet(slotCount);
+    }
+
+    /**
+     * {@link #openSlotBytes()}, {@link #occupiedSlotBytes()} 로 저장해 둔 비트맵을 되살린다.
+     */
+    public static DailySlotMask of(int slotMinutes, byte[] openSlots, byte[] occupiedSlots) {
+        DailySlotMask slotMask = new DailySlotMask(slotMinutes);
+        slotMask.open.or(BitSet.valueOf(openSlots));
+        slotMask.occupied.or(BitSet.valueOf(occupiedSlots));
+        return slotMask;
+    }
+
+    public int getSlotMinutes() {
+        return slotMinutes;
+    }
+
+    public byte[] openSlotBytes() {
+        return open.toByteArray();
+    }
+
+    public byte[] occupiedSlotBytes() {
+        return occupied.toByteArray();
+    }
+
+    /**
+     * 시작, 종료 시각 사이에 온전히 들어가는 슬롯을 운영 시간으로 연다.
+     */
+    public void open(LocalTime startTime, LocalTime endTime) {
+        int from = ceilSlotOf(startTime);
+        int to = endSlotOf(endTime, false);
+        if (from < to) {
+            open.set(from, to);
+        }
+    }
+
+    /**
+     * 시작, 종료 시각에 조금이라도 걸치는 슬롯을 점유 처리한다.
+     */
+    public void occupy(LocalTime startTime, LocalTime endTime) {
+        int from = floorSlotOf(startTime);
+        int to = endSlotOf(endTime, true);
+        if (from < to) {
+            occupied.set(from, to);
+        }
+    }
+
+    /**
+     * 주어진 시각이 속한 슬롯과 그 이전 슬롯을 모두 닫는다. 당일 조회에서 지난 시간을 빼는 용도.
+     */
+    public void closeThrough(LocalTime time) {
+        open.clear(0, Math.min(floorSlotOf(time) + 1, slotCount));
+    }
+
+    public boolean isOccupied(LocalTime startTime, LocalTime endTime) {
+        int from = floorSlotOf(startTime);
+        int to = endSlotOf(endTime, true);
+        int nextOccupied = occupied.nextSetBit(from);
+        return nextOccupied >= 0 && nextOccupied < to;
+    }
+
+    public List<LocalTime> availableSlotStartTimes() {
+        BitSet available = (BitSet) open.clone();
+        available.andNot(occupied);
+
+        List<LocalTime> startTimes = new ArrayList<>(available.cardinality());
+        for (int slot = available.nextSetBit(0); slot >= 0; slot = available.nextSetBit(slot + 1)) {
+            startTimes.add(LocalTime.ofSecondOfDay((long) slot * slotSeconds));
+        }
+
+        return startTimes;
+    }
+
+    private int floorSlotOf(LocalTime time) {
+        return time.toSecondOfDay() / slotSeconds;
+    }
+
+    private int ceilSlotOf(LocalTime time) {
+        int seconds = time.toSecondOfDay() + (time.getNano() > 0 ? 1 : 0);
+        return Math.floorDiv(seconds + slotSeconds - 1, slotSeconds);
+    }
+
+    private int endSlotOf(LocalTime endTime, boolean roundUp) {
+        if (endTime.equals(LocalTime.MIDNIGHT)) {
+            return slotCount;
+        }
+
+        return roundUp ? ceilSlotOf(endTime) : floorSlotOf(endTime);
+    }
+}
@@ -3,18 +3,22 @@ package com.beour.reservation.commons.entity;
 import com.beour.global.entity.BaseTimeEntity;
 import com.beour.reservation.commons.enums.ReservationStatus;
 import com.beour.reservation.commons.enums.UsagePurpose;
+import com.beour.reservation.commons.listener.ReservationScheduleListener;
 import com.beour.space.domain.entity.Space;
 import com.beour.user.entity.User;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import lombok.AccessLevel;
@@ -25,6 +29,17 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@EntityListeners(ReservationScheduleListener.class)
+@Table(indexes = {
+    // 호스트 예약 현황: host_id, date 로 거르고 start_time 순으로 정렬한다.
+    @Index(name = "idx_reservation_host_date_start", columnList = "host_id, date, start_time"),
+    // 공간 예약 가능 시간 계산과 점유 집계: space_id, date(범위)
+    @Index(name = "idx_reservation_space_date", columnList = "space_id, date"),
+    // 게스트 예정/지난 예약: guest_id 와 (date, end_time) 범위 조건
+    @Index(name = "idx_reservation_guest_date_end", columnList = "guest_id, date, end_time"),
+    // 완료 배치: status 와 date 범위 조건
+    @Index(name = "idx_reservation_status_date", columnList = "status, date")
+})
 public class Reservation extends BaseTimeEntity {
 
     @Id
@@ -44,6 +59,7 @@ public class Reservation extends BaseTimeEntity {
     private Space space;
 
     @Enumerated(EnumType.STRING)
+    @Column(name = "status")
     private ReservationStatus status;
 
     @Enumerated(EnumType.STRING)
@@ -52,8 +68,11 @@ public class Reservation extends BaseTimeEntity {
     @Column(length = 200)
     private String requestMessage;
 
+    @Column(name = "date")
     private LocalDate date;
+    @Column(name = "start_time")
     private LocalTime startTime;
+    @Column(name = "end_time")
     private LocalTime endTime;
     private int price;
     private int guestCount;
@@ -67,6 +86,15 @@ public class Reservation extends BaseTimeEntity {
         this.status = status;
     }
 
+    // 이용 시간이 지난 승인 예약은 완료 배치가 돌기 전이라도 사용 완료로 본다.
+    public ReservationStatus effectiveStatus(LocalDate today, LocalTime now) {
+        boolean finished = date.isBefore(today) || (date.equals(today) && !endTime.isAfter(now));
+        if (status == ReservationStatus.ACCEPTED && finished) {
+            return ReservationStatus.COMPLETED;
+        }
+        return status;
+    }
+
     @Builder
     private Reservation(User guest, User host, Space space, ReservationStatus status,
                         UsagePurpose usagePurpose, String requestMessage, LocalDate date,
@@ -0,0 +1,53 @@
+package com.beour.reservation.commons.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 공간별, 날짜별 예약 상태 건수와 매출을 미리 집계해 둔 테이블.
+ * 예약이 바뀔 때마다 해당 공간, 날짜 행만 다시 집계해 upsert 하므로
+ * 호스트 대시보드 조회 비용이 예약 이력의 크기와 무관하다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_reservation_daily_stat_space_date",
+    columnNames = {"space_id", "date"}),
+    indexes = @Index(name = "idx_reservation_daily_stat_host_date", columnList = "host_id, date"))
+public class ReservationDailyStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "space_id", nullable = false)
+    private Long spaceId;
+
+    @Column(name = "host_id", nullable = false)
+    private Long hostId;
+
+    @Column(name = "date", nullable = false)
+    private LocalDate date;
+
+    private int pendingCount;
+
+    private int acceptedCount;
+
+    private int completedCount;
+
+    // 승인, 사용 완료 예약의 금액 합계
+    private long revenue;
+
+    private LocalDateTime updatedAt;
+}
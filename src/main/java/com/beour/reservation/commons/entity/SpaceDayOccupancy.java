@@ -0,0 +1,51 @@
+package com.beour.reservation.commons.entity;
+
+import com.beour.reservation.commons.availability.DailySlotMask;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 공간별, 날짜별 운영/예약 슬롯 비트맵을 미리 계산해 둔 테이블.
+ * 예약과 예약 가능 시간이 바뀔 때마다 해당 날짜 행을 다시 계산하며, 쓰기는 모두 upsert 로 한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_space_day_occupancy_space_date",
+    columnNames = {"space_id", "date"}))
+public class SpaceDayOccupancy {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "space_id", nullable = false)
+    private Long spaceId;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    private int slotMinutes;
+
+    @Column(length = 180)
+    private byte[] openSlots;
+
+    @Column(length = 180)
+    private byte[] occupiedSlots;
+
+    private LocalDateTime updatedAt;
+
+    public DailySlotMask toSlotMask() {
+        return DailySlotMask.of(slotMinutes, openSlots, occupiedSlots);
+    }
+}
@@ -0,0 +1,15 @@
+package com.beour.reservation.commons.event;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+public class ReservationScheduleChangedEvent {
+
+    private final Long spaceId;
+    private final LocalDate date;
+}
@@ -0,0 +1,73 @@
+package com.beour.reservation.commons.listener;
+
+import com.beour.reservation.commons.entity.Reservation;
+import com.beour.reservation.commons.event.ReservationScheduleChangedEvent;
+import com.beour.space.domain.entity.AvailableTime;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import java.util.HashSet;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 예약이나 예약 가능 시간이 바뀌면 해당 공간, 날짜의 {@link ReservationScheduleChangedEvent} 를 발행한다.
+ * 한 트랜잭션 안에서는 공간, 날짜 조합마다 한 번만 발행한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationScheduleListener {
+
+    private static final Object PUBLISHED_EVENTS_KEY = ReservationScheduleListener.class.getName() + ".publishedEvents";
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        ReservationScheduleChangedEvent event = eventOf(entity);
+        if (event == null || alreadyPublishedInTransaction(event)) {
+            return;
+        }
+
+        eventPublisher.publishEvent(event);
+    }
+
+    private ReservationScheduleChangedEvent eventOf(Object entity) {
+        if (entity instanceof Reservation reservation && reservation.getSpace() != null) {
+            return new ReservationScheduleChangedEvent(reservation.getSpace().getId(), reservation.getDate());
+        }
+        if (entity instanceof AvailableTime availableTime && availableTime.getSpace() != null) {
+            return new ReservationScheduleChangedEvent(availableTime.getSpace().getId(), availableTime.getDate());
+        }
+
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean alreadyPublishedInTransaction(ReservationScheduleChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return false;
+        }
+
+        Set<ReservationScheduleChangedEvent> publishedEvents =
+            (Set<ReservationScheduleChangedEvent>) TransactionSynchronizationManager.getResource(PUBLISHED_EVENTS_KEY);
+        if (publishedEvents == null) {
+            publishedEvents = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(PUBLISHED_EVENTS_KEY, publishedEvents);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PUBLISHED_EVENTS_KEY);
+                }
+            });
+        }
+
+        return !publishedEvents.add(event);
+    }
+}
@@ -0,0 +1,90 @@
+package com.beour.reservation.commons.repository;
+
+import com.beour.reservation.commons.entity.ReservationDailyStat;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface ReservationDailyStatRepository extends JpaRepository<ReservationDailyStat, Long> {
+
+    List<ReservationDailyStat> findByHostIdAndDateBetweenOrderBySpaceIdAscDateAsc(Long hostId,
+        LocalDate from, LocalDate to);
+
+    List<ReservationDailyStat> findBySpaceIdAndDateBetweenOrderByDateAsc(Long spaceId,
+        LocalDate from, LocalDate to);
+
+    Optional<ReservationDailyStat> findFirstBy();
+
+    // 한 공간의 하루치 예약만 다시 집계한다(idx_reservation_space_date). 예약이 모두 사라진 날은 0 으로 덮는다.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "reservation_daily_stat"))
+    @Query(value = """
+        INSERT INTO reservation_daily_stat (space_id, host_id, date, pending_count, accepted_count,
+            completed_count, revenue, updated_at)
+        SELECT s.id, s.host_id, :date,
+            COUNT(CASE WHEN r.status = 'PENDING' THEN 1 END),
+            COUNT(CASE WHEN r.status = 'ACCEPTED' THEN 1 END),
+            COUNT(CASE WHEN r.status = 'COMPLETED' THEN 1 END),
+            COALESCE(SUM(CASE WHEN r.status IN ('ACCEPTED', 'COMPLETED') THEN r.price END), 0),
+            NOW()
+        FROM space s
+        LEFT JOIN reservation r ON r.space_id = s.id AND r.date = :date AND r.deleted_at IS NULL
+        WHERE s.id = :spaceId
+        GROUP BY s.id, s.host_id
+        ON DUPLICATE KEY UPDATE
+            host_id = VALUES(host_id),
+            pending_count = VALUES(pending_count),
+            accepted_count = VALUES(accepted_count),
+            completed_count = VALUES(completed_count),
+            revenue = VALUES(revenue),
+            updated_at = VALUES(updated_at)
+        """, nativeQuery = true)
+    int refresh(@Param("spaceId") Long spaceId, @Param("date") LocalDate date);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "reservation_daily_stat"))
+    @Query(value = """
+        INSERT INTO reservation_daily_stat (space_id, host_id, date, pending_count, accepted_count,
+            completed_count, revenue, updated_at)
+        SELECT r.space_id, s.host_id, r.date,
+            COUNT(CASE WHEN r.status = 'PENDING' THEN 1 END),
+            COUNT(CASE WHEN r.status = 'ACCEPTED' THEN 1 END),
+            COUNT(CASE WHEN r.status = 'COMPLETED' THEN 1 END),
+            COALESCE(SUM(CASE WHEN r.status IN ('ACCEPTED', 'COMPLETED') THEN r.price END), 0),
+            NOW()
+        FROM reservation r
+        JOIN space s ON s.id = r.space_id
+        WHERE r.deleted_at IS NULL
+        GROUP BY r.space_id, s.host_id, r.date
+        ON DUPLICATE KEY UPDATE
+            host_id = VALUES(host_id),
+            pending_count = VALUES(pending_count),
+            accepted_count = VALUES(accepted_count),
+            completed_count = VALUES(completed_count),
+            revenue = VALUES(revenue),
+            updated_at = VALUES(updated_at)
+        """, nativeQuery = true)
+    int reconcileAll();
+
+    // reconcileAll 은 예약이 남아 있는 날짜만 다루므로, 예약이 모두 지워진 날짜의 행은 따로 0 으로 되돌린다.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "reservation_daily_stat"))
+    @Query(value = """
+        UPDATE reservation_daily_stat st
+        SET st.pending_count = 0, st.accepted_count = 0, st.completed_count = 0, st.revenue = 0,
+            st.updated_at = NOW()
+        WHERE (st.pending_count > 0 OR st.accepted_count > 0 OR st.completed_count > 0)
+          AND NOT EXISTS (
+            SELECT 1 FROM reservation r
+            WHERE r.space_id = st.space_id AND r.date = st.date AND r.deleted_at IS NULL
+          )
+        """, nativeQuery = true)
+    int resetEmptyDays();
+}
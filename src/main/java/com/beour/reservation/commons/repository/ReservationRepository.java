@@ -3,21 +3,60 @@ package com.beour.reservation.commons.repository;
 import com.beour.reservation.commons.entity.Reservation;
 import com.beour.reservation.commons.enums.ReservationStatus;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
 
+    @Query("""
+        SELECT r.id FROM Reservation r
+        WHERE r.status = :status
+          AND (r.date < :today OR (r.date = :today AND r.endTime <= :now))
+          AND r.id > :lastId
+        ORDER BY r.id ASC
+        """)
+    List<Long> findFinishedIdsByStatusAfter(@Param("status") ReservationStatus status,
+            @Param("today") LocalDate today,
+            @Param("now") LocalTime now,
+            @Param("lastId") Long lastId,
+            Pageable pageable);
+
+    @Query("""
+        SELECT DISTINCT r.space.id AS spaceId, r.date AS date FROM Reservation r
+        WHERE r.id IN :ids
+        """)
+    List<ReservationSpaceDateFields> findSpaceDatesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 엔티티 리스너를 거치지 않는 벌크 갱신이다. 상태만 바뀌고 공간 점유는 그대로라 일정 이벤트가 필요 없지만,
+    // 일별 예약 통계는 호출하는 쪽에서 findSpaceDatesByIdIn 으로 다시 집계해야 한다.
+    @Modifying
+    @Query("""
+        UPDATE Reservation r
+        SET r.status = :to, r.updatedAt = :updatedAt
+        WHERE r.id IN :ids AND r.status = :from
+        """)
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids,
+            @Param("from") ReservationStatus from,
+            @Param("to") ReservationStatus to,
+            @Param("updatedAt") LocalDateTime updatedAt);
+
     List<Reservation> findBySpaceIdAndDateAndDeletedAtIsNull(Long spaceId, LocalDate date);
 
     List<Reservation> findBySpaceIdAndDateAndStatusNot(Long spaceId, LocalDate date,
                                                        ReservationStatus status);
 
+    List<Reservation> findBySpaceIdAndDateBetweenAndStatusNot(Long spaceId, LocalDate from,
+                                                              LocalDate to, ReservationStatus status);
+
     @Query("SELECT r FROM Reservation r JOIN FETCH r.space " +
             "WHERE r.guest.id = :guestId AND " +
             "(r.date > :today OR (r.date = :today AND r.endTime > :now))")
@@ -28,7 +67,38 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
             Pageable pageable
     );
 
-    @Query("SELECT r FROM Reservation r " +
+    @Query("SELECT r FROM Reservation r JOIN FETCH r.space " +
+            "WHERE r.guest.id = :guestId AND " +
+            "(r.date > :today OR (r.date = :today AND r.endTime > :now)) " +
+            "ORDER BY r.date ASC, r.startTime ASC, r.id ASC")
+    Slice<Reservation> findFirstUpcomingReservationSliceByGuest(
+            @Param("guestId") Long guestId,
+            @Param("today") LocalDate today,
+            @Param("now") LocalTime now,
+            Pageable pageable
+    );
+
+    // 이용 일시 (date, startTime, id) 가 커서보다 뒤인 예약부터 이어서 읽는다.
+    @Query("SELECT r FROM Reservation r JOIN FETCH r.space " +
+            "WHERE r.guest.id = :guestId AND " +
+            "(r.date > :today OR (r.date = :today AND r.endTime > :now)) AND " +
+            "(r.date > :afterDate OR (r.date = :afterDate AND " +
+            "(r.startTime > :afterTime OR (r.startTime = :afterTime AND r.id > :afterId)))) " +
+            "ORDER BY r.date ASC, r.startTime ASC, r.id ASC")
+    Slice<Reservation> findUpcomingReservationSliceByGuestAfter(
+            @Param("guestId") Long guestId,
+            @Param("today") LocalDate today,
+            @Param("now") LocalTime now,
+            @Param("afterDate") LocalDate afterDate,
+            @Param("afterTime") LocalTime afterTime,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
+    @Query(value = "SELECT r FROM Reservation r JOIN FETCH r.space " +
+            "WHERE r.guest.id = :guestId AND " +
+            "(r.date < :today OR (r.date = :today AND r.endTime <= :now))",
+            countQuery = "SELECT COUNT(r) FROM Reservation r " +
             "WHERE r.guest.id = :guestId AND " +
             "(r.date < :today OR (r.date = :today AND r.endTime <= :now))")
     Page<Reservation> findPastReservationsByGuest(
@@ -38,14 +108,81 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
             Pageable pageable
     );
 
+    @Query("SELECT r FROM Reservation r JOIN FETCH r.space " +
+            "WHERE r.guest.id = :guestId AND " +
+            "(r.date < :today OR (r.date = :today AND r.endTime <= :now)) " +
+            "ORDER BY r.date DESC, r.startTime DESC, r.id DESC")
+    Slice<Reservation> findFirstPastReservationSliceByGuest(
+            @Param("guestId") Long guestId,
+            @Param("today") LocalDate today,
+            @Param("now") LocalTime now,
+            Pageable pageable
+    );
+
+    // 최근 이용 순서라 이용 일시 (date, startTime, id) 가 커서보다 앞선 예약부터 이어서 읽는다.
+    @Query("SELECT r FROM Reservation r JOIN FETCH r.space " +
+            "WHERE r.guest.id = :guestId AND " +
+            "(r.date < :today OR (r.date = :today AND r.endTime <= :now)) AND " +
+            "(r.date < :beforeDate OR (r.date = :beforeDate AND " +
+            "(r.startTime < :beforeTime OR (r.startTime = :beforeTime AND r.id < :beforeId)))) " +
+            "ORDER BY r.date DESC, r.startTime DESC, r.id DESC")
+    Slice<Reservation> findPastReservationSliceByGuestBefore(
+            @Param("guestId") Long guestId,
+            @Param("today") LocalDate today,
+            @Param("now") LocalTime now,
+            @Param("beforeDate") LocalDate beforeDate,
+            @Param("beforeTime") LocalTime beforeTime,
+            @Param("beforeId") Long beforeId,
+            Pageable pageable
+    );
+
+    // 리뷰 작성 가능 여부는 Reservation.effectiveStatus 와 같은 기준이다.
+    // 완료 배치가 아직 돌지 않았어도 이용 시간이 지난 승인 예약은 완료로 본다.
+    @Query("""
+    SELECT r FROM Reservation r
+    JOIN FETCH r.space
+    WHERE r.guest.id = :guestId
+    AND (r.status = 'COMPLETED' OR (r.status = 'ACCEPTED' AND
+        (r.date < :today OR (r.date = :today AND r.endTime <= :now))))
+    AND r.deletedAt IS NULL
+    """)
+    Page<Reservation> findReviewableReservationsByGuestId(@Param("guestId") Long guestId,
+        @Param("today") LocalDate today,
+        @Param("now") LocalTime now,
+        Pageable pageable);
+
+    @Query("""
+    SELECT r FROM Reservation r
+    JOIN FETCH r.space
+    WHERE r.guest.id = :guestId
+    AND (r.status = 'COMPLETED' OR (r.status = 'ACCEPTED' AND
+        (r.date < :today OR (r.date = :today AND r.endTime <= :now))))
+    AND r.deletedAt IS NULL
+    ORDER BY r.date DESC, r.startTime DESC, r.id DESC
+    """)
+    Slice<Reservation> findFirstReviewableReservationSliceByGuestId(@Param("guestId") Long guestId,
+        @Param("today") LocalDate today,
+        @Param("now") LocalTime now,
+        Pageable pageable);
+
     @Query("""
     SELECT r FROM Reservation r
     JOIN FETCH r.space
-    WHERE r.guest.id = :guestId 
-    AND r.status = 'COMPLETED'
+    WHERE r.guest.id = :guestId
+    AND (r.status = 'COMPLETED' OR (r.status = 'ACCEPTED' AND
+        (r.date < :today OR (r.date = :today AND r.endTime <= :now))))
     AND r.deletedAt IS NULL
+    AND (r.date < :beforeDate OR (r.date = :beforeDate AND
+        (r.startTime < :beforeTime OR (r.startTime = :beforeTime AND r.id < :beforeId))))
+    ORDER BY r.date DESC, r.startTime DESC, r.id DESC
     """)
-    Page<Reservation> findCompletedReservationsByGuestId(@Param("guestId") Long guestId, Pageable pageable);
+    Slice<Reservation> findReviewableReservationSliceByGuestIdBefore(@Param("guestId") Long guestId,
+        @Param("today") LocalDate today,
+        @Param("now") LocalTime now,
+        @Param("beforeDate") LocalDate beforeDate,
+        @Param("beforeTime") LocalTime beforeTime,
+        @Param("beforeId") Long beforeId,
+        Pageable pageable);
 
     @Query("SELECT r FROM Reservation r JOIN FETCH r.space WHERE r.guest.id = :guestId AND r.status = 'COMPLETED' AND r.deletedAt IS NULL")
     List<Reservation> findCompletedReservationsWithSpaceByGuestId(@Param("guestId") Long guestId);
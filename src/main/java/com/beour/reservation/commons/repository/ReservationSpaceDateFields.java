@@ -0,0 +1,10 @@
+package com.beour.reservation.commons.repository;
+
+import java.time.LocalDate;
+
+public interface ReservationSpaceDateFields {
+
+    Long getSpaceId();
+
+    LocalDate getDate();
+}
@@ -0,0 +1,58 @@
+package com.beour.reservation.commons.repository;
+
+import com.beour.reservation.commons.entity.SpaceDayOccupancy;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDate;
+import java.util.List;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface SpaceDayOccupancyRepository extends JpaRepository<SpaceDayOccupancy, Long> {
+
+    List<SpaceDayOccupancy> findBySpaceIdAndDateBetweenAndSlotMinutes(Long spaceId, LocalDate from,
+        LocalDate to, int slotMinutes);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "space_day_occupancy"))
+    @Query(value = """
+        INSERT INTO space_day_occupancy (space_id, date, slot_minutes, open_slots, occupied_slots, updated_at)
+        VALUES (:spaceId, :date, :slotMinutes, :openSlots, :occupiedSlots, NOW())
+        ON DUPLICATE KEY UPDATE
+            slot_minutes = VALUES(slot_minutes),
+            open_slots = VALUES(open_slots),
+            occupied_slots = VALUES(occupied_slots),
+            updated_at = VALUES(updated_at)
+        """, nativeQuery = true)
+    void upsert(@Param("spaceId") Long spaceId, @Param("date") LocalDate date,
+        @Param("slotMinutes") int slotMinutes, @Param("openSlots") byte[] openSlots,
+        @Param("occupiedSlots") byte[] occupiedSlots);
+
+    // (space_id, date) 행에 배타 잠금을 건다. 행이 없으면 빈 행을 만들어 잠그고, 같은 트랜잭션의 upsert 가 채운다.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "space_day_occupancy"))
+    @Query(value = """
+        INSERT INTO space_day_occupancy (space_id, date, slot_minutes, open_slots, occupied_slots, updated_at)
+        VALUES (:spaceId, :date, :slotMinutes, '', '', NOW())
+        ON DUPLICATE KEY UPDATE id = id
+        """, nativeQuery = true)
+    void lock(@Param("spaceId") Long spaceId, @Param("date") LocalDate date,
+        @Param("slotMinutes") int slotMinutes);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT o FROM SpaceDayOccupancy o
+        WHERE o.spaceId = :spaceId AND o.date >= :from
+        ORDER BY o.date
+        """)
+    List<SpaceDayOccupancy> findBySpaceIdFromForUpdate(@Param("spaceId") Long spaceId,
+        @Param("from") LocalDate from);
+
+    @Query("SELECT DISTINCT o.spaceId FROM SpaceDayOccupancy o WHERE o.date >= :from")
+    List<Long> findSpaceIdsByDateGreaterThanEqual(@Param("from") LocalDate from);
+}
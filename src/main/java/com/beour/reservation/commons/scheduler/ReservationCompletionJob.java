@@ -0,0 +1,67 @@
+package com.beour.reservation.commons.scheduler;
+
+import com.beour.reservation.commons.enums.ReservationStatus;
+import com.beour.reservation.commons.repository.ReservationDailyStatRepository;
+import com.beour.reservation.commons.repository.ReservationRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 이용 시간이 끝난 승인 예약을 사용 완료로 바꾼다.
+ * id 순으로 묶음을 읽고, 묶음마다 UPDATE 한 번을 짧은 트랜잭션으로 실행한다.
+ * 벌크 UPDATE 는 예약 이벤트를 내지 않으므로 같은 트랜잭션에서 바뀐 공간, 날짜의 일별 통계를 다시 집계한다.
+ */
+@Slf4j
+@Component
+public class ReservationCompletionJob {
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationDailyStatRepository reservationDailyStatRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public ReservationCompletionJob(ReservationRepository reservationRepository,
+        ReservationDailyStatRepository reservationDailyStatRepository,
+        TransactionTemplate transactionTemplate,
+        @Value("${reservation.completion.batch-size:500}") int batchSize) {
+        this.reservationRepository = reservationRepository;
+        this.reservationDailyStatRepository = reservationDailyStatRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${reservation.completion.cron:0 */10 * * * *}")
+    public void completeFinishedReservations() {
+        LocalDateTime now = LocalDateTime.now();
+        long lastId = 0L;
+        int completed = 0;
+
+        while (true) {
+            List<Long> ids = reservationRepository.findFinishedIdsByStatusAfter(
+                ReservationStatus.ACCEPTED, now.toLocalDate(), now.toLocalTime(), lastId,
+                PageRequest.ofSize(batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            lastId = ids.get(ids.size() - 1);
+
+            completed += transactionTemplate.execute(status -> {
+                int updated = reservationRepository.updateStatusByIdIn(
+                    ids, ReservationStatus.ACCEPTED, ReservationStatus.COMPLETED, now);
+                reservationRepository.findSpaceDatesByIdIn(ids).forEach(spaceDate ->
+                    reservationDailyStatRepository.refresh(spaceDate.getSpaceId(), spaceDate.getDate()));
+                return updated;
+            });
+        }
+
+        if (completed > 0) {
+            log.info("Completed {} finished reservations", completed);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.beour.reservation.commons.scheduler;
+
+import com.beour.reservation.commons.repository.ReservationDailyStatRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 이벤트 처리 중 실패했거나 SQL 로 직접 고친 예약을 대비해
+ * reservation_daily_stat 을 예약 테이블 기준으로 일괄 재집계한다.
+ * 테이블이 새로 만들어진 직후에는 이벤트가 난 공간, 날짜만 채워지므로 기동 시 비어 있으면 한 번 채운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationDailyStatReconcileJob {
+
+    private final ReservationDailyStatRepository reservationDailyStatRepository;
+
+    @Transactional
+    @Scheduled(cron = "${reservation.daily-stat.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        int updated = reservationDailyStatRepository.reconcileAll()
+            + reservationDailyStatRepository.resetEmptyDays();
+        if (updated > 0) {
+            log.info("Reconciled {} reservation daily stat rows", updated);
+        }
+    }
+
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (reservationDailyStatRepository.findFirstBy().isEmpty()) {
+            reconcile();
+        }
+    }
+}
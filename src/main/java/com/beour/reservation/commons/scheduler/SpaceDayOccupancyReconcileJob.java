@@ -0,0 +1,41 @@
+package com.beour.reservation.commons.scheduler;
+
+import com.beour.reservation.commons.repository.SpaceDayOccupancyRepository;
+import com.beour.reservation.commons.service.SpaceDayOccupancyService;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이벤트 처리 중 실패했거나 SQL 로 직접 고친 예약을 대비해
+ * 오늘 이후의 space_day_occupancy 행을 예약, 예약 가능 시간 기준으로 다시 계산한다.
+ * 공간마다 짧은 트랜잭션으로 처리하고, 한 공간이 실패해도 나머지는 계속한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpaceDayOccupancyReconcileJob {
+
+    private final SpaceDayOccupancyRepository spaceDayOccupancyRepository;
+    private final SpaceDayOccupancyService spaceDayOccupancyService;
+
+    @Scheduled(cron = "${reservation.occupancy.reconcile-cron:0 45 4 * * *}")
+    public void reconcile() {
+        LocalDate today = LocalDate.now();
+        int updated = 0;
+
+        for (Long spaceId : spaceDayOccupancyRepository.findSpaceIdsByDateGreaterThanEqual(today)) {
+            try {
+                updated += spaceDayOccupancyService.reconcile(spaceId, today);
+            } catch (RuntimeException e) {
+                log.warn("Failed to reconcile day occupancy of space {}", spaceId, e);
+            }
+        }
+
+        if (updated > 0) {
+            log.info("Reconciled {} space day occupancy rows", updated);
+        }
+    }
+}
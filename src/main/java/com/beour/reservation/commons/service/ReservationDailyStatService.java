@@ -0,0 +1,26 @@
+package com.beour.reservation.commons.service;
+
+import com.beour.reservation.commons.event.ReservationScheduleChangedEvent;
+import com.beour.reservation.commons.repository.ReservationDailyStatRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 예약이 바뀐 공간, 날짜의 reservation_daily_stat 행을 다시 집계한다.
+ */
+@RequiredArgsConstructor
+@Service
+public class ReservationDailyStatService {
+
+    private final ReservationDailyStatRepository reservationDailyStatRepository;
+
+    // 커밋 이후에 실행되므로 새 트랜잭션에서 쓴다.
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationScheduleChanged(ReservationScheduleChangedEvent event) {
+        reservationDailyStatRepository.refresh(event.getSpaceId(), event.getDate());
+    }
+}
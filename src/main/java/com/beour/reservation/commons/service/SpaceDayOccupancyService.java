@@ -0,0 +1,150 @@
+package com.beour.reservation.commons.service;
+
+import com.beour.reservation.commons.availability.DailySlotMask;
+import com.beour.reservation.commons.entity.Reservation;
+import com.beour.reservation.commons.entity.SpaceDayOccupancy;
+import com.beour.reservation.commons.enums.ReservationStatus;
+import com.beour.reservation.commons.event.ReservationScheduleChangedEvent;
+import com.beour.reservation.commons.repository.ReservationRepository;
+import com.beour.reservation.commons.repository.SpaceDayOccupancyRepository;
+import com.beour.space.domain.entity.AvailableTime;
+import com.beour.space.domain.repository.AvailableTimeRepository;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 공간의 날짜별 슬롯 비트맵을 계산하고 space_day_occupancy 테이블에 유지한다.
+ *
+ * <p>행을 다시 계산할 때는 먼저 그 행에 배타 잠금을 건 뒤 예약을 읽는다. 같은 날짜의 재계산은
+ * 잠금 순서대로 실행되고, 나중에 잠금을 얻은 쪽이 더 최신 예약을 보므로 오래된 계산이 새 행을 덮어쓰지 않는다.
+ */
+@Slf4j
+@Service
+public class SpaceDayOccupancyService {
+
+    private final SpaceDayOccupancyRepository spaceDayOccupancyRepository;
+    private final AvailableTimeRepository availableTimeRepository;
+    private final ReservationRepository reservationRepository;
+    private final TransactionTemplate newTransactionTemplate;
+
+    @Value("${reservation.slot-minutes:60}")
+    private int slotMinutes;
+
+    public SpaceDayOccupancyService(SpaceDayOccupancyRepository spaceDayOccupancyRepository,
+        AvailableTimeRepository availableTimeRepository, ReservationRepository reservationRepository,
+        PlatformTransactionManager transactionManager) {
+        this.spaceDayOccupancyRepository = spaceDayOccupancyRepository;
+        this.availableTimeRepository = availableTimeRepository;
+        this.reservationRepository = reservationRepository;
+
+        // 커밋 이후에 실행되므로 새 트랜잭션에서 쓰고, 실패해도 이미 커밋한 호출자에게 예외를 넘기지 않는다.
+        this.newTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 예약 가능 시간과 거절되지 않은 예약으로 날짜별 비트맵을 바로 계산한다. 테이블은 거치지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public Map<LocalDate, DailySlotMask> computeSlotMasks(Long spaceId, LocalDate from, LocalDate to) {
+        Map<LocalDate, DailySlotMask> slotMasks = new TreeMap<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            slotMasks.put(date, new DailySlotMask(slotMinutes));
+        }
+
+        for (AvailableTime availableTime : availableTimeRepository.findBySpaceIdAndDateBetweenAndDeletedAtIsNull(
+            spaceId, from, to)) {
+            slotMasks.get(availableTime.getDate()).open(availableTime.getStartTime(), availableTime.getEndTime());
+        }
+        for (Reservation reservation : reservationRepository.findBySpaceIdAndDateBetweenAndStatusNot(
+            spaceId, from, to, ReservationStatus.REJECTED)) {
+            slotMasks.get(reservation.getDate()).occupy(reservation.getStartTime(), reservation.getEndTime());
+        }
+
+        return slotMasks;
+    }
+
+    @Transactional(readOnly = true)
+    public DailySlotMask computeSlotMask(Long spaceId, LocalDate date) {
+        return computeSlotMasks(spaceId, date, date).get(date);
+    }
+
+    /**
+     * 미리 계산된 비트맵을 읽고, 아직 없는 날짜는 계산만 해서 채운다. 조회 중에는 테이블에 쓰지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public Map<LocalDate, DailySlotMask> findSlotMasks(Long spaceId, LocalDate from, LocalDate to) {
+        Map<LocalDate, DailySlotMask> slotMasks = new TreeMap<>();
+        for (SpaceDayOccupancy occupancy : spaceDayOccupancyRepository.findBySpaceIdAndDateBetweenAndSlotMinutes(
+            spaceId, from, to, slotMinutes)) {
+            slotMasks.put(occupancy.getDate(), occupancy.toSlotMask());
+        }
+
+        if (slotMasks.size() <= ChronoUnit.DAYS.between(from, to)) {
+            computeSlotMasks(spaceId, from, to).forEach(slotMasks::putIfAbsent);
+        }
+
+        return slotMasks;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationScheduleChanged(ReservationScheduleChangedEvent event) {
+        try {
+            newTransactionTemplate.executeWithoutResult(status -> refresh(event.getSpaceId(), event.getDate()));
+        } catch (RuntimeException e) {
+            // 남은 불일치는 SpaceDayOccupancyReconcileJob 이 바로잡는다.
+            log.warn("Failed to refresh day occupancy of space {} on {}", event.getSpaceId(), event.getDate(), e);
+        }
+    }
+
+    /**
+     * from 이후 날짜의 기존 행을 모두 잠그고 다시 계산해, 값이 달라진 행만 고친다. 고친 행 수를 돌려준다.
+     */
+    @Transactional
+    public int reconcile(Long spaceId, LocalDate from) {
+        List<SpaceDayOccupancy> occupancies = spaceDayOccupancyRepository.findBySpaceIdFromForUpdate(spaceId, from);
+        if (occupancies.isEmpty()) {
+            return 0;
+        }
+
+        Map<LocalDate, DailySlotMask> slotMasks = computeSlotMasks(spaceId, from,
+            occupancies.get(occupancies.size() - 1).getDate());
+
+        int updated = 0;
+        for (SpaceDayOccupancy occupancy : occupancies) {
+            DailySlotMask slotMask = slotMasks.get(occupancy.getDate());
+            if (occupancy.getSlotMinutes() == slotMinutes
+                && Arrays.equals(occupancy.getOpenSlots(), slotMask.openSlotBytes())
+                && Arrays.equals(occupancy.getOccupiedSlots(), slotMask.occupiedSlotBytes())) {
+                continue;
+            }
+
+            spaceDayOccupancyRepository.upsert(spaceId, occupancy.getDate(), slotMinutes,
+                slotMask.openSlotBytes(), slotMask.occupiedSlotBytes());
+            updated++;
+        }
+
+        return updated;
+    }
+
+    // 잠금을 먼저 얻어야 이어지는 예약 조회가 잠금 이전에 커밋된 변경을 모두 본다.
+    private void refresh(Long spaceId, LocalDate date) {
+        spaceDayOccupancyRepository.lock(spaceId, date, slotMinutes);
+
+        DailySlotMask slotMask = computeSlotMask(spaceId, date);
+        spaceDayOccupancyRepository.upsert(spaceId, date, slotMinutes,
+            slotMask.openSlotBytes(), slotMask.occupiedSlotBytes());
+    }
+}
@@ -5,10 +5,12 @@ import com.beour.reservation.guest.dto.ReservationCreateRequest;
 import com.beour.reservation.guest.dto.ReservationListPageResponseDto;
 import com.beour.reservation.guest.dto.ReservationResponseDto;
 import com.beour.reservation.guest.dto.SpaceAvailableTimeResponseDto;
+import com.beour.reservation.guest.dto.SpaceMonthlyAvailableTimeResponseDto;
 import com.beour.reservation.guest.service.CheckAvailableTimeService;
 import com.beour.reservation.guest.service.ReservationGuestService;
 import jakarta.validation.Valid;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
@@ -41,15 +43,31 @@ public class ReservationGuestController {
         return ApiResponse.ok(checkAvailableTimeService.findAvailableTime(spaceId, date));
     }
 
+    @GetMapping("/api/spaces/{spaceId}/available-times/month")
+    public ApiResponse<SpaceMonthlyAvailableTimeResponseDto> checkMonthlyAvailableTimes(
+        @PathVariable(value = "spaceId") Long spaceId, @RequestParam(value = "month") YearMonth month) {
+        return ApiResponse.ok(checkAvailableTimeService.findMonthlyAvailableTime(spaceId, month));
+    }
+
     @GetMapping("/api/reservations/current")
     public ApiResponse<ReservationListPageResponseDto> checkReservationList(
+        @RequestParam(value = "cursor", required = false) String cursor,
         @PageableDefault(size = 10) Pageable pageable) {
+        if (cursor != null) {
+            return ApiResponse.ok(
+                reservationGuestService.findReservationListByCursor(cursor, pageable.getPageSize()));
+        }
         return ApiResponse.ok(reservationGuestService.findReservationList(pageable));
     }
 
     @GetMapping("/api/reservations/past")
     public ApiResponse<ReservationListPageResponseDto> checkPastReservationList(
+        @RequestParam(value = "cursor", required = false) String cursor,
         @PageableDefault(size = 10) Pageable pageable) {
+        if (cursor != null) {
+            return ApiResponse.ok(
+                reservationGuestService.findPastReservationListByCursor(cursor, pageable.getPageSize()));
+        }
         return ApiResponse.ok(reservationGuestService.findPastReservationList(pageable));
     }
 
@@ -3,6 +3,7 @@ package com.beour.reservation.guest.dto;
 import com.beour.reservation.commons.entity.Reservation;
 import com.beour.reservation.commons.enums.ReservationStatus;
 import com.beour.reservation.commons.enums.UsagePurpose;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
@@ -17,6 +18,18 @@ public class ReservationListPageResponseDto {
 
     private List<ReservationListResponseDto> reservations;
     private boolean last;
-    private int totalPage;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer totalPage;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
+    public ReservationListPageResponseDto(List<ReservationListResponseDto> reservations, boolean last, int totalPage) {
+        this(reservations, last, totalPage, null);
+    }
+
+    public static ReservationListPageResponseDto ofCursor(List<ReservationListResponseDto> reservations, boolean last,
+        String nextCursor) {
+        return new ReservationListPageResponseDto(reservations, last, null, nextCursor);
+    }
 
 }
@@ -1,5 +1,6 @@
 package com.beour.reservation.guest.dto;
 
+import com.beour.global.file.ImageVariant;
 import com.beour.reservation.commons.entity.Reservation;
 import com.beour.reservation.commons.enums.ReservationStatus;
 import com.beour.reservation.commons.enums.UsagePurpose;
@@ -52,7 +53,7 @@ public class ReservationListResponseDto {
         return ReservationListResponseDto.builder()
             .reservationId(reservation.getId())
             .spaceName(reservation.getSpace().getName())
-            .spaceThumbImageUrl(reservation.getSpace().getThumbnailUrl())
+            .spaceThumbImageUrl(ImageVariant.CARD.urlOf(reservation.getSpace().getThumbnailUrl()))
             .date(reservation.getDate())
             .startTime(reservation.getStartTime())
             .endTime(reservation.getEndTime())
@@ -65,17 +66,18 @@ public class ReservationListResponseDto {
             .build();
     }
 
-    public static ReservationListResponseDto of(Reservation reservation, Long reviewId) {
+    public static ReservationListResponseDto of(Reservation reservation, ReservationStatus status,
+        Long reviewId) {
         return ReservationListResponseDto.builder()
             .reservationId(reservation.getId())
             .spaceName(reservation.getSpace().getName())
-            .spaceThumbImageUrl(reservation.getSpace().getThumbnailUrl())
+            .spaceThumbImageUrl(ImageVariant.CARD.urlOf(reservation.getSpace().getThumbnailUrl()))
             .date(reservation.getDate())
             .startTime(reservation.getStartTime())
             .endTime(reservation.getEndTime())
             .price(reservation.getPrice())
             .guestCount(reservation.getGuestCount())
-            .status(reservation.getStatus())
+            .status(status)
             .usagePurpose(reservation.getUsagePurpose())
             .requestMessage(reservation.getRequestMessage())
             .reviewId(reviewId)
@@ -0,0 +1,23 @@
+package com.beour.reservation.guest.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SpaceMonthlyAvailableTimeResponseDto {
+
+    private Long spaceId;
+    private List<DailyAvailableTime> days;
+
+    @Getter
+    @Builder
+    public static class DailyAvailableTime {
+
+        private LocalDate date;
+        private List<LocalTime> timeList;
+    }
+}
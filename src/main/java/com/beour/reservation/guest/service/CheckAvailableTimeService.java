@@ -1,18 +1,23 @@
 package com.beour.reservation.guest.service;
 
 import com.beour.global.exception.error.errorcode.AvailableTimeErrorCode;
-import com.beour.reservation.commons.entity.Reservation;
-import com.beour.reservation.commons.enums.ReservationStatus;
+import com.beour.global.exception.error.errorcode.SpaceErrorCode;
+import com.beour.global.exception.exceptionType.SpaceNotFoundException;
+import com.beour.reservation.commons.availability.DailySlotMask;
 import com.beour.global.exception.exceptionType.AvailableTimeNotFound;
-import com.beour.reservation.commons.repository.ReservationRepository;
+import com.beour.reservation.commons.service.SpaceDayOccupancyService;
 import com.beour.reservation.guest.dto.SpaceAvailableTimeResponseDto;
+import com.beour.reservation.guest.dto.SpaceMonthlyAvailableTimeResponseDto;
+import com.beour.reservation.guest.dto.SpaceMonthlyAvailableTimeResponseDto.DailyAvailableTime;
 import com.beour.space.domain.entity.AvailableTime;
 import com.beour.space.domain.repository.AvailableTimeRepository;
+import com.beour.space.domain.repository.SpaceRepository;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -21,16 +26,14 @@ import org.springframework.stereotype.Service;
 public class CheckAvailableTimeService {
 
     private final AvailableTimeRepository availableTimeRepository;
-    private final ReservationRepository reservationRepository;
+    private final SpaceRepository spaceRepository;
+    private final SpaceDayOccupancyService spaceDayOccupancyService;
 
     public SpaceAvailableTimeResponseDto findAvailableTime(Long spaceId, LocalDate date) {
         AvailableTime availableTime = checkReservationAvailableDateAndGetAvailableTime(spaceId, date);
 
-        List<Reservation> reservationList = reservationRepository.findBySpaceIdAndDateAndStatusNot(
-            spaceId, date, ReservationStatus.REJECTED);
-
-        List<LocalTime> findTimeList = getAvailableTimeList(availableTime, reservationList,
-            date);
+        DailySlotMask slotMask = spaceDayOccupancyService.computeSlotMask(spaceId, availableTime.getDate());
+        List<LocalTime> findTimeList = availableSlotStartTimesOf(slotMask, date);
         if (findTimeList.isEmpty()) {
             throw new AvailableTimeNotFound(AvailableTimeErrorCode.AVAILABLE_TIME_NOT_FOUND);
         }
@@ -38,69 +41,69 @@ public class CheckAvailableTimeService {
         return SpaceAvailableTimeResponseDto.of(findTimeList);
     }
 
-    public AvailableTime checkReservationAvailableDateAndGetAvailableTime(Long spaceId, LocalDate date) {
-        if (date.isBefore(LocalDate.now())) {
+    public SpaceMonthlyAvailableTimeResponseDto findMonthlyAvailableTime(Long spaceId, YearMonth month) {
+        LocalDate today = LocalDate.now();
+        if (month.atEndOfMonth().isBefore(today)) {
             throw new AvailableTimeNotFound(AvailableTimeErrorCode.AVAILABLE_TIME_NOT_FOUND);
         }
+        if (!spaceRepository.existsByIdAndDeletedAtIsNull(spaceId)) {
+            throw new SpaceNotFoundException(SpaceErrorCode.SPACE_NOT_FOUND);
+        }
 
-        return availableTimeRepository.findBySpaceIdAndDateAndDeletedAtIsNull(
-            spaceId, date).orElseThrow(
-            () -> new AvailableTimeNotFound(AvailableTimeErrorCode.AVAILABLE_TIME_NOT_FOUND)
-        );
-    }
+        LocalDate from = month.atDay(1).isBefore(today) ? today : month.atDay(1);
+        Map<LocalDate, DailySlotMask> slotMasks = spaceDayOccupancyService.findSlotMasks(spaceId, from,
+            month.atEndOfMonth());
 
-    private static List<LocalTime> getAvailableTimeList(AvailableTime availableTime,
-        List<Reservation> reservationList, LocalDate date) {
-        LocalTime startTime = availableTime.getStartTime();
+        List<DailyAvailableTime> days = new ArrayList<>();
+        slotMasks.forEach((date, slotMask) -> days.add(DailyAvailableTime.builder()
+            .date(date)
+            .timeList(availableSlotStartTimesOf(slotMask, date))
+            .build()));
 
-        if (Objects.equals(date, LocalDate.now())) {
-            startTime = LocalTime.of(LocalTime.now().getHour() + 1, 0);
+        if (days.stream().allMatch(day -> day.getTimeList().isEmpty())) {
+            throw new AvailableTimeNotFound(AvailableTimeErrorCode.AVAILABLE_TIME_NOT_FOUND);
         }
 
-        LocalTime endTime = availableTime.getEndTime();
+        return SpaceMonthlyAvailableTimeResponseDto.builder()
+            .spaceId(spaceId)
+            .days(days)
+            .build();
+    }
 
-        if (reservationList.isEmpty()) {
-            return getAvailableTimeWithoutReservation(startTime, endTime);
+    private static List<LocalTime> availableSlotStartTimesOf(DailySlotMask slotMask, LocalDate date) {
+        if (date.equals(LocalDate.now())) {
+            slotMask.closeThrough(LocalTime.now());
         }
 
-        return getAvailableTimeWithReservation(reservationList, startTime, endTime);
+        return slotMask.availableSlotStartTimes();
     }
 
-    private static List<LocalTime> getAvailableTimeWithReservation(
-        List<Reservation> reservationList, LocalTime startTime, LocalTime endTime) {
-
-        List<LocalTime> list = new ArrayList<>();
-
-        while (startTime.isBefore(endTime)) {
-            LocalTime currentTime = startTime;
-
-            boolean isReserved = reservationList.stream().anyMatch(reservation ->
-                reservation.getStartTime().isBefore(currentTime.plusHours(1)) &&
-                    reservation.getEndTime().isAfter(currentTime)
-            );
-
-            if (!isReserved) {
-                list.add(startTime);
-            }
-
-            startTime = startTime.plusHours(1);
+    public AvailableTime checkReservationAvailableDateAndGetAvailableTime(Long spaceId, LocalDate date) {
+        if (date.isBefore(LocalDate.now())) {
+            throw new AvailableTimeNotFound(AvailableTimeErrorCode.AVAILABLE_TIME_NOT_FOUND);
         }
 
-        return list;
+        return availableTimeRepository.findBySpaceIdAndDateAndDeletedAtIsNull(
+            spaceId, date).orElseThrow(
+            () -> new AvailableTimeNotFound(AvailableTimeErrorCode.AVAILABLE_TIME_NOT_FOUND)
+        );
     }
 
-    private static List<LocalTime> getAvailableTimeWithoutReservation(LocalTime startTime,
-        LocalTime endTime) {
-
-        List<LocalTime> list = new ArrayList<>();
-
-        while (startTime.isBefore(endTime)) {
-            list.add(startTime);
-            startTime = startTime.plusHours(1);
+    /**
+     * 예약 생성 트랜잭션 안에서 호출한다. 해당 날짜의 예약 가능 시간 행을 잠가
+     * 같은 공간, 같은 날짜의 예약 생성이 차례로 충돌 검사와 저장을 하도록 한다.
+     */
+    public AvailableTime lockReservationAvailableDateAndGetAvailableTime(Long spaceId, LocalDate date) {
+        if (date.isBefore(LocalDate.now())) {
+            throw new AvailableTimeNotFound(AvailableTimeErrorCode.AVAILABLE_TIME_NOT_FOUND);
         }
 
-        return list;
+        return availableTimeRepository.findBySpaceIdAndDateForUpdate(spaceId, date).orElseThrow(
+            () -> new AvailableTimeNotFound(AvailableTimeErrorCode.AVAILABLE_TIME_NOT_FOUND)
+        );
     }
 
-
+    public boolean isReserved(Long spaceId, LocalDate date, LocalTime startTime, LocalTime endTime) {
+        return spaceDayOccupancyService.computeSlotMask(spaceId, date).isOccupied(startTime, endTime);
+    }
 }
@@ -6,6 +6,7 @@ import com.beour.global.exception.error.errorcode.SpaceErrorCode;
 import com.beour.global.exception.error.errorcode.UserErrorCode;
 import com.beour.global.exception.exceptionType.SpaceNotFoundException;
 import com.beour.global.exception.exceptionType.UserNotFoundException;
+import com.beour.global.pagination.Cursor;
 import com.beour.reservation.commons.entity.Reservation;
 import com.beour.reservation.commons.enums.ReservationStatus;
 import com.beour.global.exception.exceptionType.AvailableTimeNotFound;
@@ -16,22 +17,29 @@ import com.beour.reservation.guest.dto.ReservationCreateRequest;
 import com.beour.reservation.guest.dto.ReservationListPageResponseDto;
 import com.beour.reservation.guest.dto.ReservationListResponseDto;
 import com.beour.reservation.guest.dto.ReservationResponseDto;
-import com.beour.review.domain.entity.Review;
+import com.beour.review.domain.repository.ReviewKeyFields;
 import com.beour.review.domain.repository.ReviewRepository;
 import com.beour.space.domain.entity.AvailableTime;
 import com.beour.space.domain.entity.Space;
 import com.beour.space.domain.repository.SpaceRepository;
 import com.beour.user.entity.User;
+import com.beour.user.service.CurrentUserService;
 import com.beour.user.repository.UserRepository;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 @RequiredArgsConstructor
@@ -40,10 +48,13 @@ public class ReservationGuestService {
 
     private final ReservationRepository reservationRepository;
     private final UserRepository userRepository;
+    private final CurrentUserService currentUserService;
     private final SpaceRepository spaceRepository;
     private final CheckAvailableTimeService checkAvailableTimeService;
     private final ReviewRepository reviewRepository;
 
+    // 충돌 검사는 잠금을 얻은 뒤 읽으므로, 먼저 커밋된 예약이 보이도록 READ COMMITTED 로 실행한다.
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public ReservationResponseDto createReservation(Long spaceId,
         ReservationCreateRequest requestDto) {
         User guest = findUserFromToken();
@@ -96,7 +107,7 @@ public class ReservationGuestService {
     }
 
     private void checkReservationAvailableDate(ReservationCreateRequest requestDto, Space space) {
-        AvailableTime availableTime = checkAvailableTimeService.checkReservationAvailableDateAndGetAvailableTime(
+        AvailableTime availableTime = checkAvailableTimeService.lockReservationAvailableDateAndGetAvailableTime(
             space.getId(), requestDto.getDate());
 
         if (requestDto.getDate().equals(LocalDate.now()) && requestDto.getStartTime()
@@ -112,23 +123,9 @@ public class ReservationGuestService {
     }
 
     private void checkReservationAvailableTime(ReservationCreateRequest requestDto, Space space) {
-        List<Reservation> reservationList = reservationRepository.findBySpaceIdAndDateAndDeletedAtIsNull(
-            space.getId(), requestDto.getDate());
-
-        LocalTime startTime = requestDto.getStartTime();
-        while (startTime.isBefore(requestDto.getEndTime())) {
-            LocalTime currentTime = requestDto.getStartTime();
-
-            boolean isReserved = reservationList.stream().anyMatch(reservation ->
-                reservation.getStartTime().isBefore(currentTime.plusHours(1)) &&
-                    reservation.getEndTime().isAfter(currentTime)
-            );
-
-            if (isReserved) {
-                throw new MissMatch(AvailableTimeErrorCode.TIME_UNAVAILABLE);
-            }
-
-            startTime = startTime.plusHours(1);
+        if (checkAvailableTimeService.isReserved(space.getId(), requestDto.getDate(),
+            requestDto.getStartTime(), requestDto.getEndTime())) {
+            throw new MissMatch(AvailableTimeErrorCode.TIME_UNAVAILABLE);
         }
     }
 
@@ -148,33 +145,118 @@ public class ReservationGuestService {
             reservationList.getTotalPages());
     }
 
-    @Transactional
+    /**
+     * 커서 모드. 이용 일시 순서에서 커서 뒤의 예정된 예약만 읽고 전체 개수는 세지 않는다.
+     */
+    public ReservationListPageResponseDto findReservationListByCursor(String cursorToken, int size) {
+        User guest = findUserFromToken();
+        Cursor cursor = Cursor.decode(cursorToken);
+        Pageable limit = PageRequest.ofSize(size);
+        LocalDate today = LocalDate.now();
+        LocalTime now = LocalTime.now();
+
+        Slice<Reservation> reservationSlice;
+        if (cursor == null) {
+            reservationSlice = reservationRepository.findFirstUpcomingReservationSliceByGuest(
+                guest.getId(), today, now, limit);
+        } else {
+            LocalDateTime after = cursor.dateTime();
+            reservationSlice = reservationRepository.findUpcomingReservationSliceByGuestAfter(
+                guest.getId(), today, now, after.toLocalDate(), after.toLocalTime(), cursor.id(),
+                limit);
+        }
+
+        checkEmptyReservation(reservationSlice);
+
+        List<ReservationListResponseDto> responseDtoList = reservationSlice.getContent().stream()
+            .map(ReservationListResponseDto::of)
+            .toList();
+
+        return ReservationListPageResponseDto.ofCursor(responseDtoList, !reservationSlice.hasNext(),
+            Cursor.nextOf(reservationSlice, reservation -> Cursor.of(
+                reservation.getDate().atTime(reservation.getStartTime()), reservation.getId())));
+    }
+
+    // 승인 예약의 완료 처리는 ReservationCompletionJob 이 맡으므로 조회만 한다.
+    @Transactional(readOnly = true)
     public ReservationListPageResponseDto findPastReservationList(Pageable pageable) {
         User user = findUserFromToken();
+        LocalDate today = LocalDate.now();
+        LocalTime now = LocalTime.now();
         Page<Reservation> reservationList = reservationRepository.findPastReservationsByGuest(
-            user.getId(), LocalDate.now(), LocalTime.now(), pageable);
+            user.getId(), today, now, pageable);
 
         checkEmptyReservation(reservationList);
 
+        return new ReservationListPageResponseDto(
+            toPastResponses(user.getId(), reservationList.getContent(), today, now),
+            reservationList.isLast(), reservationList.getTotalPages());
+    }
+
+    /**
+     * 커서 모드. 최근 이용 순서 (date, startTime, id) 로 커서 뒤의 지난 예약만 읽고 전체 개수는 세지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public ReservationListPageResponseDto findPastReservationListByCursor(String cursorToken, int size) {
+        User user = findUserFromToken();
+        Cursor cursor = Cursor.decode(cursorToken);
+        Pageable limit = PageRequest.ofSize(size);
+        LocalDate today = LocalDate.now();
+        LocalTime now = LocalTime.now();
+
+        Slice<Reservation> reservationSlice;
+        if (cursor == null) {
+            reservationSlice = reservationRepository.findFirstPastReservationSliceByGuest(
+                user.getId(), today, now, limit);
+        } else {
+            LocalDateTime before = cursor.dateTime();
+            reservationSlice = reservationRepository.findPastReservationSliceByGuestBefore(
+                user.getId(), today, now, before.toLocalDate(), before.toLocalTime(), cursor.id(),
+                limit);
+        }
+
+        checkEmptyReservation(reservationSlice);
+
+        return ReservationListPageResponseDto.ofCursor(
+            toPastResponses(user.getId(), reservationSlice.getContent(), today, now),
+            !reservationSlice.hasNext(),
+            Cursor.nextOf(reservationSlice, reservation -> Cursor.of(
+                reservation.getDate().atTime(reservation.getStartTime()), reservation.getId())));
+    }
+
+    private List<ReservationListResponseDto> toPastResponses(Long guestId, List<Reservation> reservations,
+        LocalDate today, LocalTime now) {
+        Map<ReviewKey, Long> reviewIds = findReviewIds(guestId, reservations);
+
         List<ReservationListResponseDto> responseDtoList = new ArrayList<>();
-        for (Reservation reservation : reservationList) {
-            if (reservation.getStatus() == ReservationStatus.ACCEPTED) {
-                reservation.updateStatus(ReservationStatus.COMPLETED);
-            }
-            Review review = reviewRepository.findByGuestIdAndSpaceIdAndReservedDateAndDeletedAtIsNull(
-                user.getId(), reservation.getSpace().getId(), reservation.getDate()).orElse(null);
-            Long reviewId = 0L;
-            if (review != null) {
-                reviewId = review.getId();
-            }
-            responseDtoList.add(ReservationListResponseDto.of(reservation, reviewId));
+        for (Reservation reservation : reservations) {
+            Long reviewId = reviewIds.getOrDefault(
+                new ReviewKey(reservation.getSpace().getId(), reservation.getDate()), 0L);
+            responseDtoList.add(ReservationListResponseDto.of(reservation,
+                reservation.effectiveStatus(today, now), reviewId));
         }
+        return responseDtoList;
+    }
 
-        return new ReservationListPageResponseDto(responseDtoList, reservationList.isLast(),
-            reservationList.getTotalPages());
+    private Map<ReviewKey, Long> findReviewIds(Long guestId, List<Reservation> reservations) {
+        Set<Long> spaceIds = reservations.stream()
+            .map(reservation -> reservation.getSpace().getId())
+            .collect(Collectors.toSet());
+        Set<LocalDate> dates = reservations.stream()
+            .map(Reservation::getDate)
+            .collect(Collectors.toSet());
+
+        return reviewRepository.findReviewKeysByGuestId(guestId, spaceIds, dates).stream()
+            .collect(Collectors.toMap(
+                review -> new ReviewKey(review.getSpaceId(), review.getReservedDate()),
+                ReviewKeyFields::getId,
+                (first, second) -> first));
+    }
+
+    private record ReviewKey(Long spaceId, LocalDate reservedDate) {
     }
 
-    private static void checkEmptyReservation(Page<Reservation> reservationList) {
+    private static void checkEmptyReservation(Slice<Reservation> reservationList) {
         if (reservationList.getContent().isEmpty()) {
             throw new ReservationNotFound(ReservationErrorCode.RESERVATION_NOT_FOUND);
         }
@@ -194,10 +276,6 @@ public class ReservationGuestService {
     }
 
     private User findUserFromToken() {
-        String loginId = SecurityContextHolder.getContext().getAuthentication().getName();
-
-        return userRepository.findByLoginIdAndDeletedAtIsNull(loginId).orElseThrow(
-            () -> new UserNotFoundException(UserErrorCode.USER_NOT_FOUND)
-        );
+        return currentUserService.getCurrentUser();
     }
 }
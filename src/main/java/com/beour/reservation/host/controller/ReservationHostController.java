@@ -1,8 +1,10 @@
 package com.beour.reservation.host.controller;
 
 import com.beour.global.response.ApiResponse;
+import com.beour.reservation.host.dto.HostDashboardResponseDto;
 import com.beour.reservation.host.dto.HostReservationListPageResponseDto;
 import com.beour.reservation.host.dto.HostSpaceListResponseDto;
+import com.beour.reservation.host.service.HostDashboardService;
 import com.beour.reservation.host.service.ReservationHostService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
@@ -21,6 +23,7 @@ import java.util.List;
 public class ReservationHostController {
 
     private final ReservationHostService reservationHostService;
+    private final HostDashboardService hostDashboardService;
 
     @GetMapping("/api/users/me/spaces-name")
     public ApiResponse<List<HostSpaceListResponseDto>> getHostSpaces() {
@@ -55,4 +58,13 @@ public class ReservationHostController {
 
         return ApiResponse.ok(reservationHostService.getHostReservationsByDateAndSpace(targetDate, spaceId, pageable));
     }
+
+    @GetMapping("/api/reservations/dashboard")
+    public ApiResponse<HostDashboardResponseDto> getHostDashboard(
+            @RequestParam(value = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "spaceId", required = false) Long spaceId) {
+
+        return ApiResponse.ok(hostDashboardService.getDashboard(from, to, spaceId));
+    }
 }
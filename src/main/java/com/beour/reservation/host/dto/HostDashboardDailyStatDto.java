@@ -0,0 +1,38 @@
+package com.beour.reservation.host.dto;
+
+import com.beour.reservation.commons.entity.ReservationDailyStat;
+import java.time.LocalDate;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class HostDashboardDailyStatDto {
+
+    private LocalDate date;
+    private int pendingCount;
+    private int acceptedCount;
+    private int completedCount;
+    private long revenue;
+
+    @Builder
+    private HostDashboardDailyStatDto(LocalDate date, int pendingCount, int acceptedCount,
+                                      int completedCount, long revenue) {
+        this.date = date;
+        this.pendingCount = pendingCount;
+        this.acceptedCount = acceptedCount;
+        this.completedCount = completedCount;
+        this.revenue = revenue;
+    }
+
+    public static HostDashboardDailyStatDto of(ReservationDailyStat stat) {
+        return HostDashboardDailyStatDto.builder()
+                .date(stat.getDate())
+                .pendingCount(stat.getPendingCount())
+                .acceptedCount(stat.getAcceptedCount())
+                .completedCount(stat.getCompletedCount())
+                .revenue(stat.getRevenue())
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.beour.reservation.host.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class HostDashboardResponseDto {
+
+    private LocalDate from;
+    private LocalDate to;
+    private int pendingCount;
+    private int acceptedCount;
+    private int completedCount;
+    private long revenue;
+    private List<HostDashboardSpaceStatDto> spaces;
+
+    @Builder
+    private HostDashboardResponseDto(LocalDate from, LocalDate to, int pendingCount, int acceptedCount,
+                                     int completedCount, long revenue, List<HostDashboardSpaceStatDto> spaces) {
+        this.from = from;
+        this.to = to;
+        this.pendingCount = pendingCount;
+        this.acceptedCount = acceptedCount;
+        this.completedCount = completedCount;
+        this.revenue = revenue;
+        this.spaces = spaces;
+    }
+
+    public static HostDashboardResponseDto of(LocalDate from, LocalDate to, List<HostDashboardSpaceStatDto> spaces) {
+        return HostDashboardResponseDto.builder()
+                .from(from)
+                .to(to)
+                .pendingCount(spaces.stream().mapToInt(HostDashboardSpaceStatDto::getPendingCount).sum())
+                .acceptedCount(spaces.stream().mapToInt(HostDashboardSpaceStatDto::getAcceptedCount).sum())
+                .completedCount(spaces.stream().mapToInt(HostDashboardSpaceStatDto::getCompletedCount).sum())
+                .revenue(spaces.stream().mapToLong(HostDashboardSpaceStatDto::getRevenue).sum())
+                .spaces(spaces)
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.beour.reservation.host.dto;
+
+import com.beour.space.domain.entity.Space;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class HostDashboardSpaceStatDto {
+
+    private Long spaceId;
+    private String spaceName;
+    private int pendingCount;
+    private int acceptedCount;
+    private int completedCount;
+    private long revenue;
+    private List<HostDashboardDailyStatDto> dailyStats;
+
+    @Builder
+    private HostDashboardSpaceStatDto(Long spaceId, String spaceName, int pendingCount, int acceptedCount,
+                                      int completedCount, long revenue, List<HostDashboardDailyStatDto> dailyStats) {
+        this.spaceId = spaceId;
+        this.spaceName = spaceName;
+        this.pendingCount = pendingCount;
+        this.acceptedCount = acceptedCount;
+        this.completedCount = completedCount;
+        this.revenue = revenue;
+        this.dailyStats = dailyStats;
+    }
+
+    public static HostDashboardSpaceStatDto of(Space space, List<HostDashboardDailyStatDto> dailyStats) {
+        return HostDashboardSpaceStatDto.builder()
+                .spaceId(space.getId())
+                .spaceName(space.getName())
+                .pendingCount(dailyStats.stream().mapToInt(HostDashboardDailyStatDto::getPendingCount).sum())
+                .acceptedCount(dailyStats.stream().mapToInt(HostDashboardDailyStatDto::getAcceptedCount).sum())
+                .completedCount(dailyStats.stream().mapToInt(HostDashboardDailyStatDto::getCompletedCount).sum())
+                .revenue(dailyStats.stream().mapToLong(HostDashboardDailyStatDto::getRevenue).sum())
+                .dailyStats(dailyStats)
+                .build();
+    }
+}
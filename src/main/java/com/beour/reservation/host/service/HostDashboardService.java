@@ -0,0 +1,88 @@
+package com.beour.reservation.host.service;
+
+import com.beour.global.exception.error.errorcode.ReservationErrorCode;
+import com.beour.global.exception.error.errorcode.SpaceErrorCode;
+import com.beour.global.exception.exceptionType.InputInvalidFormatException;
+import com.beour.global.exception.exceptionType.SpaceNotFoundException;
+import com.beour.global.exception.exceptionType.UnauthorityException;
+import com.beour.reservation.commons.entity.ReservationDailyStat;
+import com.beour.reservation.commons.repository.ReservationDailyStatRepository;
+import com.beour.reservation.host.dto.HostDashboardDailyStatDto;
+import com.beour.reservation.host.dto.HostDashboardResponseDto;
+import com.beour.reservation.host.dto.HostDashboardSpaceStatDto;
+import com.beour.space.domain.entity.Space;
+import com.beour.space.domain.repository.SpaceRepository;
+import com.beour.user.entity.User;
+import com.beour.user.service.CurrentUserService;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 호스트 대시보드. 예약 테이블 대신 reservation_daily_stat 에 미리 집계된 행만 읽는다.
+ */
+@RequiredArgsConstructor
+@Service
+public class HostDashboardService {
+
+    private final SpaceRepository spaceRepository;
+    private final CurrentUserService currentUserService;
+    private final ReservationDailyStatRepository reservationDailyStatRepository;
+
+    @Value("${reservation.dashboard.max-range-days:366}")
+    private long maxRangeDays;
+
+    @Transactional(readOnly = true)
+    public HostDashboardResponseDto getDashboard(LocalDate from, LocalDate to, Long spaceId) {
+        validateRange(from, to);
+        User host = currentUserService.getCurrentUser();
+
+        List<Space> spaces;
+        List<ReservationDailyStat> stats;
+        if (spaceId == null) {
+            spaces = spaceRepository.findByHostAndDeletedAtIsNull(host);
+            stats = reservationDailyStatRepository.findByHostIdAndDateBetweenOrderBySpaceIdAscDateAsc(
+                    host.getId(), from, to);
+        } else {
+            spaces = List.of(findOwnSpace(host, spaceId));
+            stats = reservationDailyStatRepository.findBySpaceIdAndDateBetweenOrderByDateAsc(spaceId, from, to);
+        }
+
+        // 예약이 모두 사라진 날은 0 으로 남아 있으므로 응답에서 뺀다.
+        Map<Long, List<HostDashboardDailyStatDto>> dailyStatsBySpace = stats.stream()
+                .filter(stat -> stat.getPendingCount() + stat.getAcceptedCount() + stat.getCompletedCount() > 0)
+                .collect(Collectors.groupingBy(ReservationDailyStat::getSpaceId,
+                        Collectors.mapping(HostDashboardDailyStatDto::of, Collectors.toList())));
+
+        List<HostDashboardSpaceStatDto> spaceStats = spaces.stream()
+                .map(space -> HostDashboardSpaceStatDto.of(space,
+                        dailyStatsBySpace.getOrDefault(space.getId(), List.of())))
+                .collect(Collectors.toList());
+
+        return HostDashboardResponseDto.of(from, to, spaceStats);
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= maxRangeDays) {
+            throw new InputInvalidFormatException(ReservationErrorCode.INVALID_DATE_RANGE);
+        }
+    }
+
+    private Space findOwnSpace(User host, Long spaceId) {
+        Space space = spaceRepository.findByIdAndDeletedAtIsNull(spaceId).orElseThrow(
+                () -> new SpaceNotFoundException(SpaceErrorCode.SPACE_NOT_FOUND)
+        );
+
+        if (!space.getHost().getId().equals(host.getId())) {
+            throw new UnauthorityException(SpaceErrorCode.NO_PERMISSION);
+        }
+
+        return space;
+    }
+}
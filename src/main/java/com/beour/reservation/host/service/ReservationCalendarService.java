@@ -2,10 +2,8 @@ package com.beour.reservation.host.service;
 
 import com.beour.global.exception.error.errorcode.ReservationErrorCode;
 import com.beour.global.exception.error.errorcode.SpaceErrorCode;
-import com.beour.global.exception.error.errorcode.UserErrorCode;
 import com.beour.global.exception.exceptionType.SpaceNotFoundException;
 import com.beour.global.exception.exceptionType.UnauthorityException;
-import com.beour.global.exception.exceptionType.UserNotFoundException;
 import com.beour.global.exception.exceptionType.MissMatch;
 import com.beour.reservation.host.dto.CalendarReservationPageResponseDto;
 import com.beour.reservation.host.dto.CalendarReservationResponseDto;
@@ -16,11 +14,10 @@ import com.beour.reservation.commons.repository.ReservationRepository;
 import com.beour.space.domain.entity.Space;
 import com.beour.space.domain.repository.SpaceRepository;
 import com.beour.user.entity.User;
-import com.beour.user.repository.UserRepository;
+import com.beour.user.service.CurrentUserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,7 +30,7 @@ import java.util.List;
 public class ReservationCalendarService {
 
     private final ReservationRepository reservationRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserService currentUserService;
     private final SpaceRepository spaceRepository;
 
     @Transactional(readOnly = true)
@@ -145,10 +142,6 @@ public class ReservationCalendarService {
     }
 
     private User findUserFromToken() {
-        String loginId = SecurityContextHolder.getContext().getAuthentication().getName();
-
-        return userRepository.findByLoginIdAndDeletedAtIsNull(loginId).orElseThrow(
-                () -> new UserNotFoundException(UserErrorCode.USER_NOT_FOUND)
-        );
+        return currentUserService.getCurrentUser();
     }
 }
@@ -2,10 +2,8 @@ package com.beour.reservation.host.service;
 
 import com.beour.global.exception.error.errorcode.ReservationErrorCode;
 import com.beour.global.exception.error.errorcode.SpaceErrorCode;
-import com.beour.global.exception.error.errorcode.UserErrorCode;
 import com.beour.global.exception.exceptionType.SpaceNotFoundException;
 import com.beour.global.exception.exceptionType.UnauthorityException;
-import com.beour.global.exception.exceptionType.UserNotFoundException;
 import com.beour.reservation.commons.entity.Reservation;
 import com.beour.reservation.commons.enums.ReservationStatus;
 import com.beour.global.exception.exceptionType.ReservationNotFound;
@@ -16,11 +14,10 @@ import com.beour.reservation.host.dto.HostSpaceListResponseDto;
 import com.beour.space.domain.entity.Space;
 import com.beour.space.domain.repository.SpaceRepository;
 import com.beour.user.entity.User;
-import com.beour.user.repository.UserRepository;
+import com.beour.user.service.CurrentUserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,7 +31,7 @@ import java.util.stream.Collectors;
 public class ReservationHostService {
 
     private final SpaceRepository spaceRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserService currentUserService;
     private final ReservationRepository reservationRepository;
 
     public List<HostSpaceListResponseDto> getHostSpaces() {
@@ -58,10 +55,10 @@ public class ReservationHostService {
     public HostReservationListPageResponseDto getHostReservationsByDate(LocalDate date, Pageable pageable) {
         User host = findUserFromToken();
 
-        Page<Reservation> reservationPage = reservationRepository.findByHostIdAndDateAndDeletedAtIsNullOrderByStartTime(
-                host.getId(), date, pageable);
+        Page<Reservation> reservationPage = reservationRepository.findByHostIdAndDateAndStatusAndDeletedAtIsNullOrderByStartTime(
+                host.getId(), date, ReservationStatus.ACCEPTED, pageable);
 
-        return filterAcceptedReservationsAndConvert(reservationPage);
+        return convertAcceptedReservations(reservationPage);
     }
 
     public HostReservationListPageResponseDto getHostReservationsByDateAndSpace(LocalDate date, Long spaceId, Pageable pageable) {
@@ -76,22 +73,19 @@ public class ReservationHostService {
             throw new UnauthorityException(SpaceErrorCode.NO_PERMISSION);
         }
 
-        Page<Reservation> reservationPage = reservationRepository.findByHostIdAndDateAndSpaceIdAndDeletedAtIsNullOrderByStartTime(
-                host.getId(), date, spaceId, pageable);
+        Page<Reservation> reservationPage = reservationRepository.findByHostIdAndDateAndSpaceIdAndStatusAndDeletedAtIsNullOrderByStartTime(
+                host.getId(), date, spaceId, ReservationStatus.ACCEPTED, pageable);
 
-        return filterAcceptedReservationsAndConvert(reservationPage);
+        return convertAcceptedReservations(reservationPage);
     }
 
-    private HostReservationListPageResponseDto filterAcceptedReservationsAndConvert(Page<Reservation> reservationPage) {
-        List<Reservation> acceptedReservations = reservationPage.getContent().stream()
-                .filter(reservation -> reservation.getStatus() == ReservationStatus.ACCEPTED)
-                .collect(Collectors.toList());
-
-        if (acceptedReservations.isEmpty()) {
+    // 승인 상태는 쿼리에서 거르므로 페이지 크기와 전체 페이지 수가 승인 예약 기준으로 맞는다.
+    private HostReservationListPageResponseDto convertAcceptedReservations(Page<Reservation> reservationPage) {
+        if (reservationPage.isEmpty()) {
             throw new ReservationNotFound(ReservationErrorCode.RESERVATION_NOT_FOUND);
         }
 
-        List<HostReservationListResponseDto> responseDtoList = acceptedReservations.stream()
+        List<HostReservationListResponseDto> responseDtoList = reservationPage.getContent().stream()
                 .map(HostReservationListResponseDto::of)
                 .collect(Collectors.toList());
 
@@ -103,10 +97,6 @@ public class ReservationHostService {
     }
 
     private User findUserFromToken() {
-        String loginId = SecurityContextHolder.getContext().getAuthentication().getName();
-
-        return userRepository.findByLoginIdAndDeletedAtIsNull(loginId).orElseThrow(
-                () -> new UserNotFoundException(UserErrorCode.USER_NOT_FOUND)
-        );
+        return currentUserService.getCurrentUser();
     }
 }
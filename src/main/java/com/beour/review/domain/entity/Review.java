@@ -2,6 +2,7 @@ package com.beour.review.domain.entity;
 
 import com.beour.global.entity.BaseTimeEntity;
 import com.beour.reservation.commons.entity.Reservation;
+import com.beour.review.domain.listener.ReviewEntityListener;
 import com.beour.space.domain.entity.Space;
 import com.beour.user.entity.User;
 import jakarta.persistence.*;
@@ -16,6 +17,7 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@EntityListeners(ReviewEntityListener.class)
 public class Review extends BaseTimeEntity {
 
     @Id
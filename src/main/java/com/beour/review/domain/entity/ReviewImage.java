@@ -1,5 +1,6 @@
 package com.beour.review.domain.entity;
 
+import com.beour.review.domain.listener.ReviewEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -8,6 +9,7 @@ import lombok.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@EntityListeners(ReviewEntityListener.class)
 public class ReviewImage {
 
     @Id
@@ -0,0 +1,15 @@
+package com.beour.review.domain.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 리뷰 또는 리뷰 이미지가 저장/수정/삭제되었음을 알리는 이벤트.
+ * 홈 화면 새 리뷰 목록 캐시는 이 이벤트를 받아 비워진다.
+ */
+@Getter
+@AllArgsConstructor
+public class ReviewChangedEvent {
+
+    private final Long reviewId;
+}
@@ -0,0 +1,44 @@
+package com.beour.review.domain.listener;
+
+import com.beour.review.domain.entity.Review;
+import com.beour.review.domain.entity.ReviewImage;
+import com.beour.review.domain.event.ReviewChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 리뷰와 리뷰 이미지가 저장/수정/삭제되면 {@link ReviewChangedEvent} 를 발행한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReviewEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        Long reviewId = reviewIdOf(entity);
+        if (reviewId == null) {
+            return;
+        }
+
+        eventPublisher.publishEvent(new ReviewChangedEvent(reviewId));
+    }
+
+    private Long reviewIdOf(Object entity) {
+        if (entity instanceof Review review) {
+            return review.getId();
+        }
+        if (entity instanceof ReviewImage image && image.getReview() != null) {
+            return image.getReview().getId();
+        }
+
+        return null;
+    }
+}
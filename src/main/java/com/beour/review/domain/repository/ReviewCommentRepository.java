@@ -1,8 +1,13 @@
 package com.beour.review.domain.repository;
 
+import com.beour.global.pagination.IdPages;
 import com.beour.review.domain.entity.ReviewComment;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,15 +15,55 @@ import org.springframework.data.repository.query.Param;
 public interface ReviewCommentRepository extends JpaRepository<ReviewComment, Long> {
 
     @Query("""
-    SELECT rc FROM ReviewComment rc
+    SELECT rc.id FROM ReviewComment rc
+    WHERE rc.user.id = :hostId
+    AND rc.deletedAt IS NULL
+    ORDER BY rc.createdAt DESC, rc.id DESC
+    """)
+    Page<Long> findWrittenCommentIdsByHostId(@Param("hostId") Long hostId, Pageable pageable);
+
+    @Query("""
+    SELECT rc.id FROM ReviewComment rc
+    WHERE rc.user.id = :hostId
+    AND rc.deletedAt IS NULL
+    ORDER BY rc.createdAt DESC, rc.id DESC
+    """)
+    Slice<Long> findFirstWrittenCommentIdSliceByHostId(@Param("hostId") Long hostId, Pageable pageable);
+
+    // (createdAt, id) 가 커서보다 앞선 행부터 이어서 읽는다.
+    @Query("""
+    SELECT rc.id FROM ReviewComment rc
+    WHERE rc.user.id = :hostId
+    AND rc.deletedAt IS NULL
+    AND (rc.createdAt < :createdAt OR (rc.createdAt = :createdAt AND rc.id < :id))
+    ORDER BY rc.createdAt DESC, rc.id DESC
+    """)
+    Slice<Long> findWrittenCommentIdSliceByHostIdAfter(@Param("hostId") Long hostId,
+        @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("""
+    SELECT DISTINCT rc FROM ReviewComment rc
     LEFT JOIN FETCH rc.review r
     LEFT JOIN FETCH r.guest
     LEFT JOIN FETCH r.space
     LEFT JOIN FETCH r.images
-    WHERE rc.user.id = :hostId 
-    AND rc.deletedAt IS NULL
-    ORDER BY rc.createdAt DESC
+    WHERE rc.id IN :ids
     """)
-    Page<ReviewComment> findWrittenCommentsByHostId(@Param("hostId") Long hostId, Pageable pageable);
+    List<ReviewComment> findAllWithReviewByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 리뷰 이미지 컬렉션을 fetch join 한 채로 페이지를 자르지 않도록 id 페이지를 먼저 읽는다.
+    default Page<ReviewComment> findWrittenCommentsByHostId(Long hostId, Pageable pageable) {
+        return IdPages.fill(findWrittenCommentIdsByHostId(hostId, pageable),
+            this::findAllWithReviewByIdIn, ReviewComment::getId);
+    }
+
+    // createdAt 이 null 이면 첫 페이지다.
+    default Slice<ReviewComment> findWrittenCommentSliceByHostId(Long hostId, LocalDateTime createdAt, Long id,
+        Pageable pageable) {
+        Slice<Long> idSlice = createdAt == null
+            ? findFirstWrittenCommentIdSliceByHostId(hostId, pageable)
+            : findWrittenCommentIdSliceByHostIdAfter(hostId, createdAt, id, pageable);
+        return IdPages.fillSlice(idSlice, this::findAllWithReviewByIdIn, ReviewComment::getId);
+    }
 
 }
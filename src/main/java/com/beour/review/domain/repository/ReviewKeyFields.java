@@ -0,0 +1,12 @@
+package com.beour.review.domain.repository;
+
+import java.time.LocalDate;
+
+public interface ReviewKeyFields {
+
+    Long getId();
+
+    Long getSpaceId();
+
+    LocalDate getReservedDate();
+}
@@ -1,10 +1,16 @@
 package com.beour.review.domain.repository;
 
+import com.beour.global.pagination.IdPages;
 import com.beour.review.domain.entity.Review;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -22,23 +28,116 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     List<Review> findAllWithCommentAndImagesByGuestId(@Param("guestId") Long guestId);
 
     @Query("""
-    SELECT DISTINCT r FROM Review r
-    LEFT JOIN FETCH r.comment
-    LEFT JOIN FETCH r.images
+    SELECT r.id FROM Review r
     WHERE r.guest.id = :guestId AND r.deletedAt IS NULL
+    ORDER BY r.createdAt DESC, r.id DESC
     """)
-    Page<Review> findAllWithCommentAndImagesByGuestIdPaged(@Param("guestId") Long guestId, Pageable pageable);
+    Page<Long> findIdsByGuestId(@Param("guestId") Long guestId, Pageable pageable);
+
+    @Query("""
+    SELECT r.id FROM Review r
+    WHERE r.space.host.id = :hostId
+    AND r.deletedAt IS NULL
+    AND r.comment IS NULL
+    ORDER BY r.createdAt DESC, r.id DESC
+    """)
+    Page<Long> findCommentableIdsByHostId(@Param("hostId") Long hostId, Pageable pageable);
+
+    @Query("""
+    SELECT r.id FROM Review r
+    WHERE r.guest.id = :guestId AND r.deletedAt IS NULL
+    ORDER BY r.createdAt DESC, r.id DESC
+    """)
+    Slice<Long> findFirstIdSliceByGuestId(@Param("guestId") Long guestId, Pageable pageable);
+
+    // (createdAt, id) 가 커서보다 앞선 행부터 이어서 읽는다.
+    @Query("""
+    SELECT r.id FROM Review r
+    WHERE r.guest.id = :guestId AND r.deletedAt IS NULL
+    AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id))
+    ORDER BY r.createdAt DESC, r.id DESC
+    """)
+    Slice<Long> findIdSliceByGuestIdAfter(@Param("guestId") Long guestId,
+        @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("""
+    SELECT r.id FROM Review r
+    WHERE r.space.host.id = :hostId
+    AND r.deletedAt IS NULL
+    AND r.comment IS NULL
+    ORDER BY r.createdAt DESC, r.id DESC
+    """)
+    Slice<Long> findFirstCommentableIdSliceByHostId(@Param("hostId") Long hostId, Pageable pageable);
+
+    @Query("""
+    SELECT r.id FROM Review r
+    WHERE r.space.host.id = :hostId
+    AND r.deletedAt IS NULL
+    AND r.comment IS NULL
+    AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id))
+    ORDER BY r.createdAt DESC, r.id DESC
+    """)
+    Slice<Long> findCommentableIdSliceByHostIdAfter(@Param("hostId") Long hostId,
+        @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
 
     @Query("""
     SELECT DISTINCT r FROM Review r
     LEFT JOIN FETCH r.comment
     LEFT JOIN FETCH r.images
-    WHERE r.space.host.id = :hostId 
-    AND r.deletedAt IS NULL 
-    AND r.comment IS NULL
-    ORDER BY r.createdAt DESC
+    WHERE r.id IN :ids
+    """)
+    List<Review> findAllWithCommentAndImagesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 엔티티를 영속성 컨텍스트에 올리지 않고 작성자만 확인한다. 이후 트랜잭션의 잠금 조회가 처음 읽는 것이 되게 한다.
+    @Query("SELECT r.guest.id FROM Review r WHERE r.id = :id")
+    Optional<Long> findGuestIdById(@Param("id") Long id);
+
+    // 리뷰와 공간 행을 함께 잠그고 읽는다. 별점 집계를 고칠 공간이 이 조회에서 처음 영속성 컨텍스트에 올라와야
+    // 다른 트랜잭션이 커밋한 최신 집계값을 받으므로, 같은 트랜잭션에서 리뷰나 공간을 읽기 전에 호출한다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Review r JOIN FETCH r.space WHERE r.id = :id")
+    Optional<Review> findByIdWithSpaceForUpdate(@Param("id") Long id);
+
+    // 이미지 컬렉션을 fetch join 한 채로 페이지를 자르면 메모리 페이징이 되므로 id 페이지를 먼저 읽는다.
+    default Page<Review> findAllWithCommentAndImagesByGuestIdPaged(Long guestId, Pageable pageable) {
+        return IdPages.fill(findIdsByGuestId(guestId, pageable),
+            this::findAllWithCommentAndImagesByIdIn, Review::getId);
+    }
+
+    default Page<Review> findCommentableReviewsByHostId(Long hostId, Pageable pageable) {
+        return IdPages.fill(findCommentableIdsByHostId(hostId, pageable),
+            this::findAllWithCommentAndImagesByIdIn, Review::getId);
+    }
+
+    // 커서 모드도 id Slice 를 먼저 읽는다. createdAt 이 null 이면 첫 페이지다.
+    default Slice<Review> findWrittenReviewSliceByGuestId(Long guestId, LocalDateTime createdAt, Long id,
+        Pageable pageable) {
+        Slice<Long> idSlice = createdAt == null
+            ? findFirstIdSliceByGuestId(guestId, pageable)
+            : findIdSliceByGuestIdAfter(guestId, createdAt, id, pageable);
+        return IdPages.fillSlice(idSlice, this::findAllWithCommentAndImagesByIdIn, Review::getId);
+    }
+
+    default Slice<Review> findCommentableReviewSliceByHostId(Long hostId, LocalDateTime createdAt, Long id,
+        Pageable pageable) {
+        Slice<Long> idSlice = createdAt == null
+            ? findFirstCommentableIdSliceByHostId(hostId, pageable)
+            : findCommentableIdSliceByHostIdAfter(hostId, createdAt, id, pageable);
+        return IdPages.fillSlice(idSlice, this::findAllWithCommentAndImagesByIdIn, Review::getId);
+    }
+
+    // 공간, 날짜 조합의 곱집합으로 넓게 읽으므로 호출하는 쪽에서 (공간, 날짜) 로 다시 맞춘다.
+    @Query("""
+    SELECT r.id AS id, r.space.id AS spaceId, r.reservedDate AS reservedDate
+    FROM Review r
+    WHERE r.guest.id = :guestId
+    AND r.deletedAt IS NULL
+    AND r.space.id IN :spaceIds
+    AND r.reservedDate IN :reservedDates
     """)
-    Page<Review> findCommentableReviewsByHostId(@Param("hostId") Long hostId, Pageable pageable);
+    List<ReviewKeyFields> findReviewKeysByGuestId(@Param("guestId") Long guestId,
+        @Param("spaceIds") Collection<Long> spaceIds,
+        @Param("reservedDates") Collection<LocalDate> reservedDates);
 
     Optional<Review> findByGuestIdAndSpaceIdAndReservedDateAndDeletedAtIsNull(Long guestId, Long spaceId, LocalDate reservedDate);
 
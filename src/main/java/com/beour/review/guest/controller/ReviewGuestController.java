@@ -1,7 +1,8 @@
 package com.beour.review.guest.controller;
 
+import com.beour.global.cache.HomeFeed;
+import com.beour.global.cache.HomeFeedCache;
 import com.beour.global.response.ApiResponse;
-import com.beour.review.guest.dto.RecentWrittenReviewResponseDto;
 import com.beour.review.guest.dto.ReviewDetailResponseDto;
 import com.beour.review.guest.dto.ReviewForReservationResponseDto;
 import com.beour.review.guest.dto.ReviewRequestDto;
@@ -13,6 +14,8 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -24,16 +27,25 @@ import java.util.List;
 public class ReviewGuestController {
 
     private final ReviewGuestService reviewGuestService;
+    private final HomeFeedCache homeFeedCache;
 
     @GetMapping("/api/users/me/reviewable-reservations")
     public ApiResponse<ReviewableReservationPageResponseDto> getReviewableReservations(
+        @RequestParam(value = "cursor", required = false) String cursor,
         @PageableDefault(size = 10, sort = "id") Pageable pageable) {
+        if (cursor != null) {
+            return ApiResponse.ok(reviewGuestService.getReviewableReservationsByCursor(cursor, pageable.getPageSize()));
+        }
         return ApiResponse.ok(reviewGuestService.getReviewableReservations(pageable));
     }
 
     @GetMapping("/api/users/me/reviews")
     public ApiResponse<WrittenReviewPageResponseDto> getWrittenReviews(
-        @PageableDefault(size = 10, sort = "createdAt") Pageable pageable) {
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @PageableDefault(size = 10) Pageable pageable) {
+        if (cursor != null) {
+            return ApiResponse.ok(reviewGuestService.getWrittenReviewsByCursor(cursor, pageable.getPageSize()));
+        }
         return ApiResponse.ok(reviewGuestService.getWrittenReviews(pageable));
     }
 
@@ -76,7 +88,9 @@ public class ReviewGuestController {
     }
 
     @GetMapping("/api/reviews/new")
-    public ApiResponse<List<RecentWrittenReviewResponseDto>> getNewReviews() {
-        return ApiResponse.ok(reviewGuestService.getRecentWrittenReviews());
+    public ResponseEntity<byte[]> getNewReviews() {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(homeFeedCache.get(HomeFeed.NEW_REVIEWS, reviewGuestService::getRecentWrittenReviews));
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.beour.review.guest.dto;
 
+import com.beour.global.file.ImageVariant;
 import com.beour.review.domain.entity.Review;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -26,7 +27,7 @@ public class ReviewDetailResponseDto {
 
     public static ReviewDetailResponseDto of(Review review) {
         List<String> imageUrls = review.getImages().stream()
-                .map(image -> image.getImageUrl())
+                .map(image -> ImageVariant.DETAIL.urlOf(image.getImageUrl()))
                 .collect(Collectors.toList());
 
         return ReviewDetailResponseDto.builder()
@@ -1,5 +1,6 @@
 package com.beour.review.guest.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -10,5 +11,16 @@ import java.util.List;
 public class ReviewableReservationPageResponseDto {
     private List<ReviewableReservationResponseDto> reservations;
     private boolean last;
-    private int totalPage;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer totalPage;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
+    public ReviewableReservationPageResponseDto(List<ReviewableReservationResponseDto> reservations, boolean last, int totalPage) {
+        this(reservations, last, totalPage, null);
+    }
+
+    public static ReviewableReservationPageResponseDto ofCursor(List<ReviewableReservationResponseDto> reservations, boolean last, String nextCursor) {
+        return new ReviewableReservationPageResponseDto(reservations, last, null, nextCursor);
+    }
 }
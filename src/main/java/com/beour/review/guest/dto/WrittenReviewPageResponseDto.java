@@ -1,5 +1,6 @@
 package com.beour.review.guest.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -10,5 +11,16 @@ import java.util.List;
 public class WrittenReviewPageResponseDto {
     private List<WrittenReviewResponseDto> reviews;
     private boolean last;
-    private int totalPage;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer totalPage;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
+    public WrittenReviewPageResponseDto(List<WrittenReviewResponseDto> reviews, boolean last, int totalPage) {
+        this(reviews, last, totalPage, null);
+    }
+
+    public static WrittenReviewPageResponseDto ofCursor(List<WrittenReviewResponseDto> reviews, boolean last, String nextCursor) {
+        return new WrittenReviewPageResponseDto(reviews, last, null, nextCursor);
+    }
 }
@@ -1,5 +1,6 @@
 package com.beour.review.guest.dto;
 
+import com.beour.global.file.ImageVariant;
 import com.beour.review.domain.entity.Review;
 import com.beour.review.domain.entity.ReviewComment;
 import lombok.AllArgsConstructor;
@@ -39,7 +40,7 @@ public class WrittenReviewResponseDto {
                 .spaceName(review.getSpace().getName())
                 .reservationDate(review.getReservedDate())
                 .reviewImages(review.getImages().stream()
-                        .map(reviewImage -> reviewImage.getImageUrl())
+                        .map(reviewImage -> ImageVariant.DETAIL.urlOf(reviewImage.getImageUrl()))
                         .collect(Collectors.toList()))
                 .reviewContent(review.getContent())
                 .reviewCommentHostNickname(comment != null ? comment.getUser().getNickname() : null)
@@ -2,12 +2,13 @@ package com.beour.review.guest.service;
 
 import com.beour.global.exception.error.errorcode.ReservationErrorCode;
 import com.beour.global.exception.error.errorcode.ReviewErrorCode;
-import com.beour.global.exception.error.errorcode.UserErrorCode;
+import com.beour.global.exception.error.errorcode.SpaceErrorCode;
 import com.beour.global.exception.exceptionType.DuplicateException;
 import com.beour.global.exception.exceptionType.ReviewNotFoundException;
+import com.beour.global.exception.exceptionType.SpaceNotFoundException;
 import com.beour.global.exception.exceptionType.UnauthorityException;
-import com.beour.global.exception.exceptionType.UserNotFoundException;
-import com.beour.global.file.ImageUploader;
+import com.beour.global.file.ImageUploadPipeline;
+import com.beour.global.pagination.Cursor;
 import com.beour.reservation.commons.entity.Reservation;
 import com.beour.reservation.commons.enums.ReservationStatus;
 import com.beour.global.exception.exceptionType.MissMatch;
@@ -26,17 +27,24 @@ import com.beour.review.guest.dto.ReviewableReservationPageResponseDto;
 import com.beour.review.guest.dto.ReviewableReservationResponseDto;
 import com.beour.review.guest.dto.WrittenReviewPageResponseDto;
 import com.beour.review.guest.dto.WrittenReviewResponseDto;
+import com.beour.space.domain.entity.Space;
+import com.beour.space.domain.repository.SpaceRepository;
 import com.beour.user.entity.User;
-import com.beour.user.repository.UserRepository;
+import com.beour.user.service.CurrentUserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -49,28 +57,56 @@ public class ReviewGuestService {
 
     private final ReservationRepository reservationRepository;
     private final ReviewRepository reviewRepository;
-    private final UserRepository userRepository;
-    private final ImageUploader imageUploader;
+    private final CurrentUserService currentUserService;
+    private final SpaceRepository spaceRepository;
+    private final ImageUploadPipeline imageUploadPipeline;
+    private final TransactionTemplate transactionTemplate;
 
     public ReviewableReservationPageResponseDto getReviewableReservations(Pageable pageable) {
         User guest = findUserFromToken();
 
         Page<Reservation> completedReservations = reservationRepository
-                .findCompletedReservationsByGuestId(guest.getId(), pageable);
+                .findReviewableReservationsByGuestId(guest.getId(), LocalDate.now(), LocalTime.now(), pageable);
 
         checkEmptyReservation(completedReservations);
 
-        List<ReviewableReservationResponseDto> reservations = completedReservations.getContent().stream()
-                .map(ReviewableReservationResponseDto::of)
-                .toList();
-
         return new ReviewableReservationPageResponseDto(
-                reservations,
+                toReviewableResponses(completedReservations.getContent()),
                 completedReservations.isLast(),
                 completedReservations.getTotalPages()
         );
     }
 
+    /**
+     * 커서 모드. 최근 이용 순서 (date, startTime, id) 로 커서 뒤의 예약만 읽고 전체 개수는 세지 않는다.
+     */
+    public ReviewableReservationPageResponseDto getReviewableReservationsByCursor(String cursorToken, int size) {
+        User guest = findUserFromToken();
+        Cursor cursor = Cursor.decode(cursorToken);
+        Pageable limit = PageRequest.ofSize(size);
+        LocalDate today = LocalDate.now();
+        LocalTime now = LocalTime.now();
+
+        Slice<Reservation> reservationSlice;
+        if (cursor == null) {
+            reservationSlice = reservationRepository.findFirstReviewableReservationSliceByGuestId(
+                    guest.getId(), today, now, limit);
+        } else {
+            LocalDateTime before = cursor.dateTime();
+            reservationSlice = reservationRepository.findReviewableReservationSliceByGuestIdBefore(
+                    guest.getId(), today, now, before.toLocalDate(), before.toLocalTime(), cursor.id(), limit);
+        }
+
+        checkEmptyReservation(reservationSlice);
+
+        return ReviewableReservationPageResponseDto.ofCursor(
+                toReviewableResponses(reservationSlice.getContent()),
+                !reservationSlice.hasNext(),
+                Cursor.nextOf(reservationSlice, reservation -> Cursor.of(
+                        reservation.getDate().atTime(reservation.getStartTime()), reservation.getId()))
+        );
+    }
+
     public WrittenReviewPageResponseDto getWrittenReviews(Pageable pageable) {
         User guest = findUserFromToken();
 
@@ -78,18 +114,46 @@ public class ReviewGuestService {
 
         checkEmptyReviews(writtenReviews);
 
-        List<WrittenReviewResponseDto> reviews = writtenReviews.getContent().stream()
+        return new WrittenReviewPageResponseDto(
+                toWrittenReviewResponses(writtenReviews.getContent()),
+                writtenReviews.isLast(),
+                writtenReviews.getTotalPages()
+        );
+    }
+
+    /**
+     * 커서 모드. 최근에 쓴 순서 (createdAt, id) 로 커서 뒤의 리뷰 id 를 먼저 읽고 전체 개수는 세지 않는다.
+     */
+    public WrittenReviewPageResponseDto getWrittenReviewsByCursor(String cursorToken, int size) {
+        User guest = findUserFromToken();
+        Cursor cursor = Cursor.decode(cursorToken);
+
+        Slice<Review> reviewSlice = reviewRepository.findWrittenReviewSliceByGuestId(guest.getId(),
+                cursor == null ? null : cursor.dateTime(), cursor == null ? null : cursor.id(),
+                PageRequest.ofSize(size));
+
+        checkEmptyReviews(reviewSlice);
+
+        return WrittenReviewPageResponseDto.ofCursor(
+                toWrittenReviewResponses(reviewSlice.getContent()),
+                !reviewSlice.hasNext(),
+                Cursor.nextOf(reviewSlice, review -> Cursor.of(review.getCreatedAt(), review.getId()))
+        );
+    }
+
+    private static List<ReviewableReservationResponseDto> toReviewableResponses(List<Reservation> reservations) {
+        return reservations.stream()
+                .map(ReviewableReservationResponseDto::of)
+                .toList();
+    }
+
+    private static List<WrittenReviewResponseDto> toWrittenReviewResponses(List<Review> reviews) {
+        return reviews.stream()
                 .map(review -> {
                     ReviewComment comment = review.getComment();
                     return WrittenReviewResponseDto.of(review, comment);
                 })
                 .toList();
-
-        return new WrittenReviewPageResponseDto(
-                reviews,
-                writtenReviews.isLast(),
-                writtenReviews.getTotalPages()
-        );
     }
 
     // 예약 정보 조회 (리뷰 작성을 위한)
@@ -102,19 +166,30 @@ public class ReviewGuestService {
         return ReviewForReservationResponseDto.of(reservation);
     }
 
-    @Transactional
+    // 이미지는 트랜잭션 밖에서 먼저 저장하고, 트랜잭션이 롤백되면 삭제한다.
+    // 리뷰를 쓸 수 없는 요청이 파일을 저장했다 지우게 하지 않도록 업로드 전에 같은 검사를 한 번 먼저 한다.
     public void createReview(ReviewRequestDto requestDto, List<MultipartFile> images) throws IOException {
+        findReviewableReservation(findUserFromToken(), requestDto.getReservationId());
+        List<String> imageUrls = imageUploadPipeline.uploadAll(images);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            imageUploadPipeline.deleteOnRollback(imageUrls);
+            saveReview(requestDto, imageUrls);
+        });
+    }
+
+    private void saveReview(ReviewRequestDto requestDto, List<String> imageUrls) {
         User guest = findUserFromToken();
-        Reservation reservation = findReservationById(requestDto.getReservationId());
+        Reservation reservation = findReviewableReservation(guest, requestDto.getReservationId());
 
-        validateReservationOwner(reservation, guest);
-        validateReservationStatus(reservation);
-        checkDuplicateReview(guest.getId(), reservation.getSpace().getId(), reservation.getDate());
+        // 예약의 공간은 아직 지연 로딩 프록시이므로 여기서 잠그며 처음 읽는다.
+        Space space = lockSpace(reservation.getSpace().getId());
 
         Review review = buildReview(guest, reservation, requestDto.getRating(), requestDto.getContent());
         Review savedReview = reviewRepository.save(review);
+        space.addReviewRating(savedReview.getRating());
 
-        saveReviewImages(savedReview, images);
+        saveReviewImages(savedReview, imageUrls);
     }
 
     public ReviewDetailResponseDto getReviewDetail(Long reviewId) {
@@ -126,26 +201,43 @@ public class ReviewGuestService {
         return ReviewDetailResponseDto.of(review);
     }
 
-    @Transactional
     public void updateReview(Long reviewId, ReviewUpdateRequestDto requestDto, List<MultipartFile> images) throws IOException {
+        validateReviewOwner(reviewId, findUserFromToken());
+        List<String> imageUrls = imageUploadPipeline.uploadAll(images);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            imageUploadPipeline.deleteOnRollback(imageUrls);
+            applyReviewUpdate(reviewId, requestDto, imageUrls);
+        });
+    }
+
+    private void applyReviewUpdate(Long reviewId, ReviewUpdateRequestDto requestDto, List<String> imageUrls) {
         User guest = findUserFromToken();
-        Review review = findReviewById(reviewId);
+        Review review = findReviewByIdForUpdate(reviewId);
 
         validateReviewOwner(review, guest);
 
+        int ratingDelta = requestDto.getRating() - review.getRating();
+        if (ratingDelta != 0 && !review.isDeleted()) {
+            review.getSpace().changeReviewRating(ratingDelta);
+        }
+
         review.updateRating(requestDto.getRating());
         review.updateContent(requestDto.getContent());
 
-        updateReviewImages(review, images);
+        updateReviewImages(review, imageUrls);
     }
 
     @Transactional
     public void deleteReview(Long reviewId) {
         User guest = findUserFromToken();
-        Review review = findReviewById(reviewId);
+        Review review = findReviewByIdForUpdate(reviewId);
 
         validateReviewOwner(review, guest);
 
+        if (!review.isDeleted()) {
+            review.getSpace().removeReviewRating(review.getRating());
+        }
         review.softDelete();
     }
 
@@ -176,10 +268,7 @@ public class ReviewGuestService {
     }
 
     private User findUserFromToken() {
-        String loginId = SecurityContextHolder.getContext().getAuthentication().getName();
-        return userRepository.findByLoginIdAndDeletedAtIsNull(loginId).orElseThrow(
-                () -> new UserNotFoundException(UserErrorCode.USER_NOT_FOUND)
-        );
+        return currentUserService.getCurrentUser();
     }
 
     private Reservation findReservationById(Long reservationId) {
@@ -194,6 +283,29 @@ public class ReviewGuestService {
         );
     }
 
+    // 별점 집계를 고칠 리뷰는 공간 행까지 잠근 채 읽어, 동시에 쓰는 다른 리뷰의 갱신을 덮어쓰지 않게 한다.
+    private Review findReviewByIdForUpdate(Long reviewId) {
+        return reviewRepository.findByIdWithSpaceForUpdate(reviewId).orElseThrow(
+                () -> new ReviewNotFoundException(ReviewErrorCode.REVIEW_NOT_FOUND)
+        );
+    }
+
+    private Space lockSpace(Long spaceId) {
+        return spaceRepository.findByIdForUpdate(spaceId).orElseThrow(
+                () -> new SpaceNotFoundException(SpaceErrorCode.SPACE_NOT_FOUND)
+        );
+    }
+
+    private Reservation findReviewableReservation(User guest, Long reservationId) {
+        Reservation reservation = findReservationById(reservationId);
+
+        validateReservationOwner(reservation, guest);
+        validateReservationStatus(reservation);
+        checkDuplicateReview(guest.getId(), reservation.getSpace().getId(), reservation.getDate());
+
+        return reservation;
+    }
+
     private void validateReservationOwner(Reservation reservation, User guest) {
         if (!reservation.getGuest().getId().equals(guest.getId())) {
             throw new UnauthorityException(ReservationErrorCode.NO_PERMISSION);
@@ -201,7 +313,7 @@ public class ReviewGuestService {
     }
 
     private void validateReservationStatus(Reservation reservation) {
-        if (reservation.getStatus() != ReservationStatus.COMPLETED) {
+        if (reservation.effectiveStatus(LocalDate.now(), LocalTime.now()) != ReservationStatus.COMPLETED) {
             throw new MissMatch(ReviewErrorCode.ONLY_COMPLETED_CAN_REVIEW);
         }
     }
@@ -219,6 +331,16 @@ public class ReviewGuestService {
         }
     }
 
+    // 업로드 전 확인용. 리뷰를 읽어 두면 함께 읽힌 공간이 트랜잭션 안의 잠금 조회보다 먼저 올라오므로 작성자 id 만 읽는다.
+    private void validateReviewOwner(Long reviewId, User guest) {
+        Long guestId = reviewRepository.findGuestIdById(reviewId).orElseThrow(
+                () -> new ReviewNotFoundException(ReviewErrorCode.REVIEW_NOT_FOUND)
+        );
+        if (!guestId.equals(guest.getId())) {
+            throw new UnauthorityException(ReviewErrorCode.NO_PERMISSION);
+        }
+    }
+
     private Review buildReview(User guest, Reservation reservation, int rating, String content) {
         return Review.builder()
                 .guest(guest)
@@ -230,12 +352,11 @@ public class ReviewGuestService {
                 .build();
     }
 
-    private void saveReviewImages(Review review, List<MultipartFile> images) throws IOException {
-        if (images != null && !images.isEmpty()) {
+    private void saveReviewImages(Review review, List<String> imageUrls) {
+        if (!imageUrls.isEmpty()) {
             List<ReviewImage> reviewImages = new ArrayList<>();
 
-            for (MultipartFile image : images) {
-                String imageUrl = imageUploader.upload(image);
+            for (String imageUrl : imageUrls) {
                 ReviewImage reviewImage = ReviewImage.builder()
                         .imageUrl(imageUrl)
                         .build();
@@ -249,12 +370,12 @@ public class ReviewGuestService {
         }
     }
 
-    private void updateReviewImages(Review review, List<MultipartFile> images) throws IOException {
+    private void updateReviewImages(Review review, List<String> imageUrls) {
         // 기존 이미지 삭제
         deleteExistingImages(review);
 
         // 새로운 이미지 저장
-        saveReviewImages(review, images);
+        saveReviewImages(review, imageUrls);
     }
 
     private void deleteExistingImages(Review review) {
@@ -264,13 +385,13 @@ public class ReviewGuestService {
         }
     }
 
-    private void checkEmptyReservation(Page<Reservation> reservations) {
+    private void checkEmptyReservation(Slice<Reservation> reservations) {
         if (reservations.isEmpty()) {
             throw new ReservationNotFound(ReservationErrorCode.RESERVATION_NOT_FOUND);
         }
     }
 
-    private void checkEmptyReviews(Page<Review> reviews) {
+    private void checkEmptyReviews(Slice<Review> reviews) {
         if (reviews.isEmpty()) {
             throw new ReviewNotFoundException(ReviewErrorCode.REVIEW_NOT_FOUND);
         }
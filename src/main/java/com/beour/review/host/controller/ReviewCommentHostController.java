@@ -22,12 +22,20 @@ public class ReviewCommentHostController {
     private final ReviewCommentHostService reviewCommentHostService;
 
     @GetMapping("/api/users/me/commentable-reviews")
-    public ApiResponse<ReviewCommentablePageResponseDto> getCommentableReviews(Pageable pageable) {
+    public ApiResponse<ReviewCommentablePageResponseDto> getCommentableReviews(
+            @RequestParam(value = "cursor", required = false) String cursor, Pageable pageable) {
+        if (cursor != null) {
+            return ApiResponse.ok(reviewCommentHostService.getCommentableReviewsByCursor(cursor, pageable.getPageSize()));
+        }
         return ApiResponse.ok(reviewCommentHostService.getCommentableReviews(pageable));
     }
 
     @GetMapping("/api/users/me/review-comments")
-    public ApiResponse<ReviewCommentPageResponseDto> getWrittenReviewComments(Pageable pageable) {
+    public ApiResponse<ReviewCommentPageResponseDto> getWrittenReviewComments(
+            @RequestParam(value = "cursor", required = false) String cursor, Pageable pageable) {
+        if (cursor != null) {
+            return ApiResponse.ok(reviewCommentHostService.getWrittenReviewCommentsByCursor(cursor, pageable.getPageSize()));
+        }
         return ApiResponse.ok(reviewCommentHostService.getWrittenReviewComments(pageable));
     }
 
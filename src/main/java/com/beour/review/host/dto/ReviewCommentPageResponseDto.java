@@ -1,5 +1,6 @@
 package com.beour.review.host.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -10,5 +11,16 @@ import java.util.List;
 public class ReviewCommentPageResponseDto {
     private List<ReviewCommentResponseDto> reviewComments;
     private boolean last;
-    private int totalPage;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer totalPage;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
+    public ReviewCommentPageResponseDto(List<ReviewCommentResponseDto> reviewComments, boolean last, int totalPage) {
+        this(reviewComments, last, totalPage, null);
+    }
+
+    public static ReviewCommentPageResponseDto ofCursor(List<ReviewCommentResponseDto> reviewComments, boolean last, String nextCursor) {
+        return new ReviewCommentPageResponseDto(reviewComments, last, null, nextCursor);
+    }
 }
@@ -1,5 +1,6 @@
 package com.beour.review.host.dto;
 
+import com.beour.global.file.ImageVariant;
 import com.beour.review.domain.entity.Review;
 import com.beour.review.domain.entity.ReviewComment;
 import lombok.AllArgsConstructor;
@@ -38,7 +39,7 @@ public class ReviewCommentResponseDto {
                 .reservationDate(review.getReservedDate())
                 .reviewContent(review.getContent())
                 .reviewImages(review.getImages().stream()
-                        .map(reviewImage -> reviewImage.getImageUrl())
+                        .map(reviewImage -> ImageVariant.DETAIL.urlOf(reviewImage.getImageUrl()))
                         .collect(Collectors.toList()))
                 .hostNickname(reviewComment.getUser().getNickname())
                 .reviewCommentCreatedAt(reviewComment.getCreatedAt())
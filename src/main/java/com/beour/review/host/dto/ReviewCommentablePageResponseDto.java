@@ -1,5 +1,6 @@
 package com.beour.review.host.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -10,5 +11,16 @@ import java.util.List;
 public class ReviewCommentablePageResponseDto {
     private List<ReviewCommentableResponseDto> reviews;
     private boolean last;
-    private int totalPage;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer totalPage;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
+    public ReviewCommentablePageResponseDto(List<ReviewCommentableResponseDto> reviews, boolean last, int totalPage) {
+        this(reviews, last, totalPage, null);
+    }
+
+    public static ReviewCommentablePageResponseDto ofCursor(List<ReviewCommentableResponseDto> reviews, boolean last, String nextCursor) {
+        return new ReviewCommentablePageResponseDto(reviews, last, null, nextCursor);
+    }
 }
@@ -1,5 +1,6 @@
 package com.beour.review.host.dto;
 
+import com.beour.global.file.ImageVariant;
 import com.beour.review.domain.entity.Review;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -36,7 +37,7 @@ public class ReviewCommentableResponseDto {
                 .reservationDate(review.getReservedDate())
                 .reviewContent(review.getContent())
                 .reviewImages(review.getImages().stream()
-                        .map(reviewImage -> reviewImage.getImageUrl())
+                        .map(reviewImage -> ImageVariant.DETAIL.urlOf(reviewImage.getImageUrl()))
                         .collect(Collectors.toList()))
                 .build();
     }
@@ -3,12 +3,11 @@ package com.beour.review.host.service;
 import com.beour.global.exception.error.errorcode.CommentErrorCode;
 import com.beour.global.exception.error.errorcode.ReviewErrorCode;
 import com.beour.global.exception.error.errorcode.SpaceErrorCode;
-import com.beour.global.exception.error.errorcode.UserErrorCode;
 import com.beour.global.exception.exceptionType.DuplicateException;
 import com.beour.global.exception.exceptionType.ReviewCommentNotFoundException;
 import com.beour.global.exception.exceptionType.ReviewNotFoundException;
 import com.beour.global.exception.exceptionType.UnauthorityException;
-import com.beour.global.exception.exceptionType.UserNotFoundException;
+import com.beour.global.pagination.Cursor;
 import com.beour.review.domain.entity.Review;
 import com.beour.review.domain.entity.ReviewComment;
 import com.beour.review.domain.repository.ReviewCommentRepository;
@@ -20,11 +19,12 @@ import com.beour.review.host.dto.ReviewCommentUpdateRequestDto;
 import com.beour.review.host.dto.ReviewCommentablePageResponseDto;
 import com.beour.review.host.dto.ReviewCommentableResponseDto;
 import com.beour.user.entity.User;
-import com.beour.user.repository.UserRepository;
+import com.beour.user.service.CurrentUserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,7 +37,7 @@ public class ReviewCommentHostService {
 
     private final ReviewRepository reviewRepository;
     private final ReviewCommentRepository reviewCommentRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserService currentUserService;
 
     @Transactional(readOnly = true)
     public ReviewCommentablePageResponseDto getCommentableReviews(Pageable pageable) {
@@ -45,44 +45,72 @@ public class ReviewCommentHostService {
 
         Page<Review> commentableReviewsPage = reviewRepository.findCommentableReviewsByHostId(host.getId(), pageable);
 
-        if (commentableReviewsPage.isEmpty()) {
-            throw new IllegalStateException("답글을 작성할 수 있는 리뷰가 없습니다.");
-        }
-
-        List<ReviewCommentableResponseDto> reviews = commentableReviewsPage.getContent()
-                .stream()
-                .map(ReviewCommentableResponseDto::of)
-                .collect(Collectors.toList());
+        checkEmptyCommentableReviews(commentableReviewsPage);
 
         return new ReviewCommentablePageResponseDto(
-                reviews,
+                toCommentableResponses(commentableReviewsPage.getContent()),
                 commentableReviewsPage.isLast(),
                 commentableReviewsPage.getTotalPages()
         );
     }
 
+    /**
+     * 커서 모드. 최근에 작성된 순서 (createdAt, id) 로 커서 뒤의 리뷰 id 를 먼저 읽고 전체 개수는 세지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public ReviewCommentablePageResponseDto getCommentableReviewsByCursor(String cursorToken, int size) {
+        User host = findUserFromToken();
+        Cursor cursor = Cursor.decode(cursorToken);
+
+        Slice<Review> reviewSlice = reviewRepository.findCommentableReviewSliceByHostId(host.getId(),
+                cursor == null ? null : cursor.dateTime(), cursor == null ? null : cursor.id(),
+                PageRequest.ofSize(size));
+
+        checkEmptyCommentableReviews(reviewSlice);
+
+        return ReviewCommentablePageResponseDto.ofCursor(
+                toCommentableResponses(reviewSlice.getContent()),
+                !reviewSlice.hasNext(),
+                Cursor.nextOf(reviewSlice, review -> Cursor.of(review.getCreatedAt(), review.getId()))
+        );
+    }
+
     @Transactional(readOnly = true)
     public ReviewCommentPageResponseDto getWrittenReviewComments(Pageable pageable) {
         User host = findUserFromToken();
 
         Page<ReviewComment> writtenCommentsPage = reviewCommentRepository.findWrittenCommentsByHostId(host.getId(), pageable);
 
-        if (writtenCommentsPage.isEmpty()) {
-            throw new IllegalStateException("작성한 답글이 없습니다.");
-        }
-
-        List<ReviewCommentResponseDto> comments = writtenCommentsPage.getContent()
-                .stream()
-                .map(comment -> ReviewCommentResponseDto.of(comment.getReview(), comment))
-                .collect(Collectors.toList());
+        checkEmptyComments(writtenCommentsPage);
 
         return new ReviewCommentPageResponseDto(
-                comments,
+                toCommentResponses(writtenCommentsPage.getContent()),
                 writtenCommentsPage.isLast(),
                 writtenCommentsPage.getTotalPages()
         );
     }
 
+    /**
+     * 커서 모드. 최근에 작성한 순서 (createdAt, id) 로 커서 뒤의 답글 id 를 먼저 읽고 전체 개수는 세지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public ReviewCommentPageResponseDto getWrittenReviewCommentsByCursor(String cursorToken, int size) {
+        User host = findUserFromToken();
+        Cursor cursor = Cursor.decode(cursorToken);
+
+        Slice<ReviewComment> commentSlice = reviewCommentRepository.findWrittenCommentSliceByHostId(host.getId(),
+                cursor == null ? null : cursor.dateTime(), cursor == null ? null : cursor.id(),
+                PageRequest.ofSize(size));
+
+        checkEmptyComments(commentSlice);
+
+        return ReviewCommentPageResponseDto.ofCursor(
+                toCommentResponses(commentSlice.getContent()),
+                !commentSlice.hasNext(),
+                Cursor.nextOf(commentSlice, comment -> Cursor.of(comment.getCreatedAt(), comment.getId()))
+        );
+    }
+
     @Transactional
     public void createReviewComment(ReviewCommentCreateRequestDto requestDto) {
         User host = findUserFromToken();
@@ -127,10 +155,32 @@ public class ReviewCommentHostService {
         reviewComment.softDelete();
     }
 
+    private static List<ReviewCommentableResponseDto> toCommentableResponses(List<Review> reviews) {
+        return reviews.stream()
+                .map(ReviewCommentableResponseDto::of)
+                .collect(Collectors.toList());
+    }
+
+    private static List<ReviewCommentResponseDto> toCommentResponses(List<ReviewComment> comments) {
+        return comments.stream()
+                .map(comment -> ReviewCommentResponseDto.of(comment.getReview(), comment))
+                .collect(Collectors.toList());
+    }
+
+    private static void checkEmptyCommentableReviews(Slice<Review> reviews) {
+        if (reviews.isEmpty()) {
+            throw new IllegalStateException("답글을 작성할 수 있는 리뷰가 없습니다.");
+        }
+    }
+
+    private static void checkEmptyComments(Slice<ReviewComment> comments) {
+        if (comments.isEmpty()) {
+            throw new IllegalStateException("작성한 답글이 없습니다.");
+        }
+    }
+
     private User findUserFromToken() {
-        String loginId = SecurityContextHolder.getContext().getAuthentication().getName();
-        return userRepository.findByLoginIdAndDeletedAtIsNull(loginId)
-                .orElseThrow(() -> new UserNotFoundException(UserErrorCode.USER_NOT_FOUND));
+        return currentUserService.getCurrentUser();
     }
 
     private Review findReviewById(Long reviewId) {
@@ -1,5 +1,7 @@
 package com.beour.space.domain.entity;
 
+import com.beour.reservation.commons.listener.ReservationScheduleListener;
+import com.beour.space.domain.listener.SpaceEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
 import jakarta.persistence.Id;
@@ -13,6 +15,8 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@EntityListeners({SpaceEntityListener.class, ReservationScheduleListener.class})
+@Table(indexes = @Index(name = "idx_available_time_space_date", columnList = "space_id, date"))
 public class AvailableTime {
 
     @Id
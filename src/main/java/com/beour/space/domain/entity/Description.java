@@ -1,7 +1,13 @@
 package com.beour.space.domain.entity;
 
+import com.beour.global.config.CacheRegions;
+import com.beour.space.domain.listener.SpaceEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import jakarta.persistence.Id;
 
 @Entity
@@ -9,12 +15,18 @@ import jakarta.persistence.Id;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@EntityListeners(SpaceEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.DESCRIPTION)
+@NaturalIdCache(region = CacheRegions.DESCRIPTION_NATURAL_ID)
 public class Description {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // 공간당 하나뿐이므로 자연 키로 두어 space -> id 해석도 2차 캐시에서 한다.
+    @NaturalId
     @OneToOne
     @JoinColumn(name = "space_id")
     private Space space;
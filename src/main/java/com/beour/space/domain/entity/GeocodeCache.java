@@ -0,0 +1,46 @@
+package com.beour.space.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+/**
+ * 주소 → 좌표 변환 결과. 같은 주소로 카카오맵 API 를 다시 호출하지 않도록 보관한다.
+ * 주소는 앞뒤 공백을 없애고 연속 공백을 하나로 줄인 값으로 저장한다.
+ */
+@Getter
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_geocode_cache_address", columnNames = "address"))
+@EntityListeners(AuditingEntityListener.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GeocodeCache {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String address;
+
+    private double latitude;
+    private double longitude;
+
+    @CreatedDate
+    private LocalDateTime createdAt;
+
+    @Builder
+    public GeocodeCache(String address, double latitude, double longitude) {
+        this.address = address;
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+}
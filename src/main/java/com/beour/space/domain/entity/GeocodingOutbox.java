@@ -0,0 +1,56 @@
+package com.beour.space.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.*;
+
+/**
+ * 좌표 변환을 기다리는 공간 주소. 공간 저장 트랜잭션에서 함께 쌓고 GeocodingOutboxWorker 가 처리한다.
+ * 공간당 한 건만 두며, 처리 전에 주소가 다시 바뀌면 같은 행의 주소를 덮어쓴다.
+ */
+@Getter
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_geocoding_outbox_space_id", columnNames = "space_id"),
+    indexes = @Index(name = "idx_geocoding_outbox_next_attempt_at", columnList = "next_attempt_at"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GeocodingOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "space_id", nullable = false)
+    private Long spaceId;
+
+    @Column(nullable = false)
+    private String address;
+
+    private int attempts;
+
+    @Column(name = "next_attempt_at")
+    private long nextAttemptAt;
+
+    @Builder
+    public GeocodingOutbox(Long spaceId, String address, long nextAttemptAt) {
+        this.spaceId = spaceId;
+        this.address = address;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public void changeAddress(String address, long now) {
+        this.address = address;
+        this.attempts = 0;
+        this.nextAttemptAt = now;
+    }
+
+    public void retryAt(long nextAttemptAt) {
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
@@ -1,11 +1,15 @@
 package com.beour.space.domain.entity;
 
+import com.beour.global.config.CacheRegions;
 import com.beour.global.entity.BaseTimeEntity;
 import com.beour.space.domain.enums.SpaceCategory;
 import com.beour.space.domain.enums.UseCategory;
+import com.beour.space.domain.listener.SpaceEntityListener;
 import com.beour.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import jakarta.persistence.Id;
 
 import java.time.LocalDateTime;
@@ -17,13 +21,17 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@EntityListeners(SpaceEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.SPACE)
 public class Space extends BaseTimeEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    // 캐시에서 공간을 꺼낼 때 호스트를 매번 조회하지 않도록 지연 로딩한다. 소유자 확인은 id 만 쓴다.
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "host_id")
     private User host;
 
@@ -47,37 +55,48 @@ public class Space extends BaseTimeEntity {
     private Double latitude;
     private Double longitude;
 
+    // 주소가 바뀌었지만 아직 좌표를 얻지 못한 상태. GeocodingOutboxWorker 가 좌표를 채우면 해제된다.
+    private boolean geocodingPending;
+
+    // 주소를 찾지 못했거나 재시도 횟수를 넘겨 좌표 변환을 포기한 상태. 호스트가 주소를 다시 저장하면 해제된다.
+    private boolean geocodingFailed;
+
     private Double avgRating;
 
+    // 리뷰 작성/수정/삭제 시 증분 갱신되는 집계값 (SpaceReviewStatsReconcileJob 이 주기적으로 보정)
+    // 잠근 공간 엔티티를 고쳐 갱신하므로 2차 캐시에서는 해당 공간 항목만 바뀐다.
+    private int reviewCount;
+
+    private long ratingSum;
+
     private LocalDateTime deletedAt;
 
     // 연관관계 매핑
-    @OneToOne(mappedBy = "space", cascade = CascadeType.ALL)
-    private Description description;
-
+    // Description 은 mappedBy 일대일로 두면 캐시에서 꺼내도 space_id 로 매번 조회되므로,
+    // 반대쪽 매핑 없이 DescriptionRepository.findCachedBySpace 로 자연 키 캐시를 통해 읽는다.
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.SPACE_TAGS)
     @OneToMany(mappedBy = "space", cascade = CascadeType.ALL)
     private List<Tag> tags = new ArrayList<>();
 
     @OneToMany(mappedBy = "space", cascade = CascadeType.ALL)
     private List<AvailableTime> availableTimes = new ArrayList<>();
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.SPACE_IMAGES)
     @OneToMany(mappedBy = "space", cascade = CascadeType.ALL)
     private List<SpaceImage> spaceImages = new ArrayList<>();
 
     // 전체 수정(PUT)
-    public void update(String name, String address, String detailAddress, int pricePerHour,
+    // 주소는 좌표와 함께 바뀌어야 하므로 SpaceGeocodingService 를 통해 따로 수정한다.
+    public void update(String name, String detailAddress, int pricePerHour,
                        int maxCapacity, SpaceCategory spaceCategory, UseCategory useCategory,
-                       String thumbnailUrl, double lat, double lng) {
+                       String thumbnailUrl) {
         this.name = name;
-        this.address = address;
         this.detailAddress = detailAddress;
         this.pricePerHour = pricePerHour;
         this.maxCapacity = maxCapacity;
         this.spaceCategory = spaceCategory;
         this.useCategory = useCategory;
         this.thumbnailUrl = thumbnailUrl;
-        this.latitude = lat;
-        this.longitude = lng;
     }
 
     // 부분 수정(PATCH)
@@ -89,6 +108,27 @@ public class Space extends BaseTimeEntity {
         this.address = address;
         this.latitude = lat;
         this.longitude = lng;
+        this.geocodingPending = false;
+        this.geocodingFailed = false;
+    }
+
+    // 좌표는 나중에 채운다. 그 전까지는 이전 좌표(신규 공간은 없음)로 검색된다.
+    public void updateAddressPendingGeocoding(String address) {
+        this.address = address;
+        this.geocodingPending = true;
+        this.geocodingFailed = false;
+    }
+
+    public void updateCoordinates(double lat, double lng) {
+        this.latitude = lat;
+        this.longitude = lng;
+        this.geocodingPending = false;
+        this.geocodingFailed = false;
+    }
+
+    public void failGeocoding() {
+        this.geocodingPending = false;
+        this.geocodingFailed = true;
     }
 
     public void updateDetailAddress(String detailAddress) {
@@ -118,5 +158,30 @@ public class Space extends BaseTimeEntity {
     public void delete() {
         this.deletedAt = LocalDateTime.now();
     }
+
+    // 아래 리뷰 집계 메서드는 SpaceRepository.findByIdForUpdate 등으로 공간 행을 잠근 뒤 호출한다.
+    public void addReviewRating(int rating) {
+        this.reviewCount++;
+        this.ratingSum += rating;
+        refreshAvgRating();
+    }
+
+    public void changeReviewRating(int delta) {
+        this.ratingSum += delta;
+        refreshAvgRating();
+    }
+
+    public void removeReviewRating(int rating) {
+        if (this.reviewCount == 0) {
+            return;
+        }
+        this.reviewCount--;
+        this.ratingSum -= rating;
+        refreshAvgRating();
+    }
+
+    private void refreshAvgRating() {
+        this.avgRating = reviewCount > 0 ? (double) ratingSum / reviewCount : 0.0;
+    }
   
 }
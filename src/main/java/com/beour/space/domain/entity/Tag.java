@@ -1,7 +1,11 @@
 package com.beour.space.domain.entity;
 
+import com.beour.global.config.CacheRegions;
+import com.beour.space.domain.listener.SpaceEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import jakarta.persistence.Id;
 
 @Entity
@@ -9,6 +13,9 @@ import jakarta.persistence.Id;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@EntityListeners(SpaceEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TAG)
 public class Tag {
 
     @Id
@@ -0,0 +1,15 @@
+package com.beour.space.domain.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 공간 또는 공간에 딸린 정보가 저장/수정/삭제되었음을 알리는 이벤트.
+ * 메모리 인덱스들은 이 이벤트를 받아 해당 공간을 DB에서 다시 읽어 반영한다.
+ */
+@Getter
+@AllArgsConstructor
+public class SpaceChangedEvent {
+
+    private final Long spaceId;
+}
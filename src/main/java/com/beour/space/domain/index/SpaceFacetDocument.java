@@ -0,0 +1,21 @@
+package com.beour.space.domain.index;
+
+import com.beour.space.domain.enums.SpaceCategory;
+import com.beour.space.domain.enums.UseCategory;
+import java.time.LocalDate;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SpaceFacetDocument {
+
+    private final Long spaceId;
+    private final SpaceCategory spaceCategory;
+    private final UseCategory useCategory;
+    private final int pricePerHour;
+    private final int maxCapacity;
+    private final String address;
+    private final Set<LocalDate> availableDates;
+}
@@ -0,0 +1,258 @@
+package com.beour.space.domain.index;
+
+import com.beour.space.domain.enums.SpaceCategory;
+import com.beour.space.domain.enums.UseCategory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공간 id 를 비트 위치로 쓰는 패싯 비트맵 인덱스.
+ * 카테고리 값, 가격 구간, 최대 인원, 예약 가능 날짜마다 비트맵을 두고
+ * 필터 요청을 비트맵 AND/OR 로 처리한다. 주소 부분 일치만 남은 후보에 대해 직접 비교한다.
+ */
+@Component
+public class SpaceFacetIndex {
+
+    static final int PRICE_BUCKET_SIZE = 10_000;
+
+    private final BitSet liveSpaces = new BitSet();
+    private final Map<SpaceCategory, BitSet> bySpaceCategory = new EnumMap<>(SpaceCategory.class);
+    private final Map<UseCategory, BitSet> byUseCategory = new EnumMap<>(UseCategory.class);
+    private final NavigableMap<Integer, BitSet> byPriceBucket = new TreeMap<>();
+    private final NavigableMap<Integer, BitSet> byCapacity = new TreeMap<>();
+    private final Map<LocalDate, BitSet> byAvailableDate = new HashMap<>();
+    private final Map<Long, SpaceFacetDocument> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean ready = false;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        this.ready = true;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void index(SpaceFacetDocument document) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(document.getSpaceId());
+
+            int bit = bitOf(document.getSpaceId());
+            liveSpaces.set(bit);
+            if (document.getSpaceCategory() != null) {
+                bySpaceCategory.computeIfAbsent(document.getSpaceCategory(), key -> new BitSet()).set(bit);
+            }
+            if (document.getUseCategory() != null) {
+                byUseCategory.computeIfAbsent(document.getUseCategory(), key -> new BitSet()).set(bit);
+            }
+            byPriceBucket.computeIfAbsent(priceBucketOf(document.getPricePerHour()), key -> new BitSet()).set(bit);
+            byCapacity.computeIfAbsent(document.getMaxCapacity(), key -> new BitSet()).set(bit);
+            document.getAvailableDates().forEach(date ->
+                byAvailableDate.computeIfAbsent(date, key -> new BitSet()).set(bit));
+
+            documents.put(document.getSpaceId(), document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long spaceId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(spaceId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 지나간 날짜의 비트맵을 정리한다.
+     */
+    public void evictDatesBefore(LocalDate date) {
+        lock.writeLock().lock();
+        try {
+            byAvailableDate.keySet().removeIf(availableDate -> availableDate.isBefore(date));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public SpaceFacetResult filter(SpaceFacetQuery query) {
+        lock.readLock().lock();
+        try {
+            // 카테고리를 뺀 나머지 조건만 먼저 적용한다. 각 카테고리 패싯의 개수는
+            // 자기 자신의 선택을 뺀 결과 위에서 세야 다른 값을 골랐을 때의 개수가 된다.
+            BitSet base = (BitSet) liveSpaces.clone();
+
+            if (query.getRankedCandidateIds() != null) {
+                base.and(bitSetOf(query.getRankedCandidateIds()));
+            }
+            if (query.getMinCapacity() != null) {
+                base.and(unionOf(byCapacity.tailMap(query.getMinCapacity(), true).values()));
+            }
+            if (query.getDate() != null) {
+                base.and(byAvailableDate.getOrDefault(query.getDate(), new BitSet()));
+            }
+            if (query.getMinPrice() != null || query.getMaxPrice() != null) {
+                applyPriceRange(base, query.getMinPrice(), query.getMaxPrice());
+            }
+            if (query.getAddress() != null) {
+                clearIf(base, document -> document.getAddress() == null
+                    || !document.getAddress().contains(query.getAddress()));
+            }
+
+            BitSet withSpaceCategories = (BitSet) base.clone();
+            if (query.getSpaceCategories() != null && !query.getSpaceCategories().isEmpty()) {
+                withSpaceCategories.and(
+                    unionOf(query.getSpaceCategories().stream().map(bySpaceCategory::get).toList()));
+            }
+            BitSet withUseCategories = (BitSet) base.clone();
+            if (query.getUseCategories() != null && !query.getUseCategories().isEmpty()) {
+                withUseCategories.and(unionOf(query.getUseCategories().stream().map(byUseCategory::get).toList()));
+            }
+
+            BitSet matched = (BitSet) withSpaceCategories.clone();
+            matched.and(withUseCategories);
+
+            return new SpaceFacetResult(orderedIdsOf(matched, query.getRankedCandidateIds()),
+                countBy(withUseCategories, bySpaceCategory, new EnumMap<>(SpaceCategory.class),
+                    SpaceCategory.values()),
+                countBy(withSpaceCategories, byUseCategory, new EnumMap<>(UseCategory.class),
+                    UseCategory.values()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void applyPriceRange(BitSet matched, Integer minPrice, Integer maxPrice) {
+        int fromBucket = minPrice == null ? Integer.MIN_VALUE : priceBucketOf(minPrice);
+        int toBucket = maxPrice == null ? Integer.MAX_VALUE : priceBucketOf(maxPrice);
+        if (fromBucket > toBucket) {
+            matched.clear();
+            return;
+        }
+
+        matched.and(unionOf(byPriceBucket.subMap(fromBucket, true, toBucket, true).values()));
+
+        // 양 끝 구간은 구간 안에서도 범위를 벗어난 가격이 섞여 있으므로 실제 가격으로 한 번 더 거른다.
+        BitSet boundary = new BitSet();
+        boundary.or(byPriceBucket.getOrDefault(fromBucket, new BitSet()));
+        boundary.or(byPriceBucket.getOrDefault(toBucket, new BitSet()));
+        boundary.and(matched);
+        for (int bit = boundary.nextSetBit(0); bit >= 0; bit = boundary.nextSetBit(bit + 1)) {
+            int price = documents.get((long) bit).getPricePerHour();
+            if ((minPrice != null && price < minPrice) || (maxPrice != null && price > maxPrice)) {
+                matched.clear(bit);
+            }
+        }
+    }
+
+    private void clearIf(BitSet matched, Predicate<SpaceFacetDocument> predicate) {
+        for (int bit = matched.nextSetBit(0); bit >= 0; bit = matched.nextSetBit(bit + 1)) {
+            if (predicate.test(documents.get((long) bit))) {
+                matched.clear(bit);
+            }
+        }
+    }
+
+    private static List<Long> orderedIdsOf(BitSet matched, List<Long> rankedCandidateIds) {
+        if (rankedCandidateIds != null) {
+            return rankedCandidateIds.stream()
+                .filter(spaceId -> matched.get(bitOf(spaceId)))
+                .toList();
+        }
+
+        List<Long> spaceIds = new ArrayList<>(matched.cardinality());
+        matched.stream().forEach(bit -> spaceIds.add((long) bit));
+        return spaceIds;
+    }
+
+    private static <E extends Enum<E>> Map<E, Integer> countBy(BitSet matched, Map<E, BitSet> bitmaps,
+        Map<E, Integer> counts, E[] values) {
+        for (E value : values) {
+            BitSet bitmap = bitmaps.get(value);
+            if (bitmap == null) {
+                counts.put(value, 0);
+                continue;
+            }
+
+            BitSet intersection = (BitSet) bitmap.clone();
+            intersection.and(matched);
+            counts.put(value, intersection.cardinality());
+        }
+
+        return counts;
+    }
+
+    private void removeInternal(Long spaceId) {
+        SpaceFacetDocument previous = documents.remove(spaceId);
+        if (previous == null) {
+            return;
+        }
+
+        int bit = bitOf(spaceId);
+        liveSpaces.clear(bit);
+        bySpaceCategory.values().forEach(bitmap -> bitmap.clear(bit));
+        byUseCategory.values().forEach(bitmap -> bitmap.clear(bit));
+        clearFrom(byPriceBucket, priceBucketOf(previous.getPricePerHour()), bit);
+        clearFrom(byCapacity, previous.getMaxCapacity(), bit);
+        previous.getAvailableDates().forEach(date -> clearFrom(byAvailableDate, date, bit));
+    }
+
+    private static <K> void clearFrom(Map<K, BitSet> bitmaps, K key, int bit) {
+        BitSet bitmap = bitmaps.get(key);
+        if (bitmap != null) {
+            bitmap.clear(bit);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+
+    private static BitSet unionOf(Iterable<BitSet> bitmaps) {
+        BitSet union = new BitSet();
+        for (BitSet bitmap : bitmaps) {
+            if (bitmap != null) {
+                union.or(bitmap);
+            }
+        }
+
+        return union;
+    }
+
+    private static BitSet bitSetOf(List<Long> spaceIds) {
+        BitSet bitmap = new BitSet();
+        spaceIds.forEach(spaceId -> bitmap.set(bitOf(spaceId)));
+        return bitmap;
+    }
+
+    private static int priceBucketOf(int price) {
+        return Math.floorDiv(price, PRICE_BUCKET_SIZE);
+    }
+
+    private static int bitOf(Long spaceId) {
+        return Math.toIntExact(spaceId);
+    }
+}
@@ -0,0 +1,83 @@
+package com.beour.space.domain.index;
+
+import com.beour.space.domain.event.SpaceChangedEvent;
+import com.beour.space.domain.repository.AvailableTimeRepository;
+import com.beour.space.domain.repository.SpaceAvailableDate;
+import com.beour.space.domain.repository.SpaceFacetFields;
+import com.beour.space.domain.repository.SpaceRepository;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 기동 시 {@link SpaceFacetIndex} 를 채우고, 이후 공간 변경 이벤트마다 해당 공간만 다시 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpaceFacetIndexLoader {
+
+    private final SpaceFacetIndex spaceFacetIndex;
+    private final SpaceRepository spaceRepository;
+    private final AvailableTimeRepository availableTimeRepository;
+
+    private final Set<Long> changedWhileLoading = ConcurrentHashMap.newKeySet();
+    private final SpaceIndexRefreshLocks refreshLocks = new SpaceIndexRefreshLocks();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Map<Long, Set<LocalDate>> datesBySpace = availableTimeRepository
+            .findAvailableDatesFrom(LocalDate.now()).stream()
+            .collect(Collectors.groupingBy(SpaceAvailableDate::getSpaceId,
+                Collectors.mapping(SpaceAvailableDate::getDate, Collectors.toSet())));
+
+        for (SpaceFacetFields space : spaceRepository.findAllFacetFields()) {
+            refreshLocks.run(space.getId(), () -> {
+                if (!changedWhileLoading.contains(space.getId())) {
+                    spaceFacetIndex.index(toDocument(space, datesBySpace.getOrDefault(space.getId(), Set.of())));
+                }
+            });
+        }
+
+        spaceFacetIndex.markReady();
+        changedWhileLoading.clear();
+        log.info("Space facet index loaded: {} spaces", spaceFacetIndex.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSpaceChanged(SpaceChangedEvent event) {
+        Long spaceId = event.getSpaceId();
+        if (!spaceFacetIndex.isReady()) {
+            changedWhileLoading.add(spaceId);
+        }
+
+        refreshLocks.run(spaceId, () -> spaceRepository.findFacetFieldsById(spaceId).ifPresentOrElse(
+            space -> spaceFacetIndex.index(toDocument(space, availableDatesOf(spaceId))),
+            () -> spaceFacetIndex.remove(spaceId)));
+    }
+
+    @Scheduled(cron = "${space.facet-index.evict-cron:0 5 0 * * *}")
+    public void evictPastDates() {
+        spaceFacetIndex.evictDatesBefore(LocalDate.now());
+    }
+
+    private Set<LocalDate> availableDatesOf(Long spaceId) {
+        return availableTimeRepository.findAvailableDatesBySpaceIdFrom(spaceId, LocalDate.now()).stream()
+            .map(SpaceAvailableDate::getDate)
+            .collect(Collectors.toSet());
+    }
+
+    private static SpaceFacetDocument toDocument(SpaceFacetFields space, Set<LocalDate> availableDates) {
+        return new SpaceFacetDocument(space.getId(), space.getSpaceCategory(), space.getUseCategory(),
+            space.getPricePerHour(), space.getMaxCapacity(), space.getAddress(), availableDates);
+    }
+}
@@ -0,0 +1,26 @@
+package com.beour.space.domain.index;
+
+import com.beour.space.domain.enums.SpaceCategory;
+import com.beour.space.domain.enums.UseCategory;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 필터 조건. null 이거나 빈 목록인 조건은 적용하지 않는다.
+ * rankedCandidateIds 가 있으면 그 안에서만 거르고 결과도 그 순서를 따른다.
+ */
+@Getter
+@Builder
+public class SpaceFacetQuery {
+
+    private final List<Long> rankedCandidateIds;
+    private final Integer minPrice;
+    private final Integer maxPrice;
+    private final String address;
+    private final Integer minCapacity;
+    private final List<SpaceCategory> spaceCategories;
+    private final List<UseCategory> useCategories;
+    private final LocalDate date;
+}
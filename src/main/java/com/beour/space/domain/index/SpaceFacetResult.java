@@ -0,0 +1,17 @@
+package com.beour.space.domain.index;
+
+import com.beour.space.domain.enums.SpaceCategory;
+import com.beour.space.domain.enums.UseCategory;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SpaceFacetResult {
+
+    private final List<Long> spaceIds;
+    private final Map<SpaceCategory, Integer> spaceCategoryCounts;
+    private final Map<UseCategory, Integer> useCategoryCounts;
+}
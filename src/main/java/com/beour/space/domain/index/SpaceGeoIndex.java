@@ -0,0 +1,178 @@
+package com.beour.space.domain.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공간 좌표를 위경도 격자 셀로 나누어 들고 있는 메모리 인덱스.
+ * 반경 검색 시 바운딩 박스에 걸치는 셀만 훑은 뒤 구면 거리로 한 번 더 거른다.
+ */
+@Component
+public class SpaceGeoIndex {
+
+    // ST_Distance_Sphere 와 같은 지구 반지름을 사용해 DB 결과와 거리가 일치하도록 한다.
+    static final double EARTH_RADIUS_METERS = 6370986.0;
+    private static final double METERS_PER_DEGREE = Math.PI * EARTH_RADIUS_METERS / 180.0;
+
+    private static final double CELL_DEGREES = 0.01;
+    private static final int LONGITUDE_CELLS = (int) Math.round(360 / CELL_DEGREES);
+
+    private final Map<Long, SpaceLocation> locations = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+
+    private volatile boolean ready = false;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        this.ready = true;
+    }
+
+    public int size() {
+        return locations.size();
+    }
+
+    public synchronized void put(SpaceLocation location) {
+        remove(location.getSpaceId());
+
+        locations.put(location.getSpaceId(), location);
+        cells.computeIfAbsent(cellKeyOf(location.getLatitude(), location.getLongitude()),
+            key -> ConcurrentHashMap.newKeySet()).add(location.getSpaceId());
+    }
+
+    public synchronized void remove(Long spaceId) {
+        SpaceLocation previous = locations.remove(spaceId);
+        if (previous == null) {
+            return;
+        }
+
+        long cellKey = cellKeyOf(previous.getLatitude(), previous.getLongitude());
+        Set<Long> cell = cells.get(cellKey);
+        if (cell != null) {
+            cell.remove(spaceId);
+            if (cell.isEmpty()) {
+                cells.remove(cellKey);
+            }
+        }
+    }
+
+    /**
+     * 반경 안의 공간 id 를 가까운 순(거리가 같으면 id 순)으로 반환한다.
+     */
+    public List<Long> findIdsWithinRadius(double latitude, double longitude, double radiusMeters) {
+        return findNeighborsWithinRadius(latitude, longitude, radiusMeters).stream()
+            .map(Neighbor::spaceId)
+            .toList();
+    }
+
+    /**
+     * 반경 안의 공간을 거리와 함께 가까운 순(거리가 같으면 id 순)으로 반환한다.
+     */
+    public List<Neighbor> findNeighborsWithinRadius(double latitude, double longitude,
+        double radiusMeters) {
+        List<Neighbor> neighbors = new ArrayList<>();
+        for (SpaceLocation location : candidatesOf(latitude, longitude, radiusMeters)) {
+            double distance = distanceMeters(latitude, longitude, location.getLatitude(),
+                location.getLongitude());
+            if (distance <= radiusMeters) {
+                neighbors.add(new Neighbor(location.getSpaceId(), distance));
+            }
+        }
+
+        neighbors.sort(Comparator.comparingDouble(Neighbor::distance)
+            .thenComparing(Neighbor::spaceId));
+
+        return neighbors;
+    }
+
+    private Collection<SpaceLocation> candidatesOf(double latitude, double longitude,
+        double radiusMeters) {
+        double latitudeDelta = radiusMeters / METERS_PER_DEGREE;
+        double minLatitude = Math.max(-90, latitude - latitudeDelta);
+        double maxLatitude = Math.min(90, latitude + latitudeDelta);
+
+        // 극점이 범위에 들어가거나 경도 폭이 반 바퀴를 넘으면 경도 전체를 봐야 한다.
+        double widestCos = Math.cos(Math.toRadians(Math.max(Math.abs(minLatitude), Math.abs(maxLatitude))));
+        boolean fullLongitude = minLatitude <= -90 || maxLatitude >= 90
+            || latitudeDelta / widestCos >= 180;
+        double longitudeDelta = fullLongitude ? 180 : latitudeDelta / widestCos;
+
+        int minLatitudeCell = latitudeCellOf(minLatitude);
+        int maxLatitudeCell = latitudeCellOf(maxLatitude);
+        int minLongitudeCell = longitudeCellOf(longitude - longitudeDelta);
+        int longitudeCellSpan = fullLongitude ? LONGITUDE_CELLS
+            : (int) Math.ceil(2 * longitudeDelta / CELL_DEGREES) + 1;
+
+        long scannedCells = (long) (maxLatitudeCell - minLatitudeCell + 1) * longitudeCellSpan;
+        if (scannedCells >= locations.size()) {
+            // 셀을 훑는 비용이 전체를 훑는 비용보다 크면 그냥 전체를 본다.
+            return locations.values();
+        }
+
+        List<SpaceLocation> candidates = new ArrayList<>();
+        for (int latitudeCell = minLatitudeCell; latitudeCell <= maxLatitudeCell; latitudeCell++) {
+            for (int offset = 0; offset < longitudeCellSpan; offset++) {
+                int longitudeCell = Math.floorMod(minLongitudeCell + offset, LONGITUDE_CELLS);
+                Set<Long> cell = cells.get(cellKeyOf(latitudeCell, longitudeCell));
+                if (cell == null) {
+                    continue;
+                }
+
+                for (Long spaceId : cell) {
+                    SpaceLocation location = locations.get(spaceId);
+                    if (location != null) {
+                        candidates.add(location);
+                    }
+                }
+            }
+        }
+
+        return candidates;
+    }
+
+    public static double distanceMeters(double fromLatitude, double fromLongitude, double toLatitude,
+        double toLongitude) {
+        double latitudeDifference = Math.toRadians(toLatitude - fromLatitude);
+        double longitudeDifference = Math.toRadians(toLongitude - fromLongitude);
+
+        double haversine = Math.sin(latitudeDifference / 2) * Math.sin(latitudeDifference / 2)
+            + Math.cos(Math.toRadians(fromLatitude)) * Math.cos(Math.toRadians(toLatitude))
+            * Math.sin(longitudeDifference / 2) * Math.sin(longitudeDifference / 2);
+
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(haversine)));
+    }
+
+    private static long cellKeyOf(double latitude, double longitude) {
+        return cellKeyOf(latitudeCellOf(latitude), longitudeCellOf(longitude));
+    }
+
+    private static long cellKeyOf(int latitudeCell, int longitudeCell) {
+        return (long) latitudeCell * LONGITUDE_CELLS + longitudeCell;
+    }
+
+    private static int latitudeCellOf(double latitude) {
+        return (int) Math.floor((Math.max(-90, Math.min(90, latitude)) + 90) / CELL_DEGREES);
+    }
+
+    private static int longitudeCellOf(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180) / CELL_DEGREES), LONGITUDE_CELLS);
+    }
+
+    public record Neighbor(Long spaceId, double distance) {
+
+        /**
+         * (거리, id) 순서에서 주어진 위치보다 뒤에 오는지 확인한다.
+         */
+        public boolean isAfter(double afterDistance, long afterId) {
+            return distance > afterDistance || (distance == afterDistance && spaceId > afterId);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.beour.space.domain.index;
+
+import com.beour.space.domain.event.SpaceChangedEvent;
+import com.beour.space.domain.repository.SpaceRepository;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 기동 시 {@link SpaceGeoIndex} 를 채우고, 이후 공간 변경 이벤트마다 해당 공간만 다시 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpaceGeoIndexLoader {
+
+    private final SpaceGeoIndex spaceGeoIndex;
+    private final SpaceRepository spaceRepository;
+
+    // 적재 도중 변경된 공간은 적재 스냅샷보다 이벤트 쪽이 최신이므로 덮어쓰지 않는다.
+    private final Set<Long> changedWhileLoading = ConcurrentHashMap.newKeySet();
+    private final SpaceIndexRefreshLocks refreshLocks = new SpaceIndexRefreshLocks();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (SpaceLocation location : spaceRepository.findAllLocations()) {
+            refreshLocks.run(location.getSpaceId(), () -> {
+                if (!changedWhileLoading.contains(location.getSpaceId())) {
+                    spaceGeoIndex.put(location);
+                }
+            });
+        }
+
+        spaceGeoIndex.markReady();
+        changedWhileLoading.clear();
+        log.info("Space geo index loaded: {} spaces", spaceGeoIndex.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSpaceChanged(SpaceChangedEvent event) {
+        Long spaceId = event.getSpaceId();
+        if (!spaceGeoIndex.isReady()) {
+            changedWhileLoading.add(spaceId);
+        }
+
+        refreshLocks.run(spaceId, () -> spaceRepository.findLocationById(spaceId)
+            .ifPresentOrElse(spaceGeoIndex::put, () -> spaceGeoIndex.remove(spaceId)));
+    }
+}
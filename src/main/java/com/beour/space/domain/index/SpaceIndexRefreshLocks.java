@@ -0,0 +1,33 @@
+package com.beour.space.domain.index;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 같은 공간의 색인 갱신(행 읽기 + 색인 쓰기)을 한 번에 하나씩 실행한다.
+ *
+ * <p>커밋 후 이벤트는 커밋 순서와 상관없이 여러 스레드에서 동시에 처리된다. 읽기와 쓰기를 같은 락 안에서 하면
+ * 나중에 락을 잡은 갱신은 앞선 갱신의 커밋까지 본 행을 읽으므로, 먼저 읽은 오래된 행이 최신 색인을 덮어쓰지 않는다.
+ * 공간마다 락을 만들지 않도록 공간 id 로 고정 개수의 락 중 하나를 고른다.
+ */
+final class SpaceIndexRefreshLocks {
+
+    private static final int STRIPES = 64;
+
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+
+    SpaceIndexRefreshLocks() {
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    void run(Long spaceId, Runnable refresh) {
+        ReentrantLock lock = locks[Math.floorMod(spaceId.hashCode(), STRIPES)];
+        lock.lock();
+        try {
+            refresh.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
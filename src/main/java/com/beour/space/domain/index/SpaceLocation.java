@@ -0,0 +1,23 @@
+package com.beour.space.domain.index;
+
+import lombok.Getter;
+
+@Getter
+public class SpaceLocation {
+
+    private final Long spaceId;
+    private final double latitude;
+    private final double longitude;
+    private final int pricePerHour;
+    private final int maxCapacity;
+
+    // JPQL 생성자 프로젝션에서 Double 컬럼을 그대로 받기 위해 래퍼 타입으로 선언
+    public SpaceLocation(Long spaceId, Double latitude, Double longitude, Integer pricePerHour,
+        Integer maxCapacity) {
+        this.spaceId = spaceId;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.pricePerHour = pricePerHour;
+        this.maxCapacity = maxCapacity;
+    }
+}
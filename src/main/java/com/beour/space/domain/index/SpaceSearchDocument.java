@@ -0,0 +1,16 @@
+package com.beour.space.domain.index;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SpaceSearchDocument {
+
+    private final Long spaceId;
+    private final String name;
+    private final String address;
+    private final List<String> tags;
+    private final List<String> descriptions;
+}
@@ -0,0 +1,145 @@
+package com.beour.space.domain.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공간 이름, 주소, 태그, 상세 설명을 n-gram 단위로 색인한 메모리 역색인.
+ * 검색어의 n-gram 을 모두 포함하는 공간만 골라 필드 가중치와 idf 로 점수를 매긴다.
+ */
+@Component
+public class SpaceSearchIndex {
+
+    private static final float NAME_WEIGHT = 4f;
+    private static final float TAG_WEIGHT = 3f;
+    private static final float ADDRESS_WEIGHT = 2f;
+    private static final float DESCRIPTION_WEIGHT = 1f;
+
+    // gram -> (spaceId -> 필드 가중치를 반영한 출현 빈도)
+    private final Map<String, Map<Long, Float>> postings = new HashMap<>();
+    private final Map<Long, Set<String>> gramsBySpace = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean ready = false;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        this.ready = true;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return gramsBySpace.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void index(SpaceSearchDocument document) {
+        Map<String, Float> weights = new HashMap<>();
+        addGrams(weights, document.getName(), NAME_WEIGHT);
+        addGrams(weights, document.getAddress(), ADDRESS_WEIGHT);
+        document.getTags().forEach(tag -> addGrams(weights, tag, TAG_WEIGHT));
+        document.getDescriptions().forEach(text -> addGrams(weights, text, DESCRIPTION_WEIGHT));
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(document.getSpaceId());
+            weights.forEach((gram, weight) ->
+                postings.computeIfAbsent(gram, key -> new HashMap<>()).put(document.getSpaceId(), weight));
+            gramsBySpace.put(document.getSpaceId(), weights.keySet());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long spaceId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(spaceId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어와 일치하는 공간 id 를 점수 높은 순(같으면 최신 id 순)으로 반환한다.
+     */
+    public List<Long> search(String keyword) {
+        Set<String> queryGrams = SpaceSearchTokenizer.queryGrams(keyword);
+        if (queryGrams.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Float>> lists = new ArrayList<>();
+            for (String gram : queryGrams) {
+                Map<Long, Float> posting = postings.get(gram);
+                if (posting == null) {
+                    return List.of();
+                }
+                lists.add(posting);
+            }
+
+            lists.sort(Comparator.comparingInt(Map::size));
+            int totalSpaces = gramsBySpace.size();
+
+            Map<Long, Double> scores = new HashMap<>();
+            candidates:
+            for (Long spaceId : lists.get(0).keySet()) {
+                double score = 0;
+                for (Map<Long, Float> posting : lists) {
+                    Float weight = posting.get(spaceId);
+                    if (weight == null) {
+                        continue candidates;
+                    }
+                    score += weight * Math.log(1 + (double) totalSpaces / posting.size());
+                }
+                scores.put(spaceId, score);
+            }
+
+            return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                    .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()))
+                .map(Map.Entry::getKey)
+                .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeInternal(Long spaceId) {
+        Set<String> grams = gramsBySpace.remove(spaceId);
+        if (grams == null) {
+            return;
+        }
+
+        for (String gram : grams) {
+            Map<Long, Float> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(spaceId);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static void addGrams(Map<String, Float> weights, String text, float fieldWeight) {
+        for (String gram : SpaceSearchTokenizer.indexGrams(text)) {
+            weights.merge(gram, fieldWeight, Float::sum);
+        }
+    }
+}
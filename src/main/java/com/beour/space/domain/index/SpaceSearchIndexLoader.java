@@ -0,0 +1,98 @@
+package com.beour.space.domain.index;
+
+import com.beour.space.domain.event.SpaceChangedEvent;
+import com.beour.space.domain.repository.DescriptionRepository;
+import com.beour.space.domain.repository.DescriptionSearchFields;
+import com.beour.space.domain.repository.SpaceRepository;
+import com.beour.space.domain.repository.SpaceSearchFields;
+import com.beour.space.domain.repository.SpaceTagContents;
+import com.beour.space.domain.repository.TagRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 기동 시 {@link SpaceSearchIndex} 를 채우고, 이후 공간 변경 이벤트마다 해당 공간 문서만 다시 색인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpaceSearchIndexLoader {
+
+    private final SpaceSearchIndex spaceSearchIndex;
+    private final SpaceRepository spaceRepository;
+    private final DescriptionRepository descriptionRepository;
+    private final TagRepository tagRepository;
+
+    private final Set<Long> changedWhileLoading = ConcurrentHashMap.newKeySet();
+    private final SpaceIndexRefreshLocks refreshLocks = new SpaceIndexRefreshLocks();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Map<Long, List<String>> tagsBySpace = tagRepository.findAllContents().stream()
+            .collect(Collectors.groupingBy(SpaceTagContents::getSpaceId,
+                Collectors.mapping(SpaceTagContents::getContents, Collectors.toList())));
+
+        Map<Long, List<String>> descriptionsBySpace = descriptionRepository.findAllSearchFields().stream()
+            .collect(Collectors.groupingBy(DescriptionSearchFields::getSpaceId,
+                Collectors.flatMapping(SpaceSearchIndexLoader::descriptionTexts, Collectors.toList())));
+
+        for (SpaceSearchFields space : spaceRepository.findAllSearchFields()) {
+            refreshLocks.run(space.getId(), () -> {
+                if (changedWhileLoading.contains(space.getId())) {
+                    return;
+                }
+
+                spaceSearchIndex.index(new SpaceSearchDocument(space.getId(), space.getName(),
+                    space.getAddress(), tagsBySpace.getOrDefault(space.getId(), List.of()),
+                    descriptionsBySpace.getOrDefault(space.getId(), List.of())));
+            });
+        }
+
+        spaceSearchIndex.markReady();
+        changedWhileLoading.clear();
+        log.info("Space search index loaded: {} spaces", spaceSearchIndex.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSpaceChanged(SpaceChangedEvent event) {
+        Long spaceId = event.getSpaceId();
+        if (!spaceSearchIndex.isReady()) {
+            changedWhileLoading.add(spaceId);
+        }
+
+        refreshLocks.run(spaceId, () -> spaceRepository.findSearchFieldsById(spaceId).ifPresentOrElse(
+            space -> spaceSearchIndex.index(toDocument(space)),
+            () -> spaceSearchIndex.remove(spaceId)));
+    }
+
+    private SpaceSearchDocument toDocument(SpaceSearchFields space) {
+        List<String> tags = tagRepository.findContentsBySpaceIds(List.of(space.getId())).stream()
+            .map(SpaceTagContents::getContents)
+            .toList();
+
+        List<String> descriptions = descriptionRepository.findSearchFieldsBySpaceId(space.getId()).stream()
+            .flatMap(SpaceSearchIndexLoader::descriptionTexts)
+            .toList();
+
+        return new SpaceSearchDocument(space.getId(), space.getName(), space.getAddress(), tags,
+            descriptions);
+    }
+
+    private static Stream<String> descriptionTexts(DescriptionSearchFields description) {
+        return Stream.of(description.getDescription(), description.getPriceGuide(),
+                description.getFacilityNotice(), description.getNotice(),
+                description.getLocationDescription(), description.getRefundPolicy())
+            .filter(Objects::nonNull);
+    }
+}
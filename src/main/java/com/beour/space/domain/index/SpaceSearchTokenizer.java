@@ -0,0 +1,63 @@
+package com.beour.space.domain.index;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 한국어 검색용 n-gram 토크나이저.
+ * 형태소 분석 없이도 부분 문자열 검색이 되도록 단어를 음절 바이그램으로 쪼갠다.
+ * 색인 쪽은 한 글자 검색어도 찾을 수 있게 유니그램을 함께 만든다.
+ */
+public final class SpaceSearchTokenizer {
+
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private SpaceSearchTokenizer() {
+    }
+
+    public static List<String> indexGrams(String text) {
+        List<String> grams = new ArrayList<>();
+        for (String word : words(text)) {
+            for (int i = 0; i < word.length(); i++) {
+                grams.add(word.substring(i, i + 1));
+                if (i + 1 < word.length()) {
+                    grams.add(word.substring(i, i + 2));
+                }
+            }
+        }
+
+        return grams;
+    }
+
+    public static Set<String> queryGrams(String keyword) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String word : words(keyword)) {
+            if (word.length() == 1) {
+                grams.add(word);
+                continue;
+            }
+
+            for (int i = 0; i + 1 < word.length(); i++) {
+                grams.add(word.substring(i, i + 2));
+            }
+        }
+
+        return grams;
+    }
+
+    private static List<String> words(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        return SEPARATOR.splitAsStream(normalized)
+            .filter(word -> !word.isEmpty())
+            .toList();
+    }
+}
@@ -0,0 +1,80 @@
+package com.beour.space.domain.listener;
+
+import com.beour.space.domain.entity.AvailableTime;
+import com.beour.space.domain.entity.Description;
+import com.beour.space.domain.entity.Space;
+import com.beour.space.domain.entity.Tag;
+import com.beour.space.domain.event.SpaceChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import java.util.HashSet;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 공간과 공간에 딸린 설명/태그/예약 가능 시간이 바뀌면 {@link SpaceChangedEvent} 를 발행한다.
+ * 이벤트 수신 측은 커밋 후 공간을 통째로 다시 읽으므로, 한 트랜잭션 안에서는 공간당 한 번만 발행한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SpaceEntityListener {
+
+    private static final Object PUBLISHED_SPACE_IDS_KEY = SpaceEntityListener.class.getName() + ".publishedSpaceIds";
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        Long spaceId = spaceIdOf(entity);
+        if (spaceId == null || alreadyPublishedInTransaction(spaceId)) {
+            return;
+        }
+
+        eventPublisher.publishEvent(new SpaceChangedEvent(spaceId));
+    }
+
+    private Long spaceIdOf(Object entity) {
+        if (entity instanceof Space space) {
+            return space.getId();
+        }
+        if (entity instanceof Tag tag && tag.getSpace() != null) {
+            return tag.getSpace().getId();
+        }
+        if (entity instanceof Description description && description.getSpace() != null) {
+            return description.getSpace().getId();
+        }
+        if (entity instanceof AvailableTime availableTime && availableTime.getSpace() != null) {
+            return availableTime.getSpace().getId();
+        }
+
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean alreadyPublishedInTransaction(Long spaceId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return false;
+        }
+
+        Set<Long> publishedSpaceIds = (Set<Long>) TransactionSynchronizationManager.getResource(PUBLISHED_SPACE_IDS_KEY);
+        if (publishedSpaceIds == null) {
+            publishedSpaceIds = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(PUBLISHED_SPACE_IDS_KEY, publishedSpaceIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PUBLISHED_SPACE_IDS_KEY);
+                }
+            });
+        }
+
+        return !publishedSpaceIds.add(spaceId);
+    }
+}
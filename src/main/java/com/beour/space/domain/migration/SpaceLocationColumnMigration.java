@@ -0,0 +1,80 @@
+package com.beour.space.domain.migration;
+
+import java.sql.DatabaseMetaData;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * space 테이블에 위경도로 계산되는 SRID 4326 POINT 생성 컬럼(location)과 SPATIAL INDEX 를 추가한다.
+ * ddl-auto 가 다루지 못하는 DDL 이라 기동 시 직접 확인하고, 이미 있으면 아무것도 하지 않는다.
+ *
+ * <p>STORED 생성 컬럼이라 컬럼을 추가할 때 기존 행의 값도 함께 채워진다.
+ * SPATIAL INDEX 컬럼은 NOT NULL 이어야 하므로 좌표가 없거나 범위를 벗어난 행은 (0, 0) 으로 두고,
+ * 조회 쿼리에서 위경도 조건으로 한 번 더 거른다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpaceLocationColumnMigration implements ApplicationRunner {
+
+    // 4326 의 경도 범위는 (-180, 180] 이다.
+    private static final String LOCATION_EXPRESSION = """
+        IF(latitude BETWEEN -90 AND 90 AND longitude > -180 AND longitude <= 180,
+           ST_SRID(POINT(longitude, latitude), 4326),
+           ST_SRID(POINT(0, 0), 4326))""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!supportsSridColumns()) {
+            log.info("Skipped space location column migration: MySQL 8 or later is required");
+            return;
+        }
+
+        if (!columnExists()) {
+            jdbcTemplate.execute("ALTER TABLE space ADD COLUMN location POINT SRID 4326 "
+                + "GENERATED ALWAYS AS (" + LOCATION_EXPRESSION + ") STORED NOT NULL");
+            log.info("Added space.location column");
+        }
+
+        if (!indexExists()) {
+            jdbcTemplate.execute("ALTER TABLE space ADD SPATIAL INDEX spx_space_location (location)");
+            log.info("Added space.location spatial index");
+        }
+    }
+
+    private boolean supportsSridColumns() {
+        try {
+            return Boolean.TRUE.equals(JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(),
+                (DatabaseMetaData metaData) -> "MySQL".equals(metaData.getDatabaseProductName())
+                    && metaData.getDatabaseMajorVersion() >= 8));
+        } catch (Exception e) {
+            log.warn("Could not read database metadata", e);
+            return false;
+        }
+    }
+
+    private boolean columnExists() {
+        Integer count = jdbcTemplate.queryForObject("""
+            SELECT COUNT(*)
+            FROM information_schema.columns
+            WHERE table_schema = DATABASE() AND table_name = 'space' AND column_name = 'location'
+            """, Integer.class);
+        return count != null && count > 0;
+    }
+
+    private boolean indexExists() {
+        Integer count = jdbcTemplate.queryForObject("""
+            SELECT COUNT(*)
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE() AND table_name = 'space' AND index_name = 'spx_space_location'
+            """, Integer.class);
+        return count != null && count > 0;
+    }
+}
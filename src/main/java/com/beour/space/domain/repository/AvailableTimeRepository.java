@@ -2,9 +2,14 @@ package com.beour.space.domain.repository;
 
 import com.beour.space.domain.entity.AvailableTime;
 import com.beour.space.domain.entity.Space;
+import jakarta.persistence.LockModeType;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 
 public interface AvailableTimeRepository extends JpaRepository<AvailableTime, Long> {
@@ -13,4 +18,29 @@ public interface AvailableTimeRepository extends JpaRepository<AvailableTime, Lo
 
     Optional<AvailableTime> findBySpaceIdAndDateAndDeletedAtIsNull(Long spaceId, LocalDate date);
 
+    List<AvailableTime> findBySpaceIdAndDateBetweenAndDeletedAtIsNull(Long spaceId, LocalDate from, LocalDate to);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT a FROM AvailableTime a
+        WHERE a.space.id = :spaceId AND a.date = :date AND a.deletedAt IS NULL
+        """)
+    Optional<AvailableTime> findBySpaceIdAndDateForUpdate(@Param("spaceId") Long spaceId,
+        @Param("date") LocalDate date);
+
+    @Query("""
+        SELECT a.space.id AS spaceId, a.date AS date
+        FROM AvailableTime a
+        WHERE a.date >= :from AND a.deletedAt IS NULL
+        """)
+    List<SpaceAvailableDate> findAvailableDatesFrom(@Param("from") LocalDate from);
+
+    @Query("""
+        SELECT a.space.id AS spaceId, a.date AS date
+        FROM AvailableTime a
+        WHERE a.space.id = :spaceId AND a.date >= :from AND a.deletedAt IS NULL
+        """)
+    List<SpaceAvailableDate> findAvailableDatesBySpaceIdFrom(@Param("spaceId") Long spaceId,
+        @Param("from") LocalDate from);
+
 }
@@ -1,8 +1,27 @@
 package com.beour.space.domain.repository;
 
 import com.beour.space.domain.entity.Description;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface DescriptionRepository extends JpaRepository<Description, Long> {
+public interface DescriptionRepository extends JpaRepository<Description, Long>, DescriptionRepositoryCustom {
 
+    @Query("""
+        SELECT d.space.id AS spaceId, d.description AS description, d.priceGuide AS priceGuide,
+               d.facilityNotice AS facilityNotice, d.notice AS notice,
+               d.locationDescription AS locationDescription, d.refundPolicy AS refundPolicy
+        FROM Description d
+        """)
+    List<DescriptionSearchFields> findAllSearchFields();
+
+    @Query("""
+        SELECT d.space.id AS spaceId, d.description AS description, d.priceGuide AS priceGuide,
+               d.facilityNotice AS facilityNotice, d.notice AS notice,
+               d.locationDescription AS locationDescription, d.refundPolicy AS refundPolicy
+        FROM Description d
+        WHERE d.space.id = :spaceId
+        """)
+    List<DescriptionSearchFields> findSearchFieldsBySpaceId(@Param("spaceId") Long spaceId);
 }
@@ -0,0 +1,11 @@
+package com.beour.space.domain.repository;
+
+import com.beour.space.domain.entity.Description;
+import com.beour.space.domain.entity.Space;
+import java.util.Optional;
+
+public interface DescriptionRepositoryCustom {
+
+    // 공간 -> 설명 id 해석과 설명 본문을 모두 2차 캐시에서 먼저 찾는다. 쿼리 메서드는 항상 DB 로 가므로 따로 둔다.
+    Optional<Description> findCachedBySpace(Space space);
+}
@@ -0,0 +1,23 @@
+package com.beour.space.domain.repository;
+
+import com.beour.space.domain.entity.Description;
+import com.beour.space.domain.entity.Space;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.Optional;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+public class DescriptionRepositoryCustomImpl implements DescriptionRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Description> findCachedBySpace(Space space) {
+        return entityManager.unwrap(Session.class)
+            .bySimpleNaturalId(Description.class)
+            .loadOptional(space);
+    }
+}
@@ -0,0 +1,18 @@
+package com.beour.space.domain.repository;
+
+public interface DescriptionSearchFields {
+
+    Long getSpaceId();
+
+    String getDescription();
+
+    String getPriceGuide();
+
+    String getFacilityNotice();
+
+    String getNotice();
+
+    String getLocationDescription();
+
+    String getRefundPolicy();
+}
@@ -0,0 +1,14 @@
+package com.beour.space.domain.repository;
+
+import com.beour.space.domain.entity.GeocodeCache;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface GeocodeCacheRepository extends JpaRepository<GeocodeCache, Long> {
+
+    Optional<GeocodeCache> findByAddress(String address);
+
+    List<GeocodeCache> findByAddressIn(Collection<String> addresses);
+}
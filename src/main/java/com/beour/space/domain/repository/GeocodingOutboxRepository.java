@@ -0,0 +1,22 @@
+package com.beour.space.domain.repository;
+
+import com.beour.space.domain.entity.GeocodingOutbox;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface GeocodingOutboxRepository extends JpaRepository<GeocodingOutbox, Long> {
+
+    Optional<GeocodingOutbox> findBySpaceId(Long spaceId);
+
+    List<GeocodingOutbox> findByNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(long now, Pageable pageable);
+
+    // 처리하는 동안 주소가 바뀌었으면 지우지 않는다.
+    @Modifying
+    @Query("DELETE FROM GeocodingOutbox o WHERE o.id = :id AND o.address = :address")
+    int deleteByIdAndAddress(@Param("id") Long id, @Param("address") String address);
+}
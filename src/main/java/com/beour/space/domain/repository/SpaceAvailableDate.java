@@ -0,0 +1,10 @@
+package com.beour.space.domain.repository;
+
+import java.time.LocalDate;
+
+public interface SpaceAvailableDate {
+
+    Long getSpaceId();
+
+    LocalDate getDate();
+}
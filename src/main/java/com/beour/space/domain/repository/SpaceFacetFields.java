@@ -0,0 +1,19 @@
+package com.beour.space.domain.repository;
+
+import com.beour.space.domain.enums.SpaceCategory;
+import com.beour.space.domain.enums.UseCategory;
+
+public interface SpaceFacetFields {
+
+    Long getId();
+
+    SpaceCategory getSpaceCategory();
+
+    UseCategory getUseCategory();
+
+    int getPricePerHour();
+
+    int getMaxCapacity();
+
+    String getAddress();
+}
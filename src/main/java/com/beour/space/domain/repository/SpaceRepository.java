@@ -3,49 +3,90 @@ package com.beour.space.domain.repository;
 import com.beour.space.domain.entity.Space;
 import com.beour.space.domain.enums.SpaceCategory;
 import com.beour.space.domain.enums.UseCategory;
+import com.beour.space.domain.index.SpaceLocation;
+import com.beour.space.domain.util.GeoBoundingBox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import com.beour.user.entity.User;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 
 public interface SpaceRepository extends JpaRepository<Space, Long> {
 
+    // 공간 인덱스(spx_space_location)로 반경을 감싸는 사각형 안의 후보만 고른 뒤 정확한 거리로 거른다.
+    // 좌표가 없거나 범위를 벗어난 행은 location 이 (0, 0) 이므로 위경도 조건으로 한 번 더 제외한다.
+    // 전체 개수 대신 다음 페이지 유무만 확인한다(Slice).
     @Query(value = """
-        SELECT *
+        SELECT s.*
         FROM space s
         WHERE s.deleted_at IS NULL
+          AND MBRContains(ST_GeomFromText(:boundingBox, 4326, 'axis-order=long-lat'), s.location)
+          AND s.latitude BETWEEN -90 AND 90
+          AND s.longitude > -180 AND s.longitude <= 180
           AND ST_Distance_Sphere(POINT(s.longitude, s.latitude), POINT(:longitude, :latitude)) <= :radius
-        ORDER BY ST_Distance_Sphere(POINT(s.longitude, s.latitude), POINT(:longitude, :latitude)) ASC
+        ORDER BY ST_Distance_Sphere(POINT(s.longitude, s.latitude), POINT(:longitude, :latitude)) ASC, s.id ASC
         """, nativeQuery = true)
-    List<Space> findAllWithinDistance(@Param("latitude") double latitude,
+    Slice<Space> findWithinBoundingBox(@Param("latitude") double latitude,
         @Param("longitude") double longitude,
-        @Param("radius") double radiusInMeters);
+        @Param("radius") double radiusInMeters,
+        @Param("boundingBox") String boundingBoxWkt,
+        Pageable pageable);
 
+    default Slice<Space> findAllWithinDistance(double latitude, double longitude, double radiusInMeters,
+        Pageable pageable) {
+        return findWithinBoundingBox(latitude, longitude, radiusInMeters,
+            GeoBoundingBox.around(latitude, longitude, radiusInMeters).toWkt(), pageable);
+    }
+
+    // 커서로 받은 공간의 거리를 같은 식으로 다시 계산해 (거리, id) 순서에서 그 뒤의 행만 읽는다.
+    // 커서의 공간이 사라졌으면 커서에 담긴 거리로 대신 비교한다.
     @Query(value = """
-        SELECT *
+        SELECT s.*
         FROM space s
         WHERE s.deleted_at IS NULL
+          AND MBRContains(ST_GeomFromText(:boundingBox, 4326, 'axis-order=long-lat'), s.location)
+          AND s.latitude BETWEEN -90 AND 90
+          AND s.longitude > -180 AND s.longitude <= 180
           AND ST_Distance_Sphere(POINT(s.longitude, s.latitude), POINT(:longitude, :latitude)) <= :radius
-        ORDER BY ST_Distance_Sphere(POINT(s.longitude, s.latitude), POINT(:longitude, :latitude)) ASC
-        """,
-        countQuery = """
-            SELECT COUNT(*)
-            FROM space s
-            WHERE s.deleted_at IS NULL
-              AND ST_Distance_Sphere(POINT(s.longitude, s.latitude), POINT(:longitude, :latitude)) <= :radius
-            """,
-        nativeQuery = true)
-    Page<Space> findAllWithinDistanceWithPaging(@Param("latitude") double latitude,
+          AND (ST_Distance_Sphere(POINT(s.longitude, s.latitude), POINT(:longitude, :latitude)), s.id) > (
+              COALESCE((SELECT ST_Distance_Sphere(POINT(a.longitude, a.latitude), POINT(:longitude, :latitude))
+                        FROM space a WHERE a.id = :afterId), :afterDistance), :afterId)
+        ORDER BY ST_Distance_Sphere(POINT(s.longitude, s.latitude), POINT(:longitude, :latitude)) ASC, s.id ASC
+        """, nativeQuery = true)
+    Slice<Space> findWithinBoundingBoxAfter(@Param("latitude") double latitude,
         @Param("longitude") double longitude,
         @Param("radius") double radiusInMeters,
+        @Param("boundingBox") String boundingBoxWkt,
+        @Param("afterDistance") double afterDistance,
+        @Param("afterId") long afterId,
         Pageable pageable);
 
+    default Slice<Space> findAllWithinDistanceAfter(double latitude, double longitude,
+        double radiusInMeters, double afterDistance, long afterId, Pageable pageable) {
+        return findWithinBoundingBoxAfter(latitude, longitude, radiusInMeters,
+            GeoBoundingBox.around(latitude, longitude, radiusInMeters).toWkt(), afterDistance,
+            afterId, pageable);
+    }
+
     @Query(value = """
         SELECT DISTINCT s.*
         FROM space s
@@ -69,12 +110,152 @@ public interface SpaceRepository extends JpaRepository<Space, Long> {
 
     Page<Space> findByHostAndDeletedAtIsNull(User host, Pageable pageable);
 
+    @Query("""
+        SELECT s FROM Space s
+        WHERE s.host = :host AND s.deletedAt IS NULL
+        ORDER BY s.createdAt ASC, s.id ASC
+        """)
+    Slice<Space> findFirstHostSpaceSlice(@Param("host") User host, Pageable pageable);
+
+    @Query("""
+        SELECT s FROM Space s
+        WHERE s.host = :host AND s.deletedAt IS NULL
+          AND (s.createdAt > :createdAt OR (s.createdAt = :createdAt AND s.id > :id))
+        ORDER BY s.createdAt ASC, s.id ASC
+        """)
+    Slice<Space> findHostSpaceSliceAfter(@Param("host") User host,
+        @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
     List<Space> findTop5ByDeletedAtIsNullOrderByCreatedAtDesc();
 
     Optional<Space> findByIdAndDeletedAtIsNull(Long id);
 
+    boolean existsByIdAndDeletedAtIsNull(Long id);
+
+    List<Space> findByIdInAndDeletedAtIsNull(Collection<Long> ids);
+
+    Page<Space> findByIdInAndDeletedAtIsNull(Collection<Long> ids, Pageable pageable);
+
+    @Query("""
+        SELECT new com.beour.space.domain.index.SpaceLocation(s.id, s.latitude, s.longitude,
+            s.pricePerHour, s.maxCapacity)
+        FROM Space s
+        WHERE s.deletedAt IS NULL
+          AND s.latitude IS NOT NULL
+          AND s.longitude IS NOT NULL
+        """)
+    List<SpaceLocation> findAllLocations();
+
+    @Query("""
+        SELECT new com.beour.space.domain.index.SpaceLocation(s.id, s.latitude, s.longitude,
+            s.pricePerHour, s.maxCapacity)
+        FROM Space s
+        WHERE s.id = :id
+          AND s.deletedAt IS NULL
+          AND s.latitude IS NOT NULL
+          AND s.longitude IS NOT NULL
+        """)
+    Optional<SpaceLocation> findLocationById(@Param("id") Long id);
+
+    @Query("""
+        SELECT s.id AS id, s.name AS name, s.address AS address
+        FROM Space s
+        WHERE s.deletedAt IS NULL
+        """)
+    List<SpaceSearchFields> findAllSearchFields();
+
+    @Query("""
+        SELECT s.id AS id, s.name AS name, s.address AS address
+        FROM Space s
+        WHERE s.id = :id AND s.deletedAt IS NULL
+        """)
+    Optional<SpaceSearchFields> findSearchFieldsById(@Param("id") Long id);
+
+    @Query("""
+        SELECT s.id AS id, s.spaceCategory AS spaceCategory, s.useCategory AS useCategory,
+               s.pricePerHour AS pricePerHour, s.maxCapacity AS maxCapacity, s.address AS address
+        FROM Space s
+        WHERE s.deletedAt IS NULL
+        """)
+    List<SpaceFacetFields> findAllFacetFields();
+
+    @Query("""
+        SELECT s.id AS id, s.spaceCategory AS spaceCategory, s.useCategory AS useCategory,
+               s.pricePerHour AS pricePerHour, s.maxCapacity AS maxCapacity, s.address AS address
+        FROM Space s
+        WHERE s.id = :id AND s.deletedAt IS NULL
+        """)
+    Optional<SpaceFacetFields> findFacetFieldsById(@Param("id") Long id);
+
+    /**
+     * 메모리 인덱스가 정한 순서의 id 목록에서 한 페이지만 잘라 조회하고, 그 순서대로 돌려준다.
+     * 요청에 정렬이 있으면 인덱스 순서 대신 그 정렬로 DB 에서 페이지를 나눈다.
+     */
+    default Page<Space> findPageByOrderedIds(List<Long> orderedIds, Pageable pageable) {
+        if (pageable.getSort().isSorted()) {
+            return orderedIds.isEmpty()
+                ? new PageImpl<>(List.of(), pageable, 0)
+                : findByIdInAndDeletedAtIsNull(orderedIds, pageable);
+        }
+
+        int fromIndex = (int) Math.min(pageable.getOffset(), orderedIds.size());
+        int toIndex = Math.min(fromIndex + pageable.getPageSize(), orderedIds.size());
+        List<Long> pageIds = orderedIds.subList(fromIndex, toIndex);
+        if (pageIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, orderedIds.size());
+        }
+
+        Map<Long, Space> spaceById = findByIdInAndDeletedAtIsNull(pageIds).stream()
+            .collect(Collectors.toMap(Space::getId, Function.identity()));
+
+        List<Space> spaces = pageIds.stream()
+            .map(spaceById::get)
+            .filter(Objects::nonNull)
+            .toList();
+
+        return new PageImpl<>(spaces, pageable, orderedIds.size());
+    }
+
+    // 리뷰 집계를 고치기 전에 공간 행을 잠그고 최신 값으로 읽는다. JPQL 벌크 UPDATE 는 space 리전 전체를 비우므로
+    // 잠근 엔티티를 고쳐 해당 공간의 캐시 항목만 갱신되게 한다.
+    // 이미 영속성 컨텍스트에 올라온 공간은 다시 읽지 않으므로 같은 트랜잭션에서 공간을 읽기 전에 호출한다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Space s WHERE s.id = :id")
+    Optional<Space> findByIdForUpdate(@Param("id") Long id);
+
+    // 네이티브 UPDATE 는 대상 테이블을 알려주지 않으면 2차 캐시 전체를 비운다.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "space"))
+    @Query(value = """
+        UPDATE space s
+        LEFT JOIN (
+            SELECT r.space_id, COUNT(*) AS review_count, SUM(r.rating) AS rating_sum
+            FROM review r
+            WHERE r.deleted_at IS NULL
+            GROUP BY r.space_id
+        ) stats ON stats.space_id = s.id
+        SET s.review_count = COALESCE(stats.review_count, 0),
+            s.rating_sum = COALESCE(stats.rating_sum, 0),
+            s.avg_rating = COALESCE(stats.rating_sum / stats.review_count, 0)
+        WHERE s.review_count <> COALESCE(stats.review_count, 0)
+           OR s.rating_sum <> COALESCE(stats.rating_sum, 0)
+           OR s.avg_rating IS NULL
+           OR ABS(s.avg_rating - COALESCE(stats.rating_sum / stats.review_count, 0)) > 0.0001
+        """, nativeQuery = true)
+    int reconcileReviewStats();
+
     List<Space> findByHostAndDeletedAtIsNull(User host);
 
+    // 좌표가 비어 있는 공간을 id 순으로 lastId 다음부터 조회 (좌표 일괄 보정용)
+    @Query("""
+        SELECT s FROM Space s
+        WHERE s.id > :lastId
+          AND s.deletedAt IS NULL
+          AND (s.latitude IS NULL OR s.longitude IS NULL)
+        ORDER BY s.id
+        """)
+    List<Space> findMissingCoordinatesAfter(@Param("lastId") Long lastId, Pageable pageable);
+
     @Query(value = """
         SELECT DISTINCT s.*
         FROM space s
@@ -149,4 +330,36 @@ public interface SpaceRepository extends JpaRepository<Space, Long> {
         @Param("date") LocalDate date,
         Pageable pageable
     );
+
+    // 키워드는 검색 인덱스에서 먼저 공간 id 로 좁힌 뒤 나머지 조건만 DB 에서 거른다.
+    // 순서와 페이지는 호출하는 쪽이 검색 인덱스의 순위대로 정하므로 통과한 id 만 돌려준다.
+    @Query(value = """
+        SELECT s.id
+        FROM space s
+        WHERE s.id IN (:spaceIds)
+        AND s.deleted_at IS NULL
+        AND (:minPrice IS NULL OR s.price_per_hour >= :minPrice)
+        AND (:maxPrice IS NULL OR s.price_per_hour <= :maxPrice)
+        AND (:address IS NULL OR s.address LIKE %:address%)
+        AND (:minCapacity IS NULL OR s.max_capacity >= :minCapacity)
+        AND (:spaceCategories IS NULL OR s.space_category IN (:spaceCategories))
+        AND (:useCategories IS NULL OR s.use_category IN (:useCategories))
+        AND (
+            :date IS NULL OR EXISTS (
+                SELECT 1 FROM available_time at
+                WHERE at.space_id = s.id AND at.date = :date AND at.deleted_at IS NULL
+            )
+        )
+        """,
+        nativeQuery = true)
+    List<Long> findIdsWithFilteringAmong(
+        @Param("spaceIds") Collection<Long> spaceIds,
+        @Param("minPrice") Integer minPrice,
+        @Param("maxPrice") Integer maxPrice,
+        @Param("address") String address,
+        @Param("minCapacity") Integer minCapacity,
+        @Param("spaceCategories") List<String> spaceCategories,
+        @Param("useCategories") List<String> useCategories,
+        @Param("date") LocalDate date
+    );
 }
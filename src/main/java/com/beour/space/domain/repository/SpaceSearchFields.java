@@ -0,0 +1,10 @@
+package com.beour.space.domain.repository;
+
+public interface SpaceSearchFields {
+
+    Long getId();
+
+    String getName();
+
+    String getAddress();
+}
@@ -0,0 +1,126 @@
+package com.beour.space.domain.scheduler;
+
+import com.beour.global.exception.error.errorcode.KakaoMapErrorCode;
+import com.beour.global.exception.exceptionType.KakaoMapException;
+import com.beour.space.domain.entity.GeocodingOutbox;
+import com.beour.space.domain.entity.Space;
+import com.beour.space.domain.repository.GeocodingOutboxRepository;
+import com.beour.space.domain.repository.SpaceRepository;
+import com.beour.space.host.service.KakaoMapService;
+import com.beour.space.host.service.KakaoMapService.Coordinate;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * geocoding_outbox 에 쌓인 주소를 좌표로 바꿔 공간에 반영한다.
+ * 카카오맵 API 호출은 트랜잭션 밖에서 하고, 결과 반영만 짧은 트랜잭션으로 처리한다.
+ * 공간 좌표가 바뀌면 SpaceEntityListener 를 거쳐 좌표 인덱스도 갱신된다.
+ *
+ * <p>여러 서버가 같은 행을 처리하더라도 좌표 반영은 멱등이고, 처리 중 주소가 바뀐 행은 반영하지 않는다.
+ * 변환을 포기한 공간은 geocodingFailed 로 남겨 호스트에게 보여 주고, 사유별로 space.geocoding.failures 를 센다.
+ */
+@Slf4j
+@Component
+public class GeocodingOutboxWorker {
+
+    private static final int MAX_BACKOFF_SHIFT = 10;
+    private static final String FAILURE_METRIC = "space.geocoding.failures";
+
+    private final GeocodingOutboxRepository geocodingOutboxRepository;
+    private final SpaceRepository spaceRepository;
+    private final KakaoMapService kakaoMapService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+
+    public GeocodingOutboxWorker(GeocodingOutboxRepository geocodingOutboxRepository,
+        SpaceRepository spaceRepository, KakaoMapService kakaoMapService, TransactionTemplate transactionTemplate,
+        MeterRegistry meterRegistry,
+        @Value("${space.geocoding-outbox.batch-size:50}") int batchSize,
+        @Value("${space.geocoding-outbox.max-attempts:8}") int maxAttempts,
+        @Value("${space.geocoding-outbox.retry-backoff:30s}") Duration retryBackoff) {
+        this.geocodingOutboxRepository = geocodingOutboxRepository;
+        this.spaceRepository = spaceRepository;
+        this.kakaoMapService = kakaoMapService;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+    }
+
+    @Scheduled(fixedDelayString = "${space.geocoding-outbox.poll-delay-millis:5000}",
+        initialDelayString = "${space.geocoding-outbox.poll-delay-millis:5000}")
+    public void process() {
+        List<GeocodingOutbox> due = geocodingOutboxRepository.findByNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+            System.currentTimeMillis(), PageRequest.ofSize(batchSize));
+
+        for (GeocodingOutbox outbox : due) {
+            Coordinate coordinate;
+            try {
+                coordinate = kakaoMapService.getCoordinatesByAddress(outbox.getAddress());
+            } catch (KakaoMapException e) {
+                if (KakaoMapErrorCode.API_UNAVAILABLE.getCode().equals(e.getErrorCode())) {
+                    // 서킷 브레이커가 닫힐 때까지 다음 주기로 미룬다.
+                    return;
+                }
+                transactionTemplate.executeWithoutResult(status -> handleFailure(outbox, e));
+                continue;
+            }
+
+            transactionTemplate.executeWithoutResult(status -> complete(outbox, coordinate));
+        }
+    }
+
+    private void complete(GeocodingOutbox outbox, Coordinate coordinate) {
+        if (geocodingOutboxRepository.deleteByIdAndAddress(outbox.getId(), outbox.getAddress()) == 0) {
+            return;
+        }
+
+        spaceRepository.findById(outbox.getSpaceId())
+            .filter(space -> outbox.getAddress().equals(space.getAddress()))
+            .ifPresent(space -> space.updateCoordinates(coordinate.getLatitude(), coordinate.getLongitude()));
+    }
+
+    // 주소를 찾을 수 없거나 재시도 횟수를 넘기면 포기하고, 그 외에는 간격을 늘려 다시 시도한다.
+    private void handleFailure(GeocodingOutbox outbox, KakaoMapException e) {
+        boolean retryable = e.getErrorCode() >= 500 && outbox.getAttempts() + 1 < maxAttempts;
+        if (!retryable) {
+            if (geocodingOutboxRepository.deleteByIdAndAddress(outbox.getId(), outbox.getAddress()) == 1) {
+                String reason = failureReasonOf(e);
+                log.warn("Gave up geocoding space {} ({}) after {} attempts, reason {}: {}", outbox.getSpaceId(),
+                    outbox.getAddress(), outbox.getAttempts() + 1, reason, e.getMessage());
+                meterRegistry.counter(FAILURE_METRIC, "reason", reason).increment();
+                spaceRepository.findById(outbox.getSpaceId())
+                    .filter(space -> outbox.getAddress().equals(space.getAddress()))
+                    .ifPresent(Space::failGeocoding);
+            }
+            return;
+        }
+
+        long backoffMillis = retryBackoff.toMillis() << Math.min(outbox.getAttempts(), MAX_BACKOFF_SHIFT);
+        geocodingOutboxRepository.findById(outbox.getId())
+            .filter(current -> current.getAddress().equals(outbox.getAddress()))
+            .ifPresent(current -> current.retryAt(System.currentTimeMillis() + backoffMillis));
+    }
+
+    private static String failureReasonOf(KakaoMapException e) {
+        if (KakaoMapErrorCode.ADDRESS_NOT_FOUND.getCode().equals(e.getErrorCode())) {
+            return "address_not_found";
+        }
+        if (KakaoMapErrorCode.INVALID_ADDRESS_FORMAT.getCode().equals(e.getErrorCode())) {
+            return "invalid_address";
+        }
+
+        return "max_attempts";
+    }
+}
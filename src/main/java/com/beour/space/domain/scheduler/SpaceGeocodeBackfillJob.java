@@ -0,0 +1,96 @@
+package com.beour.space.domain.scheduler;
+
+import com.beour.global.exception.exceptionType.KakaoMapException;
+import com.beour.space.domain.entity.Space;
+import com.beour.space.domain.repository.SpaceRepository;
+import com.beour.space.host.service.KakaoMapService;
+import com.beour.space.host.service.KakaoMapService.Coordinate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 좌표가 비어 있는 공간의 위도/경도를 주소로 일괄 채운다.
+ * 좌표 조회는 트랜잭션 밖에서 묶음 단위로 하고, 좌표를 얻은 공간만 짧은 트랜잭션으로 갱신한다.
+ * 좌표를 찾지 못한 공간은 다음 실행 때 다시 시도한다.
+ */
+@Slf4j
+@Component
+public class SpaceGeocodeBackfillJob {
+
+    private final SpaceRepository spaceRepository;
+    private final KakaoMapService kakaoMapService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public SpaceGeocodeBackfillJob(SpaceRepository spaceRepository, KakaoMapService kakaoMapService,
+        TransactionTemplate transactionTemplate,
+        @Value("${space.geocode-backfill.batch-size:100}") int batchSize) {
+        this.spaceRepository = spaceRepository;
+        this.kakaoMapService = kakaoMapService;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${space.geocode-backfill.cron:0 30 3 * * *}")
+    public void backfill() {
+        long lastId = 0L;
+        int updated = 0;
+
+        while (true) {
+            List<Space> spaces = spaceRepository.findMissingCoordinatesAfter(lastId, PageRequest.ofSize(batchSize));
+            if (spaces.isEmpty()) {
+                break;
+            }
+            lastId = spaces.get(spaces.size() - 1).getId();
+
+            Map<String, Coordinate> coordinates;
+            try {
+                coordinates = kakaoMapService.getCoordinatesByAddresses(
+                    spaces.stream().map(Space::getAddress).toList());
+            } catch (KakaoMapException e) {
+                log.warn("Stopped geocode backfill at space {}: {}", lastId, e.getMessage());
+                break;
+            }
+
+            Map<Long, Coordinate> coordinatesBySpaceId = spaces.stream()
+                .filter(space -> space.getAddress() != null && coordinates.containsKey(space.getAddress()))
+                .collect(Collectors.toMap(Space::getId, space -> coordinates.get(space.getAddress())));
+            updated += updateCoordinates(coordinatesBySpaceId);
+        }
+
+        if (updated > 0) {
+            log.info("Backfilled coordinates of {} spaces", updated);
+        }
+    }
+
+    private int updateCoordinates(Map<Long, Coordinate> coordinatesBySpaceId) {
+        if (coordinatesBySpaceId.isEmpty()) {
+            return 0;
+        }
+
+        return transactionTemplate.execute(status -> {
+            Map<Long, Space> spaces = spaceRepository.findAllById(coordinatesBySpaceId.keySet()).stream()
+                .collect(Collectors.toMap(Space::getId, Function.identity()));
+
+            int count = 0;
+            for (Map.Entry<Long, Coordinate> entry : coordinatesBySpaceId.entrySet()) {
+                Space space = spaces.get(entry.getKey());
+                // 조회 이후 주소가 수정되어 좌표가 이미 채워진 경우는 건너뛴다.
+                if (space == null || (space.getLatitude() != null && space.getLongitude() != null)) {
+                    continue;
+                }
+                space.updateCoordinates(entry.getValue().getLatitude(), entry.getValue().getLongitude());
+                count++;
+            }
+            return count;
+        });
+    }
+}
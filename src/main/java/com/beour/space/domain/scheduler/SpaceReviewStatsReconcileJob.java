@@ -0,0 +1,33 @@
+package com.beour.space.domain.scheduler;
+
+import com.beour.space.domain.repository.SpaceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 리뷰 증분 갱신이 누락되거나 리뷰가 직접 삭제된 경우를 대비해
+ * Space 의 리뷰 수/별점 합계/평균 별점을 리뷰 테이블 기준으로 일괄 재계산한다.
+ * 컬럼이 새로 추가된 직후에도 목록이 0 을 보이지 않도록 기동 시에도 한 번 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpaceReviewStatsReconcileJob {
+
+    private final SpaceRepository spaceRepository;
+
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${space.review-stats.reconcile-cron:0 0 4 * * *}")
+    public void reconcile() {
+        int updated = spaceRepository.reconcileReviewStats();
+        if (updated > 0) {
+            log.info("Reconciled review stats of {} spaces", updated);
+        }
+    }
+}
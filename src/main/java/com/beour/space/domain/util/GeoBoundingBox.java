@@ -0,0 +1,45 @@
+package com.beour.space.domain.util;
+
+import java.util.Locale;
+
+/**
+ * 반경 검색용 위경도 사각형. 공간 인덱스(MBRContains)로 후보를 먼저 좁히고
+ * 정확한 거리(ST_Distance_Sphere)는 후보에만 계산하기 위해 쓴다.
+ */
+public record GeoBoundingBox(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude) {
+
+    // ST_Distance_Sphere 와 같은 지구 반지름
+    private static final double EARTH_RADIUS_METERS = 6370986.0;
+    private static final double METERS_PER_DEGREE = Math.PI * EARTH_RADIUS_METERS / 180.0;
+
+    // 경계에 걸친 점이 MBRContains 에서 빠지지 않도록 조금 넓힌다.
+    private static final double MARGIN_DEGREES = 1e-6;
+
+    public static GeoBoundingBox around(double latitude, double longitude, double radiusMeters) {
+        double latitudeDelta = radiusMeters / METERS_PER_DEGREE + MARGIN_DEGREES;
+        double minLatitude = Math.max(-90, latitude - latitudeDelta);
+        double maxLatitude = Math.min(90, latitude + latitudeDelta);
+
+        // 극점이 범위에 들어가거나 날짜변경선을 넘으면 경도 전체를 본다.
+        double widestCos = Math.cos(Math.toRadians(Math.max(Math.abs(minLatitude), Math.abs(maxLatitude))));
+        double longitudeDelta = widestCos <= 0 ? 180 : latitudeDelta / widestCos;
+        if (longitudeDelta >= 180 || longitude - longitudeDelta < -180 || longitude + longitudeDelta > 180) {
+            return new GeoBoundingBox(minLatitude, maxLatitude, -180, 180);
+        }
+
+        return new GeoBoundingBox(minLatitude, maxLatitude, longitude - longitudeDelta, longitude + longitudeDelta);
+    }
+
+    /**
+     * 경도-위도 순서의 WKT POLYGON. ST_GeomFromText(wkt, 4326, 'axis-order=long-lat') 로 읽는다.
+     */
+    public String toWkt() {
+        return String.format(Locale.ROOT, "POLYGON((%1$.7f %3$.7f, %2$.7f %3$.7f, %2$.7f %4$.7f, %1$.7f %4$.7f, %1$.7f %3$.7f))",
+            minLongitude, maxLongitude, minLatitude, maxLatitude);
+    }
+
+    public boolean contains(double latitude, double longitude) {
+        return minLatitude <= latitude && latitude <= maxLatitude
+            && minLongitude <= longitude && longitude <= maxLongitude;
+    }
+}
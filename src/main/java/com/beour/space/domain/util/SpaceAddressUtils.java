@@ -0,0 +1,49 @@
+package com.beour.space.domain.util;
+
+/**
+ * 공간 목록, 카드에 보여줄 짧은 주소를 만든다.
+ * 목록 한 페이지마다 공간 수만큼 호출되므로 split 배열을 만들지 않고 공백 위치로 잘라낸다.
+ */
+public final class SpaceAddressUtils {
+
+    private SpaceAddressUtils() {
+    }
+
+    /**
+     * "서울특별시 강남구 역삼동 ..." -> "서울시 강남구"
+     */
+    public static String toRegion(String address) {
+        int firstSpace = address.indexOf(' ');
+        if (firstSpace < 0) {
+            return address;
+        }
+
+        String city = address.substring(0, firstSpace);
+        if (city.contains("특별시")) {
+            city = city.replace("특별시", "시");
+        } else if (city.contains("광역시")) {
+            city = city.replace("광역시", "시");
+        }
+
+        return city + " " + tokenAfter(address, firstSpace);
+    }
+
+    /**
+     * 세 번째 단어가 '동'이면 동을, 아니면 구를 반환한다. "서울특별시 강남구 역삼동" -> "역삼동"
+     */
+    public static String toDong(String address) {
+        int firstSpace = address.indexOf(' ');
+        int secondSpace = firstSpace < 0 ? -1 : address.indexOf(' ', firstSpace + 1);
+        if (secondSpace < 0) {
+            return address;
+        }
+
+        String dong = tokenAfter(address, secondSpace);
+        return dong.contains("동") ? dong : address.substring(firstSpace + 1, secondSpace);
+    }
+
+    private static String tokenAfter(String address, int space) {
+        int nextSpace = address.indexOf(' ', space + 1);
+        return nextSpace < 0 ? address.substring(space + 1) : address.substring(space + 1, nextSpace);
+    }
+}
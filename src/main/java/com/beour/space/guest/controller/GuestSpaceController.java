@@ -1,9 +1,11 @@
 package com.beour.space.guest.controller;
 
+import com.beour.global.cache.HomeFeed;
+import com.beour.global.cache.HomeFeedCache;
 import com.beour.global.response.ApiResponse;
 import com.beour.space.guest.dto.FilteringSearchRequestDto;
+import com.beour.space.guest.dto.FilteringSearchSpacePageResponseDto;
 import com.beour.space.guest.dto.NearbySpacePageResponseDto;
-import com.beour.space.guest.dto.RecentCreatedSpcaceListResponseDto;
 import com.beour.space.guest.dto.SearchSpacePageResponseDto;
 import com.beour.space.guest.service.GuestSpaceSearchService;
 import com.beour.space.guest.service.GuestSpaceService;
@@ -12,6 +14,7 @@ import com.beour.space.domain.enums.UseCategory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -20,7 +23,6 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -29,16 +31,20 @@ public class GuestSpaceController {
 
     private final GuestSpaceService guestSpaceService;
     private final GuestSpaceSearchService guestSpaceSearchService;
+    private final HomeFeedCache homeFeedCache;
 
     @GetMapping("/nearby")
     public ApiResponse<NearbySpacePageResponseDto> getNearbySpaces(
             @RequestParam("latitude") double latitude,
             @RequestParam("longitude") double longitude,
             @RequestParam("radiusKm") double radiusKm,
+            @RequestParam(value = "cursor", required = false) String cursor,
             @PageableDefault(size = 10) Pageable pageable
     ) {
-        NearbySpacePageResponseDto response = guestSpaceService.findNearbySpaces(
-                latitude, longitude, radiusKm, pageable);
+        NearbySpacePageResponseDto response = cursor == null
+                ? guestSpaceService.findNearbySpaces(latitude, longitude, radiusKm, pageable)
+                : guestSpaceService.findNearbySpacesByCursor(latitude, longitude, radiusKm, cursor,
+                        pageable.getPageSize());
         return ApiResponse.ok(response);
     }
 
@@ -50,7 +56,7 @@ public class GuestSpaceController {
     }
 
     @PostMapping("/filter")
-    public ApiResponse<SearchSpacePageResponseDto> searchSpacesWithFiltering(
+    public ApiResponse<FilteringSearchSpacePageResponseDto> searchSpacesWithFiltering(
             @RequestBody FilteringSearchRequestDto requestDto, @PageableDefault(size = 10) Pageable pageable) {
         return ApiResponse.ok(guestSpaceSearchService.searchWithFiltering(requestDto, pageable));
     }
@@ -71,9 +77,11 @@ public class GuestSpaceController {
     }
 
     @GetMapping("/new")
-    public ApiResponse<List<RecentCreatedSpcaceListResponseDto>> getNewSpaces() {
+    public ResponseEntity<byte[]> getNewSpaces() {
 
-        return ApiResponse.ok(guestSpaceService.getRecentCreatedSpace());
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(homeFeedCache.get(HomeFeed.NEW_SPACES, guestSpaceService::getRecentCreatedSpace));
     }
 
 }
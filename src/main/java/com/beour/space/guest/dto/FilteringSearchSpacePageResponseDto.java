@@ -0,0 +1,22 @@
+package com.beour.space.guest.dto;
+
+import com.beour.space.domain.enums.SpaceCategory;
+import com.beour.space.domain.enums.UseCategory;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 필터 검색 결과. 패싯 인덱스를 쓸 수 없을 때는 카테고리별 개수가 null 이다.
+ */
+@Getter
+@AllArgsConstructor
+public class FilteringSearchSpacePageResponseDto {
+
+    private List<SearchSpaceResponseDto> spaces;
+    private boolean last;
+    private int totalPage;
+    private Map<SpaceCategory, Integer> spaceCategoryCounts;
+    private Map<UseCategory, Integer> useCategoryCounts;
+}
@@ -1,5 +1,6 @@
 package com.beour.space.guest.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -9,5 +10,17 @@ import lombok.Getter;
 public class NearbySpacePageResponseDto {
     private List<NearbySpaceResponse> spaces;
     private boolean last;
-    private int totalPage;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer totalPage;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
+    public NearbySpacePageResponseDto(List<NearbySpaceResponse> spaces, boolean last, int totalPage) {
+        this(spaces, last, totalPage, null);
+    }
+
+    public static NearbySpacePageResponseDto ofCursor(List<NearbySpaceResponse> spaces, boolean last,
+        String nextCursor) {
+        return new NearbySpacePageResponseDto(spaces, last, null, nextCursor);
+    }
 }
@@ -1,5 +1,7 @@
 package com.beour.space.guest.dto;
 
+import com.beour.global.file.ImageVariant;
+import com.beour.space.domain.entity.Description;
 import com.beour.space.domain.entity.Space;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
@@ -19,12 +21,12 @@ public class RecentCreatedSpcaceListResponseDto {
     private String description;
     private LocalDateTime createdAt;
 
-    public RecentCreatedSpcaceListResponseDto dtoFrom(Space space){
+    public RecentCreatedSpcaceListResponseDto dtoFrom(Space space, Description description){
         return RecentCreatedSpcaceListResponseDto.builder()
             .spaceId(space.getId())
             .addressAndName(space.getAddress().split(" ")[1] + " / " + space.getName())
-            .thumbnailUrl(space.getThumbnailUrl())
-            .description(space.getDescription().getDescription())
+            .thumbnailUrl(ImageVariant.CARD.urlOf(space.getThumbnailUrl()))
+            .description(description == null ? null : description.getDescription())
             .createdAt(space.getCreatedAt())
             .build();
     }
@@ -1,7 +1,9 @@
 package com.beour.space.guest.dto;
 
+import com.beour.global.file.ImageVariant;
 import com.beour.space.domain.entity.Space;
 import com.beour.space.domain.entity.Tag;
+import com.beour.space.domain.util.SpaceAddressUtils;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.Builder;
@@ -46,9 +48,9 @@ public class SearchSpaceResponseDto {
         return SearchSpaceResponseDto.builder()
             .spaceId(space.getId())
             .spaceName(space.getName())
-            .thumbnailUrl(space.getThumbnailUrl())
+            .thumbnailUrl(ImageVariant.CARD.urlOf(space.getThumbnailUrl()))
             .price(space.getPricePerHour())
-            .address(abstractAddress(space.getAddress()))
+            .address(SpaceAddressUtils.toRegion(space.getAddress()))
             .maxCapacity(space.getMaxCapacity())
             .average(space.getAvgRating())
             .reviewCount(reviewCount)
@@ -56,34 +58,19 @@ public class SearchSpaceResponseDto {
             .build();
     }
 
-    public static SearchSpaceResponseDto oftmp(Space space, Long reviewCount, boolean likes) {
-        List<String> tagList = space.getTags().stream()
-            .map(Tag::getContents)
-            .collect(Collectors.toList());
-
+    public static SearchSpaceResponseDto of(Space space, List<String> tags, Long reviewCount,
+        boolean likes) {
         return SearchSpaceResponseDto.builder()
             .spaceId(space.getId())
             .spaceName(space.getName())
-            .thumbnailUrl(space.getThumbnailUrl())
+            .thumbnailUrl(ImageVariant.CARD.urlOf(space.getThumbnailUrl()))
             .price(space.getPricePerHour())
-            .address(abstractAddress(space.getAddress()))
+            .address(SpaceAddressUtils.toRegion(space.getAddress()))
             .maxCapacity(space.getMaxCapacity())
             .average(space.getAvgRating())
             .reviewCount(reviewCount)
-            .tags(tagList)
+            .tags(tags)
             .likes(likes)
             .build();
     }
-
-    private static String abstractAddress(String address) {
-        String[] splitAddress = address.split(" ");
-
-        if (splitAddress[0].contains("특별시")) {
-            splitAddress[0] = splitAddress[0].replace("특별시", "시");
-        } else if (splitAddress[1].contains("광역시")) {
-            splitAddress[0] = splitAddress[0].replace("광역시", "시");
-        }
-
-        return splitAddress[0] + " " + splitAddress[1];
-    }
 }
@@ -1,7 +1,9 @@
 package com.beour.space.guest.dto;
 
+import com.beour.global.file.ImageVariant;
 import com.beour.space.domain.entity.Space;
 import com.beour.space.domain.entity.Tag;
+import com.beour.space.domain.util.SpaceAddressUtils;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.Builder;
@@ -47,10 +49,10 @@ public class SpaceListSpaceResponseDto {
         return SpaceListSpaceResponseDto.builder()
             .spaceId(space.getId())
             .spaceName(space.getName())
-            .region(abstractAddress(space.getAddress()))
+            .region(SpaceAddressUtils.toRegion(space.getAddress()))
             .maxCapacity(space.getMaxCapacity())
             .price(space.getPricePerHour())
-            .thumbnailUrl(space.getThumbnailUrl())
+            .thumbnailUrl(ImageVariant.CARD.urlOf(space.getThumbnailUrl()))
             .like(like)
             .average(space.getAvgRating())
             .reviewCount(reviewCount)
@@ -58,16 +60,4 @@ public class SpaceListSpaceResponseDto {
             .build();
     }
 
-    private static String abstractAddress(String address) {
-        String[] splitAddress = address.split(" ");
-
-        if (splitAddress[0].contains("특별시")) {
-            splitAddress[0] = splitAddress[0].replace("특별시", "시");
-        } else if (splitAddress[1].contains("광역시")) {
-            splitAddress[0] = splitAddress[0].replace("광역시", "시");
-        }
-
-        return splitAddress[0] + " " + splitAddress[1];
-    }
-
 }
@@ -3,24 +3,27 @@ package com.beour.space.guest.service;
 import com.beour.global.exception.error.errorcode.SpaceErrorCode;
 import com.beour.global.exception.exceptionType.InputInvalidFormatException;
 import com.beour.global.exception.exceptionType.SpaceNotFoundException;
-import com.beour.review.domain.repository.ReviewRepository;
 import com.beour.space.domain.entity.Space;
+import com.beour.space.domain.index.SpaceFacetIndex;
+import com.beour.space.domain.index.SpaceFacetQuery;
+import com.beour.space.domain.index.SpaceFacetResult;
+import com.beour.space.domain.index.SpaceSearchIndex;
 import com.beour.space.domain.repository.SpaceRepository;
 import com.beour.space.guest.dto.FilteringSearchRequestDto;
+import com.beour.space.guest.dto.FilteringSearchSpacePageResponseDto;
 import com.beour.space.guest.dto.SearchSpacePageResponseDto;
 import com.beour.space.guest.dto.SearchSpaceResponseDto;
 import com.beour.space.domain.enums.SpaceCategory;
 import com.beour.space.domain.enums.UseCategory;
 import com.beour.user.entity.User;
-import com.beour.user.repository.UserRepository;
-import com.beour.wishlist.repository.LikeRepository;
+import com.beour.user.service.CurrentUserService;
 import java.time.LocalDate;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
 @RequiredArgsConstructor
@@ -28,9 +31,10 @@ import org.springframework.stereotype.Service;
 public class GuestSpaceSearchService {
 
     private final SpaceRepository spaceRepository;
-    private final ReviewRepository reviewRepository;
-    private final LikeRepository likeRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserService currentUserService;
+    private final SearchSpaceResultHydrator searchSpaceResultHydrator;
+    private final SpaceSearchIndex spaceSearchIndex;
+    private final SpaceFacetIndex spaceFacetIndex;
 
     public SearchSpacePageResponseDto search(String keyword, Pageable pageable) {
         Page<Space> spaces = searchWithKeyword(keyword, pageable);
@@ -45,7 +49,9 @@ public class GuestSpaceSearchService {
             throw new InputInvalidFormatException(SpaceErrorCode.KEYWORD_REQUIRED);
         }
 
-        Page<Space> result = spaceRepository.searchByKeyword("%" + keyword + "%", pageable);
+        Page<Space> result = spaceSearchIndex.isReady()
+            ? spaceRepository.findPageByOrderedIds(spaceSearchIndex.search(keyword), pageable)
+            : spaceRepository.searchByKeyword(keyword, pageable);
         if (result.isEmpty()) {
             throw new SpaceNotFoundException(SpaceErrorCode.NO_MATCHING_SPACE);
         }
@@ -53,7 +59,7 @@ public class GuestSpaceSearchService {
         return result;
     }
 
-    public SearchSpacePageResponseDto searchWithFiltering(FilteringSearchRequestDto requestDto,
+    public FilteringSearchSpacePageResponseDto searchWithFiltering(FilteringSearchRequestDto requestDto,
         Pageable pageable) {
         String keyword = requestDto.getKeyword().isBlank() ? null : requestDto.getKeyword();
         String address = requestDto.getAddress().isBlank() ? null : requestDto.getAddress();
@@ -61,6 +67,11 @@ public class GuestSpaceSearchService {
         Integer maxPrice = requestDto.getMaxPrice() == 0 ? null : requestDto.getMaxPrice();
         Integer minCapacity = requestDto.getMinCapacity() == 0 ? null : requestDto.getMinCapacity();
 
+        if (spaceFacetIndex.isReady() && (keyword == null || spaceSearchIndex.isReady())) {
+            return searchWithFacetIndex(requestDto, keyword, address, minPrice, maxPrice, minCapacity,
+                pageable);
+        }
+
         List<String> spaceCategories = requestDto.getSpaceCategories().isEmpty()
             ? null
             : requestDto.getSpaceCategories().stream()
@@ -75,17 +86,61 @@ public class GuestSpaceSearchService {
 
         LocalDate date = requestDto.getDate();
 
-        Page<Space> result = spaceRepository.searchWithFiltering(
-            keyword, minPrice, maxPrice, address, minCapacity, spaceCategories, useCategories, date,
-            pageable
-        );
+        Page<Space> result;
+        if (keyword != null && spaceSearchIndex.isReady()) {
+            List<Long> matchedIds = spaceSearchIndex.search(keyword);
+            if (matchedIds.isEmpty()) {
+                throw new SpaceNotFoundException(SpaceErrorCode.NO_MATCHING_SPACE);
+            }
+
+            // DB 는 조건 통과 여부만 정하고, 순서는 인덱스 경로와 같이 검색 순위를 따른다.
+            Set<Long> filteredIds = new HashSet<>(spaceRepository.findIdsWithFilteringAmong(
+                matchedIds, minPrice, maxPrice, address, minCapacity, spaceCategories, useCategories,
+                date
+            ));
+            List<Long> rankedIds = matchedIds.stream()
+                .filter(filteredIds::contains)
+                .toList();
+
+            result = spaceRepository.findPageByOrderedIds(rankedIds, pageable);
+        } else {
+            result = spaceRepository.searchWithFiltering(
+                keyword, minPrice, maxPrice, address, minCapacity, spaceCategories, useCategories, date,
+                pageable
+            );
+        }
 
         if (result.isEmpty()) {
             throw new SpaceNotFoundException(SpaceErrorCode.NO_MATCHING_SPACE);
         }
 
         List<SearchSpaceResponseDto> spaces = changeToSearchResponseDtoFrom(result);
-        return new SearchSpacePageResponseDto(spaces, result.isLast(), result.getTotalPages());
+        return new FilteringSearchSpacePageResponseDto(spaces, result.isLast(), result.getTotalPages(),
+            null, null);
+    }
+
+    private FilteringSearchSpacePageResponseDto searchWithFacetIndex(FilteringSearchRequestDto requestDto,
+        String keyword, String address, Integer minPrice, Integer maxPrice, Integer minCapacity,
+        Pageable pageable) {
+        SpaceFacetResult facetResult = spaceFacetIndex.filter(SpaceFacetQuery.builder()
+            .rankedCandidateIds(keyword == null ? null : spaceSearchIndex.search(keyword))
+            .minPrice(minPrice)
+            .maxPrice(maxPrice)
+            .address(address)
+            .minCapacity(minCapacity)
+            .spaceCategories(requestDto.getSpaceCategories())
+            .useCategories(requestDto.getUseCategories())
+            .date(requestDto.getDate())
+            .build());
+
+        Page<Space> result = spaceRepository.findPageByOrderedIds(facetResult.getSpaceIds(), pageable);
+        if (result.isEmpty()) {
+            throw new SpaceNotFoundException(SpaceErrorCode.NO_MATCHING_SPACE);
+        }
+
+        List<SearchSpaceResponseDto> spaces = changeToSearchResponseDtoFrom(result);
+        return new FilteringSearchSpacePageResponseDto(spaces, result.isLast(), result.getTotalPages(),
+            facetResult.getSpaceCategoryCounts(), facetResult.getUseCategoryCounts());
     }
 
     public SearchSpacePageResponseDto searchSpaceWithSpaceCategory(SpaceCategory request,
@@ -117,38 +172,11 @@ public class GuestSpaceSearchService {
     }
 
     private List<SearchSpaceResponseDto> changeToSearchResponseDtoFrom(Page<Space> spaces) {
-        User user = findUserFromToken();
-
-        return spaces.stream()
-            .map(
-                space -> toSearchSpaceResponseDto(space, user))
-            .toList();
-    }
-
-    private SearchSpaceResponseDto toSearchSpaceResponseDto(Space space, User user) {
-        long reviewCount = getReviewCountBySpaceId(space.getId());
-        boolean isLiked = false;
-        if (user != null) {
-            isLiked = likeRepository.existsByUserIdAndSpaceIdAndDeletedAtIsNull(user.getId(),
-                space.getId());
-        }
-
-        return SearchSpaceResponseDto.oftmp(space, reviewCount, isLiked);
-    }
-
-    private long getReviewCountBySpaceId(Long spaceId) {
-        return reviewRepository.countBySpaceIdAndDeletedAtIsNull(spaceId);
+        return searchSpaceResultHydrator.hydrate(spaces.getContent(), findUserFromToken());
     }
 
     private User findUserFromToken() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-
-        if (authentication == null || !authentication.isAuthenticated()) {
-            return null;
-        }
-
-        String loginId = authentication.getName();
-        return userRepository.findByLoginIdAndDeletedAtIsNull(loginId).orElse(null);
+        return currentUserService.findCurrentUserOrNull();
     }
 
 }
@@ -2,21 +2,32 @@ package com.beour.space.guest.service;
 
 import com.beour.global.exception.error.errorcode.SpaceErrorCode;
 import com.beour.global.exception.exceptionType.SpaceNotFoundException;
+import com.beour.global.file.ImageVariant;
+import com.beour.global.pagination.Cursor;
 import com.beour.space.domain.entity.Space;
-import com.beour.space.domain.entity.Tag;
+import com.beour.space.domain.index.SpaceGeoIndex;
+import com.beour.space.domain.index.SpaceGeoIndex.Neighbor;
+import com.beour.space.domain.repository.DescriptionRepository;
 import com.beour.space.domain.repository.SpaceRepository;
+import com.beour.space.domain.repository.SpaceTagContents;
+import com.beour.space.domain.repository.TagRepository;
 import com.beour.space.guest.dto.NearbySpacePageResponseDto;
 import com.beour.space.guest.dto.NearbySpaceResponse;
 import com.beour.space.guest.dto.RecentCreatedSpcaceListResponseDto;
 import com.beour.user.entity.User;
-import com.beour.user.repository.UserRepository;
+import com.beour.user.service.CurrentUserService;
 import com.beour.wishlist.repository.LikeRepository;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,8 +38,11 @@ import java.util.List;
 public class GuestSpaceService {
 
     private final SpaceRepository spaceRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserService currentUserService;
     private final LikeRepository likeRepository;
+    private final TagRepository tagRepository;
+    private final DescriptionRepository descriptionRepository;
+    private final SpaceGeoIndex spaceGeoIndex;
 
     @Transactional(readOnly = true)
     public NearbySpacePageResponseDto findNearbySpaces(double userLatitude, double userLongitude,
@@ -36,42 +50,111 @@ public class GuestSpaceService {
         User user = findUserFromToken();
         double radiusMeters = radiusKm * 1000;
 
-        Page<Space> spacePage = spaceRepository.findAllWithinDistanceWithPaging(
-            userLatitude, userLongitude, radiusMeters, pageable);
+        Page<Space> spacePage = spaceGeoIndex.isReady()
+            ? spaceRepository.findPageByOrderedIds(
+                spaceGeoIndex.findIdsWithinRadius(userLatitude, userLongitude, radiusMeters), pageable)
+            : toPage(spaceRepository.findAllWithinDistance(userLatitude, userLongitude,
+                radiusMeters, pageable));
 
         if(spacePage.getContent().isEmpty()){
             throw new SpaceNotFoundException(SpaceErrorCode.SPACE_NOT_FOUND);
         }
 
-        List<NearbySpaceResponse> spaces = spacePage.getContent().stream().map(space -> {
-            List<String> tags = space.getTags().stream()
-                .map(Tag::getContents)
-                .toList();
-
-            boolean liked = false;
-            if(user != null){
-                liked = likeRepository.existsByUserIdAndSpaceId(user.getId(), space.getId());
-            }
-
-            return NearbySpaceResponse.builder()
-                .spaceId(space.getId())
-                .name(space.getName())
-                .thumbnailUrl(space.getThumbnailUrl())
-                .address(space.getAddress())
-                .maxCapacity(space.getMaxCapacity())
-                .latitude(space.getLatitude())
-                .longitude(space.getLongitude())
-                .avgRating(space.getAvgRating())
-                .pricePerHour(space.getPricePerHour())
-                .liked(liked)
-                .tags(tags)
-                .build();
-        }).toList();
+        List<NearbySpaceResponse> spaces = toNearbySpaceResponses(spacePage.getContent(), user);
 
         return new NearbySpacePageResponseDto(spaces, spacePage.isLast(),
             spacePage.getTotalPages());
     }
 
+    /**
+     * 커서 모드. (거리, id) 순서에서 커서 뒤의 공간만 읽고 전체 개수는 세지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public NearbySpacePageResponseDto findNearbySpacesByCursor(double userLatitude,
+        double userLongitude, double radiusKm, String cursorToken, int size) {
+        User user = findUserFromToken();
+        double radiusMeters = radiusKm * 1000;
+        Cursor cursor = Cursor.decode(cursorToken);
+        Pageable limit = PageRequest.ofSize(size);
+
+        Slice<Space> spaceSlice;
+        if (spaceGeoIndex.isReady()) {
+            spaceSlice = findIndexedSliceAfter(userLatitude, userLongitude, radiusMeters, cursor,
+                limit);
+        } else if (cursor == null) {
+            spaceSlice = spaceRepository.findAllWithinDistance(userLatitude, userLongitude,
+                radiusMeters, limit);
+        } else {
+            spaceSlice = spaceRepository.findAllWithinDistanceAfter(userLatitude, userLongitude,
+                radiusMeters, cursor.distance(), cursor.id(), limit);
+        }
+
+        if (spaceSlice.getContent().isEmpty()) {
+            throw new SpaceNotFoundException(SpaceErrorCode.SPACE_NOT_FOUND);
+        }
+
+        List<NearbySpaceResponse> spaces = toNearbySpaceResponses(spaceSlice.getContent(), user);
+
+        String nextCursor = Cursor.nextOf(spaceSlice, space -> Cursor.of(
+            SpaceGeoIndex.distanceMeters(userLatitude, userLongitude, space.getLatitude(),
+                space.getLongitude()), space.getId()));
+
+        return NearbySpacePageResponseDto.ofCursor(spaces, !spaceSlice.hasNext(), nextCursor);
+    }
+
+    private Slice<Space> findIndexedSliceAfter(double latitude, double longitude,
+        double radiusMeters, Cursor cursor, Pageable limit) {
+        List<Long> orderedIds = spaceGeoIndex.findNeighborsWithinRadius(latitude, longitude,
+                radiusMeters).stream()
+            .filter(neighbor -> cursor == null || neighbor.isAfter(cursor.distance(), cursor.id()))
+            .map(Neighbor::spaceId)
+            .toList();
+
+        Page<Space> spacePage = spaceRepository.findPageByOrderedIds(orderedIds, limit);
+        return new SliceImpl<>(spacePage.getContent(), limit, spacePage.hasNext());
+    }
+
+    // DB 조회는 다음 페이지 유무만 확인하므로 전체 페이지 수는 알고 있는 범위(현재 페이지 + 1)까지만 채운다.
+    private static <T> Page<T> toPage(Slice<T> slice) {
+        long knownTotal = slice.getPageable().getOffset() + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0);
+        return new PageImpl<>(slice.getContent(), slice.getPageable(), knownTotal);
+    }
+
+    // 찜 여부와 태그는 공간마다 묻지 않고 페이지 단위로 한 번씩 조회한다.
+    private List<NearbySpaceResponse> toNearbySpaceResponses(List<Space> spaces, User user) {
+        List<Long> spaceIds = spaces.stream().map(Space::getId).toList();
+
+        Set<Long> likedSpaceIds = user == null
+            ? Set.of()
+            : new HashSet<>(likeRepository.findLikedSpaceIds(user.getId(), spaceIds));
+
+        Map<Long, List<String>> tags = tagRepository.findContentsBySpaceIds(spaceIds).stream()
+            .collect(Collectors.groupingBy(SpaceTagContents::getSpaceId,
+                Collectors.mapping(SpaceTagContents::getContents, Collectors.toList())));
+
+        return spaces.stream()
+            .map(space -> toNearbySpaceResponse(space, tags.getOrDefault(space.getId(), List.of()),
+                likedSpaceIds.contains(space.getId())))
+            .toList();
+    }
+
+    private NearbySpaceResponse toNearbySpaceResponse(Space space, List<String> tags, boolean liked) {
+        return NearbySpaceResponse.builder()
+            .spaceId(space.getId())
+            .name(space.getName())
+            .thumbnailUrl(ImageVariant.CARD.urlOf(space.getThumbnailUrl()))
+            .address(space.getAddress())
+            .maxCapacity(space.getMaxCapacity())
+            .latitude(space.getLatitude())
+            .longitude(space.getLongitude())
+            .avgRating(space.getAvgRating())
+            .pricePerHour(space.getPricePerHour())
+            .liked(liked)
+            .tags(tags)
+            .build();
+    }
+
+    @Transactional(readOnly = true)
     public List<RecentCreatedSpcaceListResponseDto> getRecentCreatedSpace() {
         List<Space> spaces = spaceRepository.findTop5ByDeletedAtIsNullOrderByCreatedAtDesc();
 
@@ -81,20 +164,14 @@ public class GuestSpaceService {
 
         return spaces.stream()
             .map(space -> {
-                return new RecentCreatedSpcaceListResponseDto().dtoFrom(space);
+                return new RecentCreatedSpcaceListResponseDto().dtoFrom(space,
+                    descriptionRepository.findCachedBySpace(space).orElse(null));
             })
             .collect(Collectors.toList());
     }
 
     private User findUserFromToken() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-
-        if (authentication == null || !authentication.isAuthenticated()) {
-            return null;
-        }
-
-        String loginId = authentication.getName();
-        return userRepository.findByLoginIdAndDeletedAtIsNull(loginId).orElse(null);
+        return currentUserService.findCurrentUserOrNull();
     }
 
 /*    // 거리 계산 함수 (Haversine)
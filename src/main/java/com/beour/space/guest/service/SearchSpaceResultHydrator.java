@@ -0,0 +1,52 @@
+package com.beour.space.guest.service;
+
+import com.beour.space.domain.entity.Space;
+import com.beour.space.domain.repository.SpaceTagContents;
+import com.beour.space.domain.repository.TagRepository;
+import com.beour.space.guest.dto.SearchSpaceResponseDto;
+import com.beour.user.entity.User;
+import com.beour.wishlist.repository.LikeRepository;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 결과 한 페이지에 필요한 찜 여부, 태그를 공간별로 따로 묻지 않고
+ * 페이지 단위로 한 번씩 조회해 응답 DTO 를 조립한다. 리뷰 수는 Space 의 집계 컬럼을 쓴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchSpaceResultHydrator {
+
+    private final LikeRepository likeRepository;
+    private final TagRepository tagRepository;
+
+    public List<SearchSpaceResponseDto> hydrate(List<Space> spaces, User user) {
+        if (spaces.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> spaceIds = spaces.stream().map(Space::getId).toList();
+
+        Set<Long> likedSpaceIds = user == null
+            ? Set.of()
+            : new HashSet<>(likeRepository.findLikedSpaceIds(user.getId(), spaceIds));
+
+        Map<Long, List<String>> tags = tagRepository.findContentsBySpaceIds(spaceIds).stream()
+            .collect(Collectors.groupingBy(SpaceTagContents::getSpaceId,
+                Collectors.mapping(SpaceTagContents::getContents, Collectors.toList())));
+
+        return spaces.stream()
+            .map(space -> SearchSpaceResponseDto.of(
+                space,
+                tags.getOrDefault(space.getId(), new ArrayList<>()),
+                (long) space.getReviewCount(),
+                likedSpaceIds.contains(space.getId())))
+            .toList();
+    }
+}
@@ -42,7 +42,11 @@ public class SpaceController {
 
     @GetMapping("/api/users/me/spaces")
     public ApiResponse<HostMySpaceListPageResponseDto> getMySpaces(
+            @RequestParam(value = "cursor", required = false) String cursor,
             @PageableDefault(size = 10, sort = "createdAt") Pageable pageable) {
+        if (cursor != null) {
+            return ApiResponse.ok(spaceService.getMySpacesByCursor(cursor, pageable.getPageSize()));
+        }
         return ApiResponse.ok(spaceService.getMySpaces(pageable));
     }
 
@@ -1,5 +1,6 @@
 package com.beour.space.host.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -10,5 +11,17 @@ import java.util.List;
 public class HostMySpaceListPageResponseDto {
     private List<HostMySpaceListResponseDto> spaces;
     private boolean last;
-    private int totalPage;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer totalPage;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
+    public HostMySpaceListPageResponseDto(List<HostMySpaceListResponseDto> spaces, boolean last, int totalPage) {
+        this(spaces, last, totalPage, null);
+    }
+
+    public static HostMySpaceListPageResponseDto ofCursor(List<HostMySpaceListResponseDto> spaces, boolean last,
+        String nextCursor) {
+        return new HostMySpaceListPageResponseDto(spaces, last, null, nextCursor);
+    }
 }
@@ -17,9 +17,12 @@ public class HostMySpaceListResponseDto {
     private Double avgRating;
     private long reviewCount;
     private String thumbnailUrl;
+    private boolean geocodingPending; // 주소 좌표 변환 대기 중
+    private boolean geocodingFailed; // 주소로 좌표를 찾지 못함. 주소를 다시 저장해야 위치 검색에 노출된다.
 
     public static HostMySpaceListResponseDto of(Long spaceId, String spaceName, String address, int maxCapacity,
-                                                Double avgRating, long reviewCount, String thumbnailUrl) {
+                                                Double avgRating, long reviewCount, String thumbnailUrl,
+                                                boolean geocodingPending, boolean geocodingFailed) {
         return HostMySpaceListResponseDto.builder()
                 .spaceId(spaceId)
                 .spaceName(spaceName)
@@ -28,6 +31,8 @@ public class HostMySpaceListResponseDto {
                 .avgRating(avgRating)
                 .reviewCount(reviewCount)
                 .thumbnailUrl(thumbnailUrl)
+                .geocodingPending(geocodingPending)
+                .geocodingFailed(geocodingFailed)
                 .build();
     }
 }
@@ -1,10 +1,8 @@
 package com.beour.space.host.service;
 
 import com.beour.global.exception.error.errorcode.SpaceErrorCode;
-import com.beour.global.exception.error.errorcode.UserErrorCode;
 import com.beour.global.exception.exceptionType.SpaceNotFoundException;
 import com.beour.global.exception.exceptionType.UnauthorityException;
-import com.beour.global.exception.exceptionType.UserNotFoundException;
 import com.beour.reservation.commons.entity.Reservation;
 import com.beour.reservation.commons.enums.ReservationStatus;
 import com.beour.reservation.commons.repository.ReservationRepository;
@@ -15,9 +13,8 @@ import com.beour.space.domain.repository.SpaceRepository;
 import com.beour.space.host.dto.AvailableTimeDetailResponseDto;
 import com.beour.space.host.dto.AvailableTimeUpdateRequestDto;
 import com.beour.user.entity.User;
-import com.beour.user.repository.UserRepository;
+import com.beour.user.service.CurrentUserService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,7 +26,7 @@ import java.util.stream.Collectors;
 public class AvailableTimeService {
 
     private final SpaceRepository spaceRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserService currentUserService;
     private final AvailableTimeRepository availableTimeRepository;
     private final ReservationRepository reservationRepository;
 
@@ -91,11 +88,7 @@ public class AvailableTimeService {
     }
 
     private User findUserFromToken() {
-        String loginId = SecurityContextHolder.getContext().getAuthentication().getName();
-
-        return userRepository.findByLoginIdAndDeletedAtIsNull(loginId).orElseThrow(
-                () -> new UserNotFoundException(UserErrorCode.USER_NOT_FOUND)
-        );
+        return currentUserService.getCurrentUser();
     }
 
     private Space findSpaceByIdAndValidateOwner(Long spaceId, User host) {
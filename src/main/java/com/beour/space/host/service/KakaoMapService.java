@@ -2,27 +2,99 @@ package com.beour.space.host.service;
 
 import com.beour.global.exception.error.errorcode.KakaoMapErrorCode;
 import com.beour.global.exception.exceptionType.KakaoMapException;
+import com.beour.space.domain.entity.GeocodeCache;
+import com.beour.space.domain.repository.GeocodeCacheRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 import org.springframework.http.*;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
+/**
+ * 주소를 좌표로 변환한다. 메모리 캐시 → geocode_cache 테이블 → 카카오맵 API 순으로 찾고,
+ * API 로 얻은 결과는 두 캐시에 모두 저장해 같은 주소로 API 를 다시 호출하지 않는다.
+ *
+ * <p>API 호출에는 연결/읽기 타임아웃을 두고, 실패가 이어지면 서킷 브레이커가 열려
+ * 대기 시간 동안 호출하지 않고 바로 {@link KakaoMapErrorCode#API_UNAVAILABLE} 을 던진다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class KakaoMapService {
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private static final String ADDRESS_SEARCH_PATH = "/v2/local/search/address.json";
 
-    @Value("${kakao.api.key}")
-    private String kakaoApiKey;
+    private final RestTemplate restTemplate;
+    private final GeocodeCacheRepository geocodeCacheRepository;
+    private final TransactionTemplate newTransactionTemplate;
+    private final CircuitBreaker circuitBreaker;
+    private final Cache<String, Coordinate> coordinateCache;
+    private final String kakaoApiKey;
+    private final String kakaoApiUrl;
+
+    public KakaoMapService(RestTemplateBuilder restTemplateBuilder, GeocodeCacheRepository geocodeCacheRepository,
+        PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+        @Value("${kakao.api.key}") String kakaoApiKey,
+        @Value("${kakao.api.url:https://dapi.kakao.com}") String kakaoApiUrl,
+        @Value("${kakao.api.connect-timeout:2s}") Duration connectTimeout,
+        @Value("${kakao.api.read-timeout:3s}") Duration readTimeout,
+        @Value("${kakao.api.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+        @Value("${kakao.api.circuit-breaker.minimum-number-of-calls:10}") int minimumNumberOfCalls,
+        @Value("${kakao.api.circuit-breaker.wait-duration:30s}") Duration waitDuration,
+        @Value("${kakao.geocode-cache.maximum-size:10000}") long cacheMaximumSize) {
+        this.restTemplate = restTemplateBuilder
+            .connectTimeout(connectTimeout)
+            .readTimeout(readTimeout)
+            .build();
+        this.geocodeCacheRepository = geocodeCacheRepository;
+        this.kakaoApiKey = kakaoApiKey;
+        this.kakaoApiUrl = kakaoApiUrl;
+
+        // 호출한 쪽 트랜잭션과 무관하게 저장하고, 저장 실패가 호출한 쪽을 롤백시키지 않도록 새 트랜잭션을 쓴다.
+        this.newTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        // 주소를 찾지 못한 경우(4xx)는 API 장애가 아니므로 실패로 세지 않는다.
+        this.circuitBreaker = CircuitBreaker.of("kakaoMap", CircuitBreakerConfig.custom()
+            .failureRateThreshold(failureRateThreshold)
+            .minimumNumberOfCalls(minimumNumberOfCalls)
+            .slidingWindowSize(Math.max(minimumNumberOfCalls, 20))
+            .waitDurationInOpenState(waitDuration)
+            .recordException(e -> !(e instanceof KakaoMapException kakaoMapException)
+                || kakaoMapException.getErrorCode() >= 500)
+            .build());
+
+        this.coordinateCache = Caffeine.newBuilder()
+            .maximumSize(cacheMaximumSize)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, coordinateCache, "geocode");
+    }
 
     public double[] getLatitudeAndLongitude(String address) {
         validateAddress(address);
@@ -33,7 +105,119 @@ public class KakaoMapService {
     public Coordinate getCoordinatesByAddress(String address) {
         validateAddress(address);
 
-        String url = "https://dapi.kakao.com/v2/local/search/address.json?query=" + address;
+        String normalizedAddress = normalize(address);
+        Coordinate cached = coordinateCache.getIfPresent(normalizedAddress);
+        if (cached != null) {
+            return cached;
+        }
+
+        Coordinate coordinate = geocodeCacheRepository.findByAddress(normalizedAddress)
+            .map(KakaoMapService::toCoordinate)
+            .orElseGet(() -> requestAndStore(normalizedAddress));
+        coordinateCache.put(normalizedAddress, coordinate);
+        return coordinate;
+    }
+
+    /**
+     * API 를 호출하지 않고 캐시 두 단계에서만 좌표를 찾는다. 트랜잭션 안에서 외부 호출 없이 좌표를 정할 때 쓴다.
+     */
+    public Optional<Coordinate> findCachedCoordinate(String address) {
+        validateAddress(address);
+
+        String normalizedAddress = normalize(address);
+        Coordinate cached = coordinateCache.getIfPresent(normalizedAddress);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<Coordinate> stored = geocodeCacheRepository.findByAddress(normalizedAddress)
+            .map(KakaoMapService::toCoordinate);
+        stored.ifPresent(coordinate -> coordinateCache.put(normalizedAddress, coordinate));
+        return stored;
+    }
+
+    /**
+     * 여러 주소를 한 번에 변환한다. 캐시 두 단계를 먼저 일괄 조회하고 남은 주소만 API 로 호출한다.
+     * 좌표를 찾지 못한 주소는 결과에서 빠지며, 서킷 브레이커가 열리면 남은 주소를 건너뛰지 않고 예외를 던진다.
+     */
+    public Map<String, Coordinate> getCoordinatesByAddresses(Collection<String> addresses) {
+        Map<String, String> normalizedAddresses = addresses.stream()
+            .filter(StringUtils::hasText)
+            .distinct()
+            .collect(Collectors.toMap(address -> address, KakaoMapService::normalize));
+
+        Map<String, Coordinate> found = new LinkedHashMap<>(
+            coordinateCache.getAllPresent(Set.copyOf(normalizedAddresses.values())));
+        Set<String> missing = normalizedAddresses.values().stream()
+            .filter(address -> !found.containsKey(address))
+            .collect(Collectors.toSet());
+        if (!missing.isEmpty()) {
+            geocodeCacheRepository.findByAddressIn(missing)
+                .forEach(cache -> found.put(cache.getAddress(), toCoordinate(cache)));
+        }
+
+        for (String normalizedAddress : missing) {
+            if (found.containsKey(normalizedAddress)) {
+                continue;
+            }
+            try {
+                found.put(normalizedAddress, requestAndStore(normalizedAddress));
+            } catch (KakaoMapException e) {
+                if (KakaoMapErrorCode.API_UNAVAILABLE.getCode().equals(e.getErrorCode())) {
+                    throw e;
+                }
+                log.warn("주소 좌표 변환 실패: {}", normalizedAddress);
+            }
+        }
+        coordinateCache.putAll(found);
+
+        Map<String, Coordinate> result = new LinkedHashMap<>();
+        normalizedAddresses.forEach((address, normalizedAddress) -> {
+            Coordinate coordinate = found.get(normalizedAddress);
+            if (coordinate != null) {
+                result.put(address, coordinate);
+            }
+        });
+        return result;
+    }
+
+    CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    void clearLocalCache() {
+        coordinateCache.invalidateAll();
+    }
+
+    private Coordinate requestAndStore(String address) {
+        Coordinate coordinate;
+        try {
+            coordinate = circuitBreaker.executeSupplier(() -> requestCoordinates(address));
+        } catch (CallNotPermittedException e) {
+            log.warn("카카오맵 API 서킷 브레이커 열림: 주소 {}", address);
+            throw new KakaoMapException(KakaoMapErrorCode.API_UNAVAILABLE);
+        }
+
+        try {
+            newTransactionTemplate.executeWithoutResult(status -> geocodeCacheRepository.save(GeocodeCache.builder()
+                .address(address)
+                .latitude(coordinate.getLatitude())
+                .longitude(coordinate.getLongitude())
+                .build()));
+        } catch (DataAccessException e) {
+            // 같은 주소를 동시에 저장한 경우 등. 좌표는 이미 얻었으므로 캐시 저장 실패는 무시한다.
+            log.debug("주소 좌표 캐시 저장 실패: {}", address, e);
+        }
+        return coordinate;
+    }
+
+    private Coordinate requestCoordinates(String address) {
+        URI uri = UriComponentsBuilder.fromUriString(kakaoApiUrl)
+                .path(ADDRESS_SEARCH_PATH)
+                .queryParam("query", address)
+                .encode()
+                .build()
+                .toUri();
 
         HttpHeaders headers = new HttpHeaders();
         headers.set("Authorization", "KakaoAK " + kakaoApiKey);
@@ -41,7 +225,7 @@ public class KakaoMapService {
 
         try {
             ResponseEntity<String> response = restTemplate.exchange(
-                    url,
+                    uri,
                     HttpMethod.GET,
                     entity,
                     String.class
@@ -69,6 +253,14 @@ public class KakaoMapService {
         }
     }
 
+    private static String normalize(String address) {
+        return address.trim().replaceAll("\\s+", " ");
+    }
+
+    private static Coordinate toCoordinate(GeocodeCache cache) {
+        return new Coordinate(cache.getLatitude(), cache.getLongitude());
+    }
+
     private Coordinate parseCoordinatesFromResponse(String responseBody, String address) {
         try {
             JSONObject json = new JSONObject(responseBody);
@@ -0,0 +1,51 @@
+package com.beour.space.host.service;
+
+import com.beour.space.domain.entity.GeocodingOutbox;
+import com.beour.space.domain.entity.Space;
+import com.beour.space.domain.repository.GeocodingOutboxRepository;
+import com.beour.space.host.service.KakaoMapService.Coordinate;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 공간 주소 변경과 좌표 반영. 저장된 좌표가 있으면 바로 반영하고, 없으면 좌표 대기 상태로 두고
+ * geocoding_outbox 에 쌓아 GeocodingOutboxWorker 가 트랜잭션 밖에서 카카오맵 API 를 호출하게 한다.
+ * 외부 API 를 호출하지 않으므로 공간 저장 트랜잭션 안에서 호출해도 커넥션 점유 시간이 늘지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SpaceGeocodingService {
+
+    private final KakaoMapService kakaoMapService;
+    private final GeocodingOutboxRepository geocodingOutboxRepository;
+
+    @Transactional
+    public void changeAddress(Space space, String address) {
+        // 주소가 그대로이고 좌표가 있거나 이미 대기 중이면 할 일이 없다. 변환에 실패한 주소는 다시 시도한다.
+        if (Objects.equals(space.getAddress(), address) && !space.isGeocodingFailed()
+            && (space.getLatitude() != null || space.isGeocodingPending())) {
+            return;
+        }
+
+        Optional<Coordinate> cached = kakaoMapService.findCachedCoordinate(address);
+        Optional<GeocodingOutbox> pending = geocodingOutboxRepository.findBySpaceId(space.getId());
+        if (cached.isPresent()) {
+            space.updateAddress(address, cached.get().getLatitude(), cached.get().getLongitude());
+            pending.ifPresent(geocodingOutboxRepository::delete);
+            return;
+        }
+
+        space.updateAddressPendingGeocoding(address);
+        long now = System.currentTimeMillis();
+        pending.ifPresentOrElse(
+            outbox -> outbox.changeAddress(address, now),
+            () -> geocodingOutboxRepository.save(GeocodingOutbox.builder()
+                .spaceId(space.getId())
+                .address(address)
+                .nextAttemptAt(now)
+                .build()));
+    }
+}
@@ -1,28 +1,31 @@
 package com.beour.space.host.service;
 
 import com.beour.global.exception.error.errorcode.SpaceErrorCode;
-import com.beour.global.exception.error.errorcode.UserErrorCode;
 import com.beour.global.exception.exceptionType.SpaceNotFoundException;
 import com.beour.global.exception.exceptionType.UnauthorityException;
-import com.beour.global.exception.exceptionType.UserNotFoundException;
-import com.beour.global.file.ImageUploader;
-import com.beour.review.domain.repository.ReviewRepository;
+import com.beour.global.file.ImageUploadPipeline;
+import com.beour.global.file.ImageVariant;
+import com.beour.global.pagination.Cursor;
 import com.beour.space.domain.entity.*;
 import com.beour.space.domain.repository.*;
+import com.beour.space.domain.util.SpaceAddressUtils;
 import com.beour.space.host.dto.*;
 import com.beour.user.entity.User;
-import com.beour.user.repository.UserRepository;
+import com.beour.user.service.CurrentUserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -33,21 +36,25 @@ public class SpaceService {
     private final DescriptionRepository descriptionRepository;
     private final TagRepository tagRepository;
     private final SpaceImageRepository spaceImageRepository;
-    private final UserRepository userRepository;
-    private final ReviewRepository reviewRepository;
-    private final KakaoMapService kakaoMapService;
-    private final ImageUploader imageUploader;
+    private final CurrentUserService currentUserService;
+    private final SpaceGeocodingService spaceGeocodingService;
+    private final ImageUploadPipeline imageUploadPipeline;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    // 이미지 저장은 트랜잭션 밖에서 먼저 하고, DB 저장만 트랜잭션으로 묶는다.
+    // 좌표는 저장된 값이 없으면 GeocodingOutboxWorker 가 나중에 채운다.
     public Long registerSpace(SpaceRegisterRequestDto dto, MultipartFile thumbnailFile, List<MultipartFile> imageFiles) throws IOException {
         User host = findUserFromToken();
-        double[] latitudeAndLongitude = kakaoMapService.getLatitudeAndLongitude(dto.getAddress());
+        SpaceImageUrls uploaded = uploadSpaceImages(thumbnailFile, imageFiles);
 
-        // 썸네일 이미지 업로드
-        String thumbnailUrl = null;
-        if (thumbnailFile != null && !thumbnailFile.isEmpty()) {
-            thumbnailUrl = imageUploader.upload(thumbnailFile);
-        }
+        return transactionTemplate.execute(status -> {
+            imageUploadPipeline.deleteOnRollback(uploaded.all());
+            return saveSpace(dto, host, uploaded);
+        });
+    }
+
+    private Long saveSpace(SpaceRegisterRequestDto dto, User host, SpaceImageUrls uploaded) {
+        String thumbnailUrl = uploaded.thumbnailUrl();
 
         // 1. Space
         Space space = Space.builder()
@@ -56,15 +63,13 @@ public class SpaceService {
                 .spaceCategory(dto.getSpaceCategory())
                 .useCategory(dto.getUseCategory())
                 .maxCapacity(dto.getMaxCapacity())
-                .address(dto.getAddress())
                 .detailAddress(dto.getDetailAddress())
                 .pricePerHour(dto.getPricePerHour())
                 .thumbnailUrl(thumbnailUrl)
-                .latitude(latitudeAndLongitude[0])
-                .longitude(latitudeAndLongitude[1])
                 .avgRating(0.0)
                 .build();
         spaceRepository.save(space);
+        spaceGeocodingService.changeAddress(space, dto.getAddress());
 
         // 2. Description
         Description description = Description.builder()
@@ -86,22 +91,13 @@ public class SpaceService {
             tagRepository.saveAll(tags);
         }
 
-        // 4. SpaceImages - 다중 파일 업로드
-        if (imageFiles != null && !imageFiles.isEmpty()) {
-            List<String> imageUrls = new ArrayList<>();
-            for (MultipartFile file : imageFiles) {
-                if (!file.isEmpty()) {
-                    String imageUrl = imageUploader.upload(file);
-                    imageUrls.add(imageUrl);
-                }
-            }
-
-            if (!imageUrls.isEmpty()) {
-                List<SpaceImage> images = imageUrls.stream()
-                        .map(url -> SpaceImage.builder().space(space).imageUrl(url).build())
-                        .toList();
-                spaceImageRepository.saveAll(images);
-            }
+        // 4. SpaceImages - 업로드된 다중 파일
+        List<String> imageUrls = uploaded.imageUrls();
+        if (!imageUrls.isEmpty()) {
+            List<SpaceImage> images = imageUrls.stream()
+                    .map(url -> SpaceImage.builder().space(space).imageUrl(url).build())
+                    .toList();
+            spaceImageRepository.saveAll(images);
         }
 
         return space.getId();
@@ -109,7 +105,7 @@ public class SpaceService {
 
     @Transactional(readOnly = true)
     public SpaceSimpleResponseDto getSimpleSpaceInfo(Long spaceId) {
-        Space space = spaceRepository.findByIdAndDeletedAtIsNull(spaceId)
+        Space space = findCachedSpace(spaceId)
                 .orElseThrow(() -> new SpaceNotFoundException(SpaceErrorCode.SPACE_NOT_FOUND));
 
         List<String> tagContents = space.getTags().stream()
@@ -118,19 +114,19 @@ public class SpaceService {
 
         return new SpaceSimpleResponseDto(
                 space.getName(),
-                extractDongFromAddress(space.getAddress()),
+                SpaceAddressUtils.toDong(space.getAddress()),
                 space.getPricePerHour(),
                 tagContents,
-                space.getThumbnailUrl()
+                ImageVariant.CARD.urlOf(space.getThumbnailUrl())
         );
     }
 
     @Transactional(readOnly = true)
     public SpaceDetailResponseDto getDetailedSpaceInfo(Long spaceId) {
-        Space space = spaceRepository.findByIdAndDeletedAtIsNull(spaceId)
+        Space space = findCachedSpace(spaceId)
                 .orElseThrow(() -> new SpaceNotFoundException(SpaceErrorCode.SPACE_NOT_FOUND));
 
-        Description desc = space.getDescription();
+        Description desc = findDescription(space);
 
         return SpaceDetailResponseDto.builder()
                 .id(space.getId())
@@ -142,7 +138,7 @@ public class SpaceService {
                 .spaceCategory(space.getSpaceCategory())
                 .useCategory(space.getUseCategory())
                 .avgRating(space.getAvgRating())
-                .thumbnailUrl(space.getThumbnailUrl())
+                .thumbnailUrl(ImageVariant.DETAIL.urlOf(space.getThumbnailUrl()))
                 .description(desc.getDescription())
                 .priceGuide(desc.getPriceGuide())
                 .facilityNotice(desc.getFacilityNotice())
@@ -150,7 +146,7 @@ public class SpaceService {
                 .locationDescription(desc.getLocationDescription())
                 .refundPolicy(desc.getRefundPolicy())
                 .tags(space.getTags().stream().map(Tag::getContents).toList())
-                .imageUrls(space.getSpaceImages().stream().map(SpaceImage::getImageUrl).toList())
+                .imageUrls(space.getSpaceImages().stream().map(SpaceImage::getImageUrl).map(ImageVariant.DETAIL::urlOf).toList())
                 .build();
     }
 
@@ -164,20 +160,7 @@ public class SpaceService {
             throw new IllegalStateException("조회된 공간이 없습니다.");
         }
 
-        List<HostMySpaceListResponseDto> spaces = spacePage.getContent().stream()
-                .map(space -> {
-                    long reviewCount = getReviewCountBySpaceId(space.getId());
-                    return HostMySpaceListResponseDto.of(
-                            space.getId(),
-                            space.getName(),
-                            extractDongFromAddress(space.getAddress()),
-                            space.getMaxCapacity(),
-                            space.getAvgRating(),
-                            reviewCount,
-                            space.getThumbnailUrl()
-                    );
-                })
-                .collect(Collectors.toList());
+        List<HostMySpaceListResponseDto> spaces = toMySpaceResponses(spacePage.getContent());
 
         return new HostMySpaceListPageResponseDto(
                 spaces,
@@ -186,26 +169,77 @@ public class SpaceService {
         );
     }
 
-    @Transactional
+    /**
+     * 커서 모드. 등록 순서 (createdAt, id) 에서 커서 뒤의 공간만 읽고 전체 개수는 세지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public HostMySpaceListPageResponseDto getMySpacesByCursor(String cursorToken, int size) {
+        User host = findUserFromToken();
+        Cursor cursor = Cursor.decode(cursorToken);
+        Pageable limit = PageRequest.ofSize(size);
+
+        Slice<Space> spaceSlice = cursor == null
+                ? spaceRepository.findFirstHostSpaceSlice(host, limit)
+                : spaceRepository.findHostSpaceSliceAfter(host, cursor.dateTime(), cursor.id(), limit);
+
+        if (spaceSlice.isEmpty()) {
+            throw new IllegalStateException("조회된 공간이 없습니다.");
+        }
+
+        return HostMySpaceListPageResponseDto.ofCursor(
+                toMySpaceResponses(spaceSlice.getContent()),
+                !spaceSlice.hasNext(),
+                Cursor.nextOf(spaceSlice, space -> Cursor.of(space.getCreatedAt(), space.getId()))
+        );
+    }
+
+    private List<HostMySpaceListResponseDto> toMySpaceResponses(List<Space> spaces) {
+        return spaces.stream()
+                .map(space -> HostMySpaceListResponseDto.of(
+                        space.getId(),
+                        space.getName(),
+                        SpaceAddressUtils.toDong(space.getAddress()),
+                        space.getMaxCapacity(),
+                        space.getAvgRating(),
+                        space.getReviewCount(),
+                        ImageVariant.CARD.urlOf(space.getThumbnailUrl()),
+                        space.isGeocodingPending(),
+                        space.isGeocodingFailed()
+                ))
+                .collect(Collectors.toList());
+    }
+
+    // 남의 공간 수정 요청이 파일을 저장했다 지우게 하지 않도록 소유자 확인을 업로드 전에 먼저 하고, 트랜잭션 안에서 다시 한다.
     public void updateSpace(Long spaceId, SpaceUpdateRequestDto dto, MultipartFile thumbnailFile, List<MultipartFile> imageFiles) throws IOException {
+        findSpaceByIdAndCheckOwnership(spaceId);
+        SpaceImageUrls uploaded = uploadSpaceImages(thumbnailFile, imageFiles);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            imageUploadPipeline.deleteOnRollback(uploaded.all());
+            applySpaceUpdate(spaceId, dto, uploaded, imageFiles != null && !imageFiles.isEmpty());
+        });
+    }
+
+    private void applySpaceUpdate(Long spaceId, SpaceUpdateRequestDto dto, SpaceImageUrls uploaded,
+                                  boolean replaceImages) {
         Space space = findSpaceByIdAndCheckOwnership(spaceId);
-        double[] latitudeAndLongitude = kakaoMapService.getLatitudeAndLongitude(dto.getAddress());
 
-        // 썸네일 이미지 업로드 (새 파일이 있는 경우에만)
+        // 썸네일 (새 파일이 있는 경우에만 교체)
         String thumbnailUrl = space.getThumbnailUrl(); // 기존 URL 유지
-        if (thumbnailFile != null && !thumbnailFile.isEmpty()) {
-            thumbnailUrl = imageUploader.upload(thumbnailFile);
+        if (uploaded.thumbnailUrl() != null) {
+            thumbnailUrl = uploaded.thumbnailUrl();
         }
 
         // 1. Space 수정
         space.update(
-                dto.getName(), dto.getAddress(), dto.getDetailAddress(), dto.getPricePerHour(),
+                dto.getName(), dto.getDetailAddress(), dto.getPricePerHour(),
                 dto.getMaxCapacity(), dto.getSpaceCategory(), dto.getUseCategory(),
-                thumbnailUrl, latitudeAndLongitude[0], latitudeAndLongitude[1]
+                thumbnailUrl
         );
+        spaceGeocodingService.changeAddress(space, dto.getAddress());
 
         // 2. Description 수정
-        Description desc = space.getDescription();
+        Description desc = findDescription(space);
         desc.update(
                 dto.getDescription(), dto.getPriceGuide(), dto.getFacilityNotice(), dto.getNotice(),
                 dto.getLocationDescription(), dto.getRefundPolicy()
@@ -223,19 +257,12 @@ public class SpaceService {
         }
 
         // 4. Images 재저장 (새 파일들이 있는 경우에만)
-        if (imageFiles != null && !imageFiles.isEmpty()) {
+        if (replaceImages) {
             // 기존 이미지들 삭제
             spaceImageRepository.deleteBySpace(space);
 
-            // 새 이미지들 업로드 및 저장
-            List<String> imageUrls = new ArrayList<>();
-            for (MultipartFile file : imageFiles) {
-                if (!file.isEmpty()) {
-                    String imageUrl = imageUploader.upload(file);
-                    imageUrls.add(imageUrl);
-                }
-            }
-
+            // 업로드된 새 이미지들 저장
+            List<String> imageUrls = uploaded.imageUrls();
             if (!imageUrls.isEmpty()) {
                 List<SpaceImage> images = imageUrls.stream()
                         .map(url -> SpaceImage.builder().space(space).imageUrl(url).build())
@@ -250,10 +277,7 @@ public class SpaceService {
         Space space = findSpaceByIdAndCheckOwnership(id);
 
         if (dto.getName() != null) space.updateName(dto.getName());
-        if (dto.getAddress() != null) {
-            double[] latLng = kakaoMapService.getLatitudeAndLongitude(dto.getAddress());
-            space.updateAddress(dto.getAddress(), latLng[0], latLng[1]);
-        }
+        if (dto.getAddress() != null) spaceGeocodingService.changeAddress(space, dto.getAddress());
         if (dto.getDetailAddress() != null) space.updateDetailAddress(dto.getDetailAddress());
         if (dto.getPricePerHour() != 0) space.updatePricePerHour(dto.getPricePerHour());
         if (dto.getMaxCapacity() != 0) space.updateMaxCapacity(dto.getMaxCapacity());
@@ -264,7 +288,7 @@ public class SpaceService {
     @Transactional
     public void updateSpaceDescription(Long id, SpaceUpdateRequestDto dto) {
         Space space = findSpaceByIdAndCheckOwnership(id);
-        Description desc = space.getDescription();
+        Description desc = findDescription(space);
 
         if (desc != null) {
             if (dto.getDescription() != null) desc.updateDescription(dto.getDescription());
@@ -304,21 +328,6 @@ public class SpaceService {
         space.delete();
     }
 
-    // 예: 서울시 강남구 역삼동 어딘가 123 -> 역삼동
-    private String extractDongFromAddress(String address) {
-        String[] parts = address.split(" ");
-        if (parts.length >= 3) {
-            String dong = parts[2];
-            // '동'이 포함되어 있으면 그대로 반환, 없으면 구까지만 반환
-            return dong.contains("동") ? dong : parts[1];
-        }
-        return address;
-    }
-
-    private long getReviewCountBySpaceId(Long spaceId) {
-        return reviewRepository.countBySpaceIdAndDeletedAtIsNull(spaceId);
-    }
-
     private Space findSpaceByIdAndCheckOwnership(Long spaceId) {
         User currentUser = findUserFromToken();
         Space space = spaceRepository.findByIdAndDeletedAtIsNull(spaceId)
@@ -331,9 +340,40 @@ public class SpaceService {
         return space;
     }
 
+    // 조건 조회와 달리 findById 는 2차 캐시를 먼저 보므로, 삭제 여부는 꺼낸 뒤 확인한다.
+    private Optional<Space> findCachedSpace(Long spaceId) {
+        return spaceRepository.findById(spaceId)
+                .filter(space -> space.getDeletedAt() == null);
+    }
+
+    private Description findDescription(Space space) {
+        return descriptionRepository.findCachedBySpace(space).orElse(null);
+    }
+
     private User findUserFromToken() {
-        String loginId = SecurityContextHolder.getContext().getAuthentication().getName();
-        return userRepository.findByLoginIdAndDeletedAtIsNull(loginId)
-                .orElseThrow(() -> new UserNotFoundException(UserErrorCode.USER_NOT_FOUND));
+        return currentUserService.getCurrentUser();
+    }
+
+    // 썸네일과 공간 이미지를 한 번에 병렬 저장한다. 썸네일이 있으면 첫 번째로 넣는다.
+    private SpaceImageUrls uploadSpaceImages(MultipartFile thumbnailFile, List<MultipartFile> imageFiles) throws IOException {
+        boolean hasThumbnail = thumbnailFile != null && !thumbnailFile.isEmpty();
+
+        List<MultipartFile> files = new ArrayList<>();
+        if (hasThumbnail) {
+            files.add(thumbnailFile);
+        }
+        if (imageFiles != null) {
+            imageFiles.stream().filter(file -> !file.isEmpty()).forEach(files::add);
+        }
+
+        List<String> urls = imageUploadPipeline.uploadAll(files);
+        if (hasThumbnail) {
+            return new SpaceImageUrls(urls.get(0), urls.subList(1, urls.size()), urls);
+        }
+        return new SpaceImageUrls(null, urls, urls);
+    }
+
+    private record SpaceImageUrls(String thumbnailUrl, List<String> imageUrls, List<String> all) {
+
     }
 }
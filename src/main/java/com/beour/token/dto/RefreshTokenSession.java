@@ -0,0 +1,26 @@
+package com.beour.token.dto;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 로그인 세션(살아있는 refresh 토큰) 하나의 발급/만료 시각.
+ */
+@Getter
+@AllArgsConstructor
+public class RefreshTokenSession {
+
+    private final LocalDateTime issuedAt;
+    private final LocalDateTime expiresAt;
+
+    public static RefreshTokenSession of(long issuedAtMillis, long expiresAtMillis) {
+        return new RefreshTokenSession(toLocalDateTime(issuedAtMillis), toLocalDateTime(expiresAtMillis));
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
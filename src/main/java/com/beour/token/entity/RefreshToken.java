@@ -1,13 +1,26 @@
 package com.beour.token.entity;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.*;
 
+/**
+ * 발급한 refresh 토큰. 토큰 원문 대신 SHA-256 해시를 유니크 키로 저장하고,
+ * 만료 시각은 만료 토큰 일괄 삭제를 위해 epoch millis 로 저장한다.
+ */
 @Getter
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_refresh_token_token_hash", columnNames = "token_hash"),
+    indexes = {
+        @Index(name = "idx_refresh_token_login_id", columnList = "login_id"),
+        @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at")
+    })
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class RefreshToken {
 
@@ -15,14 +28,22 @@ public class RefreshToken {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Column(name = "login_id")
     private String loginId;
-    private String refresh;
-    private String expiration;
+
+    @Column(name = "token_hash", length = 64)
+    private String tokenHash;
+
+    private long issuedAt;
+
+    @Column(name = "expires_at")
+    private long expiresAt;
 
     @Builder
-    public RefreshToken(String loginId, String refresh, String expiration) {
+    public RefreshToken(String loginId, String tokenHash, long issuedAt, long expiresAt) {
         this.loginId = loginId;
-        this.refresh = refresh;
-        this.expiration = expiration;
+        this.tokenHash = tokenHash;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
     }
 }
@@ -1,14 +1,37 @@
 package com.beour.token.repository;
 
 import com.beour.token.entity.RefreshToken;
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
-    Boolean existsByRefresh(String refresh);
+    boolean existsByTokenHashAndExpiresAtGreaterThan(String tokenHash, long now);
     Boolean existsByLoginId(String loginId);
 
+    List<RefreshToken> findByLoginIdAndExpiresAtGreaterThanOrderByIssuedAtDesc(String loginId, long now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.tokenHash = :tokenHash")
+    int deleteByTokenHash(@Param("tokenHash") String tokenHash);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.loginId = :loginId")
+    int deleteByLoginId(@Param("loginId") String loginId);
+
+    // 한 번에 많은 행을 지워 락을 오래 잡지 않도록 batchSize 만큼씩 나눠 지운다.
     @Transactional
-    void deleteByRefresh(String refresh);
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "refresh_token"))
+    @Query(value = "DELETE FROM refresh_token WHERE expires_at <= :now LIMIT :batchSize", nativeQuery = true)
+    int deleteExpired(@Param("now") long now, @Param("batchSize") int batchSize);
 }
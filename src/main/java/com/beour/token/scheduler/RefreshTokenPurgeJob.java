@@ -0,0 +1,26 @@
+package com.beour.token.scheduler;
+
+import com.beour.token.service.RefreshTokenStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그아웃하지 않고 만료된 refresh 토큰을 주기적으로 삭제한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenPurgeJob {
+
+    private final RefreshTokenStore refreshTokenStore;
+
+    @Scheduled(cron = "${token.refresh-store.purge-cron:0 */10 * * * *}")
+    public void purge() {
+        int purged = refreshTokenStore.purgeExpired(System.currentTimeMillis());
+        if (purged > 0) {
+            log.info("Purged {} expired refresh tokens", purged);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.beour.token.service;
+
+import com.beour.global.jwt.TokenHashUtils;
+import com.beour.token.dto.RefreshTokenSession;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 서버 배포용 메모리 refresh 토큰 저장소. 서버가 재시작되면 모든 세션이 사라진다.
+ *
+ * <p>만료 처리는 만료 시각을 tickMillis 단위 칸으로 나눈 타이머 휠로 한다.
+ * 토큰은 자신의 만료 칸에 등록되고, 정리할 때는 현재 시각 이전의 칸만 통째로 꺼내므로
+ * 전체 토큰을 훑지 않고 만료된 토큰만 지운다.
+ */
+@Component
+@ConditionalOnProperty(name = "token.refresh-store.type", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private final long tickMillis;
+    private final Map<String, StoredToken> tokens = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> tokenHashesByLoginId = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Long, Set<String>> expiryWheel = new ConcurrentSkipListMap<>();
+
+    public InMemoryRefreshTokenStore(@Value("${token.refresh-store.tick-millis:60000}") long tickMillis) {
+        this.tickMillis = tickMillis;
+    }
+
+    @Override
+    public void save(String loginId, String refresh, long expiresAtMillis) {
+        String tokenHash = TokenHashUtils.sha256Hex(refresh);
+        StoredToken storedToken = new StoredToken(loginId, System.currentTimeMillis(), expiresAtMillis);
+
+        StoredToken previous = tokens.put(tokenHash, storedToken);
+        if (previous != null) {
+            unlink(tokenHash, previous);
+        }
+        tokenHashesByLoginId.compute(loginId, (key, hashes) -> {
+            Set<String> result = hashes == null ? ConcurrentHashMap.newKeySet() : hashes;
+            result.add(tokenHash);
+            return result;
+        });
+        expiryWheel.computeIfAbsent(slotOf(expiresAtMillis), key -> ConcurrentHashMap.newKeySet())
+            .add(tokenHash);
+    }
+
+    @Override
+    public boolean exists(String refresh) {
+        StoredToken storedToken = tokens.get(TokenHashUtils.sha256Hex(refresh));
+        return storedToken != null && storedToken.expiresAt() > System.currentTimeMillis();
+    }
+
+    @Override
+    public boolean revoke(String refresh) {
+        String tokenHash = TokenHashUtils.sha256Hex(refresh);
+        StoredToken removed = tokens.remove(tokenHash);
+        if (removed == null) {
+            return false;
+        }
+
+        unlink(tokenHash, removed);
+        return true;
+    }
+
+    // 삭제는 ConcurrentHashMap.remove 한 번으로 끝나므로 같은 토큰으로 동시에 호출해도 한 호출만 저장까지 간다.
+    @Override
+    public boolean rotate(String refresh, String loginId, String newRefresh, long expiresAtMillis) {
+        if (!revoke(refresh)) {
+            return false;
+        }
+
+        save(loginId, newRefresh, expiresAtMillis);
+        return true;
+    }
+
+    @Override
+    public List<RefreshTokenSession> findSessions(String loginId) {
+        Set<String> hashes = tokenHashesByLoginId.get(loginId);
+        if (hashes == null) {
+            return List.of();
+        }
+
+        long now = System.currentTimeMillis();
+        return hashes.stream()
+            .map(tokens::get)
+            .filter(Objects::nonNull)
+            .filter(token -> token.expiresAt() > now)
+            .sorted(Comparator.comparingLong(StoredToken::issuedAt).reversed())
+            .map(token -> RefreshTokenSession.of(token.issuedAt(), token.expiresAt()))
+            .toList();
+    }
+
+    @Override
+    public int revokeAll(String loginId) {
+        Set<String> hashes = tokenHashesByLoginId.remove(loginId);
+        if (hashes == null) {
+            return 0;
+        }
+
+        int revoked = 0;
+        for (String tokenHash : hashes) {
+            StoredToken removed = tokens.remove(tokenHash);
+            if (removed != null) {
+                removeFromWheel(tokenHash, removed);
+                revoked++;
+            }
+        }
+        return revoked;
+    }
+
+    @Override
+    public int purgeExpired(long now) {
+        long currentSlot = slotOf(now);
+        int purged = 0;
+
+        // 현재 칸보다 앞선 칸의 토큰은 모두 now 이전에 만료되었다.
+        Map.Entry<Long, Set<String>> slot;
+        while ((slot = expiryWheel.firstEntry()) != null && slot.getKey() < currentSlot) {
+            expiryWheel.remove(slot.getKey(), slot.getValue());
+            for (String tokenHash : slot.getValue()) {
+                StoredToken storedToken = tokens.get(tokenHash);
+                if (storedToken != null && storedToken.expiresAt() <= now
+                    && tokens.remove(tokenHash, storedToken)) {
+                    removeFromLoginId(tokenHash, storedToken);
+                    purged++;
+                }
+            }
+        }
+        return purged;
+    }
+
+    int size() {
+        return tokens.size();
+    }
+
+    private long slotOf(long epochMillis) {
+        return Math.floorDiv(epochMillis, tickMillis);
+    }
+
+    private void unlink(String tokenHash, StoredToken storedToken) {
+        removeFromLoginId(tokenHash, storedToken);
+        removeFromWheel(tokenHash, storedToken);
+    }
+
+    private void removeFromLoginId(String tokenHash, StoredToken storedToken) {
+        tokenHashesByLoginId.computeIfPresent(storedToken.loginId(), (key, hashes) -> {
+            hashes.remove(tokenHash);
+            return hashes.isEmpty() ? null : hashes;
+        });
+    }
+
+    private void removeFromWheel(String tokenHash, StoredToken storedToken) {
+        expiryWheel.computeIfPresent(slotOf(storedToken.expiresAt()), (key, hashes) -> {
+            hashes.remove(tokenHash);
+            return hashes.isEmpty() ? null : hashes;
+        });
+    }
+
+    private record StoredToken(String loginId, long issuedAt, long expiresAt) {
+
+    }
+}
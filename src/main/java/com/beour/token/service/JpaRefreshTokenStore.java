@@ -0,0 +1,87 @@
+package com.beour.token.service;
+
+import com.beour.global.jwt.TokenHashUtils;
+import com.beour.token.dto.RefreshTokenSession;
+import com.beour.token.entity.RefreshToken;
+import com.beour.token.repository.RefreshTokenRepository;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@ConditionalOnProperty(name = "token.refresh-store.type", havingValue = "jpa", matchIfMissing = true)
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final int purgeBatchSize;
+
+    public JpaRefreshTokenStore(RefreshTokenRepository refreshTokenRepository,
+        @Value("${token.refresh-store.purge-batch-size:1000}") int purgeBatchSize) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.purgeBatchSize = purgeBatchSize;
+    }
+
+    @Override
+    public void save(String loginId, String refresh, long expiresAtMillis) {
+        refreshTokenRepository.save(newToken(loginId, refresh, expiresAtMillis));
+    }
+
+    @Override
+    public boolean exists(String refresh) {
+        return refreshTokenRepository.existsByTokenHashAndExpiresAtGreaterThan(
+            TokenHashUtils.sha256Hex(refresh), System.currentTimeMillis());
+    }
+
+    @Override
+    public boolean revoke(String refresh) {
+        return refreshTokenRepository.deleteByTokenHash(TokenHashUtils.sha256Hex(refresh)) > 0;
+    }
+
+    // 삭제한 행이 있을 때만 저장한다. 저장이 실패하면 삭제도 함께 롤백되어 기존 토큰이 남는다.
+    @Override
+    @Transactional
+    public boolean rotate(String refresh, String loginId, String newRefresh, long expiresAtMillis) {
+        if (refreshTokenRepository.deleteByTokenHash(TokenHashUtils.sha256Hex(refresh)) == 0) {
+            return false;
+        }
+
+        refreshTokenRepository.saveAndFlush(newToken(loginId, newRefresh, expiresAtMillis));
+        return true;
+    }
+
+    @Override
+    public List<RefreshTokenSession> findSessions(String loginId) {
+        return refreshTokenRepository.findByLoginIdAndExpiresAtGreaterThanOrderByIssuedAtDesc(
+                loginId, System.currentTimeMillis()).stream()
+            .map(token -> RefreshTokenSession.of(token.getIssuedAt(), token.getExpiresAt()))
+            .toList();
+    }
+
+    @Override
+    public int revokeAll(String loginId) {
+        return refreshTokenRepository.deleteByLoginId(loginId);
+    }
+
+    @Override
+    public int purgeExpired(long now) {
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = refreshTokenRepository.deleteExpired(now, purgeBatchSize);
+            purged += deleted;
+        } while (deleted == purgeBatchSize);
+
+        return purged;
+    }
+
+    private static RefreshToken newToken(String loginId, String refresh, long expiresAtMillis) {
+        return RefreshToken.builder()
+            .loginId(loginId)
+            .tokenHash(TokenHashUtils.sha256Hex(refresh))
+            .issuedAt(System.currentTimeMillis())
+            .expiresAt(expiresAtMillis)
+            .build();
+    }
+}
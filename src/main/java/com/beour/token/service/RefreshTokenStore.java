@@ -0,0 +1,46 @@
+package com.beour.token.service;
+
+import com.beour.token.dto.RefreshTokenSession;
+import java.util.List;
+
+/**
+ * 발급한 refresh 토큰 저장소. 토큰은 원문이 아닌 SHA-256 해시로 보관한다.
+ *
+ * <p>기본 구현은 DB({@link JpaRefreshTokenStore})이고, 단일 서버 배포에서는
+ * {@code token.refresh-store.type=memory} 로 메모리 구현({@link InMemoryRefreshTokenStore})을 쓸 수 있다.
+ */
+public interface RefreshTokenStore {
+
+    void save(String loginId, String refresh, long expiresAtMillis);
+
+    /**
+     * 저장되어 있고 아직 만료되지 않은 토큰인지 확인한다.
+     */
+    boolean exists(String refresh);
+
+    /**
+     * 토큰을 삭제한다. 저장되어 있지 않았다면 false 를 반환한다.
+     */
+    boolean revoke(String refresh);
+
+    /**
+     * 기존 토큰을 삭제하고 새 토큰을 저장하는 것을 한 번에 처리한다.
+     * 기존 토큰을 이 호출이 삭제하지 못했다면 새 토큰을 저장하지 않고 false 를 반환한다.
+     */
+    boolean rotate(String refresh, String loginId, String newRefresh, long expiresAtMillis);
+
+    /**
+     * 회원의 만료되지 않은 세션을 최근 발급 순으로 반환한다.
+     */
+    List<RefreshTokenSession> findSessions(String loginId);
+
+    /**
+     * 회원의 모든 세션을 삭제하고 삭제한 개수를 반환한다.
+     */
+    int revokeAll(String loginId);
+
+    /**
+     * now 시점에 만료된 토큰을 삭제하고 삭제한 개수를 반환한다.
+     */
+    int purgeExpired(long now);
+}
@@ -1,6 +1,7 @@
 package com.beour.user.controller;
 
 import com.beour.global.response.ApiResponse;
+import com.beour.token.dto.RefreshTokenSession;
 import com.beour.user.dto.ChangePasswordRequestDto;
 import com.beour.user.dto.UpdateUserInfoRequestDto;
 import com.beour.user.dto.UpdateUserInfoResponseDto;
@@ -8,6 +9,7 @@ import com.beour.user.dto.UserInformationDetailResponseDto;
 import com.beour.user.dto.UserInformationSimpleResponseDto;
 import com.beour.user.service.MyInformationService;
 import jakarta.validation.Valid;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -45,6 +47,18 @@ public class MyInfomationController {
         return ApiResponse.ok("비밀번호 변경이 완료되었습니다.");
     }
 
+    @GetMapping("/me/sessions")
+    public ApiResponse<List<RefreshTokenSession>> readSessions(){
+        return ApiResponse.ok(myInformationService.getSessions());
+    }
+
+    @DeleteMapping("/me/sessions")
+    public ApiResponse<String> revokeAllSessions(){
+        myInformationService.revokeAllSessions();
+
+        return ApiResponse.ok("모든 기기에서 로그아웃되었습니다.");
+    }
+
     @DeleteMapping
     public ApiResponse<String> userWithdraw(){
         myInformationService.deleteUser();
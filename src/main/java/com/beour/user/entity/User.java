@@ -3,8 +3,10 @@ package com.beour.user.entity;
 import com.beour.global.entity.BaseTimeEntity;
 
 import com.beour.user.dto.SignupRequestDto;
+import com.beour.user.listener.UserEntityListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -16,6 +18,7 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor
 @Entity
+@EntityListeners(UserEntityListener.class)
 public class User extends BaseTimeEntity {
 
     @Id
@@ -0,0 +1,15 @@
+package com.beour.user.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 회원 정보가 저장/수정/삭제(탈퇴 포함)되었음을 알리는 이벤트.
+ * 현재 로그인 회원 캐시는 이 이벤트를 받아 해당 회원을 비운다.
+ */
+@Getter
+@AllArgsConstructor
+public class UserChangedEvent {
+
+    private final String loginId;
+}
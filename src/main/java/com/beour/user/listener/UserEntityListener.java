@@ -0,0 +1,31 @@
+package com.beour.user.listener;
+
+import com.beour.user.entity.User;
+import com.beour.user.event.UserChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원 엔티티가 저장/수정/삭제되면 {@link UserChangedEvent} 를 발행한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(User user) {
+        if (user.getLoginId() == null) {
+            return;
+        }
+
+        eventPublisher.publishEvent(new UserChangedEvent(user.getLoginId()));
+    }
+}
@@ -0,0 +1,118 @@
+package com.beour.user.service;
+
+import com.beour.global.exception.error.errorcode.UserErrorCode;
+import com.beour.global.exception.exceptionType.UserNotFoundException;
+import com.beour.user.entity.User;
+import com.beour.user.event.UserChangedEvent;
+import com.beour.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 토큰의 loginId 로 현재 로그인한 회원을 찾는다.
+ * 요청 단위(request attribute)와 짧은 TTL 의 공유 캐시 두 단계로 보관해 인증된 요청마다 나가던 회원 조회를 없앤다.
+ *
+ * <p>반환되는 회원은 영속성 컨텍스트에 속하지 않은 읽기 전용 스냅샷이다. 연관관계 참조나 조회 조건으로만 쓰고,
+ * 회원 정보를 수정하는 곳에서는 {@link UserRepository} 로 직접 조회한다.
+ */
+@Service
+public class CurrentUserService {
+
+    private static final String REQUEST_ATTRIBUTE_KEY = CurrentUserService.class.getName() + ".user";
+
+    private final UserRepository userRepository;
+    private final Cache<String, User> cache;
+
+    public CurrentUserService(UserRepository userRepository, MeterRegistry meterRegistry,
+        @Value("${user.current-user-cache.ttl:30s}") Duration ttl,
+        @Value("${user.current-user-cache.maximum-size:10000}") long maximumSize) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+            .expireAfterWrite(ttl)
+            .maximumSize(maximumSize)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "currentUser");
+    }
+
+    public User getCurrentUser() {
+        String loginId = SecurityContextHolder.getContext().getAuthentication().getName();
+
+        return findByLoginId(loginId).orElseThrow(
+            () -> new UserNotFoundException(UserErrorCode.USER_NOT_FOUND)
+        );
+    }
+
+    // 비로그인 사용자도 접근 가능한 API 용. 로그인하지 않았거나 회원이 없으면 null
+    public User findCurrentUserOrNull() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null || !authentication.isAuthenticated()
+            || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+
+        return findByLoginId(authentication.getName()).orElse(null);
+    }
+
+    public void evict(String loginId) {
+        cache.invalidate(loginId);
+
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (findInRequest(requestAttributes, loginId) != null) {
+            requestAttributes.removeAttribute(REQUEST_ATTRIBUTE_KEY, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    // 커밋 이후에 비워야 커밋 전 값을 다른 요청이 다시 캐시에 올리는 일이 없다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        evict(event.getLoginId());
+    }
+
+    private Optional<User> findByLoginId(String loginId) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        User requestUser = findInRequest(requestAttributes, loginId);
+        if (requestUser != null) {
+            return Optional.of(requestUser);
+        }
+
+        User user = cache.getIfPresent(loginId);
+        if (user == null) {
+            user = userRepository.findByLoginIdAndDeletedAtIsNull(loginId).orElse(null);
+            if (user == null) {
+                return Optional.empty();
+            }
+            cache.put(loginId, user);
+        }
+
+        if (requestAttributes != null) {
+            requestAttributes.setAttribute(REQUEST_ATTRIBUTE_KEY, user, RequestAttributes.SCOPE_REQUEST);
+        }
+        return Optional.of(user);
+    }
+
+    private static User findInRequest(RequestAttributes requestAttributes, String loginId) {
+        if (requestAttributes == null) {
+            return null;
+        }
+
+        Object user = requestAttributes.getAttribute(REQUEST_ATTRIBUTE_KEY, RequestAttributes.SCOPE_REQUEST);
+        if (user instanceof User requestUser && requestUser.getLoginId().equals(loginId)) {
+            return requestUser;
+        }
+        return null;
+    }
+}
@@ -5,8 +5,7 @@ import com.beour.global.exception.exceptionType.TokenExpiredException;
 import com.beour.global.exception.exceptionType.TokenNotFoundException;
 import com.beour.global.exception.exceptionType.UserNotFoundException;
 import com.beour.global.jwt.JWTUtil;
-import com.beour.token.entity.RefreshToken;
-import com.beour.token.repository.RefreshTokenRepository;
+import com.beour.token.service.RefreshTokenStore;
 import com.beour.user.dto.FindLoginIdRequestDto;
 import com.beour.user.dto.FindLoginIdResponseDto;
 import com.beour.user.dto.ResetPasswordRequestDto;
@@ -18,7 +17,6 @@ import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import java.security.SecureRandom;
-import java.util.Date;
 import java.util.Random;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -32,7 +30,7 @@ public class LoginService {
     private final UserRepository userRepository;
     private final BCryptPasswordEncoder bCryptPasswordEncoder;
     private final JWTUtil jwtUtil;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
 
     public FindLoginIdResponseDto findLoginId(FindLoginIdRequestDto dto) {
         User user = userRepository.findByNameAndPhoneAndEmailAndDeletedAtIsNull(dto.getName(),
@@ -115,24 +113,17 @@ public class LoginService {
         }
 
         if (!"refresh".equals(jwtUtil.getCategory(refresh))
-            || !refreshTokenRepository.existsByRefresh(refresh)) {
+            || !refreshTokenStore.exists(refresh)) {
             throw new TokenNotFoundException(UserErrorCode.REFRESH_TOKEN_NOT_FOUND);
         }
     }
 
+    // 동시에 같은 토큰으로 재발급 요청이 오면 먼저 삭제한 요청만 새 토큰을 받는다.
+    // 삭제와 저장은 저장소가 한 번에 처리하므로 저장이 실패해도 기존 토큰이 사라지지 않는다.
     private void refreshTokenRotation(String refresh, String loginId, String newRefreshToken) {
-        refreshTokenRepository.deleteByRefresh(refresh);
-        addRefreshToken(loginId, newRefreshToken);
-    }
-
-    private void addRefreshToken(String loginId, String newRefreshToken) {
-        RefreshToken refreshToken = RefreshToken.builder()
-            .loginId(loginId)
-            .refresh(newRefreshToken)
-            .expiration(new Date(System.currentTimeMillis()
-                + TokenExpireTime.REFRESH_TOKEN_EXPIRATION_MILLIS.getValue()).toString())
-            .build();
-
-        refreshTokenRepository.save(refreshToken);
+        if (!refreshTokenStore.rotate(refresh, loginId, newRefreshToken, System.currentTimeMillis()
+            + TokenExpireTime.REFRESH_TOKEN_EXPIRATION_MILLIS.getValue())) {
+            throw new TokenNotFoundException(UserErrorCode.REFRESH_TOKEN_NOT_FOUND);
+        }
     }
 }
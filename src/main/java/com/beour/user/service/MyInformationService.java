@@ -11,6 +11,8 @@ import com.beour.reservation.commons.enums.ReservationStatus;
 import com.beour.reservation.commons.repository.ReservationRepository;
 import com.beour.space.domain.entity.Space;
 import com.beour.space.domain.repository.SpaceRepository;
+import com.beour.token.dto.RefreshTokenSession;
+import com.beour.token.service.RefreshTokenStore;
 import com.beour.user.dto.ChangePasswordRequestDto;
 import com.beour.user.dto.UpdateUserInfoRequestDto;
 import com.beour.user.dto.UpdateUserInfoResponseDto;
@@ -30,6 +32,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class MyInformationService {
 
     private final UserRepository userRepository;
+    private final CurrentUserService currentUserService;
+    private final RefreshTokenStore refreshTokenStore;
     private final ReservationRepository reservationRepository;
     private final SpaceRepository spaceRepository;
     private final SignupService signupService;
@@ -37,7 +41,7 @@ public class MyInformationService {
 
     @Transactional
     public void updatePassword(ChangePasswordRequestDto changePasswordRequestDto) {
-        User user = findUserFromToken();
+        User user = findManagedUserFromToken();
         user.updatePassword(
             bCryptPasswordEncoder.encode(changePasswordRequestDto.getNewPassword()));
     }
@@ -61,7 +65,7 @@ public class MyInformationService {
 
     @Transactional
     public UpdateUserInfoResponseDto updateUserInfo(UpdateUserInfoRequestDto requestDto) {
-        User user = findUserFromToken();
+        User user = findManagedUserFromToken();
 
         if (!requestDto.getNewNickname().isEmpty()) {
             signupService.checkNicknameDuplicate(requestDto.getNewNickname());
@@ -76,19 +80,28 @@ public class MyInformationService {
             throw new InputInvalidFormatException(GlobalErrorCode.NO_INFO_TO_UPDATE);
         }
 
-        User updatedUser = findUserFromToken();
         return UpdateUserInfoResponseDto.builder()
-            .newNickname(updatedUser.getNickname())
-            .newPhone(updatedUser.getPhone())
+            .newNickname(user.getNickname())
+            .newPhone(user.getPhone())
             .build();
     }
 
     @Transactional
     public void deleteUser() {
-        User user = findUserFromToken();
+        User user = findManagedUserFromToken();
         checkWithDrawable(user);
 
         user.softDelete();
+        refreshTokenStore.revokeAll(user.getLoginId());
+    }
+
+    public List<RefreshTokenSession> getSessions() {
+        return refreshTokenStore.findSessions(findUserFromToken().getLoginId());
+    }
+
+    // 모든 기기에서 로그아웃. 이미 발급된 access 토큰은 만료 시까지 유효하다.
+    public void revokeAllSessions() {
+        refreshTokenStore.revokeAll(findUserFromToken().getLoginId());
     }
 
     private void checkWithDrawable(User user) {
@@ -123,6 +136,11 @@ public class MyInformationService {
     }
 
     private User findUserFromToken() {
+        return currentUserService.getCurrentUser();
+    }
+
+    // 회원 정보를 수정하는 경우 캐시된 스냅샷이 아닌 영속 상태의 회원을 조회
+    private User findManagedUserFromToken() {
         String loginId = SecurityContextHolder.getContext().getAuthentication().getName();
 
         return userRepository.findByLoginIdAndDeletedAtIsNull(loginId).orElseThrow(
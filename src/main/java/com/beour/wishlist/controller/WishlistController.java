@@ -38,7 +38,12 @@ public class WishlistController {
     }
 
     @GetMapping("/api/likes")
-    public ApiResponse<WishListPageResponseDto> getWishlist(@PageableDefault(size = 10) Pageable pageable){
+    public ApiResponse<WishListPageResponseDto> getWishlist(
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @PageableDefault(size = 10) Pageable pageable){
+        if (cursor != null) {
+            return ApiResponse.ok(wishlistService.getWishlistByCursor(cursor, pageable.getPageSize()));
+        }
         return ApiResponse.ok(wishlistService.getWishlist(pageable));
     }
 }
@@ -1,6 +1,7 @@
 package com.beour.wishlist.dto;
 
 import com.beour.space.guest.dto.SpaceListSpaceResponseDto;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -10,5 +11,17 @@ import lombok.Getter;
 public class WishListPageResponseDto {
     private List<SpaceListSpaceResponseDto> spaces;
     private boolean isLast;
-    private int totalPage;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer totalPage;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
+    public WishListPageResponseDto(List<SpaceListSpaceResponseDto> spaces, boolean isLast, int totalPage) {
+        this(spaces, isLast, totalPage, null);
+    }
+
+    public static WishListPageResponseDto ofCursor(List<SpaceListSpaceResponseDto> spaces, boolean isLast,
+        String nextCursor) {
+        return new WishListPageResponseDto(spaces, isLast, null, nextCursor);
+    }
 }
@@ -1,11 +1,16 @@
 package com.beour.wishlist.repository;
 
 import com.beour.wishlist.entity.Like;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface LikeRepository extends JpaRepository<Like, Long> {
     boolean existsByUserIdAndSpaceId(Long userId, Long spaceId);
@@ -21,5 +26,29 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
 
     Page<Like> findByUserIdAndDeletedAtIsNull(Long userId, Pageable pageable);
 
+    @Query("""
+        SELECT l FROM Like l JOIN FETCH l.space
+        WHERE l.user.id = :userId AND l.deletedAt IS NULL
+        ORDER BY l.createdAt DESC, l.id DESC
+        """)
+    Slice<Like> findFirstWishlistSlice(@Param("userId") Long userId, Pageable pageable);
+
+    // (createdAt, id) 가 커서보다 앞선 행부터 이어서 읽는다. OFFSET 과 COUNT 없이 다음 페이지 유무만 확인한다.
+    @Query("""
+        SELECT l FROM Like l JOIN FETCH l.space
+        WHERE l.user.id = :userId AND l.deletedAt IS NULL
+          AND (l.createdAt < :createdAt OR (l.createdAt = :createdAt AND l.id < :id))
+        ORDER BY l.createdAt DESC, l.id DESC
+        """)
+    Slice<Like> findWishlistSliceAfter(@Param("userId") Long userId,
+        @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("""
+        SELECT l.space.id FROM Like l
+        WHERE l.user.id = :userId AND l.space.id IN :spaceIds AND l.deletedAt IS NULL
+        """)
+    List<Long> findLikedSpaceIds(@Param("userId") Long userId,
+        @Param("spaceIds") Collection<Long> spaceIds);
+
 }
 
@@ -1,27 +1,26 @@
 package com.beour.wishlist.service;
 
 import com.beour.global.exception.error.errorcode.SpaceErrorCode;
-import com.beour.global.exception.error.errorcode.UserErrorCode;
 import com.beour.global.exception.error.errorcode.WishListErrorCode;
 import com.beour.global.exception.exceptionType.DuplicateLikesException;
 import com.beour.global.exception.exceptionType.LikesNotFoundException;
 import com.beour.global.exception.exceptionType.SpaceNotFoundException;
-import com.beour.global.exception.exceptionType.UserNotFoundException;
-import com.beour.review.domain.repository.ReviewRepository;
+import com.beour.global.pagination.Cursor;
 import com.beour.space.domain.entity.Space;
 import com.beour.space.domain.repository.SpaceRepository;
 import com.beour.space.guest.dto.SpaceListSpaceResponseDto;
 import com.beour.user.entity.User;
-import com.beour.user.repository.UserRepository;
+import com.beour.user.service.CurrentUserService;
 import com.beour.wishlist.dto.WishListPageResponseDto;
 import com.beour.wishlist.entity.Like;
 import com.beour.wishlist.repository.LikeRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,8 +30,7 @@ public class WishlistService {
 
     private final LikeRepository likeRepository;
     private final SpaceRepository spaceRepository;
-    private final UserRepository userRepository;
-    private final ReviewRepository reviewRepository;
+    private final CurrentUserService currentUserService;
 
     @Transactional
     public Like addSpaceToWishList(Long spaceId) {
@@ -85,27 +83,44 @@ public class WishlistService {
             throw new LikesNotFoundException(WishListErrorCode.EMPTY_WISHLIST);
         }
 
-        List<SpaceListSpaceResponseDto> spaces = whisList.stream()
-            .map(like -> {
-                Space space = like.getSpace();
-                Long reviewCount = getReviewCountBySpaceId(space.getId());
-                return SpaceListSpaceResponseDto.of(space, true, reviewCount);
-            })
-            .collect(Collectors.toList());
+        List<SpaceListSpaceResponseDto> spaces = toSpaceResponses(whisList.getContent());
 
         return new WishListPageResponseDto(spaces, whisList.isLast(), whisList.getTotalPages());
     }
 
-    private long getReviewCountBySpaceId(Long spaceId) {
-        return reviewRepository.countBySpaceIdAndDeletedAtIsNull(spaceId);
+    /**
+     * 커서 모드. 최근에 찜한 순서 (createdAt, id) 로 커서 뒤의 찜만 읽고 전체 개수는 세지 않는다.
+     */
+    public WishListPageResponseDto getWishlistByCursor(String cursorToken, int size) {
+        User user = findUserFromToken();
+        Cursor cursor = Cursor.decode(cursorToken);
+        Pageable limit = PageRequest.ofSize(size);
+
+        Slice<Like> likeSlice = cursor == null
+            ? likeRepository.findFirstWishlistSlice(user.getId(), limit)
+            : likeRepository.findWishlistSliceAfter(user.getId(), cursor.dateTime(), cursor.id(),
+                limit);
+
+        if (likeSlice.isEmpty()) {
+            throw new LikesNotFoundException(WishListErrorCode.EMPTY_WISHLIST);
+        }
+
+        return WishListPageResponseDto.ofCursor(toSpaceResponses(likeSlice.getContent()),
+            !likeSlice.hasNext(),
+            Cursor.nextOf(likeSlice, like -> Cursor.of(like.getCreatedAt(), like.getId())));
+    }
+
+    private List<SpaceListSpaceResponseDto> toSpaceResponses(List<Like> likes) {
+        return likes.stream()
+            .map(like -> {
+                Space space = like.getSpace();
+                return SpaceListSpaceResponseDto.of(space, true, (long) space.getReviewCount());
+            })
+            .collect(Collectors.toList());
     }
 
     private User findUserFromToken() {
-        String loginId = SecurityContextHolder.getContext().getAuthentication().getName();
-
-        return userRepository.findByLoginIdAndDeletedAtIsNull(loginId).orElseThrow(
-            () -> new UserNotFoundException(UserErrorCode.USER_NOT_FOUND)
-        );
+        return currentUserService.getCurrentUser();
     }
 
 }
@@ -0,0 +1,97 @@
+package com.beour.global.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.beour.review.domain.event.ReviewChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HomeFeedCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private HomeFeedCache homeFeedCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        homeFeedCache = new HomeFeedCache(new ObjectMapper(), meterRegistry, Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("홈 화면 목록 - 두번째 요청부터 직렬화된 본문을 그대로 반환")
+    void get_same_feed_hits_cache() {
+        //given
+        AtomicInteger loads = new AtomicInteger();
+
+        //when
+        byte[] first = homeFeedCache.get(HomeFeed.NEW_SPACES, () -> {
+            loads.incrementAndGet();
+            return List.of("공간1");
+        });
+        byte[] second = homeFeedCache.get(HomeFeed.NEW_SPACES, () -> {
+            loads.incrementAndGet();
+            return List.of("공간2");
+        });
+
+        //then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first, StandardCharsets.UTF_8))
+            .isEqualTo("{\"code\":200,\"httpStatus\":\"OK\",\"data\":[\"공간1\"]}");
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "homeFeed")
+            .tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("홈 화면 목록 - 리뷰 변경 이벤트를 받으면 새 리뷰 목록만 다시 읽음")
+    void review_changed_evicts_new_reviews() {
+        //given
+        homeFeedCache.get(HomeFeed.NEW_REVIEWS, () -> List.of("리뷰1"));
+        homeFeedCache.get(HomeFeed.BANNERS, () -> List.of("배너1"));
+
+        //when
+        homeFeedCache.onReviewChanged(new ReviewChangedEvent(1L));
+        byte[] reviews = homeFeedCache.get(HomeFeed.NEW_REVIEWS, () -> List.of("리뷰2"));
+        byte[] banners = homeFeedCache.get(HomeFeed.BANNERS, () -> List.of("배너2"));
+
+        //then
+        assertThat(new String(reviews, StandardCharsets.UTF_8)).contains("리뷰2");
+        assertThat(new String(banners, StandardCharsets.UTF_8)).contains("배너1");
+    }
+
+    @Test
+    @DisplayName("홈 화면 목록 - 적재 중 무효화되면 읽은 본문을 캐시에 넣지 않음")
+    void evict_while_loading_does_not_cache_stale_body() {
+        //when
+        byte[] stale = homeFeedCache.get(HomeFeed.BANNERS, () -> {
+            homeFeedCache.evict(HomeFeed.BANNERS);
+            return List.of("배너1");
+        });
+        byte[] fresh = homeFeedCache.get(HomeFeed.BANNERS, () -> List.of("배너2"));
+
+        //then
+        assertThat(new String(stale, StandardCharsets.UTF_8)).contains("배너1");
+        assertThat(new String(fresh, StandardCharsets.UTF_8)).contains("배너2");
+    }
+
+    @Test
+    @DisplayName("홈 화면 목록 - 조회 중 예외는 그대로 전파되고 캐시에 남지 않음")
+    void loader_exception_is_not_cached() {
+        //when
+        assertThrows(IllegalStateException.class, () -> homeFeedCache.get(HomeFeed.BANNERS, () -> {
+            throw new IllegalStateException("조회된 배너가 없습니다.");
+        }));
+        byte[] banners = homeFeedCache.get(HomeFeed.BANNERS, () -> List.of("배너1"));
+
+        //then
+        assertThat(new String(banners, StandardCharsets.UTF_8)).contains("배너1");
+    }
+}
@@ -0,0 +1,113 @@
+package com.beour.global.config;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.beour.global.file.ImageUploader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class UploadResourceTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ImageUploader imageUploader;
+
+    @Value("${file.path}")
+    private String filePath;
+
+    @Value("${file.url}")
+    private String fileUrl;
+
+    @AfterEach
+    void cleanUp() throws IOException {
+        Path uploadDir = Paths.get(filePath);
+        if (Files.exists(uploadDir)) {
+            Files.walk(uploadDir)
+                    .map(Path::toFile)
+                    .filter(File::isFile)
+                    .forEach(File::delete);
+        }
+    }
+
+    @Test
+    @DisplayName("업로드 파일 조회 - 장기 캐시 헤더와 ETag")
+    void serve_upload_with_immutable_cache() throws Exception {
+        // given
+        String fileName = upload("sample.png", "mock image content");
+
+        // when then
+        mockMvc.perform(get("/uploads/" + fileName))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + fileName + "\""))
+                .andExpect(content().bytes("mock image content".getBytes()));
+    }
+
+    @Test
+    @DisplayName("업로드 파일 조회 - ETag 일치 시 304")
+    void not_modified_when_etag_matches() throws Exception {
+        // given
+        String fileName = upload("sample.png", "mock image content");
+
+        // when then
+        mockMvc.perform(get("/uploads/" + fileName)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + fileName + "\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("업로드 파일 조회 - Range 요청")
+    void partial_content_for_range_request() throws Exception {
+        // given
+        String fileName = upload("sample.png", "mock image content");
+
+        // when then
+        mockMvc.perform(get("/uploads/" + fileName)
+                        .header(HttpHeaders.RANGE, "bytes=0-3"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 0-3/18"))
+                .andExpect(content().bytes("mock".getBytes()));
+    }
+
+    @Test
+    @DisplayName("업로드 파일 조회 - 압축되지 않은 형식은 gzip 사본 전송")
+    void serve_precompressed_variant() throws Exception {
+        // given
+        String fileName = upload("icon.svg", "<svg xmlns=\"http://www.w3.org/2000/svg\"></svg>");
+        assertThat(new File(filePath + fileName + ".gz")).exists();
+
+        // when then
+        mockMvc.perform(get("/uploads/" + fileName)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, "Accept-Encoding"));
+    }
+
+    private String upload(String originalFilename, String content) throws IOException {
+        String url = imageUploader.upload(
+                new MockMultipartFile("image", originalFilename, "image/png", content.getBytes()));
+        return url.replace(fileUrl, "");
+    }
+}
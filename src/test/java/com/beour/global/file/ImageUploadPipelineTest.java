@@ -0,0 +1,105 @@
+package com.beour.global.file;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ImageUploadPipelineTest {
+
+    @Autowired
+    private ImageUploadPipeline imageUploadPipeline;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${file.path}")
+    private String filePath;
+
+    @Value("${file.url}")
+    private String fileUrl;
+
+    @AfterEach
+    void cleanUp() throws IOException {
+        Path uploadDir = Paths.get(filePath);
+        if (Files.exists(uploadDir)) {
+            Files.walk(uploadDir)
+                    .map(Path::toFile)
+                    .filter(File::isFile)
+                    .forEach(File::delete);
+        }
+    }
+
+    @Test
+    @DisplayName("다중 이미지 업로드 - 입력 순서대로 URL 반환")
+    void upload_all_keeps_order() throws IOException {
+        // given
+        List<MultipartFile> files = IntStream.range(0, 10)
+                .<MultipartFile>mapToObj(i -> new MockMultipartFile(
+                        "image", "image" + i + ".png", "image/png", ("content" + i).getBytes()))
+                .toList();
+
+        // when
+        List<String> urls = imageUploadPipeline.uploadAll(files);
+
+        // then
+        assertThat(urls).hasSize(10).doesNotHaveDuplicates();
+        for (int i = 0; i < urls.size(); i++) {
+            assertThat(urls.get(i)).startsWith(fileUrl).endsWith(".png");
+            assertThat(savedFile(urls.get(i))).hasBinaryContent(("content" + i).getBytes());
+        }
+    }
+
+    @Test
+    @DisplayName("다중 이미지 업로드 - 트랜잭션 롤백 시 저장된 파일 삭제")
+    void delete_uploaded_files_on_rollback() throws IOException {
+        // given
+        List<String> urls = imageUploadPipeline.uploadAll(List.of(
+                new MockMultipartFile("image", "a.png", "image/png", "a".getBytes()),
+                new MockMultipartFile("image", "b.png", "image/png", "b".getBytes())));
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            imageUploadPipeline.deleteOnRollback(urls);
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(urls).allSatisfy(url -> assertThat(savedFile(url)).doesNotExist());
+    }
+
+    @Test
+    @DisplayName("다중 이미지 업로드 - 커밋 시 파일 유지")
+    void keep_uploaded_files_on_commit() throws IOException {
+        // given
+        List<String> urls = imageUploadPipeline.uploadAll(List.of(
+                new MockMultipartFile("image", "a.png", "image/png", "a".getBytes())));
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> imageUploadPipeline.deleteOnRollback(urls));
+
+        // then
+        assertThat(savedFile(urls.get(0))).exists();
+    }
+
+    private File savedFile(String url) {
+        return new File(filePath + url.replace(fileUrl, ""));
+    }
+}
@@ -8,9 +8,29 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ActiveProfiles;
 
+import javax.imageio.IIOException;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.awt.image.Raster;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -67,6 +87,110 @@ class ImageUploaderTest {
         assertThat(savedFile.exists()).isTrue();
     }
 
+    @Test
+    @DisplayName("이미지 업로드 - 같은 내용은 같은 URL 로 한 번만 저장")
+    void upload_same_content_returns_same_url() throws IOException {
+        // given
+        MockMultipartFile first = new MockMultipartFile("image", "first.png", "image/png", "same content".getBytes());
+        MockMultipartFile second = new MockMultipartFile("image", "second.PNG", "image/png", "same content".getBytes());
+
+        // when
+        String firstUrl = imageUploader.upload(first);
+        String secondUrl = imageUploader.upload(second);
+
+        // then
+        assertThat(secondUrl).isEqualTo(firstUrl);
+        assertThat(new File(filePath + firstUrl.replace(fileUrl, ""))).exists();
+    }
+
+    @Test
+    @DisplayName("이미지 업로드 - 목록용 축소본 생성")
+    void upload_creates_card_derivative() throws IOException {
+        // given
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_RGB), "png", png);
+        MockMultipartFile mockFile = new MockMultipartFile("image", "large.png", "image/png", png.toByteArray());
+
+        // when
+        String url = imageUploader.upload(mockFile);
+
+        // then
+        String cardUrl = ImageVariant.CARD.urlOf(url);
+        assertThat(cardUrl).isNotEqualTo(url).endsWith(".jpg");
+
+        BufferedImage card = ImageIO.read(new File(filePath + cardUrl.replace(fileUrl, "")));
+        assertThat(card.getWidth()).isEqualTo(480);
+        assertThat(card.getHeight()).isEqualTo(240);
+    }
+
+    @Test
+    @DisplayName("이미지 업로드 - ImageIO 가 풀지 못하는 CMYK JPEG 은 축소본 없이 원본만 저장")
+    void upload_undecodable_cmyk_jpeg_stores_original() throws IOException {
+        // given
+        byte[] jpeg = cmykJpeg();
+        assertThatThrownBy(() -> ImageIO.read(new ByteArrayInputStream(jpeg))).isInstanceOf(IIOException.class);
+        MockMultipartFile mockFile = new MockMultipartFile("image", "cmyk.jpg", "image/jpeg", jpeg);
+
+        // when
+        String url = imageUploader.upload(mockFile);
+
+        // then
+        assertThat(Files.readAllBytes(Paths.get(filePath + url.replace(fileUrl, "")))).isEqualTo(jpeg);
+        assertThat(Files.readAllBytes(Paths.get(filePath + ImageVariant.CARD.urlOf(url).replace(fileUrl, ""))))
+                .isEqualTo(jpeg);
+    }
+
+    @Test
+    @DisplayName("이미지 업로드 - 화소 수가 한도를 넘으면 디코딩하지 않고 원본만 저장")
+    void upload_oversized_dimensions_skips_derivatives() throws IOException {
+        // given
+        // 20000 x 20000 흑백 PNG 는 압축하면 수백 KB 지만 전부 풀면 수백 MB 가 된다.
+        byte[] png = blankPng(20_000, 20_000);
+        assertThat(20_000L * 20_000L).isGreaterThan(ImageDerivatives.MAX_PIXELS);
+        MockMultipartFile mockFile = new MockMultipartFile("image", "huge.png", "image/png", png);
+
+        // when
+        String url = imageUploader.upload(mockFile);
+
+        // then
+        assertThat(Files.readAllBytes(Paths.get(filePath + url.replace(fileUrl, "")))).isEqualTo(png);
+        assertThat(Files.readAllBytes(Paths.get(filePath + ImageVariant.CARD.urlOf(url).replace(fileUrl, ""))))
+                .isEqualTo(png);
+    }
+
+    @Test
+    @DisplayName("이미지 삭제 - 같은 내용의 업로드와 동시에 삭제해도 업로드가 돌려준 파일은 남는다")
+    void delete_concurrently_with_same_upload_keeps_returned_file() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < 100; i++) {
+                // given
+                byte[] content = ("shared content " + i).getBytes();
+                String url = imageUploader.upload(new MockMultipartFile("image", "a.png", "image/png", content));
+                CountDownLatch ready = new CountDownLatch(1);
+
+                // when
+                Future<?> deletion = executorService.submit(() -> {
+                    ready.await();
+                    imageUploader.delete(url);
+                    return null;
+                });
+                Future<String> upload = executorService.submit(() -> {
+                    ready.await();
+                    return imageUploader.upload(new MockMultipartFile("image", "b.png", "image/png", content));
+                });
+                ready.countDown();
+                deletion.get(10, TimeUnit.SECONDS);
+                String uploadedUrl = upload.get(10, TimeUnit.SECONDS);
+
+                // then
+                assertThat(new File(filePath + uploadedUrl.replace(fileUrl, ""))).exists();
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
     @Test
     @DisplayName("이미지 업로드 - 빈 파일")
     void upload_emptyFile() {
@@ -80,4 +204,53 @@ class ImageUploaderTest {
 
         assertThrows(ImageFileInvalidException.class, () -> imageUploader.upload(emptyFile));
     }
+
+    // 4채널 JPEG 에 Adobe 마커(transform=1)를 붙이면 헤더는 읽히지만 ImageIO 는 "Unsupported Image Type" 으로 디코딩을 거부한다.
+    private static byte[] cmykJpeg() throws IOException {
+        ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(jpeg)) {
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(Raster.createInterleavedRaster(DataBuffer.TYPE_BYTE, 64, 32, 4, null), null, null), null);
+        } finally {
+            writer.dispose();
+        }
+
+        byte[] written = jpeg.toByteArray();
+        ByteArrayOutputStream withAdobeMarker = new ByteArrayOutputStream();
+        withAdobeMarker.write(written, 0, 2);
+        withAdobeMarker.write(new byte[]{(byte) 0xFF, (byte) 0xEE, 0, 14, 'A', 'd', 'o', 'b', 'e', 0, 100, 0, 0, 0, 0, 1});
+        withAdobeMarker.write(written, 2, written.length - 2);
+        return withAdobeMarker.toByteArray();
+    }
+
+    private static byte[] blankPng(int width, int height) throws IOException {
+        ByteArrayOutputStream idat = new ByteArrayOutputStream();
+        try (DeflaterOutputStream deflater = new DeflaterOutputStream(idat, new Deflater(Deflater.BEST_COMPRESSION))) {
+            // 1비트 흑백, 각 행은 필터 바이트 하나와 화소 비트로 이루어진다.
+            byte[] row = new byte[1 + (width + 7) / 8];
+            for (int y = 0; y < height; y++) {
+                deflater.write(row);
+            }
+        }
+
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        png.write(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'});
+        writeChunk(png, "IHDR", ByteBuffer.allocate(13).putInt(width).putInt(height).put((byte) 1).put((byte) 0).array());
+        writeChunk(png, "IDAT", idat.toByteArray());
+        writeChunk(png, "IEND", new byte[0]);
+        return png.toByteArray();
+    }
+
+    private static void writeChunk(ByteArrayOutputStream png, String type, byte[] data) throws IOException {
+        byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(data);
+
+        png.write(ByteBuffer.allocate(4).putInt(data.length).array());
+        png.write(typeBytes);
+        png.write(data);
+        png.write(ByteBuffer.allocate(4).putInt((int) crc.getValue()).array());
+    }
 }
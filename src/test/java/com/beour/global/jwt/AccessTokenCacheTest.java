@@ -0,0 +1,72 @@
+package com.beour.global.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AccessTokenCacheTest {
+
+    private static final String SECRET = "access-token-cache-test-secret-key-0123456789";
+
+    private JWTUtil jwtUtil;
+    private SimpleMeterRegistry meterRegistry;
+    private AccessTokenCache accessTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JWTUtil(SECRET);
+        meterRegistry = new SimpleMeterRegistry();
+        accessTokenCache = new AccessTokenCache(jwtUtil, meterRegistry, 100);
+    }
+
+    @Test
+    @DisplayName("토큰 검증 - 같은 토큰은 두번째부터 캐시에서 꺼냄")
+    void verify_same_token_hits_cache() {
+        //given
+        String token = jwtUtil.createJwt("access", "testId", "ROLE_GUEST", 60_000L);
+
+        //when
+        JwtClaims first = accessTokenCache.verify(token);
+        JwtClaims second = accessTokenCache.verify(token);
+
+        //then
+        assertThat(second).isSameAs(first);
+        assertThat(second.getCategory()).isEqualTo("access");
+        assertThat(second.getLoginId()).isEqualTo("testId");
+        assertThat(second.getRole()).isEqualTo("ROLE_GUEST");
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "jwtAccessToken")
+            .tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "jwtAccessToken")
+            .tag("result", "miss").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("토큰 검증 - 만료된 토큰은 예외 발생, 캐시에 남지 않음")
+    void verify_expired_token() {
+        //given
+        String token = jwtUtil.createJwt("access", "testId", "ROLE_GUEST", -1_000L);
+
+        //when then
+        assertThrows(ExpiredJwtException.class, () -> accessTokenCache.verify(token));
+        assertThat(accessTokenCache.estimatedSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("토큰 검증 - 다른 키로 서명된 토큰은 캐시되지 않음")
+    void verify_token_signed_with_other_key() {
+        //given
+        JWTUtil otherJwtUtil = new JWTUtil("other-secret-key-for-access-token-cache-test");
+        String token = otherJwtUtil.createJwt("access", "testId", "ROLE_GUEST", 60_000L);
+
+        //when then
+        assertThrows(SignatureException.class,
+            () -> accessTokenCache.verify(token));
+        assertThat(accessTokenCache.estimatedSize()).isZero();
+    }
+}
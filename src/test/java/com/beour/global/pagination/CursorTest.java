@@ -0,0 +1,69 @@
+package com.beour.global.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.beour.global.exception.exceptionType.InputInvalidFormatException;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+class CursorTest {
+
+    @Test
+    @DisplayName("커서 - 인코딩한 값을 그대로 복원")
+    void encode_decode_roundTrip() {
+        //given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 7, 1, 12, 30, 15, 123456000);
+        String dateTimeToken = Cursor.of(createdAt, 42L).encode();
+        String distanceToken = Cursor.of(1234.5678901234, 7L).encode();
+
+        //when
+        Cursor dateTimeCursor = Cursor.decode(dateTimeToken);
+        Cursor distanceCursor = Cursor.decode(distanceToken);
+
+        //then
+        assertThat(dateTimeCursor.dateTime()).isEqualTo(createdAt);
+        assertThat(dateTimeCursor.id()).isEqualTo(42L);
+        assertThat(distanceCursor.distance()).isEqualTo(1234.5678901234);
+        assertThat(distanceCursor.id()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("커서 - 빈 값은 첫 페이지")
+    void decode_blank() {
+        //when //then
+        assertThat(Cursor.decode("")).isNull();
+        assertThat(Cursor.decode(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("커서 - 해석할 수 없는 값이면 예외")
+    void decode_invalid() {
+        //when //then
+        assertThatThrownBy(() -> Cursor.decode("%%%"))
+            .isInstanceOf(InputInvalidFormatException.class);
+        assertThatThrownBy(() -> Cursor.decode("bm8tc2VwYXJhdG9y")) // "no-separator"
+            .isInstanceOf(InputInvalidFormatException.class);
+        assertThatThrownBy(() -> Cursor.decode(new Cursor("abc", 1L).encode()).dateTime())
+            .isInstanceOf(InputInvalidFormatException.class);
+    }
+
+    @Test
+    @DisplayName("다음 커서 - 다음 페이지가 있을 때만 마지막 행으로 만든다")
+    void nextOf() {
+        //given
+        SliceImpl<Long> hasNext = new SliceImpl<>(List.of(1L, 2L), PageRequest.ofSize(2), true);
+        SliceImpl<Long> last = new SliceImpl<>(List.of(3L), PageRequest.ofSize(2), false);
+
+        //when
+        String nextCursor = Cursor.nextOf(hasNext, id -> Cursor.of(id * 10.0, id));
+
+        //then
+        assertThat(Cursor.decode(nextCursor)).isEqualTo(Cursor.of(20.0, 2L));
+        assertThat(Cursor.nextOf(last, id -> Cursor.of(id * 10.0, id))).isNull();
+    }
+}
@@ -0,0 +1,87 @@
+package com.beour.reservation.commons.availability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DailySlotMaskTest {
+
+    @Test
+    @DisplayName("운영 시간에서 예약된 슬롯을 뺀 시작 시각 조회")
+    void availableSlotStartTimes_excludesOccupied() {
+        //given
+        DailySlotMask slotMask = new DailySlotMask(60);
+        slotMask.open(LocalTime.of(9, 0), LocalTime.of(14, 0));
+        slotMask.occupy(LocalTime.of(10, 0), LocalTime.of(12, 0));
+
+        //when
+        List<LocalTime> result = slotMask.availableSlotStartTimes();
+
+        //then
+        assertThat(result).containsExactly(LocalTime.of(9, 0), LocalTime.of(12, 0), LocalTime.of(13, 0));
+    }
+
+    @Test
+    @DisplayName("30분 단위 슬롯에서 걸치는 예약만 충돌로 판단")
+    void isOccupied_subHourGranularity() {
+        //given
+        DailySlotMask slotMask = new DailySlotMask(30);
+        slotMask.occupy(LocalTime.of(10, 0), LocalTime.of(10, 30));
+
+        //when //then
+        assertThat(slotMask.isOccupied(LocalTime.of(9, 0), LocalTime.of(10, 0))).isFalse();
+        assertThat(slotMask.isOccupied(LocalTime.of(9, 30), LocalTime.of(10, 15))).isTrue();
+        assertThat(slotMask.isOccupied(LocalTime.of(10, 30), LocalTime.of(12, 0))).isFalse();
+    }
+
+    @Test
+    @DisplayName("요청 구간의 시작이 아닌 중간 슬롯이 예약되어 있어도 충돌로 판단")
+    void isOccupied_checksWholeRange() {
+        //given
+        DailySlotMask slotMask = new DailySlotMask(60);
+        slotMask.occupy(LocalTime.of(15, 0), LocalTime.of(16, 0));
+
+        //when //then
+        assertThat(slotMask.isOccupied(LocalTime.of(13, 0), LocalTime.of(17, 0))).isTrue();
+    }
+
+    @Test
+    @DisplayName("지난 시각까지 닫아도 운영 시작 전 슬롯은 열리지 않고, 자정 종료는 하루 끝으로 처리")
+    void closeThrough_keepsOpeningHours() {
+        //given
+        DailySlotMask slotMask = new DailySlotMask(60);
+        slotMask.open(LocalTime.of(20, 0), LocalTime.MIDNIGHT);
+
+        //when
+        slotMask.closeThrough(LocalTime.of(20, 10));
+
+        //then
+        assertThat(slotMask.availableSlotStartTimes()).containsExactly(LocalTime.of(21, 0), LocalTime.of(22, 0),
+            LocalTime.of(23, 0));
+    }
+
+    @Test
+    @DisplayName("밤 11시 이후 당일 조회는 예외 없이 빈 목록")
+    void closeThrough_lastSlot() {
+        //given
+        DailySlotMask slotMask = new DailySlotMask(60);
+        slotMask.open(LocalTime.of(1, 0), LocalTime.of(23, 0));
+
+        //when
+        slotMask.closeThrough(LocalTime.of(23, 30));
+
+        //then
+        assertThat(slotMask.availableSlotStartTimes()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("하루를 나누어떨어지게 하지 않는 슬롯 단위는 허용하지 않는다")
+    void constructor_rejectsInvalidGranularity() {
+        //when //then
+        assertThrows(IllegalArgumentException.class, () -> new DailySlotMask(7));
+    }
+}
@@ -0,0 +1,357 @@
+package com.beour.reservation.commons.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.beour.reservation.commons.enums.ReservationStatus;
+import com.beour.space.domain.entity.Space;
+import com.beour.space.domain.enums.SpaceCategory;
+import com.beour.space.domain.enums.UseCategory;
+import com.beour.space.domain.repository.SpaceRepository;
+import com.beour.user.entity.User;
+import com.beour.user.repository.UserRepository;
+import java.sql.DatabaseMetaData;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.util.StringUtils;
+
+/**
+ * ReservationRepository 메서드를 실제로 호출해 Hibernate 가 만든 SQL 을 그대로 받아 EXPLAIN 하고,
+ * reservation 테이블을 읽는 행이 기대한 idx_reservation_* 인덱스를 쓰는지 확인한다.
+ * 외래 키 인덱스만 있는 스키마에서는 실패해야 하므로 type 이 아니라 key 를 비교한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ReservationQueryPlanTest {
+
+    private static final int HOST_COUNT = 10;
+    private static final int SPACES_PER_HOST = 2;
+    private static final int GUEST_COUNT = 30;
+    private static final int RESERVATION_COUNT = 6000;
+    private static final int DAYS = 180;
+    private static final LocalTime NOW = LocalTime.of(12, 0);
+
+    private static final String HOST_DATE_START = "idx_reservation_host_date_start";
+    private static final String SPACE_DATE = "idx_reservation_space_date";
+    private static final String GUEST_DATE_END = "idx_reservation_guest_date_end";
+    private static final String STATUS_DATE = "idx_reservation_status_date";
+
+    private static final Pattern RESERVATION_ALIAS = Pattern.compile("\\bfrom\\s+reservation\\s+(\\w+)",
+        Pattern.CASE_INSENSITIVE);
+    private static final Pattern LIMIT = Pattern.compile("\\s+limit\\s+\\?(\\s*,\\s*\\?)?\\s*$",
+        Pattern.CASE_INSENSITIVE);
+
+    @TestConfiguration
+    static class TestConfig {
+        @Bean
+        public SqlCapture sqlCapture() {
+            return new SqlCapture();
+        }
+
+        @Bean
+        public HibernatePropertiesCustomizer sqlCaptureCustomizer(SqlCapture sqlCapture) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlCapture);
+        }
+    }
+
+    /**
+     * 다른 스레드(스케줄러 등)의 SQL 이 섞이지 않도록 capture 를 호출한 스레드의 SQL 만 모은다.
+     */
+    static class SqlCapture implements StatementInspector {
+
+        private final ThreadLocal<List<String>> captured = new ThreadLocal<>();
+
+        @Override
+        public String inspect(String sql) {
+            List<String> statements = captured.get();
+            if (statements != null) {
+                statements.add(sql);
+            }
+            return sql;
+        }
+
+        List<String> capture(Runnable query) {
+            List<String> statements = new ArrayList<>();
+            captured.set(statements);
+            try {
+                query.run();
+            } finally {
+                captured.remove();
+            }
+            return statements;
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private SqlCapture sqlCapture;
+    @Autowired
+    private ReservationRepository reservationRepository;
+    @Autowired
+    private SpaceRepository spaceRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private final List<User> hosts = new ArrayList<>();
+    private final List<User> guests = new ArrayList<>();
+    private final List<Space> spaces = new ArrayList<>();
+    private final LocalDate today = LocalDate.now();
+    private final LocalDate tomorrow = today.plusDays(1);
+
+    @BeforeEach
+    void setUp() throws MetaDataAccessException {
+        Assumptions.assumeTrue(isMySql(), "EXPLAIN 결과 형식이 MySQL 기준이다.");
+
+        for (int i = 0; i < HOST_COUNT; i++) {
+            User host = userRepository.save(user("host" + i, "HOST"));
+            hosts.add(host);
+            for (int j = 0; j < SPACES_PER_HOST; j++) {
+                spaces.add(spaceRepository.save(space(host, "공간" + i + "-" + j)));
+            }
+        }
+        for (int i = 0; i < GUEST_COUNT; i++) {
+            guests.add(userRepository.save(user("guest" + i, "GUEST")));
+        }
+
+        // 엔티티 리스너를 거치지 않도록 예약은 JDBC 로 한 번에 넣는다.
+        // 운영과 비슷하게 지난 예약은 대부분 완료, 앞으로의 예약은 대기/확정으로 둔다.
+        Random random = new Random(42);
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < RESERVATION_COUNT; i++) {
+            Space space = spaces.get(random.nextInt(spaces.size()));
+            LocalDate date = today.plusDays(random.nextInt(DAYS) - DAYS / 2);
+            LocalTime startTime = LocalTime.of(9 + random.nextInt(10), 0);
+            rows.add(new Object[]{
+                guests.get(random.nextInt(guests.size())).getId(),
+                space.getHost().getId(),
+                space.getId(),
+                statusOf(date, random).name(),
+                "BARISTA_TRAINING",
+                Date.valueOf(date),
+                Time.valueOf(startTime),
+                Time.valueOf(startTime.plusHours(1)),
+                15000,
+                2,
+                createdAt,
+                createdAt
+            });
+        }
+        jdbcTemplate.batchUpdate("""
+            INSERT INTO reservation (guest_id, host_id, space_id, status, usage_purpose, date,
+                start_time, end_time, price, guest_count, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """, rows);
+        jdbcTemplate.queryForList("ANALYZE TABLE reservation");
+    }
+
+    @AfterEach
+    void tearDown() {
+        reservationRepository.deleteAllInBatch();
+        spaceRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("호스트 예약 현황 조회 - (host_id, date, start_time) 인덱스 사용")
+    void hostReservationQueries() {
+        Long hostId = hosts.get(0).getId();
+        Long spaceId = spaces.get(0).getId();
+        ReservationStatus status = ReservationStatus.ACCEPTED;
+        PageRequest page = PageRequest.of(0, 10);
+
+        assertUsesIndex(() -> reservationRepository.findByHostIdAndDateAndDeletedAtIsNull(hostId, tomorrow),
+            List.of(hostId, Date.valueOf(tomorrow)), HOST_DATE_START);
+        assertUsesIndex(() -> reservationRepository.findByHostIdAndDateAndStatusAndDeletedAtIsNull(
+                hostId, tomorrow, status),
+            List.of(hostId, Date.valueOf(tomorrow), status.name()), HOST_DATE_START);
+        assertUsesIndex(() -> reservationRepository.findByHostIdAndDateAndDeletedAtIsNullOrderByStartTime(
+                hostId, tomorrow, page),
+            List.of(hostId, Date.valueOf(tomorrow)), HOST_DATE_START);
+        assertUsesIndex(() -> reservationRepository.findByHostIdAndDateAndStatusAndDeletedAtIsNullOrderByStartTime(
+                hostId, tomorrow, status, page),
+            List.of(hostId, Date.valueOf(tomorrow), status.name()), HOST_DATE_START);
+        assertUsesIndex(() -> reservationRepository.findByHostIdAndStatusInAndDeletedAtIsNull(
+                hostId, List.of(ReservationStatus.PENDING, ReservationStatus.ACCEPTED)),
+            List.of(hostId, "PENDING", "ACCEPTED"), HOST_DATE_START);
+
+        // 공간까지 지정하면 (space_id, date) 쪽이 더 좁을 수 있으므로 둘 중 하나면 된다.
+        assertUsesIndex(() -> reservationRepository.findByHostIdAndDateAndSpaceIdAndDeletedAtIsNull(
+                hostId, tomorrow, spaceId),
+            List.of(hostId, Date.valueOf(tomorrow), spaceId), HOST_DATE_START, SPACE_DATE);
+        assertUsesIndex(() -> reservationRepository.findByHostIdAndDateAndSpaceIdAndStatusAndDeletedAtIsNull(
+                hostId, tomorrow, spaceId, status),
+            List.of(hostId, Date.valueOf(tomorrow), spaceId, status.name()), HOST_DATE_START, SPACE_DATE);
+        assertUsesIndex(() -> reservationRepository.findByHostIdAndDateAndSpaceIdAndDeletedAtIsNullOrderByStartTime(
+                hostId, tomorrow, spaceId, page),
+            List.of(hostId, Date.valueOf(tomorrow), spaceId), HOST_DATE_START, SPACE_DATE);
+        assertUsesIndex(
+            () -> reservationRepository.findByHostIdAndDateAndSpaceIdAndStatusAndDeletedAtIsNullOrderByStartTime(
+                hostId, tomorrow, spaceId, status, page),
+            List.of(hostId, Date.valueOf(tomorrow), spaceId, status.name()), HOST_DATE_START, SPACE_DATE);
+    }
+
+    @Test
+    @DisplayName("공간 예약 가능 시간 조회 - (space_id, date) 인덱스 사용")
+    void spaceReservationQueries() {
+        Long spaceId = spaces.get(0).getId();
+        ReservationStatus rejected = ReservationStatus.REJECTED;
+
+        assertUsesIndex(() -> reservationRepository.findBySpaceIdAndDateAndDeletedAtIsNull(spaceId, tomorrow),
+            List.of(spaceId, Date.valueOf(tomorrow)), SPACE_DATE);
+        assertUsesIndex(() -> reservationRepository.findBySpaceIdAndDateAndStatusNot(spaceId, tomorrow, rejected),
+            List.of(spaceId, Date.valueOf(tomorrow), rejected.name()), SPACE_DATE);
+        assertUsesIndex(() -> reservationRepository.findBySpaceIdAndDateBetweenAndStatusNot(
+                spaceId, tomorrow, tomorrow.plusDays(30), rejected),
+            List.of(spaceId, Date.valueOf(tomorrow), Date.valueOf(tomorrow.plusDays(30)), rejected.name()),
+            SPACE_DATE);
+        assertUsesIndex(() -> reservationRepository.findBySpaceIdAndDeletedAtIsNull(spaceId),
+            List.of(spaceId), SPACE_DATE);
+    }
+
+    @Test
+    @DisplayName("게스트 예정/지난 예약 조회 - (guest_id, date, end_time) 인덱스 사용")
+    void guestReservationQueries() {
+        Long guestId = guests.get(0).getId();
+        Date todayDate = Date.valueOf(today);
+        Time now = Time.valueOf(NOW);
+        PageRequest page = PageRequest.of(0, 10);
+
+        assertUsesIndex(() -> reservationRepository.findUpcomingReservationsByGuest(guestId, today, NOW, page),
+            List.of(guestId, todayDate, todayDate, now), GUEST_DATE_END);
+        assertUsesIndex(() -> reservationRepository.findFirstUpcomingReservationSliceByGuest(
+                guestId, today, NOW, page),
+            List.of(guestId, todayDate, todayDate, now), GUEST_DATE_END);
+
+        Date afterDate = Date.valueOf(tomorrow);
+        Time afterTime = Time.valueOf(LocalTime.of(10, 0));
+        assertUsesIndex(() -> reservationRepository.findUpcomingReservationSliceByGuestAfter(
+                guestId, today, NOW, tomorrow, LocalTime.of(10, 0), 0L, page),
+            List.of(guestId, todayDate, todayDate, now, afterDate, afterDate, afterTime, afterTime, 0L),
+            GUEST_DATE_END);
+        assertUsesIndex(() -> reservationRepository.findPastReservationsByGuest(guestId, today, NOW, page),
+            List.of(guestId, todayDate, todayDate, now), GUEST_DATE_END);
+
+        assertUsesIndex(() -> reservationRepository.findReviewableReservationsByGuestId(guestId, today, NOW, page),
+            List.of(guestId, todayDate, todayDate, now), GUEST_DATE_END);
+        assertUsesIndex(() -> reservationRepository.findFirstReviewableReservationSliceByGuestId(
+                guestId, today, NOW, page),
+            List.of(guestId, todayDate, todayDate, now), GUEST_DATE_END);
+        assertUsesIndex(() -> reservationRepository.findCompletedReservationsWithSpaceByGuestId(guestId),
+            List.of(guestId), GUEST_DATE_END);
+        assertUsesIndex(() -> reservationRepository.findByGuestIdAndStatusInAndDeletedAtIsNull(
+                guestId, List.of(ReservationStatus.PENDING, ReservationStatus.ACCEPTED)),
+            List.of(guestId, "PENDING", "ACCEPTED"), GUEST_DATE_END);
+    }
+
+    @Test
+    @DisplayName("예약 완료 배치 조회 - (status, date) 인덱스 사용")
+    void completionJobQuery() {
+        Date todayDate = Date.valueOf(today);
+
+        assertUsesIndex(() -> reservationRepository.findFinishedIdsByStatusAfter(
+                ReservationStatus.ACCEPTED, today, NOW, 0L, PageRequest.of(0, 500)),
+            List.of("ACCEPTED", todayDate, todayDate, Time.valueOf(NOW), 0L), STATUS_DATE);
+    }
+
+    /**
+     * query 가 실행한 reservation 조회 SQL 을 모두 EXPLAIN 한다. Page 의 count 쿼리도 같은 조건을 쓰므로
+     * args 는 LIMIT 을 뺀 WHERE 절의 바인딩 값을 SQL 에 나오는 순서대로 넘긴다.
+     */
+    private void assertUsesIndex(Runnable query, List<Object> args, String... expectedKeys) {
+        List<String> statements = sqlCapture.capture(query).stream()
+            .filter(sql -> RESERVATION_ALIAS.matcher(sql).find())
+            .toList();
+        assertThat(statements).as("reservation 을 읽는 SQL").isNotEmpty();
+
+        for (String sql : statements) {
+            Matcher alias = RESERVATION_ALIAS.matcher(sql);
+            alias.find();
+            String table = alias.group(1);
+            String explained = LIMIT.matcher(sql).replaceAll(" limit 10");
+            assertThat(StringUtils.countOccurrencesOf(explained, "?"))
+                .as("바인딩 값 개수: %s", sql)
+                .isEqualTo(args.size());
+
+            List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + explained, args.toArray());
+
+            assertThat(plan)
+                .filteredOn(row -> table.equals(row.get("table")))
+                .as("EXPLAIN %s -> %s", sql, plan)
+                .isNotEmpty()
+                .allSatisfy(row -> assertThat(row.get("key")).isIn((Object[]) expectedKeys));
+        }
+    }
+
+    private static ReservationStatus statusOf(LocalDate date, Random random) {
+        int roll = random.nextInt(100);
+        if (date.isBefore(LocalDate.now())) {
+            return roll < 90 ? ReservationStatus.COMPLETED
+                : roll < 95 ? ReservationStatus.ACCEPTED : ReservationStatus.REJECTED;
+        }
+        return roll < 40 ? ReservationStatus.PENDING
+            : roll < 90 ? ReservationStatus.ACCEPTED : ReservationStatus.REJECTED;
+    }
+
+    private boolean isMySql() throws MetaDataAccessException {
+        return Boolean.TRUE.equals(JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(),
+            (DatabaseMetaData metaData) -> "MySQL".equals(metaData.getDatabaseProductName())));
+    }
+
+    private static User user(String loginId, String role) {
+        return User.builder()
+            .loginId(loginId)
+            .password("password!")
+            .name(loginId)
+            .nickname(loginId)
+            .email(loginId + "@gmail.com")
+            .phone("01012345678")
+            .role(role)
+            .build();
+    }
+
+    private static Space space(User host, String name) {
+        return Space.builder()
+            .host(host)
+            .name(name)
+            .spaceCategory(SpaceCategory.COOKING)
+            .useCategory(UseCategory.COOKING)
+            .maxCapacity(3)
+            .address("서울시 강남구")
+            .detailAddress("투썸건물 2층")
+            .pricePerHour(15000)
+            .thumbnailUrl("https://example.img")
+            .latitude(37.5)
+            .longitude(127.0)
+            .avgRating(0.0)
+            .availableTimes(new ArrayList<>())
+            .build();
+    }
+}
@@ -0,0 +1,154 @@
+package com.beour.reservation.commons.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.beour.reservation.commons.entity.Reservation;
+import com.beour.reservation.commons.entity.ReservationDailyStat;
+import com.beour.reservation.commons.enums.ReservationStatus;
+import com.beour.reservation.commons.enums.UsagePurpose;
+import com.beour.reservation.commons.repository.ReservationDailyStatRepository;
+import com.beour.reservation.commons.repository.ReservationRepository;
+import com.beour.space.domain.entity.Space;
+import com.beour.space.domain.enums.SpaceCategory;
+import com.beour.space.domain.enums.UseCategory;
+import com.beour.space.domain.repository.SpaceRepository;
+import com.beour.user.entity.User;
+import com.beour.user.repository.UserRepository;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(properties = "reservation.completion.batch-size=1")
+@ActiveProfiles("test")
+class ReservationCompletionJobTest {
+
+    @Autowired
+    private ReservationCompletionJob reservationCompletionJob;
+    @Autowired
+    private ReservationRepository reservationRepository;
+    @Autowired
+    private ReservationDailyStatRepository reservationDailyStatRepository;
+    @Autowired
+    private SpaceRepository spaceRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private User guest;
+    private User host;
+    private Space space;
+
+    @BeforeEach
+    void setUp() {
+        guest = User.builder()
+            .loginId("guest")
+            .password("guestpassword!")
+            .name("게스트")
+            .nickname("guest")
+            .email("guest@gmail.com")
+            .phone("01012345678")
+            .role("GUEST")
+            .build();
+        userRepository.save(guest);
+
+        host = User.builder()
+            .loginId("host1")
+            .password("host1password!")
+            .name("호스트1")
+            .nickname("host1")
+            .email("host1@gmail.com")
+            .phone("01012345678")
+            .role("HOST")
+            .build();
+        userRepository.save(host);
+
+        space = Space.builder()
+            .host(host)
+            .name("공간1")
+            .spaceCategory(SpaceCategory.COOKING)
+            .useCategory(UseCategory.COOKING)
+            .maxCapacity(3)
+            .address("서울시 강남구")
+            .detailAddress("투썸건물 2층")
+            .pricePerHour(15000)
+            .thumbnailUrl("https://example.img")
+            .latitude(37.5)
+            .longitude(127.0)
+            .avgRating(0.0)
+            .availableTimes(new ArrayList<>())
+            .build();
+        spaceRepository.save(space);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reservationRepository.deleteAll();
+        reservationDailyStatRepository.deleteAll();
+        spaceRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("예약 완료 배치 - 이용이 끝난 승인 예약만 사용 완료로 변경")
+    void completeFinishedReservations() {
+        //given
+        Reservation finished1 = saveReservation(ReservationStatus.ACCEPTED, LocalDate.now().minusDays(2));
+        Reservation finished2 = saveReservation(ReservationStatus.ACCEPTED, LocalDate.now().minusDays(1));
+        Reservation pending = saveReservation(ReservationStatus.PENDING, LocalDate.now().minusDays(1));
+        Reservation upcoming = saveReservation(ReservationStatus.ACCEPTED, LocalDate.now().plusDays(1));
+
+        //when
+        reservationCompletionJob.completeFinishedReservations();
+
+        //then
+        assertEquals(ReservationStatus.COMPLETED, statusOf(finished1));
+        assertEquals(ReservationStatus.COMPLETED, statusOf(finished2));
+        assertEquals(ReservationStatus.PENDING, statusOf(pending));
+        assertEquals(ReservationStatus.ACCEPTED, statusOf(upcoming));
+    }
+
+    @Test
+    @DisplayName("예약 완료 배치 - 사용 완료로 바꾼 공간, 날짜의 일별 통계를 다시 집계")
+    void completeFinishedReservationsRefreshesDailyStat() {
+        //given
+        LocalDate date = LocalDate.now().minusDays(1);
+        saveReservation(ReservationStatus.ACCEPTED, date);
+        saveReservation(ReservationStatus.ACCEPTED, date);
+
+        //when
+        reservationCompletionJob.completeFinishedReservations();
+
+        //then
+        ReservationDailyStat stat = reservationDailyStatRepository
+            .findBySpaceIdAndDateBetweenOrderByDateAsc(space.getId(), date, date).get(0);
+        assertEquals(0, stat.getAcceptedCount());
+        assertEquals(2, stat.getCompletedCount());
+        assertEquals(60000, stat.getRevenue());
+    }
+
+    private Reservation saveReservation(ReservationStatus status, LocalDate date) {
+        return reservationRepository.save(Reservation.builder()
+            .guest(guest)
+            .host(host)
+            .space(space)
+            .status(status)
+            .usagePurpose(UsagePurpose.BARISTA_TRAINING)
+            .requestMessage("테스트")
+            .date(date)
+            .startTime(LocalTime.of(10, 0, 0))
+            .endTime(LocalTime.of(12, 0, 0))
+            .price(30000)
+            .guestCount(2)
+            .build());
+    }
+
+    private ReservationStatus statusOf(Reservation reservation) {
+        return reservationRepository.findById(reservation.getId()).orElseThrow().getStatus();
+    }
+}
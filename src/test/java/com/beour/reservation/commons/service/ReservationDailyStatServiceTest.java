@@ -0,0 +1,167 @@
+package com.beour.reservation.commons.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.beour.reservation.commons.entity.Reservation;
+import com.beour.reservation.commons.entity.ReservationDailyStat;
+import com.beour.reservation.commons.enums.ReservationStatus;
+import com.beour.reservation.commons.enums.UsagePurpose;
+import com.beour.reservation.commons.repository.ReservationDailyStatRepository;
+import com.beour.reservation.commons.repository.ReservationRepository;
+import com.beour.reservation.commons.scheduler.ReservationDailyStatReconcileJob;
+import com.beour.space.domain.entity.Space;
+import com.beour.space.domain.enums.SpaceCategory;
+import com.beour.space.domain.enums.UseCategory;
+import com.beour.space.domain.repository.SpaceRepository;
+import com.beour.user.entity.User;
+import com.beour.user.repository.UserRepository;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ReservationDailyStatServiceTest {
+
+    @Autowired
+    private ReservationDailyStatReconcileJob reservationDailyStatReconcileJob;
+    @Autowired
+    private ReservationDailyStatRepository reservationDailyStatRepository;
+    @Autowired
+    private ReservationRepository reservationRepository;
+    @Autowired
+    private SpaceRepository spaceRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User guest;
+    private User host;
+    private Space space;
+    private LocalDate date;
+
+    @BeforeEach
+    void setUp() {
+        guest = User.builder()
+            .loginId("guest")
+            .password("guestpassword!")
+            .name("게스트")
+            .nickname("guest")
+            .email("guest@gmail.com")
+            .phone("01012345678")
+            .role("GUEST")
+            .build();
+        userRepository.save(guest);
+
+        host = User.builder()
+            .loginId("host1")
+            .password("host1password!")
+            .name("호스트1")
+            .nickname("host1")
+            .email("host1@gmail.com")
+            .phone("01012345678")
+            .role("HOST")
+            .build();
+        userRepository.save(host);
+
+        space = Space.builder()
+            .host(host)
+            .name("공간1")
+            .spaceCategory(SpaceCategory.COOKING)
+            .useCategory(UseCategory.COOKING)
+            .maxCapacity(3)
+            .address("서울시 강남구")
+            .detailAddress("투썸건물 2층")
+            .pricePerHour(15000)
+            .thumbnailUrl("https://example.img")
+            .latitude(37.5)
+            .longitude(127.0)
+            .avgRating(0.0)
+            .availableTimes(new ArrayList<>())
+            .build();
+        spaceRepository.save(space);
+
+        date = LocalDate.now().plusDays(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reservationRepository.deleteAll();
+        reservationDailyStatRepository.deleteAll();
+        spaceRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("예약 상태가 대기 -> 승인 -> 거절로 바뀔 때마다 일별 통계가 다시 집계된다")
+    void status_transition_refreshes_daily_stat() {
+        //given
+        Reservation reservation = saveReservation(ReservationStatus.PENDING, 10);
+        assertStat(1, 0, 0);
+
+        //when
+        updateStatus(reservation, ReservationStatus.ACCEPTED);
+
+        //then
+        assertStat(0, 1, 20000);
+
+        //when
+        updateStatus(reservation, ReservationStatus.REJECTED);
+
+        //then
+        assertStat(0, 0, 0);
+    }
+
+    @Test
+    @DisplayName("기동 시 통계 테이블이 비어 있으면 예약 테이블 기준으로 채운다")
+    void backfill_if_empty() {
+        //given
+        saveReservation(ReservationStatus.PENDING, 10);
+        saveReservation(ReservationStatus.ACCEPTED, 12);
+        reservationDailyStatRepository.deleteAll();
+
+        //when
+        reservationDailyStatReconcileJob.backfillIfEmpty();
+
+        //then
+        assertStat(1, 1, 20000);
+    }
+
+    private void assertStat(int pendingCount, int acceptedCount, long revenue) {
+        ReservationDailyStat stat = reservationDailyStatRepository
+            .findBySpaceIdAndDateBetweenOrderByDateAsc(space.getId(), date, date).get(0);
+        assertThat(stat.getPendingCount()).isEqualTo(pendingCount);
+        assertThat(stat.getAcceptedCount()).isEqualTo(acceptedCount);
+        assertThat(stat.getRevenue()).isEqualTo(revenue);
+    }
+
+    private void updateStatus(Reservation reservation, ReservationStatus status) {
+        transactionTemplate.executeWithoutResult(tx ->
+            reservationRepository.findById(reservation.getId()).orElseThrow().updateStatus(status));
+    }
+
+    private Reservation saveReservation(ReservationStatus status, int startHour) {
+        return reservationRepository.save(Reservation.builder()
+            .guest(guest)
+            .host(host)
+            .space(space)
+            .status(status)
+            .usagePurpose(UsagePurpose.BARISTA_TRAINING)
+            .requestMessage("테스트 메시지")
+            .date(date)
+            .startTime(LocalTime.of(startHour, 0))
+            .endTime(LocalTime.of(startHour + 1, 0))
+            .price(20000)
+            .guestCount(2)
+            .build());
+    }
+}
@@ -0,0 +1,181 @@
+package com.beour.reservation.commons.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.beour.reservation.commons.entity.Reservation;
+import com.beour.reservation.commons.entity.SpaceDayOccupancy;
+import com.beour.reservation.commons.enums.ReservationStatus;
+import com.beour.reservation.commons.enums.UsagePurpose;
+import com.beour.reservation.commons.repository.ReservationRepository;
+import com.beour.reservation.commons.repository.SpaceDayOccupancyRepository;
+import com.beour.reservation.commons.scheduler.SpaceDayOccupancyReconcileJob;
+import com.beour.space.domain.entity.AvailableTime;
+import com.beour.space.domain.entity.Space;
+import com.beour.space.domain.enums.SpaceCategory;
+import com.beour.space.domain.enums.UseCategory;
+import com.beour.space.domain.repository.AvailableTimeRepository;
+import com.beour.space.domain.repository.SpaceRepository;
+import com.beour.user.entity.User;
+import com.beour.user.repository.UserRepository;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SpaceDayOccupancyServiceTest {
+
+    @Autowired
+    private SpaceDayOccupancyService spaceDayOccupancyService;
+    @Autowired
+    private SpaceDayOccupancyReconcileJob spaceDayOccupancyReconcileJob;
+    @Autowired
+    private SpaceDayOccupancyRepository spaceDayOccupancyRepository;
+    @Autowired
+    private ReservationRepository reservationRepository;
+    @Autowired
+    private AvailableTimeRepository availableTimeRepository;
+    @Autowired
+    private SpaceRepository spaceRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User guest;
+    private User host;
+    private Space space;
+    private LocalDate date;
+
+    @BeforeEach
+    void setUp() {
+        guest = User.builder()
+            .loginId("guest")
+            .password("guestpassword!")
+            .name("게스트")
+            .nickname("guest")
+            .email("guest@gmail.com")
+            .phone("01012345678")
+            .role("GUEST")
+            .build();
+        userRepository.save(guest);
+
+        host = User.builder()
+            .loginId("host1")
+            .password("host1password!")
+            .name("호스트1")
+            .nickname("host1")
+            .email("host1@gmail.com")
+            .phone("01012345678")
+            .role("HOST")
+            .build();
+        userRepository.save(host);
+
+        space = Space.builder()
+            .host(host)
+            .name("공간1")
+            .spaceCategory(SpaceCategory.COOKING)
+            .useCategory(UseCategory.COOKING)
+            .maxCapacity(3)
+            .address("서울시 강남구")
+            .detailAddress("투썸건물 2층")
+            .pricePerHour(15000)
+            .thumbnailUrl("https://example.img")
+            .latitude(37.5)
+            .longitude(127.0)
+            .avgRating(0.0)
+            .availableTimes(new ArrayList<>())
+            .build();
+        spaceRepository.save(space);
+
+        date = LocalDate.now().plusDays(1);
+        availableTimeRepository.save(AvailableTime.builder()
+            .space(space)
+            .date(date)
+            .startTime(LocalTime.of(9, 0))
+            .endTime(LocalTime.of(18, 0))
+            .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        reservationRepository.deleteAll();
+        availableTimeRepository.deleteAll();
+        spaceDayOccupancyRepository.deleteAll();
+        spaceRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("예약이 저장되면 커밋 이후 해당 날짜 행이 다시 계산된다")
+    void reservation_saved_refreshes_row() {
+        //when
+        saveReservation(10);
+
+        //then
+        assertThat(findOccupancy().toSlotMask().availableSlotStartTimes())
+            .doesNotContain(LocalTime.of(10, 0))
+            .contains(LocalTime.of(9, 0), LocalTime.of(11, 0));
+    }
+
+    @Test
+    @DisplayName("행이 없는 날짜를 조회해도 계산만 하고 테이블에는 쓰지 않는다")
+    void find_slot_masks_does_not_write() {
+        //given
+        long before = spaceDayOccupancyRepository.count();
+
+        //when
+        spaceDayOccupancyService.findSlotMasks(space.getId(), date, date.plusDays(6));
+
+        //then
+        assertThat(spaceDayOccupancyRepository.count()).isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("재계산 작업은 예약 테이블과 달라진 행을 바로잡는다")
+    void reconcile_repairs_stale_row() {
+        //given
+        saveReservation(10);
+        transactionTemplate.executeWithoutResult(status -> spaceDayOccupancyRepository.upsert(
+            space.getId(), date, 60, new byte[0], new byte[0]));
+
+        //when
+        spaceDayOccupancyReconcileJob.reconcile();
+
+        //then
+        List<LocalTime> startTimes = findOccupancy().toSlotMask().availableSlotStartTimes();
+        assertThat(startTimes).isEqualTo(
+            spaceDayOccupancyService.computeSlotMask(space.getId(), date).availableSlotStartTimes());
+        assertThat(startTimes).doesNotContain(LocalTime.of(10, 0)).hasSize(8);
+    }
+
+    private SpaceDayOccupancy findOccupancy() {
+        return spaceDayOccupancyRepository.findBySpaceIdAndDateBetweenAndSlotMinutes(space.getId(), date, date, 60)
+            .get(0);
+    }
+
+    private void saveReservation(int startHour) {
+        reservationRepository.save(Reservation.builder()
+            .guest(guest)
+            .host(host)
+            .space(space)
+            .status(ReservationStatus.ACCEPTED)
+            .usagePurpose(UsagePurpose.BARISTA_TRAINING)
+            .requestMessage("테스트 메시지")
+            .date(date)
+            .startTime(LocalTime.of(startHour, 0))
+            .endTime(LocalTime.of(startHour + 1, 0))
+            .price(15000)
+            .guestCount(2)
+            .build());
+    }
+}
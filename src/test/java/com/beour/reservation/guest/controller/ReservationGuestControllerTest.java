@@ -24,6 +24,8 @@ import com.beour.user.entity.User;
 import com.beour.user.repository.UserRepository;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.AfterEach;
@@ -462,6 +464,61 @@ class ReservationGuestControllerTest {
             .andExpect(jsonPath("$.data.timeList").value(contains(availableTimes.toArray())));
     }
 
+    @Test
+    @DisplayName("월별 이용 가능한 시간 조회 - 예약된 시간 제외")
+    void check_monthly_available_time_has_other_reservation() throws Exception {
+        //given
+        LocalDate target = LocalDate.now().plusDays(1);
+        Reservation reservation = Reservation.builder()
+            .guest(guest)
+            .host(host)
+            .space(space)
+            .status(ReservationStatus.ACCEPTED)
+            .usagePurpose(UsagePurpose.BARISTA_TRAINING)
+            .requestMessage("테슽뚜")
+            .date(target)
+            .startTime(LocalTime.of(12, 0, 0))
+            .endTime(LocalTime.of(16, 0, 0))
+            .price(60000)
+            .guestCount(2)
+            .build();
+        reservationRepository.save(reservation);
+
+        YearMonth month = YearMonth.from(target);
+        LocalDate from = month.atDay(1).isBefore(LocalDate.now()) ? LocalDate.now() : month.atDay(1);
+        int targetIndex = (int) ChronoUnit.DAYS.between(from, target);
+
+        List<String> availableTimes = new ArrayList<>();
+        for(int i = 1; i < 12; i++){
+            availableTimes.add(String.format("%02d:00:00", i));
+        }
+        for(int i = 16; i <= 22; i++){
+            availableTimes.add(String.format("%02d:00:00", i));
+        }
+
+        //when  then
+        mockMvc.perform(get("/api/spaces/"+ space.getId() +"/available-times/month?month=" + month)
+                .header("Authorization", "Bearer " + accessToken)
+                .contentType(MediaType.APPLICATION_JSON)
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.days.length()").value((int) ChronoUnit.DAYS.between(from, month.atEndOfMonth()) + 1))
+            .andExpect(jsonPath("$.data.days[" + targetIndex + "].date").value(target.toString()))
+            .andExpect(jsonPath("$.data.days[" + targetIndex + "].timeList").value(contains(availableTimes.toArray())));
+    }
+
+    @Test
+    @DisplayName("월별 이용 가능한 시간 조회 - 지난 달로 조회")
+    void check_monthly_available_time_past_month() throws Exception {
+        //when  then
+        mockMvc.perform(get("/api/spaces/"+ space.getId() +"/available-times/month?month=" + YearMonth.now().minusMonths(1))
+                .header("Authorization", "Bearer " + accessToken)
+                .contentType(MediaType.APPLICATION_JSON)
+            )
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.message").value(AvailableTimeErrorCode.AVAILABLE_TIME_NOT_FOUND.getMessage()));
+    }
+
     @Test
     @DisplayName("예약 현황 조회 - 현 시점의 시간 이전의 시간 잘 걸러지는지")
     void check_reservation_list_filtering_past_reservation() throws Exception {
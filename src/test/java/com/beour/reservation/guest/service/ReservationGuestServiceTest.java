@@ -26,6 +26,15 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -221,6 +230,56 @@ class ReservationGuestServiceTest {
             () -> reservationGuestService.createReservation(space.getId(), request));
     }
 
+    @Test
+    @DisplayName("공간 예약 - 같은 시간대 동시 예약 시 하나만 성공")
+    void create_reservation_concurrently() throws InterruptedException {
+        //given
+        int attempts = 2000;
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(attempts);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger conflictCount = new AtomicInteger();
+        Queue<Throwable> unexpectedErrors = new ConcurrentLinkedQueue<>();
+        ReservationCreateRequest request = new ReservationCreateRequest(LocalDate.now().plusDays(1),
+            LocalTime.of(13, 0, 0), LocalTime.of(15, 0, 0), 30000, 2, UsagePurpose.BARISTA_TRAINING, "테슽뚜");
+        UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
+            guest.getLoginId(), null, Collections.emptyList());
+
+        //when
+        for (int i = 0; i < attempts; i++) {
+            executorService.submit(() -> {
+                SecurityContextHolder.getContext().setAuthentication(auth);
+                try {
+                    ready.await();
+                    reservationGuestService.createReservation(space.getId(), request);
+                    successCount.incrementAndGet();
+                } catch (MissMatch e) {
+                    conflictCount.incrementAndGet();
+                } catch (InterruptedException e) {
+                    unexpectedErrors.add(e);
+                    Thread.currentThread().interrupt();
+                } catch (Throwable e) {
+                    unexpectedErrors.add(e);
+                } finally {
+                    SecurityContextHolder.clearContext();
+                    done.countDown();
+                }
+            });
+        }
+        ready.countDown();
+        boolean finished = done.await(5, TimeUnit.MINUTES);
+        executorService.shutdown();
+
+        //then
+        assertTrue(finished, "모든 예약 요청이 제한 시간 안에 끝나야 한다");
+        assertTrue(unexpectedErrors.isEmpty(), () -> "예상하지 못한 예외: " + unexpectedErrors);
+        assertEquals(1, successCount.get());
+        assertEquals(attempts - 1, conflictCount.get());
+        assertEquals(1, reservationRepository.findBySpaceIdAndDateAndStatusNot(space.getId(),
+            LocalDate.now().plusDays(1), ReservationStatus.REJECTED).size());
+    }
+
     @Test
     @DisplayName("공간 예약 - 없는 공간")
     void create_reservation_with_non_existent_space() {
@@ -304,6 +363,80 @@ class ReservationGuestServiceTest {
         assertEquals(reservationFuture.getEndTime(), result.getReservations().get(0).getEndTime());
     }
 
+    @Test
+    @DisplayName("예약 현황 커서 조회 - 이용 일시가 같은 예약이 있어도 중복, 누락 없이 끝까지 조회")
+    void get_reservation_list_by_cursor_walks_ties() {
+        //given
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        List<Reservation> reservations = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            reservations.add(saveUpcomingReservation(tomorrow, 13));
+        }
+        reservations.add(saveUpcomingReservation(tomorrow, 10));
+        reservations.add(saveUpcomingReservation(tomorrow, 10));
+        for (int i = 0; i < 3; i++) {
+            reservations.add(saveUpcomingReservation(tomorrow.plusDays(1), 13));
+        }
+        List<Long> expectedIds = reservations.stream()
+            .sorted(Comparator.comparing(Reservation::getDate)
+                .thenComparing(Reservation::getStartTime)
+                .thenComparing(Reservation::getId))
+            .map(Reservation::getId)
+            .toList();
+
+        //when
+        List<Long> walkedIds = new ArrayList<>();
+        String cursor = null;
+        ReservationListPageResponseDto page;
+        do {
+            page = reservationGuestService.findReservationListByCursor(cursor, 3);
+            page.getReservations().forEach(reservation -> walkedIds.add(reservation.getReservationId()));
+            cursor = page.getNextCursor();
+        } while (!page.isLast());
+
+        //then
+        assertThat(walkedIds).containsExactlyElementsOf(expectedIds);
+        assertNull(cursor);
+    }
+
+    @Test
+    @DisplayName("지난 예약 커서 조회 - 이용 일시가 같은 예약이 있어도 최근 순으로 중복, 누락 없이 끝까지 조회")
+    void get_past_reservation_list_by_cursor_walks_ties() {
+        //given
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        List<Reservation> reservations = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            reservations.add(savePastReservation(yesterday, 13));
+        }
+        reservations.add(savePastReservation(yesterday, 10));
+        reservations.add(savePastReservation(yesterday, 10));
+        for (int i = 0; i < 3; i++) {
+            reservations.add(savePastReservation(yesterday.minusDays(1), 13));
+        }
+        saveUpcomingReservation(LocalDate.now().plusDays(1), 13);
+        List<Long> expectedIds = reservations.stream()
+            .sorted(Comparator.comparing(Reservation::getDate)
+                .thenComparing(Reservation::getStartTime)
+                .thenComparing(Reservation::getId)
+                .reversed())
+            .map(Reservation::getId)
+            .toList();
+
+        //when
+        List<Long> walkedIds = new ArrayList<>();
+        String cursor = null;
+        ReservationListPageResponseDto page;
+        do {
+            page = reservationGuestService.findPastReservationListByCursor(cursor, 3);
+            page.getReservations().forEach(reservation -> walkedIds.add(reservation.getReservationId()));
+            cursor = page.getNextCursor();
+        } while (!page.isLast());
+
+        //then
+        assertThat(walkedIds).containsExactlyElementsOf(expectedIds);
+        assertNull(cursor);
+    }
+
     @Test
     @DisplayName("예약 현황 조회 - 현 시점의 시간 이전의 시간 잘 걸러지는지")
     void get_reservation_list_filtering_past_time_reservation() {
@@ -477,4 +610,36 @@ class ReservationGuestServiceTest {
         assertEquals(ReservationStatus.REJECTED, reservationFuture.getStatus());
     }
 
+    private Reservation saveUpcomingReservation(LocalDate date, int startHour) {
+        return reservationRepository.save(Reservation.builder()
+            .guest(guest)
+            .host(host)
+            .space(space)
+            .status(ReservationStatus.ACCEPTED)
+            .usagePurpose(UsagePurpose.BARISTA_TRAINING)
+            .requestMessage("테슽뚜")
+            .date(date)
+            .startTime(LocalTime.of(startHour, 0, 0))
+            .endTime(LocalTime.of(startHour + 1, 0, 0))
+            .price(15000)
+            .guestCount(2)
+            .build());
+    }
+
+    private Reservation savePastReservation(LocalDate date, int startHour) {
+        return reservationRepository.save(Reservation.builder()
+            .guest(guest)
+            .host(host)
+            .space(space)
+            .status(ReservationStatus.COMPLETED)
+            .usagePurpose(UsagePurpose.BARISTA_TRAINING)
+            .requestMessage("테슽뚜")
+            .date(date)
+            .startTime(LocalTime.of(startHour, 0, 0))
+            .endTime(LocalTime.of(startHour + 1, 0, 0))
+            .price(15000)
+            .guestCount(2)
+            .build());
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,175 @@
+package com.beour.reservation.host.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.beour.global.exception.exceptionType.InputInvalidFormatException;
+import com.beour.reservation.commons.entity.Reservation;
+import com.beour.reservation.commons.enums.ReservationStatus;
+import com.beour.reservation.commons.enums.UsagePurpose;
+import com.beour.reservation.commons.repository.ReservationDailyStatRepository;
+import com.beour.reservation.commons.repository.ReservationRepository;
+import com.beour.reservation.host.dto.HostDashboardResponseDto;
+import com.beour.reservation.host.dto.HostDashboardSpaceStatDto;
+import com.beour.space.domain.entity.Space;
+import com.beour.space.domain.enums.SpaceCategory;
+import com.beour.space.domain.enums.UseCategory;
+import com.beour.space.domain.repository.SpaceRepository;
+import com.beour.user.entity.User;
+import com.beour.user.repository.UserRepository;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class HostDashboardServiceTest {
+
+    @Autowired
+    private HostDashboardService hostDashboardService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private SpaceRepository spaceRepository;
+    @Autowired
+    private ReservationRepository reservationRepository;
+    @Autowired
+    private ReservationDailyStatRepository reservationDailyStatRepository;
+
+    private User guest;
+    private User host;
+    private Space space1;
+    private Space space2;
+
+    @BeforeEach
+    void setUp() {
+        guest = User.builder()
+                .loginId("guest")
+                .password(passwordEncoder.encode("guestpassword!"))
+                .name("게스트")
+                .nickname("guest")
+                .email("guest@gmail.com")
+                .phone("01012345678")
+                .role("GUEST")
+                .build();
+        userRepository.save(guest);
+
+        host = User.builder()
+                .loginId("host1")
+                .password(passwordEncoder.encode("host1password!"))
+                .name("호스트1")
+                .nickname("host1")
+                .email("host1@gmail.com")
+                .phone("01012345678")
+                .role("HOST")
+                .build();
+        userRepository.save(host);
+
+        UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
+                host.getLoginId(), null, Collections.emptyList());
+        SecurityContextHolder.getContext().setAuthentication(auth);
+
+        space1 = spaceRepository.save(createSpace("공간1"));
+        space2 = spaceRepository.save(createSpace("공간2"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        reservationRepository.deleteAll();
+        reservationDailyStatRepository.deleteAll();
+        spaceRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("호스트 대시보드 - 예약 저장 시 일별 통계가 갱신된다")
+    void get_dashboard_from_daily_stats() {
+        //given
+        LocalDate date = LocalDate.now().plusDays(1);
+        saveReservation(space1, ReservationStatus.PENDING, date, 10, 20000);
+        saveReservation(space1, ReservationStatus.ACCEPTED, date, 12, 30000);
+        saveReservation(space1, ReservationStatus.REJECTED, date, 14, 40000);
+        saveReservation(space1, ReservationStatus.ACCEPTED, date.plusDays(1), 10, 15000);
+
+        //when
+        HostDashboardResponseDto result = hostDashboardService.getDashboard(date, date.plusDays(6), null);
+
+        //then
+        assertThat(result.getPendingCount()).isEqualTo(1);
+        assertThat(result.getAcceptedCount()).isEqualTo(2);
+        assertThat(result.getRevenue()).isEqualTo(45000);
+        assertThat(result.getSpaces()).hasSize(2);
+
+        HostDashboardSpaceStatDto space1Stat = result.getSpaces().stream()
+                .filter(spaceStat -> spaceStat.getSpaceId().equals(space1.getId()))
+                .findFirst().orElseThrow();
+        assertThat(space1Stat.getDailyStats()).hasSize(2);
+        assertThat(space1Stat.getDailyStats().get(0).getDate()).isEqualTo(date);
+        assertThat(space1Stat.getDailyStats().get(0).getRevenue()).isEqualTo(30000);
+
+        HostDashboardSpaceStatDto space2Stat = result.getSpaces().stream()
+                .filter(spaceStat -> spaceStat.getSpaceId().equals(space2.getId()))
+                .findFirst().orElseThrow();
+        assertThat(space2Stat.getDailyStats()).isEmpty();
+        assertThat(space2Stat.getRevenue()).isZero();
+    }
+
+    @Test
+    @DisplayName("호스트 대시보드 - 시작일이 종료일보다 늦으면 예외")
+    void get_dashboard_invalid_range() {
+        //given
+        LocalDate from = LocalDate.now();
+
+        //when & then
+        assertThrows(InputInvalidFormatException.class,
+                () -> hostDashboardService.getDashboard(from, from.minusDays(1), null));
+    }
+
+    private Space createSpace(String name) {
+        return Space.builder()
+                .host(host)
+                .name(name)
+                .spaceCategory(SpaceCategory.COOKING)
+                .useCategory(UseCategory.COOKING)
+                .maxCapacity(3)
+                .address("서울시 강남구")
+                .detailAddress("투썸건물 2층")
+                .pricePerHour(15000)
+                .thumbnailUrl("https://example.img")
+                .latitude(123.12)
+                .longitude(123.12)
+                .avgRating(0.0)
+                .availableTimes(new ArrayList<>())
+                .build();
+    }
+
+    private void saveReservation(Space space, ReservationStatus status, LocalDate date, int startHour, int price) {
+        reservationRepository.save(Reservation.builder()
+                .guest(guest)
+                .host(host)
+                .space(space)
+                .status(status)
+                .usagePurpose(UsagePurpose.BARISTA_TRAINING)
+                .requestMessage("테스트 메시지")
+                .date(date)
+                .startTime(LocalTime.of(startHour, 0))
+                .endTime(LocalTime.of(startHour + 1, 0))
+                .price(price)
+                .guestCount(2)
+                .build());
+    }
+}
@@ -7,6 +7,7 @@ import com.beour.reservation.commons.enums.ReservationStatus;
 import com.beour.reservation.commons.enums.UsagePurpose;
 import com.beour.reservation.commons.repository.ReservationRepository;
 import com.beour.review.domain.entity.Review;
+import com.beour.review.domain.entity.ReviewImage;
 import com.beour.space.domain.entity.Space;
 import com.beour.space.domain.repository.SpaceRepository;
 import com.beour.space.domain.enums.SpaceCategory;
@@ -24,6 +25,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
@@ -295,6 +299,40 @@ class ReviewRepositoryTest {
         result.forEach(review -> assertNull(review.getDeletedAt()));
     }
 
+    @Test
+    @DisplayName("작성한 리뷰 페이지 조회 - id 로 페이지를 자른 뒤 이미지까지 채운다")
+    void findAllWithCommentAndImagesByGuestIdPaged_pagesByIds() {
+        //given
+        for (int i = 1; i <= 3; i++) {
+            Review review = Review.builder()
+                    .guest(guest)
+                    .space(space)
+                    .reservation(reservation)
+                    .rating(5)
+                    .content("리뷰 " + i)
+                    .reservedDate(LocalDate.now().minusDays(i))
+                    .build();
+            review.addImage(ReviewImage.builder().imageUrl("/uploads/review" + i + "_1.png").build());
+            review.addImage(ReviewImage.builder().imageUrl("/uploads/review" + i + "_2.png").build());
+            reviewRepository.save(review);
+        }
+
+        //when
+        Page<Review> firstPage = reviewRepository.findAllWithCommentAndImagesByGuestIdPaged(
+                guest.getId(), PageRequest.of(0, 2, Sort.by("id")));
+        Page<Review> lastPage = reviewRepository.findAllWithCommentAndImagesByGuestIdPaged(
+                guest.getId(), PageRequest.of(1, 2, Sort.by("id")));
+
+        //then
+        assertEquals(3, firstPage.getTotalElements());
+        assertEquals(2, firstPage.getTotalPages());
+        assertEquals(List.of("리뷰 1", "리뷰 2"),
+                firstPage.getContent().stream().map(Review::getContent).toList());
+        firstPage.getContent().forEach(review -> assertEquals(2, review.getImages().size()));
+        assertEquals(List.of("리뷰 3"),
+                lastPage.getContent().stream().map(Review::getContent).toList());
+    }
+
     @Test
     @DisplayName("조건에 맞는 리뷰가 없을 때 빈 결과 반환")
     void findByGuestIdAndSpaceIdAndReservedDateAndDeletedAtIsNull_notFound() {
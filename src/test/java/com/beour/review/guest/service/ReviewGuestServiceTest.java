@@ -3,6 +3,9 @@ package com.beour.review.guest.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.beour.global.exception.exceptionType.DuplicateException;
@@ -26,6 +29,7 @@ import com.beour.review.guest.dto.ReviewForReservationResponseDto;
 import com.beour.review.guest.dto.ReviewRequestDto;
 import com.beour.review.guest.dto.ReviewUpdateRequestDto;
 import com.beour.review.guest.dto.ReviewableReservationPageResponseDto;
+import com.beour.review.guest.dto.ReviewableReservationResponseDto;
 import com.beour.review.guest.dto.WrittenReviewPageResponseDto;
 import com.beour.space.domain.entity.Space;
 import com.beour.space.domain.repository.SpaceRepository;
@@ -34,10 +38,13 @@ import com.beour.space.domain.enums.UseCategory;
 import com.beour.user.entity.User;
 import com.beour.user.repository.UserRepository;
 import java.io.IOException;
+import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -50,6 +57,7 @@ import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -88,6 +96,8 @@ class ReviewGuestServiceTest {
     private ReviewCommentRepository reviewCommentRepository;
     @Autowired
     private ImageUploader imageUploader;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
 
     private User guest;
     private User host;
@@ -202,6 +212,26 @@ class ReviewGuestServiceTest {
         assertEquals(completedReservation.getUsagePurpose(), result.getReservations().get(0).getUsagePurpose());
     }
 
+    @Test
+    @DisplayName("리뷰 작성 가능한 예약 조회 - 완료 배치 전이라도 이용 시간이 지난 승인 예약은 포함")
+    void get_reviewable_reservations_includes_finished_accepted() {
+        //given
+        Reservation finishedAccepted = saveReservation(ReservationStatus.ACCEPTED,
+                LocalDate.now().minusDays(2), 12);
+
+        //when
+        ReviewableReservationPageResponseDto page = reviewGuestService.getReviewableReservations(pageable);
+        ReviewableReservationPageResponseDto cursorPage = reviewGuestService.getReviewableReservationsByCursor(null, 10);
+
+        //then
+        assertThat(page.getReservations())
+                .extracting(ReviewableReservationResponseDto::getReservationId)
+                .containsExactlyInAnyOrder(completedReservation.getId(), finishedAccepted.getId());
+        assertThat(cursorPage.getReservations())
+                .extracting(ReviewableReservationResponseDto::getReservationId)
+                .containsExactly(completedReservation.getId(), finishedAccepted.getId());
+    }
+
     @Test
     @DisplayName("리뷰 작성 가능한 예약 조회 - 빈 페이지")
     void get_reviewable_reservations_empty_page() {
@@ -214,6 +244,92 @@ class ReviewGuestServiceTest {
                 () -> reviewGuestService.getReviewableReservations(pageable));
     }
 
+    @Test
+    @DisplayName("리뷰 작성 가능한 예약 커서 조회 - 이용 일시가 같은 예약이 있어도 최근 순으로 중복, 누락 없이 끝까지 조회")
+    void get_reviewable_reservations_by_cursor_walks_ties() {
+        //given
+        List<Reservation> reservations = new ArrayList<>(List.of(completedReservation));
+        for (int i = 0; i < 4; i++) {
+            reservations.add(saveCompletedReservation(completedReservation.getDate(), 12));
+        }
+        reservations.add(saveCompletedReservation(completedReservation.getDate(), 9));
+        for (int i = 0; i < 3; i++) {
+            reservations.add(saveCompletedReservation(completedReservation.getDate().minusDays(1), 12));
+        }
+        List<Long> expectedIds = reservations.stream()
+                .sorted(Comparator.comparing(Reservation::getDate)
+                        .thenComparing(Reservation::getStartTime)
+                        .thenComparing(Reservation::getId)
+                        .reversed())
+                .map(Reservation::getId)
+                .toList();
+
+        //when
+        List<Long> walkedIds = new ArrayList<>();
+        String cursor = null;
+        ReviewableReservationPageResponseDto page;
+        do {
+            page = reviewGuestService.getReviewableReservationsByCursor(cursor, 3);
+            page.getReservations().forEach(reservation -> walkedIds.add(reservation.getReservationId()));
+            cursor = page.getNextCursor();
+        } while (!page.isLast());
+
+        //then
+        assertThat(walkedIds).containsExactlyElementsOf(expectedIds);
+        assertNull(cursor);
+    }
+
+    @Test
+    @DisplayName("작성한 리뷰 커서 조회 - 작성 시각이 같은 리뷰와 이미지가 여러 장인 리뷰가 있어도 중복, 누락 없이 끝까지 조회")
+    void get_written_reviews_by_cursor_walks_ties() {
+        //given
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 10, 0);
+        List<Review> reviews = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Reservation reservation = saveCompletedReservation(LocalDate.now().minusDays(i + 2), 12);
+            Review review = Review.builder()
+                    .guest(guest)
+                    .space(space)
+                    .reservation(reservation)
+                    .rating(5)
+                    .content("리뷰" + i)
+                    .reservedDate(reservation.getDate())
+                    .build();
+            // 이미지 컬렉션을 fetch join 해도 페이지가 행 단위로 잘리지 않는지 보기 위해 이미지를 여러 장 붙인다.
+            if (i % 2 == 0) {
+                review.addImage(ReviewImage.builder().imageUrl("https://example.com/" + i + "-1.jpg").build());
+                review.addImage(ReviewImage.builder().imageUrl("https://example.com/" + i + "-2.jpg").build());
+            }
+            reviews.add(reviewRepository.save(review));
+        }
+        // 앞의 셋은 하루 전, 나머지는 같은 시각에 작성한 것으로 맞춘다.
+        for (int i = 0; i < reviews.size(); i++) {
+            jdbcTemplate.update("UPDATE review SET created_at = ? WHERE id = ?",
+                    Timestamp.valueOf(i < 3 ? createdAt.minusDays(1) : createdAt), reviews.get(i).getId());
+        }
+        List<Long> expectedIds = new ArrayList<>();
+        for (int i = reviews.size() - 1; i >= 3; i--) {
+            expectedIds.add(reviews.get(i).getId());
+        }
+        for (int i = 2; i >= 0; i--) {
+            expectedIds.add(reviews.get(i).getId());
+        }
+
+        //when
+        List<Long> walkedIds = new ArrayList<>();
+        String cursor = null;
+        WrittenReviewPageResponseDto page;
+        do {
+            page = reviewGuestService.getWrittenReviewsByCursor(cursor, 3);
+            page.getReviews().forEach(review -> walkedIds.add(review.getReviewId()));
+            cursor = page.getNextCursor();
+        } while (!page.isLast());
+
+        //then
+        assertThat(walkedIds).containsExactlyElementsOf(expectedIds);
+        assertNull(cursor);
+    }
+
     @Test
     @DisplayName("작성한 리뷰 조회 - 빈 페이지")
     void get_written_reviews_empty_page() {
@@ -345,6 +461,55 @@ class ReviewGuestServiceTest {
                 () -> reviewGuestService.createReview(requestDto, images));
     }
 
+    @Test
+    @DisplayName("리뷰 작성 - 중복 리뷰면 이미지를 올리지 않음")
+    void create_review_duplicate_does_not_upload() throws IOException {
+        //given
+        reviewRepository.save(Review.builder()
+                .guest(guest)
+                .space(space)
+                .reservation(completedReservation)
+                .rating(4)
+                .content("이미 작성한 리뷰")
+                .reservedDate(completedReservation.getDate())
+                .build());
+
+        ReviewRequestDto requestDto = new ReviewRequestDto(
+                completedReservation.getId(), 5, "좋은 공간이었습니다.");
+        List<MultipartFile> images = List.of(
+                new MockMultipartFile("image1", "image1.jpg", "image/jpeg", "image1 content".getBytes()));
+        clearInvocations(imageUploader);
+
+        //when then
+        assertThrows(DuplicateException.class,
+                () -> reviewGuestService.createReview(requestDto, images));
+        verify(imageUploader, never()).upload(any(MultipartFile.class));
+    }
+
+    @Test
+    @DisplayName("리뷰 수정 - 다른 사람의 리뷰면 이미지를 올리지 않음")
+    void update_review_not_owner_does_not_upload() throws IOException {
+        //given
+        Review review = reviewRepository.save(Review.builder()
+                .guest(host)
+                .space(space)
+                .reservation(completedReservation)
+                .rating(4)
+                .content("다른 사람의 리뷰")
+                .reservedDate(completedReservation.getDate())
+                .build());
+
+        ReviewUpdateRequestDto requestDto = new ReviewUpdateRequestDto(5, "수정된 리뷰");
+        List<MultipartFile> images = List.of(
+                new MockMultipartFile("image1", "image1.jpg", "image/jpeg", "image1 content".getBytes()));
+        clearInvocations(imageUploader);
+
+        //when then
+        assertThrows(UnauthorityException.class,
+                () -> reviewGuestService.updateReview(review.getId(), requestDto, images));
+        verify(imageUploader, never()).upload(any(MultipartFile.class));
+    }
+
     @Test
     @Transactional
     @DisplayName("리뷰 작성 - 성공 (이미지 없음)")
@@ -564,6 +729,33 @@ class ReviewGuestServiceTest {
         assertNotNull(deletedReview.getDeletedAt());
     }
 
+    @Test
+    @DisplayName("리뷰 작성/삭제 - 공간 리뷰 수와 평균 별점 갱신")
+    void review_stats_updated_on_create_and_delete() throws IOException {
+        //given
+        ReviewRequestDto requestDto = new ReviewRequestDto(
+                completedReservation.getId(), 4, "좋은 공간이었습니다.");
+
+        //when
+        reviewGuestService.createReview(requestDto, Collections.emptyList());
+
+        //then
+        Space reviewedSpace = spaceRepository.findById(space.getId()).orElseThrow();
+        assertEquals(1, reviewedSpace.getReviewCount());
+        assertEquals(4, reviewedSpace.getRatingSum());
+        assertThat(reviewedSpace.getAvgRating()).isEqualTo(4.0);
+
+        //when
+        Long reviewId = reviewRepository.findAll().get(0).getId();
+        reviewGuestService.deleteReview(reviewId);
+
+        //then
+        Space reviewDeletedSpace = spaceRepository.findById(space.getId()).orElseThrow();
+        assertEquals(0, reviewDeletedSpace.getReviewCount());
+        assertEquals(0, reviewDeletedSpace.getRatingSum());
+        assertThat(reviewDeletedSpace.getAvgRating()).isEqualTo(0.0);
+    }
+
     @Test
     @DisplayName("최근 작성된 리뷰 조회 - 리뷰 없음")
     void get_recent_written_reviews_empty() {
@@ -629,4 +821,24 @@ class ReviewGuestServiceTest {
         assertEquals(4, result.get(0).getRating());
         assertEquals("두 번째 리뷰", result.get(0).getReviewContent());
     }
+
+    private Reservation saveCompletedReservation(LocalDate date, int startHour) {
+        return saveReservation(ReservationStatus.COMPLETED, date, startHour);
+    }
+
+    private Reservation saveReservation(ReservationStatus status, LocalDate date, int startHour) {
+        return reservationRepository.save(Reservation.builder()
+                .guest(guest)
+                .host(host)
+                .space(space)
+                .status(status)
+                .usagePurpose(UsagePurpose.BARISTA_TRAINING)
+                .requestMessage("테슽뚜")
+                .date(date)
+                .startTime(LocalTime.of(startHour, 0, 0))
+                .endTime(LocalTime.of(startHour + 1, 0, 0))
+                .price(15000)
+                .guestCount(2)
+                .build());
+    }
 }
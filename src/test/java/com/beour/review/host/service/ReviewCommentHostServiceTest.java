@@ -1,5 +1,6 @@
 package com.beour.review.host.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.beour.global.exception.exceptionType.DuplicateException;
@@ -27,7 +28,9 @@ import com.beour.space.domain.enums.UseCategory;
 import com.beour.space.domain.repository.SpaceRepository;
 import com.beour.user.entity.User;
 import com.beour.user.repository.UserRepository;
+import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Collections;
@@ -40,6 +43,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -63,6 +67,8 @@ class ReviewCommentHostServiceTest {
     private ReviewCommentRepository reviewCommentRepository;
     @Autowired
     private ReservationRepository reservationRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
 
     private User guest;
     private User host;
@@ -274,6 +280,76 @@ class ReviewCommentHostServiceTest {
         assertEquals(1, result.getTotalPage());
     }
 
+    @Test
+    @DisplayName("댓글 작성 가능한 리뷰 커서 조회 - 작성 시각이 같은 리뷰가 있어도 중복, 누락 없이 끝까지 조회")
+    void getCommentableReviewsByCursor_walksTies() {
+        // given
+        UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
+                host.getLoginId(), null, Collections.emptyList());
+        SecurityContextHolder.getContext().setAuthentication(auth);
+
+        List<Review> reviews = new ArrayList<>(List.of(review));
+        for (int i = 0; i < 9; i++) {
+            reviews.add(saveReview(i));
+        }
+        List<Long> expectedIds = new ArrayList<>();
+        for (int i = reviews.size() - 1; i >= 0; i--) {
+            expectedIds.add(reviews.get(i).getId());
+        }
+        forceCreatedAtTies("review", reviews.stream().map(Review::getId).toList());
+
+        // when
+        List<Long> walkedIds = new ArrayList<>();
+        String cursor = null;
+        ReviewCommentablePageResponseDto page;
+        do {
+            page = reviewCommentHostService.getCommentableReviewsByCursor(cursor, 3);
+            page.getReviews().forEach(commentable -> walkedIds.add(commentable.getReviewId()));
+            cursor = page.getNextCursor();
+        } while (!page.isLast());
+
+        // then
+        assertThat(walkedIds).containsExactlyElementsOf(expectedIds);
+        assertNull(cursor);
+    }
+
+    @Test
+    @DisplayName("작성된 댓글 커서 조회 - 작성 시각이 같은 답글이 있어도 중복, 누락 없이 끝까지 조회")
+    void getWrittenReviewCommentsByCursor_walksTies() {
+        // given
+        UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
+                host.getLoginId(), null, Collections.emptyList());
+        SecurityContextHolder.getContext().setAuthentication(auth);
+
+        List<ReviewComment> comments = new ArrayList<>(List.of(reviewComment));
+        for (int i = 0; i < 9; i++) {
+            comments.add(reviewCommentRepository.save(ReviewComment.builder()
+                    .user(host)
+                    .review(saveReview(i))
+                    .content("답글" + i)
+                    .build()));
+        }
+        List<String> expectedContents = new ArrayList<>();
+        for (int i = comments.size() - 1; i >= 0; i--) {
+            expectedContents.add(comments.get(i).getContent());
+        }
+        forceCreatedAtTies("review_comment", comments.stream().map(ReviewComment::getId).toList());
+
+        // when
+        List<String> walkedContents = new ArrayList<>();
+        String cursor = null;
+        ReviewCommentPageResponseDto page;
+        do {
+            page = reviewCommentHostService.getWrittenReviewCommentsByCursor(cursor, 3);
+            page.getReviewComments().forEach(comment -> walkedContents.add(comment.getReviewCommentContent()));
+            cursor = page.getNextCursor();
+        } while (!page.isLast());
+
+        // then
+        assertThat(walkedContents).containsExactlyElementsOf(expectedContents);
+        assertNull(cursor);
+    }
+
     @Test
     @DisplayName("작성된 댓글 조회 - 빈 결과")
     void getWrittenReviewComments_emptyResult() {
@@ -476,4 +552,38 @@ class ReviewCommentHostServiceTest {
         assertThrows(UserNotFoundException.class,
                 () -> reviewCommentHostService.getCommentableReviews(pageable));
     }
+
+    private Review saveReview(int index) {
+        Reservation pastReservation = reservationRepository.save(Reservation.builder()
+                .guest(guest)
+                .host(host)
+                .space(space)
+                .status(ReservationStatus.COMPLETED)
+                .usagePurpose(UsagePurpose.BARISTA_TRAINING)
+                .requestMessage("테스트")
+                .date(LocalDate.now().minusDays(index + 4))
+                .startTime(LocalTime.of(12, 0, 0))
+                .endTime(LocalTime.of(16, 0, 0))
+                .price(60000)
+                .guestCount(2)
+                .build());
+
+        return reviewRepository.save(Review.builder()
+                .guest(guest)
+                .space(space)
+                .reservation(pastReservation)
+                .rating(5)
+                .content("리뷰" + index)
+                .reservedDate(pastReservation.getDate())
+                .build());
+    }
+
+    // 앞의 셋을 제외한 행은 같은 시각에 작성한 것으로 맞춰, 저장 순서의 역순이 곧 기대 순서가 되게 한다.
+    private void forceCreatedAtTies(String table, List<Long> ids) {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 10, 0);
+        for (int i = 0; i < ids.size(); i++) {
+            jdbcTemplate.update("UPDATE " + table + " SET created_at = ? WHERE id = ?",
+                    Timestamp.valueOf(i < 3 ? createdAt.minusMinutes(3 - i) : createdAt), ids.get(i));
+        }
+    }
 }
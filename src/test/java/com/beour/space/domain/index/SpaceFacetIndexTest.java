@@ -0,0 +1,139 @@
+package com.beour.space.domain.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.beour.space.domain.enums.SpaceCategory;
+import com.beour.space.domain.enums.UseCategory;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SpaceFacetIndexTest {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 11, 1);
+
+    private final SpaceFacetIndex spaceFacetIndex = new SpaceFacetIndex();
+
+    @BeforeEach
+    void setUp() {
+        spaceFacetIndex.index(new SpaceFacetDocument(1L, SpaceCategory.CAFE, UseCategory.MEETING,
+            15000, 4, "서울특별시 강남구 역삼동", Set.of(DATE)));
+        spaceFacetIndex.index(new SpaceFacetDocument(2L, SpaceCategory.CAFE, UseCategory.FILMING,
+            25000, 10, "서울특별시 마포구 서교동", Set.of(DATE, DATE.plusDays(1))));
+        spaceFacetIndex.index(new SpaceFacetDocument(3L, SpaceCategory.COOKING, UseCategory.COOKING,
+            19000, 8, "서울특별시 강남구 논현동", Set.of(DATE.plusDays(1))));
+    }
+
+    @Test
+    @DisplayName("가격 범위는 구간 경계 안쪽의 실제 가격까지 비교")
+    void filter_priceRange() {
+        //when
+        SpaceFacetResult result = spaceFacetIndex.filter(SpaceFacetQuery.builder()
+            .minPrice(16000)
+            .maxPrice(25000)
+            .build());
+
+        //then
+        assertThat(result.getSpaceIds()).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("카테고리, 인원, 날짜, 주소 조건을 모두 만족하는 공간만 조회")
+    void filter_combinedConditions() {
+        //when
+        SpaceFacetResult result = spaceFacetIndex.filter(SpaceFacetQuery.builder()
+            .spaceCategories(List.of(SpaceCategory.CAFE, SpaceCategory.COOKING))
+            .minCapacity(5)
+            .date(DATE.plusDays(1))
+            .address("강남구")
+            .build());
+
+        //then
+        assertThat(result.getSpaceIds()).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("후보 순서를 유지하고 결과 집합 기준 카테고리별 개수를 함께 반환")
+    void filter_keepsCandidateOrderAndCountsFacets() {
+        //when
+        SpaceFacetResult result = spaceFacetIndex.filter(SpaceFacetQuery.builder()
+            .rankedCandidateIds(List.of(3L, 1L, 2L))
+            .address("서울특별시")
+            .build());
+
+        //then
+        assertThat(result.getSpaceIds()).containsExactly(3L, 1L, 2L);
+        assertThat(result.getSpaceCategoryCounts().get(SpaceCategory.CAFE)).isEqualTo(2);
+        assertThat(result.getSpaceCategoryCounts().get(SpaceCategory.COOKING)).isEqualTo(1);
+        assertThat(result.getUseCategoryCounts().get(UseCategory.BARISTA)).isZero();
+    }
+
+    @Test
+    @DisplayName("카테고리 패싯 개수는 자기 카테고리 선택을 제외한 나머지 조건으로 센다")
+    void filter_countsFacetWithoutItsOwnSelection() {
+        //when
+        SpaceFacetResult result = spaceFacetIndex.filter(SpaceFacetQuery.builder()
+            .spaceCategories(List.of(SpaceCategory.CAFE))
+            .useCategories(List.of(UseCategory.MEETING))
+            .build());
+
+        //then
+        assertThat(result.getSpaceIds()).containsExactly(1L);
+        assertThat(result.getSpaceCategoryCounts().get(SpaceCategory.CAFE)).isEqualTo(1);
+        assertThat(result.getSpaceCategoryCounts().get(SpaceCategory.COOKING)).isZero();
+        assertThat(result.getUseCategoryCounts().get(UseCategory.MEETING)).isEqualTo(1);
+        assertThat(result.getUseCategoryCounts().get(UseCategory.FILMING)).isEqualTo(1);
+        assertThat(result.getUseCategoryCounts().get(UseCategory.COOKING)).isZero();
+    }
+
+    @Test
+    @DisplayName("공간 카테고리 하나를 골라도 다른 공간 카테고리의 개수가 함께 반환된다")
+    void filter_countsOtherSpaceCategoriesWhenOneSelected() {
+        //when
+        SpaceFacetResult result = spaceFacetIndex.filter(SpaceFacetQuery.builder()
+            .spaceCategories(List.of(SpaceCategory.CAFE))
+            .address("강남구")
+            .build());
+
+        //then
+        assertThat(result.getSpaceIds()).containsExactly(1L);
+        assertThat(result.getSpaceCategoryCounts().get(SpaceCategory.CAFE)).isEqualTo(1);
+        assertThat(result.getSpaceCategoryCounts().get(SpaceCategory.COOKING)).isEqualTo(1);
+        assertThat(result.getUseCategoryCounts().get(UseCategory.MEETING)).isEqualTo(1);
+        assertThat(result.getUseCategoryCounts().get(UseCategory.COOKING)).isZero();
+    }
+
+    @Test
+    @DisplayName("재색인하면 이전 값의 비트맵에서 빠진다")
+    void index_replacesPreviousDocument() {
+        //given
+        spaceFacetIndex.index(new SpaceFacetDocument(1L, SpaceCategory.ART, UseCategory.MEETING,
+            15000, 4, "서울특별시 강남구 역삼동", Set.of()));
+
+        //when
+        SpaceFacetResult byCategory = spaceFacetIndex.filter(SpaceFacetQuery.builder()
+            .spaceCategories(List.of(SpaceCategory.CAFE))
+            .build());
+        SpaceFacetResult byDate = spaceFacetIndex.filter(SpaceFacetQuery.builder()
+            .date(DATE)
+            .build());
+
+        //then
+        assertThat(byCategory.getSpaceIds()).containsExactly(2L);
+        assertThat(byDate.getSpaceIds()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("삭제된 공간은 조회되지 않는다")
+    void remove_excludesSpace() {
+        //when
+        spaceFacetIndex.remove(2L);
+
+        //then
+        assertThat(spaceFacetIndex.filter(SpaceFacetQuery.builder().build()).getSpaceIds())
+            .containsExactly(1L, 3L);
+    }
+}
@@ -0,0 +1,57 @@
+package com.beour.space.domain.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.beour.space.domain.event.SpaceChangedEvent;
+import com.beour.space.domain.repository.SpaceRepository;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SpaceGeoIndexLoaderTest {
+
+    private final SpaceGeoIndex spaceGeoIndex = new SpaceGeoIndex();
+    private final SpaceRepository spaceRepository = mock(SpaceRepository.class);
+    private final SpaceGeoIndexLoader loader = new SpaceGeoIndexLoader(spaceGeoIndex, spaceRepository);
+
+    @Test
+    @DisplayName("같은 공간 갱신이 겹치면 먼저 읽은 오래된 좌표가 나중 갱신을 덮어쓰지 않음")
+    void onSpaceChanged_serializesRefreshesOfSameSpace() throws Exception {
+        //given
+        SpaceLocation before = new SpaceLocation(1L, 37.5665, 126.9780, 15000, 4); // 시청
+        SpaceLocation after = new SpaceLocation(1L, 35.1796, 129.0756, 15000, 4); // 부산
+        CountDownLatch firstReadStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstRead = new CountDownLatch(1);
+        when(spaceRepository.findLocationById(1L))
+            .thenAnswer(invocation -> {
+                firstReadStarted.countDown();
+                releaseFirstRead.await(5, TimeUnit.SECONDS);
+                return Optional.of(before);
+            })
+            .thenReturn(Optional.of(after));
+
+        //when
+        Thread first = new Thread(() -> loader.onSpaceChanged(new SpaceChangedEvent(1L)));
+        first.start();
+        assertThat(firstReadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Thread second = new Thread(() -> loader.onSpaceChanged(new SpaceChangedEvent(1L)));
+        second.start();
+        second.join(200);
+        verify(spaceRepository, times(1)).findLocationById(1L);
+
+        releaseFirstRead.countDown();
+        first.join();
+        second.join();
+
+        //then
+        assertThat(spaceGeoIndex.findIdsWithinRadius(37.5665, 126.9780, 1000)).isEmpty();
+        assertThat(spaceGeoIndex.findIdsWithinRadius(35.1796, 129.0756, 1000)).containsExactly(1L);
+    }
+}
@@ -0,0 +1,87 @@
+package com.beour.space.domain.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SpaceGeoIndexTest {
+
+    private final SpaceGeoIndex spaceGeoIndex = new SpaceGeoIndex();
+
+    @Test
+    @DisplayName("반경 안의 공간만 가까운 순으로 조회")
+    void findIdsWithinRadius_sortedByDistance() {
+        //given
+        spaceGeoIndex.put(new SpaceLocation(1L, 37.5665, 126.9780, 15000, 4)); // 시청
+        spaceGeoIndex.put(new SpaceLocation(2L, 37.5700, 126.9920, 15000, 4)); // 종로3가, 약 1.3km
+        spaceGeoIndex.put(new SpaceLocation(3L, 37.4979, 127.0276, 15000, 4)); // 강남역, 약 8.8km
+        spaceGeoIndex.put(new SpaceLocation(4L, 35.1796, 129.0756, 15000, 4)); // 부산
+
+        //when
+        List<Long> result = spaceGeoIndex.findIdsWithinRadius(37.5660, 126.9785, 2000);
+
+        //then
+        assertThat(result).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("좌표가 바뀌면 이전 셀에서 빠지고 새 셀에서 조회")
+    void put_movesLocation() {
+        //given
+        spaceGeoIndex.put(new SpaceLocation(1L, 37.5665, 126.9780, 15000, 4));
+
+        //when
+        spaceGeoIndex.put(new SpaceLocation(1L, 35.1796, 129.0756, 15000, 4));
+
+        //then
+        assertThat(spaceGeoIndex.findIdsWithinRadius(37.5665, 126.9780, 1000)).isEmpty();
+        assertThat(spaceGeoIndex.findIdsWithinRadius(35.1796, 129.0756, 1000)).containsExactly(1L);
+        assertThat(spaceGeoIndex.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("삭제된 공간은 조회되지 않음")
+    void remove() {
+        //given
+        spaceGeoIndex.put(new SpaceLocation(1L, 37.5665, 126.9780, 15000, 4));
+
+        //when
+        spaceGeoIndex.remove(1L);
+
+        //then
+        assertThat(spaceGeoIndex.findIdsWithinRadius(37.5665, 126.9780, 1000)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("날짜변경선을 넘는 반경도 조회")
+    void findIdsWithinRadius_acrossAntimeridian() {
+        //given
+        spaceGeoIndex.put(new SpaceLocation(1L, 0.0, 179.999, 15000, 4));
+        spaceGeoIndex.put(new SpaceLocation(2L, 0.0, -179.999, 15000, 4));
+        for (long id = 10; id < 1000; id++) {
+            spaceGeoIndex.put(new SpaceLocation(id, 37.0 + id * 0.001, 127.0, 15000, 4));
+        }
+
+        //when
+        List<Long> result = spaceGeoIndex.findIdsWithinRadius(0.0, 180.0, 1000);
+
+        //then
+        assertThat(result).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("극점에서는 경도와 상관없이 조회")
+    void findIdsWithinRadius_atPole() {
+        //given
+        spaceGeoIndex.put(new SpaceLocation(1L, -90.0, -150.0, 15000, 4));
+        spaceGeoIndex.put(new SpaceLocation(2L, 90.0, 180.0, 15000, 4));
+
+        //when
+        List<Long> result = spaceGeoIndex.findIdsWithinRadius(-90.0, 30.0, 1000);
+
+        //then
+        assertThat(result).containsExactly(1L);
+    }
+}
@@ -0,0 +1,103 @@
+package com.beour.space.domain.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SpaceSearchIndexTest {
+
+    private final SpaceSearchIndex spaceSearchIndex = new SpaceSearchIndex();
+
+    @Test
+    @DisplayName("이름, 태그, 주소, 설명에 포함된 검색어로 조회")
+    void search_matchesAllFields() {
+        //given
+        spaceSearchIndex.index(new SpaceSearchDocument(1L, "강남 파티룸", "서울특별시 강남구 역삼동",
+            List.of("생일파티"), List.of("넓은 공간입니다")));
+        spaceSearchIndex.index(new SpaceSearchDocument(2L, "홍대 연습실", "서울특별시 마포구 서교동",
+            List.of("댄스"), List.of("파티룸으로도 사용 가능합니다")));
+        spaceSearchIndex.index(new SpaceSearchDocument(3L, "수원 스터디룸", "경기도 수원시 팔달구",
+            List.of("스터디"), List.of("조용한 공간")));
+
+        //when
+        List<Long> result = spaceSearchIndex.search("파티룸");
+
+        //then
+        assertThat(result).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("이름에 일치하는 공간이 설명에만 일치하는 공간보다 먼저 조회")
+    void search_rankedByFieldWeight() {
+        //given
+        spaceSearchIndex.index(new SpaceSearchDocument(1L, "연습실", "서울특별시 마포구",
+            List.of(), List.of("스튜디오 촬영 가능")));
+        spaceSearchIndex.index(new SpaceSearchDocument(2L, "촬영 스튜디오", "서울특별시 성동구",
+            List.of(), List.of()));
+
+        //when
+        List<Long> result = spaceSearchIndex.search("스튜디오");
+
+        //then
+        assertThat(result).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("검색어의 모든 n-gram 을 포함해야 조회")
+    void search_requiresAllGrams() {
+        //given
+        spaceSearchIndex.index(new SpaceSearchDocument(1L, "공간", "서울특별시 강남구",
+            List.of(), List.of()));
+
+        //when
+        List<Long> result = spaceSearchIndex.search("공간대여");
+
+        //then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어와 대소문자 구분 없는 영문 검색")
+    void search_singleCharacterAndCaseInsensitive() {
+        //given
+        spaceSearchIndex.index(new SpaceSearchDocument(1L, "Cafe 방", "서울특별시 종로구",
+            List.of(), List.of()));
+
+        //when then
+        assertThat(spaceSearchIndex.search("방")).containsExactly(1L);
+        assertThat(spaceSearchIndex.search("CAFE")).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("재색인하면 이전 내용으로는 조회되지 않음")
+    void index_replacesPreviousDocument() {
+        //given
+        spaceSearchIndex.index(new SpaceSearchDocument(1L, "파티룸", "서울특별시 강남구",
+            List.of(), List.of()));
+
+        //when
+        spaceSearchIndex.index(new SpaceSearchDocument(1L, "스터디룸", "서울특별시 강남구",
+            List.of(), List.of()));
+
+        //then
+        assertThat(spaceSearchIndex.search("파티")).isEmpty();
+        assertThat(spaceSearchIndex.search("스터디")).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("삭제된 공간은 조회되지 않음")
+    void remove() {
+        //given
+        spaceSearchIndex.index(new SpaceSearchDocument(1L, "파티룸", "서울특별시 강남구",
+            List.of(), List.of()));
+
+        //when
+        spaceSearchIndex.remove(1L);
+
+        //then
+        assertThat(spaceSearchIndex.search("파티룸")).isEmpty();
+        assertThat(spaceSearchIndex.size()).isZero();
+    }
+}
@@ -0,0 +1,132 @@
+package com.beour.space.domain.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.beour.global.config.CacheRegions;
+import com.beour.space.domain.entity.Space;
+import com.beour.space.domain.enums.SpaceCategory;
+import com.beour.space.domain.enums.UseCategory;
+import com.beour.user.entity.User;
+import com.beour.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SpaceRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private SpaceRepository spaceRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User host;
+    private Space cityHall;
+    private Space jongno;
+
+    @BeforeEach
+    void setUp() {
+        host = User.builder()
+            .loginId("host")
+            .password("hostpw")
+            .name("호스트")
+            .nickname("host")
+            .email("host@gmail.com")
+            .phone("01012345678")
+            .role("HOST")
+            .build();
+        userRepository.save(host);
+
+        cityHall = spaceRepository.save(space("시청", 37.5665, 126.9780));
+        jongno = spaceRepository.save(space("종로3가", 37.5700, 126.9920));
+        spaceRepository.save(space("강남역", 37.4979, 127.0276));
+        spaceRepository.save(space("잘못된 좌표", 123.12, 126.9780));
+        spaceRepository.save(space("좌표 없음", null, null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        spaceRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("반경 검색 - 가까운 순으로 조회하고 다음 페이지 유무 확인")
+    void findAllWithinDistance() {
+        //when
+        Slice<Space> first = spaceRepository.findAllWithinDistance(37.5660, 126.9785, 2000, PageRequest.of(0, 1));
+        Slice<Space> second = spaceRepository.findAllWithinDistance(37.5660, 126.9785, 2000, PageRequest.of(1, 1));
+
+        //then
+        assertThat(first.getContent()).extracting(Space::getId).containsExactly(cityHall.getId());
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).extracting(Space::getId).containsExactly(jongno.getId());
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("인덱스 순서 페이지 조회 - 정렬이 없으면 받은 순서, 있으면 요청한 정렬을 따름")
+    void findPageByOrderedIds_honorsSort() {
+        //given
+        List<Long> orderedIds = List.of(cityHall.getId(), jongno.getId());
+
+        //when
+        Page<Space> ranked = spaceRepository.findPageByOrderedIds(orderedIds, PageRequest.of(0, 10));
+        Page<Space> sorted = spaceRepository.findPageByOrderedIds(orderedIds,
+            PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id")));
+
+        //then
+        assertThat(ranked.getContent()).extracting(Space::getId).containsExactlyElementsOf(orderedIds);
+        assertThat(sorted.getContent()).extracting(Space::getId)
+            .containsExactly(jongno.getId(), cityHall.getId());
+        assertThat(sorted.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("id 조회 - 한 번 읽은 공간은 2차 캐시에서 꺼냄")
+    void findById_hitsSecondLevelCache() {
+        //given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        spaceRepository.findById(cityHall.getId());
+        statistics.clear();
+
+        //when
+        Space found = spaceRepository.findById(cityHall.getId()).orElseThrow();
+
+        //then
+        assertThat(found.getName()).isEqualTo("시청");
+        assertThat(statistics.getDomainDataRegionStatistics(CacheRegions.SPACE).getHitCount()).isEqualTo(1);
+    }
+
+    private Space space(String name, Double latitude, Double longitude) {
+        return Space.builder()
+            .host(host)
+            .name(name)
+            .spaceCategory(SpaceCategory.COOKING)
+            .useCategory(UseCategory.COOKING)
+            .maxCapacity(3)
+            .address("서울특별시 중구 세종대로 110")
+            .detailAddress("1층")
+            .pricePerHour(15000)
+            .thumbnailUrl("https://example.img")
+            .latitude(latitude)
+            .longitude(longitude)
+            .avgRating(0.0)
+            .build();
+    }
+}
@@ -0,0 +1,190 @@
+package com.beour.space.domain.scheduler;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.beour.global.exception.error.errorcode.KakaoMapErrorCode;
+import com.beour.global.exception.exceptionType.KakaoMapException;
+import com.beour.space.domain.entity.GeocodingOutbox;
+import com.beour.space.domain.entity.Space;
+import com.beour.space.domain.enums.SpaceCategory;
+import com.beour.space.domain.enums.UseCategory;
+import com.beour.space.domain.repository.GeocodingOutboxRepository;
+import com.beour.space.domain.repository.SpaceRepository;
+import com.beour.space.host.service.KakaoMapService;
+import com.beour.space.host.service.SpaceGeocodingService;
+import com.beour.user.entity.User;
+import com.beour.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(properties = {
+    "space.geocoding-outbox.poll-delay-millis=3600000",
+    "space.geocoding-outbox.max-attempts=3",
+    "space.geocoding-outbox.retry-backoff=30s"
+})
+@ActiveProfiles("test")
+class GeocodingOutboxWorkerFailureTest {
+
+    private static final String ADDRESS = "서울 강남구 테헤란로 999";
+    private static final long BACKOFF_MILLIS = 30_000L;
+
+    @MockitoBean
+    private KakaoMapService kakaoMapService;
+
+    @Autowired
+    private GeocodingOutboxWorker geocodingOutboxWorker;
+    @Autowired
+    private SpaceGeocodingService spaceGeocodingService;
+    @Autowired
+    private GeocodingOutboxRepository geocodingOutboxRepository;
+    @Autowired
+    private SpaceRepository spaceRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Space space;
+
+    @BeforeEach
+    void setUp() {
+        User host = User.builder()
+            .loginId("host")
+            .password("hostpw")
+            .name("호스트")
+            .nickname("host")
+            .email("host@gmail.com")
+            .phone("01012345678")
+            .role("HOST")
+            .build();
+        userRepository.save(host);
+
+        space = Space.builder()
+            .host(host)
+            .name("공간1")
+            .spaceCategory(SpaceCategory.COOKING)
+            .useCategory(UseCategory.COOKING)
+            .maxCapacity(3)
+            .pricePerHour(15000)
+            .thumbnailUrl("https://example.img")
+            .avgRating(0.0)
+            .build();
+        spaceRepository.save(space);
+
+        transactionTemplate.executeWithoutResult(status -> spaceGeocodingService.changeAddress(
+            spaceRepository.findById(space.getId()).orElseThrow(), ADDRESS));
+    }
+
+    @AfterEach
+    void tearDown() {
+        geocodingOutboxRepository.deleteAll();
+        spaceRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("outbox 처리 - 주소를 찾을 수 없으면 재시도 없이 실패 상태로 남긴다")
+    void process_address_not_found() {
+        // given
+        given(kakaoMapService.getCoordinatesByAddress(anyString()))
+            .willThrow(new KakaoMapException(KakaoMapErrorCode.ADDRESS_NOT_FOUND));
+        double before = failureCount("address_not_found");
+
+        // when
+        geocodingOutboxWorker.process();
+
+        // then
+        Space saved = spaceRepository.findById(space.getId()).orElseThrow();
+        assertThat(saved.isGeocodingPending()).isFalse();
+        assertThat(saved.isGeocodingFailed()).isTrue();
+        assertThat(geocodingOutboxRepository.count()).isZero();
+        assertThat(failureCount("address_not_found")).isEqualTo(before + 1);
+    }
+
+    @Test
+    @DisplayName("outbox 처리 - API 오류는 간격을 두고 다시 시도하고, 그 전에는 호출하지 않는다")
+    void process_retries_with_backoff() {
+        // given
+        given(kakaoMapService.getCoordinatesByAddress(anyString()))
+            .willThrow(new KakaoMapException(KakaoMapErrorCode.API_CALL_FAILED));
+        long before = System.currentTimeMillis();
+
+        // when
+        geocodingOutboxWorker.process();
+        long after = System.currentTimeMillis();
+        geocodingOutboxWorker.process();
+
+        // then
+        GeocodingOutbox outbox = geocodingOutboxRepository.findBySpaceId(space.getId()).orElseThrow();
+        assertThat(outbox.getAttempts()).isEqualTo(1);
+        assertThat(outbox.getNextAttemptAt()).isBetween(before + BACKOFF_MILLIS, after + BACKOFF_MILLIS);
+        verify(kakaoMapService, times(1)).getCoordinatesByAddress(ADDRESS);
+
+        Space saved = spaceRepository.findById(space.getId()).orElseThrow();
+        assertThat(saved.isGeocodingPending()).isTrue();
+        assertThat(saved.isGeocodingFailed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("outbox 처리 - 재시도 횟수를 넘기면 포기하고 실패 상태로 남긴다")
+    void process_gives_up_after_max_attempts() {
+        // given
+        given(kakaoMapService.getCoordinatesByAddress(anyString()))
+            .willThrow(new KakaoMapException(KakaoMapErrorCode.API_CALL_FAILED));
+        transactionTemplate.executeWithoutResult(status -> {
+            GeocodingOutbox outbox = geocodingOutboxRepository.findBySpaceId(space.getId()).orElseThrow();
+            outbox.retryAt(0L);
+            outbox.retryAt(0L);
+        });
+        double before = failureCount("max_attempts");
+
+        // when
+        geocodingOutboxWorker.process();
+
+        // then
+        Space saved = spaceRepository.findById(space.getId()).orElseThrow();
+        assertThat(saved.isGeocodingPending()).isFalse();
+        assertThat(saved.isGeocodingFailed()).isTrue();
+        assertThat(geocodingOutboxRepository.count()).isZero();
+        assertThat(failureCount("max_attempts")).isEqualTo(before + 1);
+    }
+
+    @Test
+    @DisplayName("주소 변경 - 실패한 주소를 다시 저장하면 실패 상태를 풀고 다시 outbox 에 적재")
+    void change_address_after_failure_requeues() {
+        // given
+        given(kakaoMapService.getCoordinatesByAddress(anyString()))
+            .willThrow(new KakaoMapException(KakaoMapErrorCode.ADDRESS_NOT_FOUND));
+        geocodingOutboxWorker.process();
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> spaceGeocodingService.changeAddress(
+            spaceRepository.findById(space.getId()).orElseThrow(), ADDRESS));
+
+        // then
+        Space saved = spaceRepository.findById(space.getId()).orElseThrow();
+        assertThat(saved.isGeocodingPending()).isTrue();
+        assertThat(saved.isGeocodingFailed()).isFalse();
+        assertThat(geocodingOutboxRepository.findBySpaceId(space.getId())).isPresent();
+    }
+
+    private double failureCount(String reason) {
+        Counter counter = meterRegistry.find("space.geocoding.failures").tag("reason", reason).counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
@@ -0,0 +1,136 @@
+package com.beour.space.domain.scheduler;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.beour.space.domain.entity.GeocodeCache;
+import com.beour.space.domain.entity.Space;
+import com.beour.space.domain.enums.SpaceCategory;
+import com.beour.space.domain.enums.UseCategory;
+import com.beour.space.domain.repository.GeocodeCacheRepository;
+import com.beour.space.domain.repository.GeocodingOutboxRepository;
+import com.beour.space.domain.repository.SpaceRepository;
+import com.beour.space.host.service.SpaceGeocodingService;
+import com.beour.user.entity.User;
+import com.beour.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(properties = "space.geocoding-outbox.poll-delay-millis=3600000")
+@ActiveProfiles("test")
+class GeocodingOutboxWorkerTest {
+
+    // 좌표 메모리 캐시는 테스트 사이에 유지되므로 테스트마다 다른 주소를 쓴다.
+    private static final String ADDRESS = "서울 강남구 테헤란로 212";
+    private static final String CACHED_ADDRESS = "서울 강남구 테헤란로 213";
+    private static final String PROCESSED_ADDRESS = "서울 강남구 테헤란로 214";
+
+    @Autowired
+    private GeocodingOutboxWorker geocodingOutboxWorker;
+    @Autowired
+    private SpaceGeocodingService spaceGeocodingService;
+    @Autowired
+    private GeocodingOutboxRepository geocodingOutboxRepository;
+    @Autowired
+    private GeocodeCacheRepository geocodeCacheRepository;
+    @Autowired
+    private SpaceRepository spaceRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Space space;
+
+    @BeforeEach
+    void setUp() {
+        User host = User.builder()
+            .loginId("host")
+            .password("hostpw")
+            .name("호스트")
+            .nickname("host")
+            .email("host@gmail.com")
+            .phone("01012345678")
+            .role("HOST")
+            .build();
+        userRepository.save(host);
+
+        space = Space.builder()
+            .host(host)
+            .name("공간1")
+            .spaceCategory(SpaceCategory.COOKING)
+            .useCategory(UseCategory.COOKING)
+            .maxCapacity(3)
+            .pricePerHour(15000)
+            .thumbnailUrl("https://example.img")
+            .avgRating(0.0)
+            .build();
+        spaceRepository.save(space);
+    }
+
+    @AfterEach
+    void tearDown() {
+        geocodingOutboxRepository.deleteAll();
+        geocodeCacheRepository.deleteAll();
+        spaceRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("주소 변경 - 저장된 좌표가 없으면 좌표 대기 상태로 outbox 적재")
+    void change_address_without_cached_coordinate() {
+        // when
+        changeAddress(ADDRESS);
+
+        // then
+        Space saved = spaceRepository.findById(space.getId()).orElseThrow();
+        assertThat(saved.getAddress()).isEqualTo(ADDRESS);
+        assertThat(saved.isGeocodingPending()).isTrue();
+        assertThat(saved.getLatitude()).isNull();
+        assertThat(geocodingOutboxRepository.findBySpaceId(space.getId())).isPresent();
+    }
+
+    @Test
+    @DisplayName("주소 변경 - 저장된 좌표가 있으면 바로 반영")
+    void change_address_with_cached_coordinate() {
+        // given
+        geocodeCacheRepository.save(GeocodeCache.builder().address(CACHED_ADDRESS).latitude(37.5).longitude(127.03).build());
+
+        // when
+        changeAddress(CACHED_ADDRESS);
+
+        // then
+        Space saved = spaceRepository.findById(space.getId()).orElseThrow();
+        assertThat(saved.isGeocodingPending()).isFalse();
+        assertThat(saved.getLatitude()).isEqualTo(37.5);
+        assertThat(geocodingOutboxRepository.findBySpaceId(space.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("outbox 처리 - 좌표를 채우고 outbox 삭제")
+    void process_outbox() {
+        // given
+        changeAddress(PROCESSED_ADDRESS);
+        geocodeCacheRepository.save(GeocodeCache.builder().address(PROCESSED_ADDRESS).latitude(37.5).longitude(127.03).build());
+
+        // when
+        geocodingOutboxWorker.process();
+
+        // then
+        Space saved = spaceRepository.findById(space.getId()).orElseThrow();
+        assertThat(saved.isGeocodingPending()).isFalse();
+        assertThat(saved.getLatitude()).isEqualTo(37.5);
+        assertThat(saved.getLongitude()).isEqualTo(127.03);
+        assertThat(geocodingOutboxRepository.count()).isZero();
+    }
+
+    private void changeAddress(String address) {
+        transactionTemplate.executeWithoutResult(status -> spaceGeocodingService.changeAddress(
+            spaceRepository.findById(space.getId()).orElseThrow(), address));
+    }
+}
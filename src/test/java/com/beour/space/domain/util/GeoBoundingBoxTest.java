@@ -0,0 +1,43 @@
+package com.beour.space.domain.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GeoBoundingBoxTest {
+
+    @Test
+    @DisplayName("반경 사각형 - 반경 안의 지점은 모두 포함")
+    void around_containsPointsWithinRadius() {
+        //given
+        GeoBoundingBox box = GeoBoundingBox.around(37.5665, 126.9780, 2000);
+
+        //when //then
+        assertThat(box.contains(37.5700, 126.9920)).isTrue();  // 종로3가, 약 1.3km
+        assertThat(box.contains(37.5665 + 0.0179, 126.9780)).isTrue(); // 북쪽 약 1.99km
+        assertThat(box.contains(37.4979, 127.0276)).isFalse(); // 강남역, 약 8.8km
+    }
+
+    @Test
+    @DisplayName("반경 사각형 - 날짜변경선을 넘으면 경도 전체")
+    void around_acrossAntimeridian() {
+        //when
+        GeoBoundingBox box = GeoBoundingBox.around(0.0, 179.999, 1000);
+
+        //then
+        assertThat(box.minLongitude()).isEqualTo(-180);
+        assertThat(box.maxLongitude()).isEqualTo(180);
+    }
+
+    @Test
+    @DisplayName("WKT - 경도 위도 순서의 닫힌 사각형")
+    void toWkt() {
+        //given
+        GeoBoundingBox box = new GeoBoundingBox(37.0, 38.0, 126.0, 127.5);
+
+        //when //then
+        assertThat(box.toWkt()).isEqualTo("POLYGON((126.0000000 37.0000000, 127.5000000 37.0000000, "
+            + "127.5000000 38.0000000, 126.0000000 38.0000000, 126.0000000 37.0000000))");
+    }
+}
@@ -0,0 +1,28 @@
+package com.beour.space.domain.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SpaceAddressUtilsTest {
+
+    @Test
+    @DisplayName("지역 표시 - 특별시, 광역시는 시로 줄이고 구까지만 표시")
+    void toRegion() {
+        //when //then
+        assertThat(SpaceAddressUtils.toRegion("서울특별시 강남구 테헤란로 212")).isEqualTo("서울시 강남구");
+        assertThat(SpaceAddressUtils.toRegion("부산광역시 해운대구 우동")).isEqualTo("부산시 해운대구");
+        assertThat(SpaceAddressUtils.toRegion("경기도 수원시 팔달구")).isEqualTo("경기도 수원시");
+        assertThat(SpaceAddressUtils.toRegion("서울")).isEqualTo("서울");
+    }
+
+    @Test
+    @DisplayName("동 표시 - 세 번째 단어가 동이 아니면 구까지만 표시")
+    void toDong() {
+        //when //then
+        assertThat(SpaceAddressUtils.toDong("서울특별시 강남구 역삼동")).isEqualTo("역삼동");
+        assertThat(SpaceAddressUtils.toDong("서울특별시 강남구 테헤란로 212")).isEqualTo("강남구");
+        assertThat(SpaceAddressUtils.toDong("서울 강남구")).isEqualTo("서울 강남구");
+    }
+}
@@ -0,0 +1,178 @@
+package com.beour.space.guest.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.beour.space.domain.entity.Space;
+import com.beour.space.domain.entity.Tag;
+import com.beour.space.domain.enums.SpaceCategory;
+import com.beour.space.domain.enums.UseCategory;
+import com.beour.space.domain.repository.SpaceRepository;
+import com.beour.space.domain.repository.TagRepository;
+import com.beour.space.guest.dto.SearchSpacePageResponseDto;
+import com.beour.space.guest.dto.SearchSpaceResponseDto;
+import com.beour.user.entity.User;
+import com.beour.user.repository.UserRepository;
+import com.beour.wishlist.entity.Like;
+import com.beour.wishlist.repository.LikeRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class GuestSpaceSearchServiceTest {
+
+    private static final int SPACE_COUNT = 6;
+
+    @Autowired
+    private GuestSpaceSearchService guestSpaceSearchService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private SpaceRepository spaceRepository;
+    @Autowired
+    private TagRepository tagRepository;
+    @Autowired
+    private LikeRepository likeRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User guest;
+    private User host;
+    private List<Space> spaces;
+
+    @BeforeEach
+    void setUp() {
+        guest = User.builder()
+            .loginId("guest")
+            .password(passwordEncoder.encode("guestpassword!"))
+            .name("게스트")
+            .nickname("guest")
+            .email("guest@gmail.com")
+            .phone("01012345678")
+            .role("GUEST")
+            .build();
+        userRepository.save(guest);
+
+        host = User.builder()
+            .loginId("host1")
+            .password(passwordEncoder.encode("host1password!"))
+            .name("호스트1")
+            .nickname("host1")
+            .email("host1@gmail.com")
+            .phone("01012345678")
+            .role("HOST")
+            .build();
+        userRepository.save(host);
+
+        UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
+            guest.getLoginId(), null, Collections.emptyList());
+        SecurityContextHolder.getContext().setAuthentication(auth);
+
+        // 짝수 번째는 찜, 세 번째마다 리뷰 없음, 태그는 앞의 두 공간에만 붙인다.
+        spaces = new ArrayList<>();
+        for (int i = 0; i < SPACE_COUNT; i++) {
+            Space space = spaceRepository.save(space("공간" + i, i % 3 == 0 ? 0 : i));
+            spaces.add(space);
+            if (i % 2 == 0) {
+                likeRepository.save(Like.builder().user(guest).space(space).build());
+            }
+        }
+        tagRepository.save(Tag.builder().space(spaces.get(0)).contents("요리").build());
+        tagRepository.save(Tag.builder().space(spaces.get(0)).contents("파티").build());
+        tagRepository.save(Tag.builder().space(spaces.get(1)).contents("촬영").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        tagRepository.deleteAll();
+        likeRepository.deleteAll();
+        spaceRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("검색 결과 - 공간마다 리뷰 수, 찜 여부, 태그를 채움")
+    void search_hydrates_each_space() {
+        //when
+        SearchSpacePageResponseDto result = guestSpaceSearchService.searchSpaceWithSpaceCategory(
+            SpaceCategory.COOKING, PageRequest.of(0, SPACE_COUNT));
+
+        //then
+        Map<Long, SearchSpaceResponseDto> bySpaceId = result.getSpaces().stream()
+            .collect(Collectors.toMap(SearchSpaceResponseDto::getSpaceId, Function.identity()));
+        assertThat(bySpaceId).hasSize(SPACE_COUNT);
+
+        for (int i = 0; i < SPACE_COUNT; i++) {
+            SearchSpaceResponseDto dto = bySpaceId.get(spaces.get(i).getId());
+            assertThat(dto.getReviewCount()).isEqualTo(i % 3 == 0 ? 0L : i);
+            assertThat(dto.isLikes()).isEqualTo(i % 2 == 0);
+        }
+        assertThat(bySpaceId.get(spaces.get(0).getId()).getTags()).containsExactlyInAnyOrder("요리", "파티");
+        assertThat(bySpaceId.get(spaces.get(1).getId()).getTags()).containsExactly("촬영");
+        for (int i = 2; i < SPACE_COUNT; i++) {
+            assertThat(bySpaceId.get(spaces.get(i).getId()).getTags()).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("검색 결과 - 페이지 크기가 커져도 실행하는 SQL 수는 같음")
+    void search_query_count_does_not_grow_with_page_size() {
+        //given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        guestSpaceSearchService.searchSpaceWithSpaceCategory(SpaceCategory.COOKING, PageRequest.of(0, 2));
+
+        //when
+        statistics.clear();
+        guestSpaceSearchService.searchSpaceWithSpaceCategory(SpaceCategory.COOKING, PageRequest.of(0, 2));
+        long smallPageStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        guestSpaceSearchService.searchSpaceWithSpaceCategory(SpaceCategory.COOKING,
+            PageRequest.of(0, SPACE_COUNT));
+        long fullPageStatements = statistics.getPrepareStatementCount();
+
+        //then
+        assertThat(fullPageStatements).isEqualTo(smallPageStatements);
+    }
+
+    private Space space(String name, int reviewCount) {
+        return Space.builder()
+            .host(host)
+            .name(name)
+            .spaceCategory(SpaceCategory.COOKING)
+            .useCategory(UseCategory.COOKING)
+            .maxCapacity(3)
+            .address("서울시 강남구")
+            .detailAddress("투썸건물 2층")
+            .pricePerHour(15000)
+            .thumbnailUrl("https://example.img")
+            .latitude(37.5665)
+            .longitude(126.9780)
+            .avgRating(reviewCount == 0 ? 0.0 : 4.0)
+            .reviewCount(reviewCount)
+            .ratingSum(reviewCount * 4L)
+            .tags(new ArrayList<>())
+            .build();
+    }
+}
@@ -0,0 +1,146 @@
+package com.beour.space.guest.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+
+import com.beour.space.domain.entity.Space;
+import com.beour.space.domain.enums.SpaceCategory;
+import com.beour.space.domain.enums.UseCategory;
+import com.beour.space.domain.index.SpaceGeoIndex;
+import com.beour.space.domain.repository.SpaceRepository;
+import com.beour.space.guest.dto.NearbySpacePageResponseDto;
+import com.beour.space.guest.dto.NearbySpaceResponse;
+import com.beour.user.entity.User;
+import com.beour.user.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class GuestSpaceServiceTest {
+
+    private static final double LATITUDE = 33.4500;
+    private static final double LONGITUDE = 126.5700;
+    private static final double RADIUS_KM = 5;
+    private static final int PAGE_SIZE = 3;
+
+    @Autowired
+    private GuestSpaceService guestSpaceService;
+    @Autowired
+    private SpaceRepository spaceRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @MockitoSpyBean
+    private SpaceGeoIndex spaceGeoIndex;
+
+    private User host;
+    private final List<Space> spaces = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        host = User.builder()
+            .loginId("host")
+            .password("hostpw")
+            .name("호스트")
+            .nickname("host")
+            .email("host@gmail.com")
+            .phone("01012345678")
+            .role("HOST")
+            .build();
+        userRepository.save(host);
+
+        // 같은 좌표의 공간을 여러 개 두어 거리가 같은 행이 페이지 경계에 걸치게 한다.
+        for (int i = 0; i < 5; i++) {
+            spaces.add(spaceRepository.save(space("같은 위치" + i, LATITUDE, LONGITUDE)));
+        }
+        for (int i = 0; i < 3; i++) {
+            spaces.add(spaceRepository.save(space("북쪽" + i, LATITUDE + 0.01, LONGITUDE)));
+        }
+        for (int i = 0; i < 2; i++) {
+            spaces.add(spaceRepository.save(space("동쪽" + i, LATITUDE, LONGITUDE + 0.02)));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        spaceRepository.deleteAll();
+        userRepository.deleteAll();
+        spaces.clear();
+    }
+
+    @Test
+    @DisplayName("주변 공간 커서 조회 - 좌표 인덱스 경로에서 거리가 같아도 중복, 누락 없이 끝까지 조회")
+    void find_nearby_by_cursor_from_index() {
+        //given
+        assertThat(spaceGeoIndex.isReady()).isTrue();
+
+        //when
+        List<Long> walkedIds = walkNearbyCursor();
+
+        //then
+        assertThat(walkedIds).containsExactlyElementsOf(expectedNearbyIds());
+    }
+
+    @Test
+    @DisplayName("주변 공간 커서 조회 - 인덱스가 준비되지 않으면 SQL 경로에서도 중복, 누락 없이 끝까지 조회")
+    void find_nearby_by_cursor_from_sql() {
+        //given
+        doReturn(false).when(spaceGeoIndex).isReady();
+
+        //when
+        List<Long> walkedIds = walkNearbyCursor();
+
+        //then
+        assertThat(walkedIds).containsExactlyElementsOf(expectedNearbyIds());
+    }
+
+    private List<Long> walkNearbyCursor() {
+        List<Long> walkedIds = new ArrayList<>();
+        String cursor = null;
+        NearbySpacePageResponseDto page;
+        do {
+            page = guestSpaceService.findNearbySpacesByCursor(LATITUDE, LONGITUDE, RADIUS_KM, cursor, PAGE_SIZE);
+            page.getSpaces().stream().map(NearbySpaceResponse::getSpaceId).forEach(walkedIds::add);
+            cursor = page.getNextCursor();
+        } while (!page.isLast());
+
+        assertThat(cursor).isNull();
+        return walkedIds;
+    }
+
+    private List<Long> expectedNearbyIds() {
+        return spaces.stream()
+            .sorted(Comparator.comparingDouble((Space space) -> SpaceGeoIndex.distanceMeters(
+                    LATITUDE, LONGITUDE, space.getLatitude(), space.getLongitude()))
+                .thenComparing(Space::getId))
+            .map(Space::getId)
+            .toList();
+    }
+
+    private Space space(String name, double latitude, double longitude) {
+        return Space.builder()
+            .host(host)
+            .name(name)
+            .spaceCategory(SpaceCategory.COOKING)
+            .useCategory(UseCategory.COOKING)
+            .maxCapacity(3)
+            .address("제주특별자치도 제주시")
+            .detailAddress("1층")
+            .pricePerHour(15000)
+            .thumbnailUrl("https://example.img")
+            .latitude(latitude)
+            .longitude(longitude)
+            .avgRating(0.0)
+            .availableTimes(new ArrayList<>())
+            .build();
+    }
+}
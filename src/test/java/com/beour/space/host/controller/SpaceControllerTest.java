@@ -12,6 +12,7 @@ import com.beour.space.domain.entity.Tag;
 import com.beour.space.domain.enums.SpaceCategory;
 import com.beour.space.domain.enums.UseCategory;
 import com.beour.space.domain.repository.DescriptionRepository;
+import com.beour.space.domain.repository.GeocodingOutboxRepository;
 import com.beour.space.domain.repository.SpaceRepository;
 import com.beour.space.domain.repository.TagRepository;
 import com.beour.user.repository.UserRepository;
@@ -50,6 +51,8 @@ class SpaceControllerTest {
     @Autowired
     private TagRepository tagRepository;
     @Autowired
+    private GeocodingOutboxRepository geocodingOutboxRepository;
+    @Autowired
     private ObjectMapper objectMapper;
 
     private User host1;
@@ -149,6 +152,7 @@ class SpaceControllerTest {
 
     @AfterEach
     void tearDown() {
+        geocodingOutboxRepository.deleteAll();
         descriptionRepository.deleteAll();
         tagRepository.deleteAll();
         spaceRepository.deleteAll();
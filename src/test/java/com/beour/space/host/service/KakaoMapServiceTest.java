@@ -0,0 +1,169 @@
+package com.beour.space.host.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.beour.global.exception.error.errorcode.KakaoMapErrorCode;
+import com.beour.global.exception.exceptionType.KakaoMapException;
+import com.beour.space.domain.entity.GeocodeCache;
+import com.beour.space.domain.repository.GeocodeCacheRepository;
+import com.beour.space.host.service.KakaoMapService.Coordinate;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class KakaoMapServiceTest {
+
+    private static final String NOT_FOUND_ADDRESS = "없는 주소";
+
+    private static final AtomicInteger apiCallCount = new AtomicInteger();
+    private static final AtomicBoolean apiFailing = new AtomicBoolean();
+    private static final HttpServer kakaoStubServer = startKakaoStubServer();
+
+    @Autowired
+    private KakaoMapService kakaoMapService;
+
+    @Autowired
+    private GeocodeCacheRepository geocodeCacheRepository;
+
+    @DynamicPropertySource
+    static void kakaoProperties(DynamicPropertyRegistry registry) {
+        registry.add("kakao.api.url", () -> "http://localhost:" + kakaoStubServer.getAddress().getPort());
+        registry.add("kakao.api.circuit-breaker.minimum-number-of-calls", () -> 4);
+        registry.add("kakao.api.circuit-breaker.wait-duration", () -> "60s");
+        registry.add("space.geocoding-outbox.poll-delay-millis", () -> 3_600_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        geocodeCacheRepository.deleteAll();
+        kakaoMapService.clearLocalCache();
+        kakaoMapService.getCircuitBreaker().reset();
+        apiCallCount.set(0);
+        apiFailing.set(false);
+    }
+
+    @AfterAll
+    static void stopServer() {
+        kakaoStubServer.stop(0);
+    }
+
+    @Test
+    @DisplayName("좌표 조회 - 같은 주소는 API 를 한 번만 호출")
+    void same_address_calls_api_once() {
+        // when
+        Coordinate first = kakaoMapService.getCoordinatesByAddress("서울 강남구 테헤란로 124");
+        Coordinate second = kakaoMapService.getCoordinatesByAddress("  서울 강남구   테헤란로 124 ");
+
+        // then
+        assertThat(apiCallCount.get()).isEqualTo(1);
+        assertThat(second.getLatitude()).isEqualTo(first.getLatitude());
+        assertThat(geocodeCacheRepository.findByAddress("서울 강남구 테헤란로 124")).isPresent();
+    }
+
+    @Test
+    @DisplayName("좌표 조회 - 메모리 캐시에 없으면 저장된 좌표 사용")
+    void use_stored_coordinate() {
+        // given
+        geocodeCacheRepository.save(GeocodeCache.builder()
+            .address("서울 마포구 양화로 45").latitude(37.55).longitude(126.92).build());
+
+        // when
+        Coordinate coordinate = kakaoMapService.getCoordinatesByAddress("서울 마포구 양화로 45");
+
+        // then
+        assertThat(apiCallCount.get()).isZero();
+        assertThat(coordinate.getLatitude()).isEqualTo(37.55);
+        assertThat(coordinate.getLongitude()).isEqualTo(126.92);
+    }
+
+    @Test
+    @DisplayName("일괄 좌표 조회 - 저장된 주소는 건너뛰고 찾지 못한 주소는 제외")
+    void bulk_geocode() {
+        // given
+        geocodeCacheRepository.save(GeocodeCache.builder()
+            .address("서울 마포구 양화로 45").latitude(37.55).longitude(126.92).build());
+
+        // when
+        Map<String, Coordinate> coordinates = kakaoMapService.getCoordinatesByAddresses(
+            List.of("서울 마포구 양화로 45", "서울 강남구 테헤란로 124", NOT_FOUND_ADDRESS));
+
+        // then
+        assertThat(coordinates).containsOnlyKeys("서울 마포구 양화로 45", "서울 강남구 테헤란로 124");
+        assertThat(apiCallCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("좌표 조회 - 주소를 찾지 못한 경우")
+    void address_not_found() {
+        // when
+        KakaoMapException exception = assertThrows(KakaoMapException.class,
+            () -> kakaoMapService.getCoordinatesByAddress(NOT_FOUND_ADDRESS));
+
+        // then
+        assertThat(exception.getMessage()).isEqualTo(KakaoMapErrorCode.ADDRESS_NOT_FOUND.getMessage());
+    }
+
+    @Test
+    @DisplayName("좌표 조회 - API 장애가 이어지면 호출 차단")
+    void open_circuit_after_failures() {
+        // given
+        apiFailing.set(true);
+        for (int i = 0; i < 4; i++) {
+            String address = "장애 주소 " + i;
+            assertThrows(KakaoMapException.class, () -> kakaoMapService.getCoordinatesByAddress(address));
+        }
+
+        // when
+        KakaoMapException exception = assertThrows(KakaoMapException.class,
+            () -> kakaoMapService.getCoordinatesByAddress("장애 주소 5"));
+
+        // then
+        assertThat(exception.getMessage()).isEqualTo(KakaoMapErrorCode.API_UNAVAILABLE.getMessage());
+        assertThat(apiCallCount.get()).isEqualTo(4);
+    }
+
+    private static HttpServer startKakaoStubServer() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/v2/local/search/address.json", exchange -> {
+                apiCallCount.incrementAndGet();
+                String query = URLDecoder.decode(exchange.getRequestURI().getRawQuery(), StandardCharsets.UTF_8);
+
+                int status = apiFailing.get() ? 500 : 200;
+                String body = query.contains(NOT_FOUND_ADDRESS)
+                    ? "{\"documents\":[]}"
+                    : "{\"documents\":[{\"x\":\"127.0276\",\"y\":\"37.4979\"}]}";
+                byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+                exchange.sendResponseHeaders(status, bytes.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(bytes);
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.beour.space.host.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.beour.space.domain.entity.Description;
+import com.beour.space.domain.entity.Space;
+import com.beour.space.domain.entity.SpaceImage;
+import com.beour.space.domain.entity.Tag;
+import com.beour.space.domain.enums.SpaceCategory;
+import com.beour.space.domain.enums.UseCategory;
+import com.beour.space.domain.repository.DescriptionRepository;
+import com.beour.space.domain.repository.SpaceImageRepository;
+import com.beour.space.domain.repository.SpaceRepository;
+import com.beour.space.domain.repository.TagRepository;
+import com.beour.space.host.dto.HostMySpaceListPageResponseDto;
+import com.beour.space.host.dto.HostMySpaceListResponseDto;
+import com.beour.space.host.dto.SpaceDetailResponseDto;
+import com.beour.user.entity.User;
+import com.beour.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+// 측정 중에 outbox 폴링이 SQL 을 내지 않도록 폴링 간격을 늘린다.
+@SpringBootTest(properties = "space.geocoding-outbox.poll-delay-millis=3600000")
+@ActiveProfiles("test")
+class SpaceServiceTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 1, 1, 10, 0);
+
+    @Autowired
+    private SpaceService spaceService;
+    @Autowired
+    private SpaceRepository spaceRepository;
+    @Autowired
+    private DescriptionRepository descriptionRepository;
+    @Autowired
+    private TagRepository tagRepository;
+    @Autowired
+    private SpaceImageRepository spaceImageRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User host;
+
+    @BeforeEach
+    void setUp() {
+        host = User.builder()
+            .loginId("host")
+            .password("hostpw")
+            .name("호스트")
+            .nickname("host")
+            .email("host@gmail.com")
+            .phone("01012345678")
+            .role("HOST")
+            .build();
+        userRepository.save(host);
+
+        UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
+            host.getLoginId(), null, Collections.emptyList());
+        SecurityContextHolder.getContext().setAuthentication(auth);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        descriptionRepository.deleteAll();
+        tagRepository.deleteAll();
+        spaceImageRepository.deleteAll();
+        spaceRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("내 공간 커서 조회 - 등록 시각이 같은 공간이 있어도 중복, 누락 없이 끝까지 조회")
+    void get_my_spaces_by_cursor_walks_ties() {
+        //given
+        List<Long> expectedIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            expectedIds.add(saveSpace("먼저 등록" + i, CREATED_AT.minusDays(1)));
+        }
+        for (int i = 0; i < 5; i++) {
+            expectedIds.add(saveSpace("같은 시각" + i, CREATED_AT));
+        }
+        for (int i = 0; i < 2; i++) {
+            expectedIds.add(saveSpace("나중 등록" + i, CREATED_AT.plusDays(1)));
+        }
+        // 등록 시각을 SQL 로 바꿨으므로 2차 캐시에 남은 이전 값을 지운다.
+        entityManagerFactory.getCache().evictAll();
+
+        //when
+        List<Long> walkedIds = new ArrayList<>();
+        String cursor = null;
+        HostMySpaceListPageResponseDto page;
+        do {
+            page = spaceService.getMySpacesByCursor(cursor, 3);
+            page.getSpaces().stream().map(HostMySpaceListResponseDto::getSpaceId).forEach(walkedIds::add);
+            cursor = page.getNextCursor();
+        } while (!page.isLast());
+
+        //then
+        assertThat(walkedIds).containsExactlyElementsOf(expectedIds);
+        assertThat(cursor).isNull();
+    }
+
+    @Test
+    @DisplayName("공간 상세 조회 - 한 번 읽은 공간은 설명, 태그, 이미지까지 SQL 없이 2차 캐시에서 응답")
+    void get_detailed_space_info_from_second_level_cache() {
+        //given
+        Space space = spaceRepository.findById(saveSpace("상세 공간", CREATED_AT)).orElseThrow();
+        descriptionRepository.save(Description.builder()
+            .space(space)
+            .description("공간 설명")
+            .priceGuide("가격 안내")
+            .build());
+        tagRepository.save(Tag.builder().space(space).contents("요리").build());
+        spaceImageRepository.save(SpaceImage.builder().space(space).imageUrl("https://example.img/1").build());
+        entityManagerFactory.getCache().evictAll();
+        spaceService.getDetailedSpaceInfo(space.getId());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        SpaceDetailResponseDto result = spaceService.getDetailedSpaceInfo(space.getId());
+
+        //then
+        assertThat(result.getDescription()).isEqualTo("공간 설명");
+        assertThat(result.getTags()).containsExactly("요리");
+        assertThat(result.getImageUrls()).hasSize(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    // 같은 시각 안에서는 id 순으로 내려가므로 저장 순서가 곧 기대 순서다.
+    private Long saveSpace(String name, LocalDateTime createdAt) {
+        Space space = spaceRepository.save(Space.builder()
+            .host(host)
+            .name(name)
+            .spaceCategory(SpaceCategory.COOKING)
+            .useCategory(UseCategory.COOKING)
+            .maxCapacity(3)
+            .address("서울시 강남구")
+            .detailAddress("투썸건물 2층")
+            .pricePerHour(15000)
+            .thumbnailUrl("https://example.img")
+            .latitude(37.5)
+            .longitude(127.0)
+            .avgRating(0.0)
+            .availableTimes(new ArrayList<>())
+            .build());
+        jdbcTemplate.update("UPDATE space SET created_at = ? WHERE id = ?", Timestamp.valueOf(createdAt),
+            space.getId());
+        return space.getId();
+    }
+}
@@ -0,0 +1,138 @@
+package com.beour.token.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.beour.token.entity.RefreshToken;
+import com.beour.token.service.JpaRefreshTokenStore;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(properties = {
+    "token.refresh-store.type=jpa",
+    "token.refresh-store.purge-batch-size=3"
+})
+@ActiveProfiles("test")
+class RefreshTokenRepositoryTest {
+
+    private static final int BATCH_SIZE = 3;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+    @Autowired
+    private JpaRefreshTokenStore jpaRefreshTokenStore;
+
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenRepository.deleteAll();
+        now = System.currentTimeMillis();
+    }
+
+    @AfterEach
+    void tearDown() {
+        refreshTokenRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("만료 토큰 정리 - 여러 묶음에 걸친 만료 토큰을 모두 지우고 유효한 토큰은 남긴다")
+    void purge_expired_over_multiple_batches() {
+        //given
+        saveTokens("expired", 7, now - 60_000L);
+        saveTokens("expired-now", 1, now);
+        List<Long> liveIds = saveTokens("live", 4, now + 60_000L);
+
+        //when
+        int purged = jpaRefreshTokenStore.purgeExpired(now);
+
+        //then
+        assertThat(purged).isEqualTo(8);
+        assertThat(refreshTokenRepository.findAll())
+            .extracting(RefreshToken::getId)
+            .containsExactlyInAnyOrderElementsOf(liveIds);
+    }
+
+    @Test
+    @DisplayName("만료 토큰 정리 - 만료 토큰 수가 묶음 크기의 배수여도 모두 지운다")
+    void purge_expired_exact_multiple_of_batch() {
+        //given
+        saveTokens("expired", BATCH_SIZE * 2, now - 60_000L);
+        List<Long> liveIds = saveTokens("live", 2, now + 60_000L);
+
+        //when
+        int purged = jpaRefreshTokenStore.purgeExpired(now);
+
+        //then
+        assertThat(purged).isEqualTo(BATCH_SIZE * 2);
+        assertThat(refreshTokenRepository.findAll())
+            .extracting(RefreshToken::getId)
+            .containsExactlyInAnyOrderElementsOf(liveIds);
+    }
+
+    @Test
+    @DisplayName("만료 토큰 일괄 삭제 - 한 번에 묶음 크기만큼만 지운다")
+    void delete_expired_limited_by_batch_size() {
+        //given
+        saveTokens("expired", 5, now - 60_000L);
+        saveTokens("live", 2, now + 60_000L);
+
+        //when
+        int deleted = refreshTokenRepository.deleteExpired(now, BATCH_SIZE);
+
+        //then
+        assertThat(deleted).isEqualTo(BATCH_SIZE);
+        assertThat(refreshTokenRepository.count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("토큰 교체 - 같은 토큰으로 두 번 교체하면 두 번째는 새 토큰을 저장하지 않는다")
+    void rotate_only_once_per_token() {
+        //given
+        jpaRefreshTokenStore.save("user1", "old", now + 60_000L);
+
+        //when
+        boolean first = jpaRefreshTokenStore.rotate("old", "user1", "new-1", now + 60_000L);
+        boolean second = jpaRefreshTokenStore.rotate("old", "user1", "new-2", now + 60_000L);
+
+        //then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(jpaRefreshTokenStore.exists("old")).isFalse();
+        assertThat(jpaRefreshTokenStore.exists("new-1")).isTrue();
+        assertThat(jpaRefreshTokenStore.exists("new-2")).isFalse();
+    }
+
+    @Test
+    @DisplayName("토큰 교체 - 새 토큰 저장이 실패하면 기존 토큰 삭제도 롤백된다")
+    void rotate_rolls_back_revoke_when_save_fails() {
+        //given
+        jpaRefreshTokenStore.save("user1", "old", now + 60_000L);
+        jpaRefreshTokenStore.save("user1", "taken", now + 60_000L);
+
+        //when then
+        assertThatThrownBy(() -> jpaRefreshTokenStore.rotate("old", "user1", "taken", now + 60_000L))
+            .isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(jpaRefreshTokenStore.exists("old")).isTrue();
+        assertThat(refreshTokenRepository.count()).isEqualTo(2);
+    }
+
+    private List<Long> saveTokens(String prefix, int count, long expiresAt) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> refreshTokenRepository.save(RefreshToken.builder()
+                .loginId("user" + i)
+                .tokenHash(prefix + "-" + i)
+                .issuedAt(now - 120_000L)
+                .expiresAt(expiresAt)
+                .build()).getId())
+            .toList();
+    }
+}
@@ -0,0 +1,94 @@
+package com.beour.token.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.beour.token.dto.RefreshTokenSession;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InMemoryRefreshTokenStoreTest {
+
+    private static final long TICK_MILLIS = 1000L;
+
+    private InMemoryRefreshTokenStore refreshTokenStore;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenStore = new InMemoryRefreshTokenStore(TICK_MILLIS);
+    }
+
+    @Test
+    @DisplayName("토큰 저장 후 삭제 - 한 번만 삭제됨")
+    void save_and_revoke() {
+        //given
+        refreshTokenStore.save("user1", "refresh-1", System.currentTimeMillis() + 60_000L);
+
+        //when
+        boolean first = refreshTokenStore.revoke("refresh-1");
+        boolean second = refreshTokenStore.revoke("refresh-1");
+
+        //then
+        assertTrue(first);
+        assertFalse(second);
+        assertFalse(refreshTokenStore.exists("refresh-1"));
+    }
+
+    @Test
+    @DisplayName("토큰 교체 - 같은 토큰으로는 한 번만 교체됨")
+    void rotate_only_once_per_token() {
+        //given
+        long expiresAt = System.currentTimeMillis() + 60_000L;
+        refreshTokenStore.save("user1", "old", expiresAt);
+
+        //when
+        boolean first = refreshTokenStore.rotate("old", "user1", "new-1", expiresAt);
+        boolean second = refreshTokenStore.rotate("old", "user1", "new-2", expiresAt);
+
+        //then
+        assertTrue(first);
+        assertFalse(second);
+        assertFalse(refreshTokenStore.exists("old"));
+        assertTrue(refreshTokenStore.exists("new-1"));
+        assertFalse(refreshTokenStore.exists("new-2"));
+    }
+
+    @Test
+    @DisplayName("만료 토큰 정리 - 지난 칸의 토큰만 삭제")
+    void purge_expired_tokens() {
+        //given
+        long now = System.currentTimeMillis();
+        refreshTokenStore.save("user1", "expired-1", now - 5_000L);
+        refreshTokenStore.save("user1", "expired-2", now - 3_000L);
+        refreshTokenStore.save("user1", "alive", now + 60_000L);
+
+        //when
+        int purged = refreshTokenStore.purgeExpired(now);
+
+        //then
+        assertEquals(2, purged);
+        assertEquals(1, refreshTokenStore.size());
+        assertTrue(refreshTokenStore.exists("alive"));
+    }
+
+    @Test
+    @DisplayName("세션 목록 및 전체 로그아웃 - 해당 회원의 토큰만 삭제")
+    void find_sessions_and_revoke_all() {
+        //given
+        long expiresAt = System.currentTimeMillis() + 60_000L;
+        refreshTokenStore.save("user1", "refresh-1", expiresAt);
+        refreshTokenStore.save("user1", "refresh-2", expiresAt);
+        refreshTokenStore.save("user2", "refresh-3", expiresAt);
+
+        //when
+        List<RefreshTokenSession> sessions = refreshTokenStore.findSessions("user1");
+        int revoked = refreshTokenStore.revokeAll("user1");
+
+        //then
+        assertEquals(2, sessions.size());
+        assertEquals(2, revoked);
+        assertTrue(refreshTokenStore.findSessions("user1").isEmpty());
+        assertTrue(refreshTokenStore.exists("refresh-3"));
+    }
+}
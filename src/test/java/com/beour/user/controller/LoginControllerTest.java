@@ -9,15 +9,14 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.beour.global.exception.error.errorcode.UserErrorCode;
 import com.beour.global.jwt.JWTUtil;
-import com.beour.token.entity.RefreshToken;
 import com.beour.token.repository.RefreshTokenRepository;
+import com.beour.token.service.RefreshTokenStore;
 import com.beour.user.entity.User;
 import com.beour.user.enums.TokenExpireTime;
 import com.beour.user.repository.UserRepository;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.constraints.AssertTrue;
-import java.time.LocalDateTime;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -41,6 +40,8 @@ class LoginControllerTest {
     @Autowired
     private RefreshTokenRepository refreshTokenRepository;
     @Autowired
+    private RefreshTokenStore refreshTokenStore;
+    @Autowired
     private BCryptPasswordEncoder passwordEncoder;
     @Autowired
     private JWTUtil jwtUtil;
@@ -314,11 +315,7 @@ class LoginControllerTest {
 
         String refreshToken = jwtUtil.createJwt("refresh", loginId, role,
             TokenExpireTime.REFRESH_TOKEN_EXPIRATION_MILLIS.getValue());
-        refreshTokenRepository.save(RefreshToken.builder()
-            .loginId(loginId)
-            .refresh(refreshToken)
-            .expiration(String.valueOf(LocalDateTime.now().plusDays(1)))
-            .build());
+        refreshTokenStore.save(loginId, refreshToken, System.currentTimeMillis() + 1000L * 60 * 60 * 24);
 
         Cookie cookie = new Cookie("refresh", refreshToken);
 
@@ -350,11 +347,7 @@ class LoginControllerTest {
 
         String refreshToken = jwtUtil.createJwt("access", loginId, role,
             TokenExpireTime.REFRESH_TOKEN_EXPIRATION_MILLIS.getValue());
-        refreshTokenRepository.save(RefreshToken.builder()
-            .loginId(loginId)
-            .refresh(refreshToken)
-            .expiration(String.valueOf(LocalDateTime.now().plusDays(1)))
-            .build());
+        refreshTokenStore.save(loginId, refreshToken, System.currentTimeMillis() + 1000L * 60 * 60 * 24);
 
         Cookie cookie = new Cookie("refresh", refreshToken);
 
@@ -376,11 +369,7 @@ class LoginControllerTest {
         String refreshToken = jwtUtil.createJwt("refresh", loginId, role, 1L);
         Thread.sleep(10);
 
-        refreshTokenRepository.save(RefreshToken.builder()
-            .loginId(loginId)
-            .refresh(refreshToken)
-            .expiration(String.valueOf(LocalDateTime.now().plusDays(1)))
-            .build());
+        refreshTokenStore.save(loginId, refreshToken, System.currentTimeMillis() + 1000L * 60 * 60 * 24);
 
         Cookie cookie = new Cookie("refresh", refreshToken);
 
@@ -2,8 +2,8 @@ package com.beour.user.controller;
 
 import com.beour.global.exception.error.errorcode.UserErrorCode;
 import com.beour.global.jwt.JWTUtil;
-import com.beour.token.entity.RefreshToken;
 import com.beour.token.repository.RefreshTokenRepository;
+import com.beour.token.service.RefreshTokenStore;
 import com.beour.user.entity.User;
 import com.beour.user.enums.TokenExpireTime;
 import com.beour.user.repository.UserRepository;
@@ -18,7 +18,6 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
-import java.time.LocalDateTime;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -36,6 +35,8 @@ public class LogoutControllerTest {
     @Autowired
     private RefreshTokenRepository refreshTokenRepository;
     @Autowired
+    private RefreshTokenStore refreshTokenStore;
+    @Autowired
     private BCryptPasswordEncoder passwordEncoder;
     @Autowired
     private JWTUtil jwtUtil;
@@ -58,8 +59,7 @@ public class LogoutControllerTest {
 
         String refreshToken = jwtUtil.createJwt("refresh", loginId, role,
             TokenExpireTime.REFRESH_TOKEN_EXPIRATION_MILLIS.getValue());
-        refreshTokenRepository.save(RefreshToken.builder().loginId(loginId).refresh(refreshToken)
-            .expiration(String.valueOf(LocalDateTime.now().plusDays(1))).build());
+        refreshTokenStore.save(loginId, refreshToken, System.currentTimeMillis() + 1000L * 60 * 60 * 24);
 
         Cookie cookie = new Cookie("refresh", refreshToken);
 
@@ -68,7 +68,7 @@ public class LogoutControllerTest {
             .andExpect(cookie().value("refresh", (String) null))
             .andExpect(cookie().maxAge("refresh", 0));
 
-        assertFalse(refreshTokenRepository.existsByRefresh(refreshToken));
+        assertFalse(refreshTokenStore.exists(refreshToken));
     }
 
     @Test
@@ -79,11 +79,7 @@ public class LogoutControllerTest {
         String role = "GUEST";
 
         String refreshToken = jwtUtil.createJwt("refresh", loginId, role, 1L);
-        refreshTokenRepository.save(RefreshToken.builder()
-            .loginId(loginId)
-            .refresh(refreshToken)
-            .expiration(String.valueOf(LocalDateTime.now().plusDays(1)))
-            .build());
+        refreshTokenStore.save(loginId, refreshToken, System.currentTimeMillis() + 1000L * 60 * 60 * 24);
 
         Cookie cookie = new Cookie("refresh", refreshToken);
 
@@ -104,11 +100,7 @@ public class LogoutControllerTest {
         String role = "GUEST";
 
         String refreshToken = jwtUtil.createJwt("access", loginId, role, TokenExpireTime.REFRESH_TOKEN_EXPIRATION_MILLIS.getValue());
-        refreshTokenRepository.save(RefreshToken.builder()
-            .loginId(loginId)
-            .refresh(refreshToken)
-            .expiration(String.valueOf(LocalDateTime.now().plusDays(1)))
-            .build());
+        refreshTokenStore.save(loginId, refreshToken, System.currentTimeMillis() + 1000L * 60 * 60 * 24);
 
         Cookie cookie = new Cookie("refresh", refreshToken);
 
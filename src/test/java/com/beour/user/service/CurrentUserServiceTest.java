@@ -0,0 +1,111 @@
+package com.beour.user.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.beour.global.exception.exceptionType.UserNotFoundException;
+import com.beour.user.dto.UpdateUserInfoRequestDto;
+import com.beour.user.entity.User;
+import com.beour.user.repository.UserRepository;
+import java.util.Collections;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class CurrentUserServiceTest {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CurrentUserService currentUserService;
+    @Autowired
+    private MyInformationService myInformationService;
+
+    private User savedUser;
+
+    @BeforeEach
+    void setUp() {
+        savedUser = User.builder()
+            .loginId("cacheUser")
+            .password("password!")
+            .name("캐시")
+            .nickname("cache")
+            .email("cache@gmail.com")
+            .phone("01012345678")
+            .role("GUEST")
+            .build();
+        userRepository.save(savedUser);
+
+        UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
+            savedUser.getLoginId(), null, Collections.emptyList());
+        SecurityContextHolder.getContext().setAuthentication(auth);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("현재 회원 조회 - 두번째 조회는 캐시된 회원 반환")
+    void get_current_user_from_cache() {
+        //when
+        User first = currentUserService.getCurrentUser();
+        User second = currentUserService.getCurrentUser();
+
+        //then
+        assertEquals(savedUser.getId(), first.getId());
+        assertSame(first, second);
+    }
+
+    @Test
+    @DisplayName("현재 회원 조회 - 회원 정보 수정 후 캐시 무효화")
+    void get_current_user_after_update() {
+        //given
+        currentUserService.getCurrentUser();
+        UpdateUserInfoRequestDto requestDto = UpdateUserInfoRequestDto.builder()
+            .newNickname("changed")
+            .newPhone("")
+            .build();
+
+        //when
+        myInformationService.updateUserInfo(requestDto);
+
+        //then
+        assertEquals("changed", currentUserService.getCurrentUser().getNickname());
+    }
+
+    @Test
+    @DisplayName("현재 회원 조회 - 탈퇴 후 조회시 예외 발생")
+    void get_current_user_after_withdraw() {
+        //given
+        currentUserService.getCurrentUser();
+
+        //when
+        myInformationService.deleteUser();
+
+        //then
+        assertThrows(UserNotFoundException.class, () -> currentUserService.getCurrentUser());
+    }
+
+    @Test
+    @DisplayName("현재 회원 조회 - 비로그인 사용자는 null 반환")
+    void find_current_user_anonymous() {
+        //given
+        SecurityContextHolder.getContext().setAuthentication(new AnonymousAuthenticationToken(
+            "key", "anonymousUser", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+
+        //when //then
+        assertNull(currentUserService.findCurrentUserOrNull());
+    }
+}
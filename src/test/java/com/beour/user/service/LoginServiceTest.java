@@ -7,8 +7,8 @@ import com.beour.global.exception.exceptionType.TokenExpiredException;
 import com.beour.global.exception.exceptionType.TokenNotFoundException;
 import com.beour.global.exception.exceptionType.UserNotFoundException;
 import com.beour.global.jwt.JWTUtil;
-import com.beour.token.entity.RefreshToken;
 import com.beour.token.repository.RefreshTokenRepository;
+import com.beour.token.service.RefreshTokenStore;
 import com.beour.user.dto.FindLoginIdRequestDto;
 import com.beour.user.dto.FindLoginIdResponseDto;
 import com.beour.user.dto.ResetPasswordRequestDto;
@@ -17,7 +17,6 @@ import com.beour.user.entity.User;
 import com.beour.user.enums.TokenExpireTime;
 import com.beour.user.repository.UserRepository;
 import jakarta.servlet.http.Cookie;
-import java.time.LocalDateTime;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -42,6 +41,8 @@ class LoginServiceTest {
     private JWTUtil jwtUtil;
     @Autowired
     private RefreshTokenRepository refreshTokenRepository;
+    @Autowired
+    private RefreshTokenStore refreshTokenStore;
 
     @BeforeEach
     void setUp() {
@@ -171,11 +172,7 @@ class LoginServiceTest {
         String refreshToken = jwtUtil.createJwt("refresh", loginId, role,
             TokenExpireTime.REFRESH_TOKEN_EXPIRATION_MILLIS.getValue());
 
-        refreshTokenRepository.save(RefreshToken.builder()
-            .loginId(loginId)
-            .refresh(refreshToken)
-            .expiration(String.valueOf(LocalDateTime.now().plusDays(1)))
-            .build());
+        refreshTokenStore.save(loginId, refreshToken, System.currentTimeMillis() + 1000L * 60 * 60 * 24);
 
         MockHttpServletRequest request = new MockHttpServletRequest();
         request.setCookies(new Cookie("refresh", refreshToken));
@@ -188,7 +185,7 @@ class LoginServiceTest {
         assertTrue(result[0].startsWith("Bearer "));
         assertNotNull(result[1]);
         assertNotSame(refreshToken, result[1]);
-        assertTrue(refreshTokenRepository.existsByRefresh(result[1]));
+        assertTrue(refreshTokenStore.exists(result[1]));
         assertEquals(1, refreshTokenRepository.count());
     }
 
@@ -213,11 +210,7 @@ class LoginServiceTest {
         String refreshToken = jwtUtil.createJwt("access", loginId, role,
             TokenExpireTime.REFRESH_TOKEN_EXPIRATION_MILLIS.getValue());
 
-        refreshTokenRepository.save(RefreshToken.builder()
-            .loginId(loginId)
-            .refresh(refreshToken)
-            .expiration(String.valueOf(LocalDateTime.now().plusDays(1)))
-            .build());
+        refreshTokenStore.save(loginId, refreshToken, System.currentTimeMillis() + 1000L * 60 * 60 * 24);
 
         MockHttpServletRequest request = new MockHttpServletRequest();
         request.setCookies(new Cookie("refresh", refreshToken));
@@ -237,11 +230,7 @@ class LoginServiceTest {
         String refreshToken = jwtUtil.createJwt("refresh", loginId, role,
             1L);
 
-        refreshTokenRepository.save(RefreshToken.builder()
-            .loginId(loginId)
-            .refresh(refreshToken)
-            .expiration(String.valueOf(LocalDateTime.now().plusDays(1)))
-            .build());
+        refreshTokenStore.save(loginId, refreshToken, System.currentTimeMillis() + 1000L * 60 * 60 * 24);
 
         MockHttpServletRequest request = new MockHttpServletRequest();
         request.setCookies(new Cookie("refresh", refreshToken));
@@ -226,6 +226,38 @@ class WishlistServiceTest {
         assertTrue(result.isLast());
     }
 
+    @Test
+    @Transactional
+    @DisplayName("찜목록 커서 조회 - 최근에 찜한 순으로 이어서 조회")
+    void success_get_wishlist_by_cursor() {
+        //given
+        Like like1 = Like.builder()
+            .user(guest)
+            .space(space1)
+            .build();
+        likeRepository.save(like1);
+
+        Like like2 = Like.builder()
+            .user(guest)
+            .space(space2)
+            .build();
+        likeRepository.save(like2);
+
+        //when
+        WishListPageResponseDto first = wishlistService.getWishlistByCursor("", 1);
+        WishListPageResponseDto second = wishlistService.getWishlistByCursor(first.getNextCursor(), 1);
+
+        //then
+        assertEquals("공간2", first.getSpaces().get(0).getSpaceName());
+        assertFalse(first.isLast());
+        assertNull(first.getTotalPage());
+        assertNotNull(first.getNextCursor());
+
+        assertEquals("공간1", second.getSpaces().get(0).getSpaceName());
+        assertTrue(second.isLast());
+        assertNull(second.getNextCursor());
+    }
+
     @Test
     @Transactional
     @DisplayName("찜삭제 - 성공")